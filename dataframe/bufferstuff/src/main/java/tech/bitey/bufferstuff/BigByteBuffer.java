@@ -135,6 +135,13 @@ public sealed interface BigByteBuffer permits AbstractBigByteBuffer {
 	 */
 	BigByteBuffer order(ByteOrder order);
 
+	/**
+	 * Tells whether or not this buffer is read-only.
+	 *
+	 * @return {@code true} if, and only if, this buffer is read-only
+	 */
+	boolean isReadOnly();
+
 	/**
 	 * Creates a new byte buffer that shares this buffer's content.
 	 * <p>
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.NonWritableChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.BitSet;
@@ -372,12 +373,16 @@ public class BufferBitSet implements Cloneable {
 		ByteBuffer buffer = slice(this.buffer, byteIndex(fromIndex), byteIndex(toIndex - 1) + 1);
 
 		// find last set bit
-		int n = buffer.limit() - 1;
+		final int length = buffer.limit();
+		int n = length - 1;
 		while (n >= 0 && buffer.get(n) == 0)
 			n--;
 		buffer.limit(n + 1);
 		final int limit = buffer.limit();
 
+		// only the byte containing toIndex - 1 has bits to clear
+		final int lastByteMask = limit == length ? MASK >>> ((-toIndex) & 7) : MASK;
+
 		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BIG_ENDIAN);
 		header.put(0, (byte) (fromIndex & 7));
 		header.putInt(1, limit);
@@ -392,7 +397,7 @@ public class BufferBitSet implements Cloneable {
 
 			// handle last byte
 			ByteBuffer lastByte = ByteBuffer.allocate(1);
-			lastByte.put(0, (byte) (buffer.get(limit - 1) & (MASK >>> ((-toIndex) & 7))));
+			lastByte.put(0, (byte) (buffer.get(limit - 1) & lastByteMask));
 			writeFully(channel, lastByte);
 		}
 	}
@@ -413,8 +418,10 @@ public class BufferBitSet implements Cloneable {
 
 	/**
 	 * Memory-maps a bitset from the specified {@link FileChannel}. The bitset must
-	 * have previously been written with one of the {@code writeTo} methods. <b>The
-	 * channel must be writable.</b>
+	 * have previously been written with one of the {@code writeTo} methods. A
+	 * bitset written from a range which does not start on a byte boundary is
+	 * realigned in place if the channel is writable, and is otherwise read into
+	 * memory rather than mapped.
 	 * <p>
 	 * Sets the channel's {@link FileChannel#position() position} to the byte
 	 * immediately after the last byte associated with this bitset.
@@ -440,12 +447,11 @@ public class BufferBitSet implements Cloneable {
 		if (capacity == 0)
 			return EMPTY_BITSET;
 
-		final ByteBuffer buffer;
-		if (map) {
-			FileChannel file = (FileChannel) channel;
-			buffer = file.map(offset == 0 ? MapMode.READ_ONLY : MapMode.READ_WRITE, file.position(), capacity);
+		ByteBuffer buffer = map ? map((FileChannel) channel, offset, capacity) : null;
+		if (buffer != null)
 			buffer.position(capacity);
-		} else {
+		else {
+			map = false;
 			buffer = allocate(capacity);
 			readFully(channel, buffer);
 		}
@@ -477,6 +483,23 @@ public class BufferBitSet implements Cloneable {
 		return new BufferBitSet(buffer, false, true);
 	}
 
+	/*
+	 * Maps the bytes of a bitset. Bits which are not byte-aligned are shifted in
+	 * place, which needs a writable file. Returns null if the file is read-only, in
+	 * which case the bits are read into memory instead.
+	 */
+	private static ByteBuffer map(FileChannel file, int offset, int capacity) throws IOException {
+
+		if (offset == 0)
+			return file.map(MapMode.READ_ONLY, file.position(), capacity);
+
+		try {
+			return file.map(MapMode.READ_WRITE, file.position(), capacity);
+		} catch (NonWritableChannelException e) {
+			return null;
+		}
+	}
+
 	/*--------------------------------------------------------------------------------
 	 *  Get / Set / Flip / Clear
 	 *-------------------------------------------------------------------------------*/
@@ -185,6 +185,11 @@ final class CompoundBigByteBuffer extends AbstractBigByteBuffer {
 		return this;
 	}
 
+	@Override
+	public boolean isReadOnly() {
+		return buffers[0].isReadOnly();
+	}
+
 	@Override
 	public BigByteBuffer duplicate() {
 		return new CompoundBigByteBuffer(buffers, position, limit, capacity);
@@ -51,6 +51,13 @@ public class ResizableBigByteBuffer {
 		buffer.putInt(value);
 	}
 
+	public void putLong(long value) {
+
+		ensureAdditionalCapacity(8);
+
+		buffer.putLong(value);
+	}
+
 	public void append(ResizableBigByteBuffer tail) {
 		if (tail.size() == 0)
 			return;
@@ -60,11 +67,11 @@ public class ResizableBigByteBuffer {
 		buffer.put(tail.buffer.duplicate().flip());
 	}
 
-	private void ensureAdditionalCapacity(long additionalCapacity) {
+	public void ensureAdditionalCapacity(long additionalCapacity) {
 		ensureCapacity(size() + additionalCapacity);
 	}
 
-	private void ensureCapacity(long minCapacity) {
+	public void ensureCapacity(long minCapacity) {
 		if (buffer.capacity() < minCapacity) {
 
 			long newCapacity = buffer.capacity() + (buffer.capacity() >> 1) + 1;
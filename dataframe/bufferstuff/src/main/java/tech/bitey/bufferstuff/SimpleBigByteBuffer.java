@@ -95,6 +95,11 @@ final class SimpleBigByteBuffer extends AbstractBigByteBuffer {
 		return this;
 	}
 
+	@Override
+	public boolean isReadOnly() {
+		return buffer.isReadOnly();
+	}
+
 	@Override
 	public BigByteBuffer duplicate() {
 		return new SimpleBigByteBuffer(buffer.duplicate().order(buffer.order()));
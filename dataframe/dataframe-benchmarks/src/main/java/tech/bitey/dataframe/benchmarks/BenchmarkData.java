@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe.benchmarks;
+
+import static java.util.Spliterator.DISTINCT;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
+import tech.bitey.dataframe.DateColumn;
+import tech.bitey.dataframe.DateColumnBuilder;
+import tech.bitey.dataframe.DoubleColumn;
+import tech.bitey.dataframe.DoubleColumnBuilder;
+import tech.bitey.dataframe.IntColumn;
+import tech.bitey.dataframe.IntColumnBuilder;
+import tech.bitey.dataframe.LongColumn;
+import tech.bitey.dataframe.LongColumnBuilder;
+import tech.bitey.dataframe.NormalStringColumn;
+import tech.bitey.dataframe.NormalStringColumnBuilder;
+import tech.bitey.dataframe.StringColumn;
+import tech.bitey.dataframe.StringColumnBuilder;
+
+/**
+ * Deterministic random data shared by the benchmarks.
+ * <p>
+ * Frames produced by {@link #dataFrame(int, double, long)} have the columns:
+ * <ul>
+ * <li>{@code ID} - sorted, distinct int key from 0 to size - 1
+ * <li>{@code GROUP} - normal string with {@link #GROUPS} distinct values
+ * <li>{@code I} - random int
+ * <li>{@code L} - random long
+ * <li>{@code D} - random double
+ * <li>{@code S} - random string
+ * <li>{@code DT} - random date
+ * </ul>
+ * {@code ID}, {@code GROUP}, and {@code I} are never null, since sorting and
+ * grouping don't support null values. Every other column is null with
+ * probability {@code nullDensity}.
+ *
+ * @author biteytech@protonmail.com
+ */
+final class BenchmarkData {
+
+	static final String[] COLUMN_NAMES = { "ID", "GROUP", "I", "L", "D", "S", "DT" };
+
+	static final int GROUPS = 100;
+
+	private static final LocalDate EPOCH = LocalDate.of(2000, 1, 1);
+
+	private BenchmarkData() {
+	}
+
+	static DataFrame dataFrame(int size, double nullDensity, long seed) {
+
+		final Random random = new Random(seed);
+
+		IntColumnBuilder id = IntColumn.builder(DISTINCT);
+		NormalStringColumnBuilder group = NormalStringColumn.builder();
+		IntColumnBuilder i = IntColumn.builder();
+		LongColumnBuilder l = LongColumn.builder();
+		DoubleColumnBuilder d = DoubleColumn.builder();
+		StringColumnBuilder s = StringColumn.builder();
+		DateColumnBuilder dt = DateColumn.builder();
+
+		for (int r = 0; r < size; r++) {
+			id.add(r);
+
+			group.add("G" + random.nextInt(GROUPS));
+			i.add(random.nextInt());
+
+			if (random.nextDouble() < nullDensity)
+				l.addNull();
+			else
+				l.add(random.nextLong());
+
+			if (random.nextDouble() < nullDensity)
+				d.addNull();
+			else
+				d.add(random.nextDouble());
+
+			if (random.nextDouble() < nullDensity)
+				s.addNull();
+			else
+				s.add(Long.toHexString(random.nextLong()));
+
+			if (random.nextDouble() < nullDensity)
+				dt.addNull();
+			else
+				dt.add(EPOCH.plusDays(random.nextInt(10000)));
+		}
+
+		Column<?>[] columns = { id.build(), group.build(), i.build(), l.build(), d.build(), s.build(), dt.build() };
+
+		return DataFrameFactory.create(columns, COLUMN_NAMES, "ID");
+	}
+
+	static IntColumn foreignKeys(int size, int bound, long seed) {
+
+		final Random random = new Random(seed);
+
+		IntColumnBuilder builder = IntColumn.builder();
+		builder.ensureCapacity(size);
+		for (int r = 0; r < size; r++)
+			builder.add(random.nextInt(bound));
+
+		return builder.build();
+	}
+
+	static Integer[] ints(int size, double nullDensity, long seed) {
+
+		final Random random = new Random(seed);
+
+		Integer[] values = new Integer[size];
+		for (int r = 0; r < size; r++)
+			values[r] = random.nextDouble() < nullDensity ? null : random.nextInt();
+
+		return values;
+	}
+
+	static String[] strings(int size, double nullDensity, long seed) {
+
+		final Random random = new Random(seed);
+
+		String[] values = new String[size];
+		for (int r = 0; r < size; r++)
+			values[r] = random.nextDouble() < nullDensity ? null : Long.toHexString(random.nextLong());
+
+		return values;
+	}
+}
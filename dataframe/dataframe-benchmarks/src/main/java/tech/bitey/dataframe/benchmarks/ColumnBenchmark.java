@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe.benchmarks;
+
+import static java.util.Spliterator.DISTINCT;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.bitey.dataframe.IntColumn;
+import tech.bitey.dataframe.StringColumn;
+
+/**
+ * Column construction, sorting, and de-duplication. Runs with heap buffers;
+ * {@link Direct} repeats every benchmark with direct buffers.
+ *
+ * @author biteytech@protonmail.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtech.bitey.allocateDirect=false")
+public class ColumnBenchmark {
+
+	@Param({ "10000", "1000000" })
+	int size;
+
+	@Param({ "0", "0.1" })
+	double nullDensity;
+
+	Integer[] intValues;
+	Integer[] distinctValues;
+	String[] stringValues;
+
+	// columns with nulls can't be sorted, so these are always non-null
+	IntColumn intColumn;
+	StringColumn stringColumn;
+
+	@Setup
+	public void setup() {
+		intValues = BenchmarkData.ints(size, nullDensity, 1);
+		stringValues = BenchmarkData.strings(size, nullDensity, 2);
+
+		distinctValues = new Integer[size];
+		for (int i = 0; i < size; i++)
+			distinctValues[i] = i;
+
+		intColumn = IntColumn.of(BenchmarkData.ints(size, 0, 1));
+		stringColumn = StringColumn.of(BenchmarkData.strings(size, 0, 2));
+	}
+
+	@Benchmark
+	public IntColumn buildInt() {
+		return IntColumn.builder().addAll(intValues).build();
+	}
+
+	@Benchmark
+	public IntColumn buildIntDistinct() {
+		return IntColumn.builder(DISTINCT).addAll(distinctValues).build();
+	}
+
+	@Benchmark
+	public StringColumn buildString() {
+		return StringColumn.builder().addAll(stringValues).build();
+	}
+
+	@Benchmark
+	public IntColumn toSortedInt() {
+		return intColumn.toSorted();
+	}
+
+	@Benchmark
+	public IntColumn toDistinctInt() {
+		return intColumn.toDistinct();
+	}
+
+	@Benchmark
+	public StringColumn toSortedString() {
+		return stringColumn.toSorted();
+	}
+
+	@Benchmark
+	public StringColumn toDistinctString() {
+		return stringColumn.toDistinct();
+	}
+
+	@Fork(value = 1, jvmArgsAppend = "-Dtech.bitey.allocateDirect=true")
+	public static class Direct extends ColumnBenchmark {
+	}
+}
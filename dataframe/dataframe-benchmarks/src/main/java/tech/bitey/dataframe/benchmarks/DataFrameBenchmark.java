@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.ColumnType;
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
+import tech.bitey.dataframe.GroupByConfig;
+import tech.bitey.dataframe.GroupByReduction;
+import tech.bitey.dataframe.IntColumn;
+
+/**
+ * Sorting, grouping, joining, and filtering dataframes. Runs with heap buffers;
+ * {@link Direct} repeats every benchmark with direct buffers.
+ *
+ * @author biteytech@protonmail.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtech.bitey.allocateDirect=false")
+public class DataFrameBenchmark {
+
+	private static final GroupByConfig GROUP_BY = new GroupByConfig(List.of("GROUP"), List.of("COUNT"),
+			List.of(ColumnType.LONG), List.<GroupByReduction>of(rows -> rows.count()));
+
+	private static final GroupByConfig GROUP_BY_TWO_KEYS = new GroupByConfig(List.of("GROUP", "BUCKET"),
+			List.of("COUNT"), List.of(ColumnType.LONG), List.<GroupByReduction>of(rows -> rows.count()));
+
+	@Param({ "10000", "1000000" })
+	int size;
+
+	@Param({ "0", "0.1" })
+	double nullDensity;
+
+	DataFrame df;
+
+	// df with a second, INT key of few values, so that rows are hashed into groups
+	DataFrame buckets;
+
+	// keyed on every other ID, for one-to-one joins
+	DataFrame evens;
+
+	// FK column of random IDs, for one-to-many and hash joins
+	DataFrame many;
+
+	@Setup
+	public void setup() {
+		df = BenchmarkData.dataFrame(size, nullDensity, 1);
+		evens = df.filter(row -> row.getInt("ID") % 2 == 0);
+		buckets = df.withColumn("BUCKET", IntColumn.of(IntStream.range(0, size).map(i -> i % 10)));
+
+		DataFrame other = BenchmarkData.dataFrame(size, nullDensity, 2);
+		Column<?>[] columns = { BenchmarkData.foreignKeys(size, size, 3), other.column("D"), other.column("S") };
+		many = DataFrameFactory.create(columns, new String[] { "FK", "D", "S" });
+	}
+
+	@Benchmark
+	public DataFrame sortInt() {
+		return df.sort("I");
+	}
+
+	@Benchmark
+	public DataFrame sortStringInt() {
+		return df.sort("GROUP", "I");
+	}
+
+	@Benchmark
+	public DataFrame groupBy() {
+		return df.groupBy(GROUP_BY);
+	}
+
+	@Benchmark
+	public DataFrame groupByTwoKeys() {
+		return buckets.groupBy(GROUP_BY_TWO_KEYS);
+	}
+
+	@Benchmark
+	public DataFrame join() {
+		return df.join(evens);
+	}
+
+	@Benchmark
+	public DataFrame joinOneToMany() {
+		return df.joinOneToMany(many, "FK");
+	}
+
+	@Benchmark
+	public DataFrame joinHash() {
+		return df.join(many, new String[] { "ID" }, new String[] { "FK" });
+	}
+
+	@Benchmark
+	public DataFrame filter() {
+		return df.filter(row -> !row.isNull("D") && row.getDouble("D") < 0.5);
+	}
+
+	@Benchmark
+	public DataFrame filterParallel() {
+		return df.filter(row -> !row.isNull("D") && row.getDouble("D") < 0.5, true);
+	}
+
+	@Benchmark
+	public DataFrame filterNulls() {
+		return df.filterNulls();
+	}
+
+	@Fork(value = 1, jvmArgsAppend = "-Dtech.bitey.allocateDirect=true")
+	public static class Direct extends DataFrameBenchmark {
+	}
+}
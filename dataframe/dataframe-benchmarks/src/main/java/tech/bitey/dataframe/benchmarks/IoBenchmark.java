@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
+import tech.bitey.dataframe.ReadCsvConfig;
+import tech.bitey.dataframe.ReadFromDbConfig;
+import tech.bitey.dataframe.db.DoubleFromResultSet;
+import tech.bitey.dataframe.db.IntFromResultSet;
+import tech.bitey.dataframe.db.LongFromResultSet;
+import tech.bitey.dataframe.db.NormalStringFromResultSet;
+import tech.bitey.dataframe.db.StringFromResultSet;
+
+/**
+ * Reading and writing dataframes: the binary file format (read, memory-mapped,
+ * and write), CSV, and {@link ResultSet} via an in-memory sqlite database.
+ * Iterating over {@link DataFrame#asResultSet()} is compared with iterating
+ * over the same rows from sqlite. Runs with heap buffers; {@link Direct}
+ * repeats every benchmark with direct buffers.
+ *
+ * @author biteytech@protonmail.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtech.bitey.allocateDirect=false")
+public class IoBenchmark {
+
+	// the DT column is left out of the database, sqlite has no native date type
+	private static final ReadFromDbConfig FROM_DB = new ReadFromDbConfig(List.of(IntFromResultSet.INT_FROM_INT,
+			NormalStringFromResultSet.STRING_FROM_STRING, IntFromResultSet.INT_FROM_INT,
+			LongFromResultSet.LONG_FROM_LONG, DoubleFromResultSet.DOUBLE_FROM_DOUBLE,
+			StringFromResultSet.STRING_FROM_STRING));
+
+	@Param({ "10000", "1000000" })
+	int size;
+
+	@Param({ "0", "0.1" })
+	double nullDensity;
+
+	DataFrame df;
+	ReadCsvConfig csvConfig;
+
+	File file;
+	File scratch;
+	byte[] csv;
+
+	Connection conn;
+
+	@Setup
+	public void setup() throws IOException, SQLException {
+		df = BenchmarkData.dataFrame(size, nullDensity, 1);
+		csvConfig = new ReadCsvConfig(df.columnTypes());
+
+		file = File.createTempFile("dataframe", ".bin");
+		file.deleteOnExit();
+		df.writeTo(file);
+
+		scratch = File.createTempFile("dataframe", ".bin");
+		scratch.deleteOnExit();
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		df.writeCsvTo(os);
+		csv = os.toByteArray();
+
+		conn = DriverManager.getConnection("jdbc:sqlite::memory:");
+		conn.setAutoCommit(false);
+		try (Statement stmt = conn.createStatement()) {
+			stmt.execute("create table DF (ID INT, \"GROUP\" TEXT, I INT, L INT8, D DOUBLE, S TEXT)");
+		}
+		try (PreparedStatement ps = conn.prepareStatement("insert into DF values (?,?,?,?,?,?)")) {
+			df.dropColumns("DT").writeTo(ps);
+		}
+		conn.commit();
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		conn.close();
+		file.delete();
+		scratch.delete();
+	}
+
+	@Benchmark
+	public void writeTo() throws IOException {
+		df.writeTo(scratch);
+	}
+
+	@Benchmark
+	public DataFrame readFrom() throws IOException {
+		return DataFrameFactory.readFrom(file);
+	}
+
+	@Benchmark
+	public DataFrame mapFrom() throws IOException {
+		return DataFrameFactory.mapFrom(file);
+	}
+
+	@Benchmark
+	public byte[] writeCsvTo() throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream(csv.length);
+		df.writeCsvTo(os);
+		return os.toByteArray();
+	}
+
+	@Benchmark
+	public DataFrame readCsvFrom() throws IOException {
+		return DataFrameFactory.readCsvFrom(new ByteArrayInputStream(csv), csvConfig);
+	}
+
+	@Benchmark
+	public DataFrame readFromResultSet() throws SQLException {
+		try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("select * from DF")) {
+			return DataFrameFactory.readFrom(rs, FROM_DB);
+		}
+	}
+
+	@Benchmark
+	public long iterateAsResultSet() throws SQLException {
+		try (ResultSet rs = df.asResultSet()) {
+			return iterate(rs);
+		}
+	}
+
+	@Benchmark
+	public long iterateSqliteResultSet() throws SQLException {
+		try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("select * from DF")) {
+			return iterate(rs);
+		}
+	}
+
+	// reads the numeric columns by label, as code written against JDBC tends to
+	private static long iterate(ResultSet rs) throws SQLException {
+		long sum = 0;
+		while (rs.next())
+			sum += rs.getInt("ID") + rs.getInt("I") + rs.getLong("L") + (long) rs.getDouble("D");
+		return sum;
+	}
+
+	@Fork(value = 1, jvmArgsAppend = "-Dtech.bitey.allocateDirect=true")
+	public static class Direct extends IoBenchmark {
+	}
+}
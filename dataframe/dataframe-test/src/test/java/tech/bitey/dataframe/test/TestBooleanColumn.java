@@ -55,6 +55,10 @@ public class TestBooleanColumn extends TestColumn<Boolean> {
 	public void testToDistinct() {
 	}
 
+	@Override
+	public void testFilterByValue() {
+	}
+
 	@Override
 	Boolean[] toArray(Collection<Boolean> samples) {
 		return samples.toArray(empty());
@@ -38,6 +38,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.ColumnBuilder;
+import tech.bitey.dataframe.ColumnStatistics;
+import tech.bitey.dataframe.IntColumn;
 import tech.bitey.dataframe.StringColumn;
 
 abstract class TestColumn<E> {
@@ -120,6 +123,37 @@ abstract class TestColumn<E> {
 		}
 	}
 
+	@Test
+	public void testIndicesOf() {
+		for (TestSample<E> s : samples()) {
+			List<E> list = Arrays.asList(s.array());
+			Column<E> column = s.column();
+
+			ColumnBuilder<E> builder = column.getType().builder();
+			for (int i = list.size() - 1; i >= 0; i--)
+				builder.add(list.get(i));
+			builder.addNull();
+
+			// probing the upper half of the column leaves some keys missing
+			int half = list.size() / 2;
+			List<E> subList = list.subList(half, list.size());
+			Column<E> subColumn = column.subColumn(half, list.size());
+
+			for (Column<E> keys : asList(column, builder.build())) {
+				IntColumn actual = subColumn.indicesOf(keys);
+				Assertions.assertEquals(keys.size(), actual.size(), s + ", indicesOf size");
+				for (int i = 0; i < keys.size(); i++) {
+					E key = keys.get(i);
+					int expected = key == null ? -1 : subList.indexOf(key);
+					if (expected == -1)
+						Assertions.assertTrue(actual.isNull(i), s + ", indicesOf == null, " + key);
+					else
+						Assertions.assertEquals(expected, actual.getInt(i), s + ", indicesOf >= 0, " + key);
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testListIterator() {
 		for (TestSample<E> s : samples()) {
@@ -174,6 +208,74 @@ abstract class TestColumn<E> {
 		}
 	}
 
+	@Test
+	public void testFilterByValue() {
+		for (TestSample<E> s : samples()) {
+			Column<E> column = s.column();
+
+			List<E> nonNull = new ArrayList<>();
+			for (E e : s.array())
+				if (e != null)
+					nonNull.add(e);
+			if (nonNull.isEmpty())
+				continue;
+
+			// a narrow and a wide range, both ending on elements of the column
+			E a = nonNull.get(nonNull.size() / 3), b = nonNull.get(nonNull.size() / 2);
+			if (column.getType().compare(a, b) > 0) {
+				E swap = a;
+				a = b;
+				b = swap;
+			}
+
+			for (boolean fromInclusive : new boolean[] { false, true }) {
+				for (boolean toInclusive : new boolean[] { false, true }) {
+					final E from = a, to = b;
+					List<E> expected = nonNull.stream().filter(e -> {
+						int lo = column.getType().compare(e, from), hi = column.getType().compare(e, to);
+						return (fromInclusive ? lo >= 0 : lo > 0) && (toInclusive ? hi <= 0 : hi < 0);
+					}).toList();
+
+					Assertions.assertEquals(expected, column.filterByValue(from, fromInclusive, to, toInclusive),
+							s + ", testFilterByValue, " + fromInclusive + ", " + toInclusive);
+				}
+			}
+
+			Assertions.assertEquals(nonNull, column.filterByValue(null, false, null, false),
+					s + ", testFilterByValue, unbounded");
+		}
+	}
+
+	@Test
+	public void testStatistics() {
+		for (TestSample<E> s : samples()) {
+			Column<E> column = s.column();
+			ColumnStatistics<E> statistics = column.statistics();
+
+			List<E> nonNull = new ArrayList<>();
+			for (E e : s.array())
+				if (e != null)
+					nonNull.add(e);
+
+			Assertions.assertSame(statistics, column.statistics(), s + ", testStatistics, cached");
+			Assertions.assertEquals(column.size(), statistics.size(), s + ", testStatistics, size");
+			Assertions.assertEquals(column.size() - nonNull.size(), statistics.nullCount(),
+					s + ", testStatistics, nullCount");
+			Assertions.assertEquals(nonNull.stream().min(column.getType()::compare).orElse(null), statistics.min(),
+					s + ", testStatistics, min");
+			Assertions.assertEquals(nonNull.stream().max(column.getType()::compare).orElse(null), statistics.max(),
+					s + ", testStatistics, max");
+
+			// small distinct counts are exact, larger ones estimated
+			long distinct = new HashSet<>(nonNull).size();
+			if (distinct <= 1024)
+				Assertions.assertEquals(distinct, statistics.distinctCount(), s + ", testStatistics, distinctCount");
+			else
+				Assertions.assertTrue(Math.abs(statistics.distinctCount() - distinct) <= distinct / 20,
+						s + ", testStatistics, distinctCount: " + statistics.distinctCount() + " != " + distinct);
+		}
+	}
+
 	@Test
 	public void testTail() {
 		for (TestSample<E> s : samples()) {
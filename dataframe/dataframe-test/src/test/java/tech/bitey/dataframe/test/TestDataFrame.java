@@ -17,42 +17,54 @@
 package tech.bitey.dataframe.test;
 
 import static java.util.Spliterator.DISTINCT;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -61,24 +73,42 @@ import com.google.common.collect.Sets;
 
 import tech.bitey.dataframe.ByteColumn;
 import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.ColumnStatistics;
 import tech.bitey.dataframe.ColumnType;
 import tech.bitey.dataframe.ColumnTypeCode;
+import tech.bitey.dataframe.ConcurrentColumnBuilder;
 import tech.bitey.dataframe.Cursor;
 import tech.bitey.dataframe.DataFrame;
 import tech.bitey.dataframe.DataFrameFactory;
+import tech.bitey.dataframe.DataFrameLog;
+import tech.bitey.dataframe.DbPartitioning;
+import tech.bitey.dataframe.DbWritePartitioning;
 import tech.bitey.dataframe.DataFrameToStringOptions;
 import tech.bitey.dataframe.DateColumn;
 import tech.bitey.dataframe.DateTimeColumn;
 import tech.bitey.dataframe.DecimalColumn;
 import tech.bitey.dataframe.DoubleColumn;
+import tech.bitey.dataframe.DoubleColumnBuilder;
+import tech.bitey.dataframe.DoubleReader;
 import tech.bitey.dataframe.FloatColumn;
 import tech.bitey.dataframe.GroupByConfig;
+import tech.bitey.dataframe.InstantColumn;
+import tech.bitey.dataframe.InstantColumnBuilder;
 import tech.bitey.dataframe.IntColumn;
+import tech.bitey.dataframe.IntColumnBuilder;
+import tech.bitey.dataframe.IntReader;
+import tech.bitey.dataframe.LongColumn;
+import tech.bitey.dataframe.LongColumnBuilder;
+import tech.bitey.dataframe.LongReader;
+import tech.bitey.dataframe.NormalStringColumn;
+import tech.bitey.dataframe.NormalStringDictionary;
 import tech.bitey.dataframe.ReadCsvConfig;
 import tech.bitey.dataframe.ReadFromDbConfig;
 import tech.bitey.dataframe.Row;
 import tech.bitey.dataframe.ShortColumn;
 import tech.bitey.dataframe.StringColumn;
+import tech.bitey.dataframe.StringColumnBuilder;
+import tech.bitey.dataframe.TimeColumn;
 import tech.bitey.dataframe.WriteToDbConfig;
 import tech.bitey.dataframe.db.BlobFromResultSet;
 import tech.bitey.dataframe.db.BooleanFromResultSet;
@@ -106,6 +136,10 @@ public class TestDataFrame {
 
 		Map<String, List<Column<?>>> columnTestMap = new HashMap<>();
 		new TestIntColumn().samples().forEach(s -> {
+			// compacted and run-length encoded samples are covered by the column tests
+			if (s.toString().endsWith("_compact") || s.toString().endsWith("_rle"))
+				return;
+
 			List<Column<?>> list;
 			columnTestMap.put(s.toString(), list = new ArrayList<>());
 			list.add(s.column());
@@ -114,7 +148,7 @@ public class TestDataFrame {
 		TestColumn[] columnTest = new TestColumn[] { new TestLongColumn(), new TestFloatColumn(),
 				new TestDoubleColumn(), new TestStringColumn(), new TestBooleanColumn(), new TestDecimalColumn(),
 				new TestShortColumn(), new TestByteColumn(), new TestUuidColumn(), new TestNormalStringColumn(),
-				new TestFixedAsciiColumn() };
+				new TestRunLengthStringColumn(), new TestFixedAsciiColumn(), new TestFixedDecimalColumn() };
 
 		for (TestColumn<?> tests : columnTest) {
 			tests.samples().forEach(s -> {
@@ -165,6 +199,29 @@ public class TestDataFrame {
 		}
 	}
 
+	@Test
+	public void testLogSegments() throws Exception {
+		for (Map.Entry<String, DataFrame> e : DF_MAP.entrySet()) {
+
+			DataFrame df = e.getValue();
+			if (df.size() < 3)
+				continue;
+
+			File file = File.createTempFile("testLogSegments", null);
+			file.deleteOnExit();
+
+			// segments are appended column by column, whether or not each has nulls
+			int third = df.size() / 3;
+			DataFrameLog.append(file, df.subFrame(0, third));
+			DataFrameLog.append(file, df.subFrame(third, third));
+			DataFrameLog.append(file, df.subFrame(third, 2 * third));
+			DataFrameLog.append(file, df.subFrame(2 * third, df.size()));
+
+			Assertions.assertEquals(df, DataFrameLog.mapFrom(file), e.getKey() + ", log segments");
+			file.delete();
+		}
+	}
+
 	@Test
 	public void testCursorVsIterator() {
 		for (Map.Entry<String, DataFrame> e : DF_MAP.entrySet()) {
@@ -320,6 +377,189 @@ public class TestDataFrame {
 		}
 	}
 
+	@Test
+	public void testReadWriteCompact() throws Exception {
+
+		for (Map.Entry<String, DataFrame> e : DF_MAP.entrySet()) {
+
+			DataFrame expected = e.getValue();
+
+			File file = File.createTempFile(e.getKey(), null);
+			file.deleteOnExit();
+
+			expected.writeTo(file, true);
+
+			DataFrame copied = DataFrameFactory.readFrom(file);
+			Assertions.assertEquals(expected, copied, e.getKey() + ", read/write compact (copied)");
+
+			DataFrame mapped = DataFrameFactory.mapFrom(file);
+			Assertions.assertEquals(expected, mapped, e.getKey() + ", read/write compact (mapped)");
+		}
+
+		final int size = 100_000;
+
+		// small values (frame of reference), sorted values (delta), and the full range
+		DataFrame expected = DataFrameFactory.of("SMALL", IntColumn.of(IntStream.range(0, size).map(i -> i * 7 % 13)),
+				"SORTED", LongColumn.of(LongStream.range(0, size).map(i -> 1_000_000_000_000L + i * 3 + i % 2)),
+				"EXTREME", LongColumn.of(LongStream.range(0, size)
+						.map(i -> i % 3 == 0 ? Long.MIN_VALUE : i % 3 == 1 ? Long.MAX_VALUE : i)),
+				"NULLS", IntColumn.of(IntStream.range(0, size).mapToObj(i -> i % 5 == 0 ? null : -i)
+						.collect(Collectors.toList())));
+
+		File plain = File.createTempFile("plain", null);
+		plain.deleteOnExit();
+		expected.writeTo(plain);
+
+		File compact = File.createTempFile("compact", null);
+		compact.deleteOnExit();
+		expected.writeTo(compact, true);
+
+		Assertions.assertEquals(expected, DataFrameFactory.readFrom(compact));
+		DataFrame mapped = DataFrameFactory.mapFrom(compact);
+		Assertions.assertEquals(expected, mapped);
+
+		// SMALL packs into 4 bits and SORTED into 2 bits per element
+		assertTrue(plain.length() - compact.length() > size * 7, plain.length() + " vs " + compact.length());
+
+		// packed columns are mapped as they are
+		assertSame(mapped.intColumn("SMALL"), mapped.intColumn("SMALL").compact());
+		assertSame(mapped.longColumn("SORTED"), mapped.longColumn("SORTED").compact());
+
+		// and written as they are, or as plain elements
+		File again = File.createTempFile("again", null);
+		again.deleteOnExit();
+		mapped.writeTo(again, true);
+		Assertions.assertEquals(compact.length(), again.length());
+		Assertions.assertEquals(expected, DataFrameFactory.readFrom(again));
+
+		mapped.writeTo(again);
+		Assertions.assertEquals(plain.length(), again.length());
+		Assertions.assertEquals(expected, DataFrameFactory.readFrom(again));
+	}
+
+	@Test
+	public void testLog() throws Exception {
+
+		final int batches = 5, size = 1000;
+
+		List<DataFrame> expected = new ArrayList<>();
+		for (int b = 0; b < batches; b++) {
+			final int offset = b * size;
+			expected.add(DataFrameFactory.of("TIME", LongColumn.of(LongStream.range(offset, offset + size)),
+					"NAME", StringColumn.of(IntStream.range(offset, offset + size)
+							.mapToObj(i -> i % 7 == 0 ? null : "N" + i % 10).collect(Collectors.toList()))));
+		}
+
+		File file = File.createTempFile("testLog", null);
+		file.deleteOnExit();
+
+		DataFrame all = expected.get(0);
+		DataFrameLog.append(file, expected.get(0));
+		for (int b = 1; b < batches - 1; b++) {
+			DataFrameLog.append(file, expected.get(b));
+			all = all.append(expected.get(b));
+		}
+		Assertions.assertEquals(all, DataFrameLog.mapFrom(file));
+
+		// a snapshot is unaffected by later appends and compactions
+		DataFrame snapshot = DataFrameLog.mapFrom(file);
+		DataFrameLog.compact(file);
+		DataFrameLog.append(file, expected.get(batches - 1));
+		Assertions.assertEquals(all, snapshot);
+
+		all = all.append(expected.get(batches - 1));
+		Assertions.assertEquals(all, DataFrameLog.mapFrom(file));
+
+		DataFrameLog.compact(file);
+		Assertions.assertEquals(all, DataFrameLog.mapFrom(file));
+
+		// mapping never writes to the log, even to realign the null flags of a sub-frame
+		DataFrame sub = expected.get(0).subFrame(3, 500);
+		DataFrameLog.append(file, sub);
+		all = all.append(sub);
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		Assertions.assertEquals(all, DataFrameLog.mapFrom(file));
+		Assertions.assertArrayEquals(bytes, Files.readAllBytes(file.toPath()));
+
+		DataFrame wrongType = DataFrameFactory.of("TIME", IntColumn.of(1), "NAME", StringColumn.of("A"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> DataFrameLog.append(file, wrongType));
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> DataFrameLog.append(file, DataFrameFactory.of("NAME", StringColumn.of("A"))));
+	}
+
+	@Test
+	public void testFilterByValue() throws Exception {
+
+		final int size = 100_000;
+
+		// clustered but not sorted, so each range only overlaps a few blocks
+		DataFrame df = DataFrameFactory.of("TIME", LongColumn.of(LongStream.range(0, size).map(i -> i * 10 + i % 7)),
+				"DATE", DateColumn.of(IntStream.range(0, size)
+						.mapToObj(i -> i % 3 == 0 ? null : LocalDate.of(2000, 1, 1).plusDays(i / 100))
+						.collect(Collectors.toList())),
+				"VALUE", IntColumn.of(IntStream.range(0, size).map(i -> i % 1000)));
+
+		Assertions.assertEquals(df.filter(r -> r.getLong("TIME") >= 500_000 && r.getLong("TIME") < 500_100),
+				df.filterByValue("TIME", 500_000L, true, 500_100L, false), "TIME");
+		Assertions.assertEquals(df.filter(r -> !r.isNull("DATE") && r.getDate("DATE").getYear() == 2001),
+				df.filterByValue("DATE", LocalDate.of(2001, 1, 1), true, LocalDate.of(2002, 1, 1), false), "DATE");
+		Assertions.assertEquals(df.filter(r -> r.getInt("VALUE") > 990),
+				df.filterByValue("VALUE", 990, false, null, false), "VALUE");
+		Assertions.assertThrows(IllegalArgumentException.class, () -> df.filterByValue("VALUE", 2, true, 1, true));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> df.filterByValue("VALUE", 1L, true, 2L, true));
+
+		// zone maps are written once computed, and used as-is when mapped
+		File file = File.createTempFile("zone-maps", null);
+		file.deleteOnExit();
+		df.computeZoneMaps().writeTo(file);
+
+		DataFrame mapped = DataFrameFactory.mapFrom(file);
+		Assertions.assertEquals(df, mapped);
+		Assertions.assertEquals(df.filterByValue("TIME", 123_456L, true, 654_321L, true),
+				mapped.filterByValue("TIME", 123_456L, true, 654_321L, true), "TIME (mapped)");
+		Assertions.assertEquals(df.filterByValue("DATE", LocalDate.of(2001, 1, 1), false, null, false),
+				mapped.filterByValue("DATE", LocalDate.of(2001, 1, 1), false, null, false), "DATE (mapped)");
+
+		for (Map.Entry<String, DataFrame> e : DF_MAP.entrySet()) {
+
+			DataFrame expected = e.getValue();
+
+			File copy = File.createTempFile(e.getKey(), null);
+			copy.deleteOnExit();
+			expected.computeZoneMaps().writeTo(copy);
+
+			Assertions.assertEquals(expected, DataFrameFactory.readFrom(copy), e.getKey() + ", zone maps (copied)");
+			Assertions.assertEquals(expected, DataFrameFactory.mapFrom(copy), e.getKey() + ", zone maps (mapped)");
+		}
+	}
+
+	@Test
+	public void testStatistics() throws Exception {
+		for (Map.Entry<String, DataFrame> e : DF_MAP.entrySet()) {
+
+			DataFrame expected = e.getValue();
+
+			File copy = File.createTempFile(e.getKey(), null);
+			copy.deleteOnExit();
+			expected.computeStatistics().writeTo(copy);
+
+			for (DataFrame actual : List.of(DataFrameFactory.readFrom(copy), DataFrameFactory.mapFrom(copy))) {
+				Assertions.assertEquals(expected, actual, e.getKey() + ", statistics");
+
+				for (int i = 0; i < expected.columnCount(); i++) {
+					ColumnStatistics<?> lhs = expected.column(i).statistics();
+					ColumnStatistics<?> rhs = actual.column(i).statistics();
+
+					String message = e.getKey() + ", " + expected.columnName(i) + ", statistics";
+					Assertions.assertEquals(lhs.nullCount(), rhs.nullCount(), message);
+					Assertions.assertEquals(lhs.distinctCount(), rhs.distinctCount(), message);
+					Assertions.assertEquals(lhs.min(), rhs.min(), message);
+					Assertions.assertEquals(lhs.max(), rhs.max(), message);
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testReadWriteCsv() throws Exception {
 
@@ -403,6 +643,7 @@ public class TestDataFrame {
 						fromRsLogic.add(StringFromResultSet.STRING_FROM_STRING);
 						break;
 					case BD:
+					case FD:
 						create.append("NUMERIC");
 						fromRsLogic.add(DecimalFromResultSet.BIGDECIMAL_FROM_BIGDECIMAL);
 						break;
@@ -465,6 +706,168 @@ public class TestDataFrame {
 		}
 	}
 
+	@Test
+	public void testReadDbPartitioned() throws Exception {
+
+		// a file, since each connection to an in-memory database has its own
+		File file = File.createTempFile("partitioned", ".db");
+		file.deleteOnExit();
+		String url = "jdbc:sqlite:" + file.getPath();
+
+		// ids outside the partitioned range, and null ids, must still be read
+		IntColumn ids = IntColumn.of(IntStream.range(-50, 10_050).mapToObj(i -> i % 1000 == 7 ? null : i)
+				.collect(Collectors.toList()));
+		DataFrame expected = DataFrameFactory.of("ID", ids, "NAME",
+				StringColumn.of(IntStream.range(0, ids.size()).mapToObj(i -> "N" + i).collect(Collectors.toList())));
+
+		try (Connection conn = DriverManager.getConnection(url); Statement stmt = conn.createStatement()) {
+			conn.setAutoCommit(false);
+			stmt.execute("create table test (ID INT, NAME TEXT)");
+			try (PreparedStatement ps = conn.prepareStatement("insert into test values (?, ?)")) {
+				expected.writeTo(ps, WriteToDbConfig.DEFAULT_CONFIG);
+			}
+		}
+
+		ReadFromDbConfig config = new ReadFromDbConfig(
+				List.of(IntFromResultSet.INT_FROM_INT, StringFromResultSet.STRING_FROM_STRING));
+
+		// nulls sort first in sqlite, as they fall in the first range
+		DataFrame ranges = DataFrameFactory.readFrom(() -> DriverManager.getConnection(url),
+				"select * from test where " + DbPartitioning.PLACEHOLDER + " order by ID",
+				DbPartitioning.ranges("ID", 0, 10_000, 7), config, 3);
+		Assertions.assertEquals(expected.filterNulls().size(), ranges.filterNulls().size());
+		Assertions.assertEquals(expected.filterNulls(), ranges.filterNulls(), "ranges");
+		Assertions.assertEquals(expected.filter(r -> r.isNull("ID")), ranges.filter(r -> r.isNull("ID")),
+				"ranges, nulls");
+
+		DataFrame modulo = DataFrameFactory.readFrom(() -> DriverManager.getConnection(url),
+				"select * from test where " + DbPartitioning.PLACEHOLDER, DbPartitioning.modulo("ID", 4), config, 4);
+		Assertions.assertEquals(expected.size(), modulo.size());
+		Assertions.assertEquals(expected.filterNulls(), modulo.filterNulls().sort("ID"), "modulo");
+
+		// the query's own parameters are bound around the partition's
+		DataFrame parameters = DataFrameFactory.readFrom(() -> DriverManager.getConnection(url),
+				"select * from test where ID >= ? and " + DbPartitioning.PLACEHOLDER + " and ID < ? order by ID",
+				List.of(100, 5_000), DbPartitioning.ranges("ID", 0, 10_000, 5), config, 2);
+		Assertions.assertEquals(expected.filterNulls().filterByValue("ID", 100, true, 5_000, false), parameters,
+				"parameters");
+
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> DataFrameFactory.readFrom(() -> DriverManager.getConnection(url), "select * from test",
+						DbPartitioning.modulo("ID", 4), config, 4));
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> DataFrameFactory.readFrom(() -> DriverManager.getConnection(url),
+						"select * from test where ID > ? and " + DbPartitioning.PLACEHOLDER,
+						DbPartitioning.modulo("ID", 4), config, 4));
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> DataFrameFactory.readFrom(() -> DriverManager.getConnection(url),
+						"select * from test where " + DbPartitioning.PLACEHOLDER, DbPartitioning.modulo("ID", 4),
+						config, 0));
+		Assertions.assertThrows(SQLException.class,
+				() -> DataFrameFactory.readFrom(() -> DriverManager.getConnection(url),
+						"select * from missing where " + DbPartitioning.PLACEHOLDER, DbPartitioning.modulo("ID", 4),
+						config, 4));
+	}
+
+	@Test
+	public void testWriteDbPartitioned() throws Exception {
+
+		File file = File.createTempFile("partitioned", ".db");
+		file.deleteOnExit();
+		// sqlite allows one writer at a time, so the others wait for its lock
+		String url = "jdbc:sqlite:" + file.getPath() + "?busy_timeout=60000";
+
+		DataFrame expected = DataFrameFactory.of("ID", IntColumn.of(IntStream.range(0, 10_050)), "NAME",
+				StringColumn.of(IntStream.range(0, 10_050).mapToObj(i -> i % 5 == 0 ? null : "N" + i)
+						.collect(Collectors.toList())));
+
+		ReadFromDbConfig readConfig = new ReadFromDbConfig(
+				List.of(IntFromResultSet.INT_FROM_INT, StringFromResultSet.STRING_FROM_STRING));
+
+		try (Connection conn = DriverManager.getConnection(url); Statement stmt = conn.createStatement()) {
+			stmt.execute("create table test (ID INT PRIMARY KEY, NAME TEXT)");
+
+			AtomicLong progress = new AtomicLong();
+			expected.writeTo(() -> DriverManager.getConnection(url), "insert into test values (?, ?)",
+					DbWritePartitioning.perPartition(4).withProgress(progress::addAndGet),
+					new WriteToDbConfig(null, 1000));
+			Assertions.assertEquals(expected.size(), progress.get(), "progress");
+
+			try (ResultSet rs = stmt.executeQuery("select * from test order by ID")) {
+				Assertions.assertEquals(expected, DataFrameFactory.readFrom(rs, readConfig), "per partition");
+			}
+
+			// the last row violates the primary key, so the rows before it are rolled back
+			stmt.execute("delete from test");
+			DataFrame duplicate = expected.append(expected.head(1));
+			Assertions.assertThrows(SQLException.class,
+					() -> duplicate.writeTo(() -> DriverManager.getConnection(url), "insert into test values (?, ?)",
+							DbWritePartitioning.allOrNothing(1), WriteToDbConfig.DEFAULT_CONFIG));
+			try (ResultSet rs = stmt.executeQuery("select count(*) from test")) {
+				rs.next();
+				Assertions.assertEquals(0, rs.getInt(1), "all or nothing");
+			}
+
+			expected.writeTo(() -> DriverManager.getConnection(url), "insert into test values (?, ?)",
+					DbWritePartitioning.allOrNothing(1), WriteToDbConfig.DEFAULT_CONFIG);
+			try (ResultSet rs = stmt.executeQuery("select * from test order by ID")) {
+				Assertions.assertEquals(expected, DataFrameFactory.readFrom(rs, readConfig), "all or nothing");
+			}
+
+			// more partitions than rows
+			stmt.execute("delete from test");
+			for (int rows : new int[] { 0, 2 }) {
+				expected.head(rows).writeTo(() -> DriverManager.getConnection(url), "insert into test values (?, ?)",
+						DbWritePartitioning.perPartition(8), WriteToDbConfig.DEFAULT_CONFIG);
+				try (ResultSet rs = stmt.executeQuery("select count(*) from test")) {
+					rs.next();
+					Assertions.assertEquals(rows, rs.getInt(1), "more partitions than rows");
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testStreamFromDb() throws Exception {
+
+		DataFrame expected = DataFrameFactory.of("ID", IntColumn.of(IntStream.range(0, 10_050)), "NAME",
+				StringColumn.of(IntStream.range(0, 10_050).mapToObj(i -> i % 5 == 0 ? null : "N" + i)
+						.collect(Collectors.toList())));
+
+		ReadFromDbConfig config = new ReadFromDbConfig(
+				List.of(IntFromResultSet.INT_FROM_INT, StringFromResultSet.STRING_FROM_STRING), 500);
+
+		try (Connection conn = DriverManager.getConnection("jdbc:sqlite::memory:");
+				Statement stmt = conn.createStatement();) {
+
+			conn.setAutoCommit(false);
+			stmt.execute("create table test (ID INT, NAME TEXT)");
+			try (PreparedStatement ps = conn.prepareStatement("insert into test values (?, ?)")) {
+				expected.writeTo(ps, WriteToDbConfig.DEFAULT_CONFIG);
+			}
+
+			// the last chunk is partial, or full when the chunk size divides the row count
+			for (int chunkSize : new int[] { 1, 1000, 1005, 10_050, 20_000 }) {
+				try (ResultSet rs = stmt.executeQuery("select * from test order by ID")) {
+					List<DataFrame> chunks = DataFrameFactory.streamFrom(rs, config, chunkSize).toList();
+
+					Assertions.assertEquals((10_050 + chunkSize - 1) / chunkSize, chunks.size(), "chunk count");
+					for (int i = 0; i < chunks.size() - 1; i++)
+						Assertions.assertEquals(chunkSize, chunks.get(i).size(), "chunk size");
+
+					DataFrame actual = chunks.get(0);
+					for (int i = 1; i < chunks.size(); i++)
+						actual = actual.append(chunks.get(i));
+					Assertions.assertEquals(expected, actual, "chunk size " + chunkSize);
+				}
+			}
+
+			try (ResultSet rs = stmt.executeQuery("select * from test where ID < 0")) {
+				Assertions.assertEquals(0, DataFrameFactory.streamFrom(rs, config, 100).count(), "empty");
+			}
+		}
+	}
+
 	@Test
 	public void testResultSetMetaData() throws Exception {
 
@@ -501,6 +904,155 @@ public class TestDataFrame {
 		}
 	}
 
+	@Test
+	public void testLookup() throws Exception {
+
+		StringColumn c11 = StringColumn.builder(DISTINCT).add("A", "B", "C", "D").build();
+		IntColumn c21 = IntColumn.of(1, 2, null, 4);
+		NormalStringColumn c31 = NormalStringColumn.of("one", "two", "three", null);
+		DataFrame df = DataFrameFactory.create(new Column<?>[] { c11, c21, c31 }, new String[] { "C1", "C2", "C3" },
+				"C1");
+
+		StringColumn keys = StringColumn.of("C", null, "Z", "A", "D", "C");
+
+		DataFrame expected = DataFrameFactory.create(
+				new Column<?>[] { StringColumn.of("C", null, null, "A", "D", "C"), IntColumn.of(null, null, null, 1, 4, null),
+						NormalStringColumn.of("three", null, null, "one", null, "three") },
+				new String[] { "C1", "C2", "C3" });
+
+		Assertions.assertEquals(expected, df.lookup(keys), "basic, lookup");
+		Assertions.assertEquals(expected.subFrame(3, 6), df.lookup(keys.subColumn(3, 6)), "basic, lookup no misses");
+
+		for (Map.Entry<String, DataFrame> e : DF_MAP.entrySet()) {
+
+			DataFrame unkeyed = e.getValue();
+			if (unkeyed.isEmpty() || !unkeyed.column(0).isDistinct())
+				continue;
+			DataFrame keyed = unkeyed.withKeyColumn(0);
+
+			Assertions.assertEquals(unkeyed, keyed.lookup(keyed.column(0)), e.getKey() + ", lookup");
+		}
+	}
+
+	@Test
+	public void testReaders() throws Exception {
+
+		for (Map.Entry<String, DataFrame> e : DF_MAP.entrySet()) {
+
+			DataFrame df = e.getValue();
+			if (df.size() > 2)
+				df = df.subFrame(1, df.size() - 1);
+
+			for (int i = 0; i < df.columnCount(); i++) {
+
+				ColumnType<?> type = df.columnType(i);
+				if (type != ColumnType.INT && type != ColumnType.LONG && type != ColumnType.DOUBLE)
+					continue;
+
+				Column<?> column = df.column(i);
+				IntReader intReader = type == ColumnType.INT ? df.intReader(i) : null;
+				LongReader longReader = type == ColumnType.LONG ? df.longReader(i) : null;
+				DoubleReader doubleReader = type == ColumnType.DOUBLE ? df.doubleReader(i) : null;
+
+				for (Cursor cursor = df.cursor(); cursor.hasNext(); cursor.next()) {
+
+					final int r = cursor.rowIndex();
+					Object expected = column.get(r);
+					String message = e.getKey() + ", " + df.columnName(i) + ", " + r;
+
+					if (intReader != null) {
+						Assertions.assertEquals(expected == null, intReader.isNull(r), message);
+						Assertions.assertEquals(expected == null ? -1 : expected, intReader.getInt(r, -1), message);
+						if (expected != null) {
+							Assertions.assertEquals(expected, intReader.getInt(r), message);
+							Assertions.assertEquals(expected, cursor.getInt(i), message);
+						}
+					} else if (longReader != null) {
+						Assertions.assertEquals(expected == null, longReader.isNull(r), message);
+						Assertions.assertEquals(expected == null ? -1L : expected, longReader.getLong(r, -1L), message);
+						if (expected != null) {
+							Assertions.assertEquals(expected, longReader.getLong(r), message);
+							Assertions.assertEquals(expected, cursor.getLong(i), message);
+						}
+					} else {
+						Assertions.assertEquals(expected == null, doubleReader.isNull(r), message);
+						if (expected != null) {
+							Assertions.assertEquals(expected, doubleReader.getDouble(r), message);
+							Assertions.assertEquals(expected, cursor.getDouble(i), message);
+						}
+					}
+
+					if (expected == null && intReader != null)
+						Assertions.assertThrows(NullPointerException.class, () -> intReader.getInt(r), message);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSpliterator() throws Exception {
+
+		for (Map.Entry<String, DataFrame> e : DF_MAP.entrySet()) {
+
+			DataFrame df = e.getValue();
+
+			Assertions.assertEquals(new ArrayList<>(df), df.parallelStream().collect(Collectors.toList()),
+					e.getKey() + ", parallel rows");
+
+			Assertions.assertEquals(df.stream().map(Row::toString).collect(Collectors.toList()),
+					df.cursorStream(true).map(Cursor::toString).collect(Collectors.toList()),
+					e.getKey() + ", parallel cursors");
+		}
+
+		final int size = 100_000;
+		DataFrame df = DataFrameFactory.of("A", IntColumn.builder().addAll(IntStream.range(0, size).toArray()).build());
+
+		Spliterator<Cursor> spliterator = df.cursorSpliterator();
+		Spliterator<Cursor> prefix = spliterator.trySplit();
+		Assertions.assertNotNull(prefix, "split");
+		Assertions.assertEquals(size, prefix.estimateSize() + spliterator.estimateSize(), "split sizes");
+		Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED), "subsized");
+
+		long expected = (long) size * (size - 1) / 2;
+		Assertions.assertEquals(expected, df.cursorStream(true).mapToLong(c -> c.getInt(0)).sum(), "cursor sum");
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+
+		// large enough to be split into chunks
+		final int size = 1 << 20;
+
+		IntColumn a = IntColumn.builder().addAll(IntStream.range(0, size).toArray()).build();
+		DataFrame df = DataFrameFactory.of("A", a, "B", a.toDoubleColumn(i -> i / 2d));
+
+		Assertions.assertEquals(
+				IntColumn.builder().addAll(IntStream.range(0, size).filter(i -> i % 3 == 0).toArray()).build(),
+				df.filter(r -> r.getInt(0) % 3 == 0, true).column(0), "filter");
+
+		Assertions.assertEquals(LongColumn.builder().addAll(IntStream.range(0, size).mapToLong(i -> i * 2l).toArray())
+				.build(), df.deriveColumn((ToLongFunction<Row>) r -> r.getInt(0) * 2l, true), "deriveColumn, long");
+
+		Assertions.assertEquals(a.toBooleanColumn(i -> i % 2 == 0),
+				df.deriveColumn((Predicate<Row>) r -> r.getInt(0) % 2 == 0, true), "deriveColumn, boolean");
+
+		Assertions.assertEquals(a.toStringColumn(i -> Integer.toString(i)),
+				df.deriveColumn(ColumnType.STRING, r -> Integer.toString(r.getInt(0)), true), "deriveColumn, string");
+
+		Assertions.assertEquals(a.toDoubleColumn(i -> i), df.doubleColumn(1).evaluate(d -> d * 2, true), "evaluate");
+
+		// by default, functions are called on the calling thread and in row order
+		final int[] counter = { 0 };
+		Assertions.assertEquals(a, df.deriveColumn((ToIntFunction<Row>) r -> counter[0]++), "sequential deriveColumn");
+		Assertions.assertEquals(size, df.filter(r -> counter[0]-- > 0).size(), "sequential filter");
+		Assertions.assertEquals(0, counter[0], "sequential filter");
+
+		IntColumn reversed = IntColumn.builder().addAll(IntStream.range(0, size).map(i -> size - i - 1).toArray())
+				.build();
+		Assertions.assertEquals(reversed,
+				DataFrameFactory.of("A", a.toDistinct()).withKeyColumn("A").lookup(reversed).column(0), "select");
+	}
+
 	@Test
 	public void testFilterNulls() throws Exception {
 
@@ -750,6 +1302,126 @@ public class TestDataFrame {
 						List.of(s -> s.mapToInt(r -> r.getInt("C3")).max().getAsInt()))));
 	}
 
+	@Test
+	public void testGroupByFewGroups() {
+
+		final int size = 100_000;
+
+		// few enough groups that rows are hashed into them rather than sorted
+		DataFrame data = DataFrameFactory.of("C1", IntColumn.of(IntStream.range(0, size).map(i -> (i * 7) % 10)),
+				"C2", StringColumn.of(IntStream.range(0, size).mapToObj(i -> "S" + (i % 3))
+						.collect(Collectors.toList())),
+				"C3", IntColumn.of(IntStream.range(0, size).map(i -> 1)));
+
+		DataFrame grouped = data.groupBy(new GroupByConfig(List.of("C1", "C2"), List.of("COUNT"),
+				List.of(ColumnType.INT), List.of(s -> s.mapToInt(r -> r.getInt("C3")).sum())));
+
+		Map<List<Object>, Integer> expected = new HashMap<>();
+		for (Row row : data)
+			expected.merge(Arrays.asList(row.getInt("C1"), row.getString("C2")), 1, Integer::sum);
+
+		Assertions.assertEquals(expected.size(), grouped.size());
+		Assertions.assertEquals(grouped.sort("C1", "C2"), grouped);
+		for (Row row : grouped)
+			Assertions.assertEquals(expected.get(Arrays.asList(row.getInt("C1"), row.getString("C2"))),
+					row.getInt("COUNT"));
+	}
+
+	@Test
+	public void testGroupByFewGroupsTypedKeys() {
+
+		final int size = 100_000;
+
+		// keys of several types, hashed and compared without boxing. Sorting does not
+		// support nulls, except in NSTRING columns.
+		DataFrame data = DataFrameFactory.of("DA",
+				DateColumn.of(IntStream.range(0, size).mapToObj(i -> LocalDate.of(2000, 1 + i % 3, 1))
+						.toArray(LocalDate[]::new)),
+				"D", DoubleColumn.of(IntStream.range(0, size)
+						.mapToObj(i -> new Double[] { Double.NaN, -0.0, 0.0 }[i % 3]).toArray(Double[]::new)),
+				"IN", InstantColumn.of(IntStream.range(0, size).mapToObj(i -> Instant.ofEpochSecond(i % 2, i % 5))
+						.toArray(Instant[]::new)),
+				"NS", NormalStringColumn.of(IntStream.range(0, size).mapToObj(i -> i % 7 == 0 ? null : "S" + (i % 2))
+						.toArray(String[]::new)),
+				"ONE", IntColumn.of(IntStream.range(0, size).map(i -> 1))).subFrame(1, size);
+
+		List<String> keys = List.of("DA", "D", "IN", "NS");
+		DataFrame grouped = data.groupBy(new GroupByConfig(keys, List.of("COUNT"), List.of(ColumnType.INT),
+				List.of(s -> s.mapToInt(r -> r.getInt("ONE")).sum())));
+
+		Map<List<Object>, Integer> expected = new HashMap<>();
+		for (Row row : data)
+			expected.merge(keys.stream().map(row::get).collect(Collectors.toList()), 1, Integer::sum);
+
+		Assertions.assertEquals(expected.size(), grouped.size());
+		Assertions.assertEquals(grouped.sort("DA", "D", "IN", "NS"), grouped);
+		for (Row row : grouped)
+			Assertions.assertEquals(expected.get(keys.stream().map(row::get).collect(Collectors.toList())),
+					row.getInt("COUNT"));
+	}
+
+	@Test
+	public void testNormalStringKeys() {
+
+		StringColumn a = StringColumn.of("D", "A", "D", "B", "B", "C", "A", "C", "D");
+		IntColumn b = IntColumn.of(3, 2, 1, 1, 2, 2, 1, 1, 2);
+		IntColumn c = IntColumn.of(9, 2, 7, 3, 4, 6, 1, 5, 8);
+
+		DataFrame strings = DataFrameFactory.of("C1", a, "C2", b, "C3", c);
+		DataFrame normal = DataFrameFactory.of("C1", a.toNormalStringColumn(), "C2", b, "C3", c);
+
+		// sort and group by on dictionary codes
+		Assertions.assertEquals(strings.sort("C1", "C2"), normal.sort("C1", "C2"));
+		Assertions.assertEquals(strings.sort("C1").column("C1"), normal.sort("C1").column("C1"));
+		Assertions.assertEquals(strings.groupBy(new GroupByConfig(List.of("C1"), List.of("SUM"),
+				List.of(ColumnType.INT), List.of(s -> s.mapToInt(r -> r.getInt("C2")).sum()))),
+				normal.groupBy(new GroupByConfig(List.of("C1"), List.of("SUM"), List.of(ColumnType.INT),
+						List.of(s -> s.mapToInt(r -> r.getInt("C2")).sum()))));
+
+		// nulls sort first
+		NormalStringColumn withNulls = NormalStringColumn.of("B", null, "A", null, "B");
+		Assertions.assertEquals(List.of(1, 3, 2, 0, 4),
+				DataFrameFactory.of("C1", withNulls, "C2", IntColumn.of(0, 1, 2, 3, 4)).sort("C1").column("C2"));
+
+		// join on a single key, with different dictionaries on each side
+		NormalStringColumn k1 = NormalStringColumn.of("A", "B", "C", null);
+		NormalStringColumn k2 = NormalStringColumn.of("D", "C", null, "B", "E");
+		DataFrame df1 = DataFrameFactory.of("KEY", k1, "FOO", IntColumn.of(1, 2, 3, 4));
+		DataFrame df2 = DataFrameFactory.of("KEY", k2, "BAR", IntColumn.of(5, 6, 7, 8, 9));
+
+		DataFrame expected = DataFrameFactory.of("KEY", StringColumn.of("C", null, "B"), "FOO", IntColumn.of(3, 4, 2),
+				"BAR", IntColumn.of(6, 7, 8));
+		Assertions.assertEquals(expected, df1.join(df2, new String[] { "KEY" }, new String[] { "KEY" }));
+
+		DataFrame stringJoin = DataFrameFactory.of("KEY", StringColumn.of("A", "B", "C", null), "FOO",
+				IntColumn.of(1, 2, 3, 4))
+				.joinLeft(DataFrameFactory.of("KEY", StringColumn.of("D", "C", null, "B", "E"), "BAR",
+						IntColumn.of(5, 6, 7, 8, 9)), new String[] { "KEY" }, new String[] { "KEY" });
+		Assertions.assertEquals(stringJoin, df1.joinLeft(df2, new String[] { "KEY" }, new String[] { "KEY" }));
+
+		// join on a single key, with a shared dictionary
+		NormalStringDictionary dictionary = NormalStringDictionary.union(k1, k2);
+		DataFrame shared1 = DataFrameFactory.of("KEY", k1.withDictionary(dictionary), "FOO", IntColumn.of(1, 2, 3, 4));
+		DataFrame shared2 = DataFrameFactory.of("KEY", k2.withDictionary(dictionary), "BAR",
+				IntColumn.of(5, 6, 7, 8, 9));
+		Assertions.assertEquals(expected, shared1.join(shared2, new String[] { "KEY" }, new String[] { "KEY" }));
+		Assertions.assertEquals(stringJoin,
+				shared1.joinLeft(shared2, new String[] { "KEY" }, new String[] { "KEY" }));
+
+		// join on multiple keys
+		DataFrame df3 = DataFrameFactory.of("K1", NormalStringColumn.of("A", "A", "B", "B"), "K2",
+				NormalStringColumn.of("x", "y", "x", "y"), "FOO", IntColumn.of(1, 2, 3, 4));
+		DataFrame df4 = DataFrameFactory.of("K1", NormalStringColumn.of("B", "C", "A"), "K2",
+				NormalStringColumn.of("y", "x", "z"), "BAR", IntColumn.of(5, 6, 7));
+		Assertions.assertEquals(
+				DataFrameFactory.of("K1", StringColumn.of("B"), "K2", StringColumn.of("y"), "FOO", IntColumn.of(4),
+						"BAR", IntColumn.of(5)),
+				df3.join(df4, new String[] { "K1", "K2" }, new String[] { "K1", "K2" }));
+
+		Assertions.assertThrows(IllegalStateException.class,
+				() -> df3.join(df2, new String[] { "K1" }, new String[] { "KEY" }));
+	}
+
 	@Test
 	public void testAsResultSet() throws SQLException {
 
@@ -794,6 +1466,71 @@ public class TestDataFrame {
 		Assertions.assertEquals(a.size(), i);
 	}
 
+	@Test
+	public void testAsResultSetTemporal() throws SQLException {
+
+		LocalDateTime start = LocalDateTime.of(1999, 12, 31, 23, 59, 58, 123_456_000);
+		IntColumn n = IntColumn.of(0, 1, null, 3, 4, null, 6, 7);
+
+		DateTimeColumn dt = n.toDateTimeColumn(i -> i == null ? null : start.plusSeconds(i * 100_000L));
+		DateColumn da = dt.toDateColumn(x -> x == null ? null : x.toLocalDate());
+		TimeColumn ti = TimeColumn.of(dt.stream().map(x -> x == null ? null : x.toLocalTime()).toList());
+		InstantColumn in = InstantColumn
+				.of(dt.stream().map(x -> x == null ? null : x.toInstant(ZoneOffset.UTC)).toList());
+
+		// sliced, so that the columns' offsets are exercised too
+		DataFrame df = DataFrameFactory.of("DT", dt, "DA", da, "RLE", da.toRunLengthEncoded(), "TI", ti, "IN", in)
+				.subFrame(1, n.size());
+
+		ResultSet rs = df.asResultSet();
+		for (int i = 0; rs.next(); i++) {
+			LocalDateTime x = df.isNull(i, "DT") ? null : df.getDateTime(i, "DT");
+
+			Assertions.assertEquals(x == null ? null : Timestamp.valueOf(x), rs.getTimestamp("DT"));
+			Assertions.assertEquals(x == null, rs.wasNull());
+			Assertions.assertEquals(x == null ? null : Date.valueOf(x.toLocalDate()), rs.getDate("DT"));
+			Assertions.assertEquals(x == null ? null : Time.valueOf(x.toLocalTime()), rs.getTime("DT"));
+
+			for (String column : new String[] { "DA", "RLE" }) {
+				Assertions.assertEquals(x == null ? null : Date.valueOf(x.toLocalDate()), rs.getDate(column));
+				Assertions.assertEquals(x == null ? null : Timestamp.valueOf(x.toLocalDate().atStartOfDay()),
+						rs.getTimestamp(column));
+			}
+
+			Assertions.assertEquals(x == null ? null : Time.valueOf(x.toLocalTime()), rs.getTime("TI"));
+			Assertions.assertEquals(x == null ? null : Timestamp.from(x.toInstant(ZoneOffset.UTC)),
+					rs.getTimestamp("IN"));
+			Assertions.assertEquals(x == null, rs.wasNull());
+		}
+	}
+
+	@Test
+	public void testAsResultSetLabels() throws SQLException {
+
+		DataFrame df = DataFrameFactory.of("id", IntColumn.of(1, 2), "ID", IntColumn.of(3, 4), "Name",
+				StringColumn.of("x", null));
+
+		ResultSet rs = df.asResultSet();
+		Assertions.assertTrue(rs.next());
+
+		// exact matches first, otherwise the first case-insensitive match
+		Assertions.assertEquals(1, rs.findColumn("id"));
+		Assertions.assertEquals(2, rs.findColumn("ID"));
+		Assertions.assertEquals(1, rs.findColumn("Id"));
+		Assertions.assertEquals(3, rs.findColumn("NAME"));
+
+		Assertions.assertEquals(3, rs.getInt("ID"));
+		Assertions.assertEquals("x", rs.getString("name"));
+		Assertions.assertEquals(3L, rs.getLong(2));
+		Assertions.assertEquals(1.0, rs.getDouble("iD"));
+
+		Assertions.assertThrows(SQLException.class, () -> rs.findColumn("missing"));
+		Assertions.assertThrows(SQLException.class, () -> rs.getInt("missing"));
+
+		rs.close();
+		Assertions.assertThrows(SQLException.class, () -> rs.getInt("id"));
+	}
+
 	@Test
 	public void withDerivedColumn() {
 		IntColumn a = IntColumn.of(1, 2, null, 3);
@@ -875,6 +1612,167 @@ public class TestDataFrame {
 		Assertions.assertEquals(expected, actual);
 	}
 
+	@Test
+	public void testRecordsConstructors() {
+
+		// the canonical constructor must be used, whichever is declared first
+		record TestRecordCtors(long id, String name) {
+			TestRecordCtors(String name) {
+				this(-1, name);
+			}
+		}
+
+		List<TestRecordCtors> expected = LongStream.range(0, 10_000)
+				.mapToObj(i -> new TestRecordCtors(i, i % 3 == 0 ? null : "N" + i)).collect(Collectors.toList());
+
+		DataFrame df = DataFrameFactory.of(TestRecordCtors.class, expected);
+		Assertions.assertEquals(LongColumn.of(LongStream.range(0, 10_000)), df.longColumn("id"));
+
+		Assertions.assertEquals(expected, df.stream(TestRecordCtors.class).toList());
+		Assertions.assertEquals(expected, df.stream(TestRecordCtors.class).parallel().toList(), "parallel");
+
+		// null records become rows of nulls, which cannot be read into primitive components
+		DataFrame nulls = DataFrameFactory.of(TestRecordCtors.class, Arrays.asList(expected.get(1), null));
+		Assertions.assertTrue(nulls.isNull(1, "id"));
+		Assertions.assertThrows(NullPointerException.class, () -> nulls.stream(TestRecordCtors.class).toList());
+	}
+
+	@Test
+	public void testRecordsParallel() {
+
+		record TestRecordParallel(int id, double value, String name) {
+		}
+
+		// enough records to be converted in several chunks
+		List<TestRecordParallel> expected = IntStream.range(0, 300_000)
+				.mapToObj(i -> i % 1000 == 999 ? null
+						: new TestRecordParallel(i, i % 7 == 0 ? -i : i, i % 3 == 0 ? null : "N" + i % 100))
+				.collect(Collectors.toList());
+
+		DataFrame sequential = DataFrameFactory.of(TestRecordParallel.class, expected);
+
+		List<DataFrame> parallel = List.of(DataFrameFactory.ofParallel(TestRecordParallel.class, expected),
+				DataFrameFactory.ofParallel(TestRecordParallel.class, new LinkedHashSet<>(expected.subList(0, 999))),
+				DataFrameFactory.ofParallel(TestRecordParallel.class,
+						expected.stream().filter(r -> r != null).toList()));
+
+		List<DataFrame> sequentials = List.of(sequential,
+				DataFrameFactory.of(TestRecordParallel.class, expected.subList(0, 999)),
+				DataFrameFactory.of(TestRecordParallel.class, expected.stream().filter(r -> r != null).toList()));
+
+		for (int i = 0; i < parallel.size(); i++) {
+			Assertions.assertEquals(sequentials.get(i), parallel.get(i));
+			for (int c = 0; c < sequential.columnCount(); c++)
+				Assertions.assertEquals(sequentials.get(i).column(c).characteristics(),
+						parallel.get(i).column(c).characteristics(), "characteristics");
+		}
+	}
+
+	@Test
+	public void testConcurrentBuilders() throws InterruptedException {
+
+		final int threads = 4, rows = 10_000;
+
+		ConcurrentColumnBuilder<Long, LongColumnBuilder> seq = new ConcurrentColumnBuilder<>(LongColumn::builder);
+		ConcurrentColumnBuilder<Double, DoubleColumnBuilder> value = new ConcurrentColumnBuilder<>(
+				() -> DoubleColumn.builder(0, rows));
+		ConcurrentColumnBuilder<String, StringColumnBuilder> name = new ConcurrentColumnBuilder<>(
+				StringColumn::builder);
+
+		AtomicLong counter = new AtomicLong();
+		List<Thread> producers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			Thread producer = new Thread(() -> {
+				for (int i = 0; i < rows; i++) {
+					long s = counter.getAndIncrement();
+					seq.local().add(s);
+					value.local().add(s * 0.5);
+					name.add(s % 3 == 0 ? null : "N" + s);
+				}
+			});
+			producers.add(producer);
+			producer.start();
+		}
+		for (Thread producer : producers)
+			producer.join();
+
+		Assertions.assertEquals(threads * rows, seq.size());
+
+		DataFrame df = DataFrameFactory.create(new Column<?>[] { seq.build(), value.build(), name.build() },
+				new String[] { "SEQ", "VALUE", "NAME" }).sort("SEQ");
+
+		DataFrame expected = DataFrameFactory.create(new Column<?>[] {
+				LongColumn.of(LongStream.range(0, threads * rows).boxed().toArray(Long[]::new)),
+				DoubleColumn.of(LongStream.range(0, threads * rows).mapToObj(s -> s * 0.5).toArray(Double[]::new)),
+				StringColumn.of(LongStream.range(0, threads * rows).mapToObj(s -> s % 3 == 0 ? null : "N" + s)
+						.toArray(String[]::new)) },
+				new String[] { "SEQ", "VALUE", "NAME" });
+
+		Assertions.assertEquals(expected, df);
+	}
+
+	@Test
+	public void testConcurrentBuildersLarge() throws InterruptedException {
+
+		// enough rows for the local builders to be merged in parallel chunks
+		final int threads = 4, rows = 100_000;
+
+		ConcurrentColumnBuilder<Long, LongColumnBuilder> seq = new ConcurrentColumnBuilder<>(LongColumn::builder);
+		ConcurrentColumnBuilder<Integer, IntColumnBuilder> value = new ConcurrentColumnBuilder<>(IntColumn::builder);
+		ConcurrentColumnBuilder<Instant, InstantColumnBuilder> time = new ConcurrentColumnBuilder<>(
+				InstantColumn::builder);
+
+		AtomicLong counter = new AtomicLong();
+		List<Thread> producers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			Thread producer = new Thread(() -> {
+				for (int i = 0; i < rows; i++) {
+					long s = counter.getAndIncrement();
+					seq.add(s);
+					value.add(s % 7 == 0 ? null : (int) s);
+					time.add(Instant.ofEpochSecond(s, s % 1000));
+				}
+			});
+			producers.add(producer);
+			producer.start();
+		}
+		for (Thread producer : producers)
+			producer.join();
+
+		DataFrame df = DataFrameFactory.create(new Column<?>[] { seq.build(), value.build(), time.build() },
+				new String[] { "SEQ", "VALUE", "TIME" }).sort("SEQ");
+
+		DataFrame expected = DataFrameFactory.create(new Column<?>[] {
+				LongColumn.of(LongStream.range(0, threads * rows).boxed().toArray(Long[]::new)),
+				IntColumn.of(IntStream.range(0, threads * rows).mapToObj(s -> s % 7 == 0 ? null : s)
+						.toArray(Integer[]::new)),
+				InstantColumn.of(LongStream.range(0, threads * rows).mapToObj(s -> Instant.ofEpochSecond(s, s % 1000))
+						.toArray(Instant[]::new)) },
+				new String[] { "SEQ", "VALUE", "TIME" });
+
+		Assertions.assertEquals(expected, df);
+
+		value.reset();
+		Assertions.assertEquals(0, value.size());
+		value.add(42);
+		Assertions.assertEquals(IntColumn.of(42), value.build());
+	}
+
+	@Test
+	public void testConcurrentBuildersShortLivedThreads() throws InterruptedException {
+
+		// one after another, so that a thread may get the id of one which has ended
+		ConcurrentColumnBuilder<Integer, IntColumnBuilder> value = new ConcurrentColumnBuilder<>(IntColumn::builder);
+		for (int t = 0; t < 50; t++) {
+			final int i = t;
+			Thread producer = new Thread(() -> value.add(i));
+			producer.start();
+			producer.join();
+		}
+
+		Assertions.assertEquals(IntColumn.of(IntStream.range(0, 50).boxed().toArray(Integer[]::new)), value.build());
+	}
+
 	@Test
 	public void testRecordsEmpty() {
 
@@ -929,6 +1827,7 @@ public class TestDataFrame {
 		case DA -> () -> LocalDate.of(2022, 12, 11);
 		case DT -> () -> LocalDateTime.of(2022, 12, 11, 21, 30, 0);
 		case F -> () -> (float) 100;
+		case FD -> () -> new BigDecimal("1.25");
 		case FS -> () -> "sample";
 		case I -> () -> (int) 100;
 		case IN -> () -> Instant.ofEpochSecond(10000000);
@@ -968,6 +1867,7 @@ public class TestDataFrame {
 		getters(df, types, ColumnTypeCode.NS, df::stringColumn, df::getString, Row::getString);
 		getters(df, types, ColumnTypeCode.FS, df::stringColumn, df::getString, Row::getString);
 		getters(df, types, ColumnTypeCode.BD, df::decimalColumn, df::getBigDecimal, Row::getBigDecimal);
+		getters(df, types, ColumnTypeCode.FD, df::decimalColumn, df::getBigDecimal, Row::getBigDecimal);
 		getters(df, types, ColumnTypeCode.UU, df::uuidColumn, df::getUuid, Row::getUuid);
 		getters(df, types, ColumnTypeCode.BL, df::blobColumn, df::getBlob, Row::getBlob, (a, b) -> {
 			try {
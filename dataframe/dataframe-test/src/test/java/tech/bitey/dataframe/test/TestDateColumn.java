@@ -16,12 +16,20 @@
 
 package tech.bitey.dataframe.test;
 
+import java.io.File;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
 import tech.bitey.dataframe.DateColumn;
+import tech.bitey.dataframe.GroupByConfig;
+import tech.bitey.dataframe.IntColumn;
 
 public class TestDateColumn {
 
@@ -57,6 +65,55 @@ public class TestDateColumn {
 		Assertions.assertEquals(expected, actual);
 	}
 
+	@Test
+	public void testRunLengthEncoded() throws Exception {
+
+		final int size = 10_000;
+
+		// trade dates, with a hundred rows per date
+		LocalDate start = LocalDate.of(2020, 1, 1);
+		DateColumn dates = Stream.iterate(start, d -> d.plusDays(1)).limit(size / 100)
+				.flatMap(d -> Stream.generate(() -> d).limit(100)).collect(DateColumn.collector());
+		DateColumn rle = dates.toRunLengthEncoded();
+		Assertions.assertSame(rle, rle.toRunLengthEncoded());
+		Assertions.assertEquals(dates, rle);
+		Assertions.assertEquals(rle, dates);
+		Assertions.assertEquals(dates.yyyymmdd(5_000), rle.yyyymmdd(5_000));
+
+		LocalDate from = start.plusDays(10), to = start.plusDays(20);
+		Assertions.assertEquals(dates.filterByValue(from, true, to, false), rle.filterByValue(from, true, to, false));
+		Assertions.assertEquals(dates.subColumn(50, 9_950), rle.subColumn(50, 9_950));
+		Assertions.assertEquals(dates.toSorted(), rle.toSorted());
+		Assertions.assertEquals(dates.toDistinct(), rle.toDistinct());
+
+		IntColumn reversed = IntColumn.of(IntStream.range(0, size).map(i -> size - i));
+		DataFrame df = DataFrameFactory.of("D", rle, "R", reversed).sort("R");
+		DataFrame dfExpected = DataFrameFactory.of("D", dates, "R", reversed).sort("R");
+
+		Assertions.assertEquals(dfExpected, df);
+		Assertions.assertEquals(dfExpected.sort("D").column("D"), df.sort("D").column("D"));
+		Assertions.assertEquals(dfExpected.groupBy(new GroupByConfig(List.of("D"))),
+				df.groupBy(new GroupByConfig(List.of("D"))));
+
+		df = DataFrameFactory.of("D", rle, "R", reversed);
+		dfExpected = DataFrameFactory.of("D", dates, "R", reversed);
+		Assertions.assertEquals(dfExpected.filterByValue("D", from, true, to, false),
+				df.filterByValue("D", from, true, to, false));
+
+		File file = File.createTempFile("testRunLengthEncoded", null);
+		file.deleteOnExit();
+		long[] lengths = new long[2];
+		for (int i = 0; i < 2; i++) {
+			(i == 0 ? df : dfExpected).subFrame(50, 9_950).writeTo(file, true);
+			lengths[i] = file.length();
+			Assertions.assertEquals(dfExpected.subFrame(50, 9_950), DataFrameFactory.readFrom(file));
+			Assertions.assertEquals(dfExpected.subFrame(50, 9_950), DataFrameFactory.mapFrom(file));
+		}
+
+		// each run of dates is written once
+		Assertions.assertTrue(lengths[0] < lengths[1] - (size - 100) * 3);
+	}
+
 	private static LocalDate packUnpack(LocalDate date) {
 		return DateColumn.of(date).get(0);
 	}
@@ -16,12 +16,15 @@
 
 package tech.bitey.dataframe.test;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.util.Spliterator;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import tech.bitey.dataframe.DateTimeColumn;
+import tech.bitey.dataframe.DateTimeColumnBuilder;
 
 public class TestDateTimeColumn {
 
@@ -63,6 +66,49 @@ public class TestDateTimeColumn {
 		}
 	}
 
+	@Test
+	public void testAddFields() {
+
+		LocalDateTime expected = LocalDateTime.of(-2000, 12, 31, 23, 59, 58, 123456000);
+
+		DateTimeColumn actual = DateTimeColumn.builder().add(expected.getYear(), expected.getMonthValue(),
+				expected.getDayOfMonth(), expected.getHour(), expected.getMinute(), expected.getSecond(),
+				expected.getNano() + 789).build();
+
+		Assertions.assertEquals(DateTimeColumn.of(expected), actual);
+	}
+
+	@Test
+	public void testAddFieldsOutOfRange() {
+
+		DateTimeColumnBuilder builder = DateTimeColumn.builder();
+
+		Assertions.assertThrows(DateTimeException.class, () -> builder.add(1 << 17, 1, 1, 0, 0, 0, 0));
+		Assertions.assertThrows(DateTimeException.class, () -> builder.add(2000, 13, 1, 0, 0, 0, 0));
+		Assertions.assertThrows(DateTimeException.class, () -> builder.add(2000, 4, 31, 0, 0, 0, 0));
+		Assertions.assertThrows(DateTimeException.class, () -> builder.add(2001, 2, 29, 0, 0, 0, 0));
+		Assertions.assertThrows(DateTimeException.class, () -> builder.add(2000, 1, 1, 24, 0, 0, 0));
+		Assertions.assertThrows(DateTimeException.class, () -> builder.add(2000, 1, 1, 0, 60, 0, 0));
+		Assertions.assertThrows(DateTimeException.class, () -> builder.add(2000, 1, 1, 0, 0, -1, 0));
+		Assertions.assertThrows(DateTimeException.class, () -> builder.add(2000, 1, 1, 0, 0, 0, 1_000_000_000));
+		Assertions.assertEquals(0, builder.size());
+
+		builder.add(2000, 2, 29, 0, 0, 0, 0);
+		Assertions.assertEquals(DateTimeColumn.of(LocalDateTime.of(2000, 2, 29, 0, 0)), builder.build());
+	}
+
+	@Test
+	public void testAddFieldsSorted() {
+
+		DateTimeColumnBuilder sorted = DateTimeColumn.builder(Spliterator.SORTED);
+		sorted.add(2000, 1, 1, 0, 0, 0, 0).add(2000, 1, 1, 0, 0, 0, 0).add(2000, 1, 1, 0, 0, 0, 1000);
+		Assertions.assertThrows(IllegalStateException.class, () -> sorted.add(1999, 12, 31, 23, 59, 59, 0));
+
+		DateTimeColumnBuilder distinct = DateTimeColumn.builder(Spliterator.DISTINCT);
+		distinct.add(-1, 1, 1, 0, 0, 0, 0).add(2000, 1, 1, 0, 0, 0, 0);
+		Assertions.assertThrows(IllegalStateException.class, () -> distinct.add(2000, 1, 1, 0, 0, 0, 0));
+	}
+
 	private static LocalDateTime packUnpack(LocalDateTime dt) {
 		return DateTimeColumn.of(dt).get(0);
 	}
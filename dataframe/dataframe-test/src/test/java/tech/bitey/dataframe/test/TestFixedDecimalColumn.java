@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe.test;
+
+import static java.util.Spliterator.SORTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.ColumnType;
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
+import tech.bitey.dataframe.DecimalColumn;
+import tech.bitey.dataframe.FixedDecimalColumn;
+import tech.bitey.dataframe.FixedDecimalColumnBuilder;
+import tech.bitey.dataframe.StringColumn;
+
+public class TestFixedDecimalColumn extends TestDecimalColumn {
+
+	@Override
+	Column<BigDecimal> parseColumn(StringColumn stringColumn) {
+		return FixedDecimalColumn.builder().addAll(stringColumn.parseDecimal()).build();
+	}
+
+	@Override
+	TestSample<BigDecimal> wrapSample(String label, BigDecimal[] array, int characteristics) {
+		DecimalColumn column = FixedDecimalColumn.builder(characteristics).addAll(array).build();
+		return new TestSample<>(label, array, 0, array.length, column);
+	}
+
+	@Override
+	Column<BigDecimal> collect(Stream<BigDecimal> stream) {
+		return stream.collect(FixedDecimalColumn.collector());
+	}
+
+	@Test
+	public void testFixedScale() throws Exception {
+
+		FixedDecimalColumn column = (FixedDecimalColumn) FixedDecimalColumn.of(new BigDecimal("1.5"), null,
+				new BigDecimal("-0.25"), new BigDecimal("3"));
+
+		assertEquals(ColumnType.FDECIMAL, column.getType());
+		assertEquals(2, column.scale());
+		assertEquals(new BigDecimal("1.50"), column.get(0));
+		assertEquals(-25, column.getUnscaled(2));
+		assertEquals(new BigDecimal("4.25"), column.sum());
+
+		FixedDecimalColumn sorted = ((FixedDecimalColumn) FixedDecimalColumn.of(new BigDecimal("3"),
+				new BigDecimal("1.5"), new BigDecimal("-0.25"))).toDistinct();
+		assertEquals(DecimalColumn.of(new BigDecimal("-0.25"), new BigDecimal("1.50"), new BigDecimal("3.00")),
+				sorted);
+		assertEquals(1, sorted.indexOf(new BigDecimal("1.5")));
+		assertEquals(-1, sorted.indexOf(new BigDecimal("1.501")));
+		assertEquals(new BigDecimal("3.00"), sorted.ceiling(new BigDecimal("1.501")));
+		assertEquals(new BigDecimal("1.50"), sorted.floor(new BigDecimal("1.501")));
+
+		// the unscaled sum overflows a long
+		FixedDecimalColumn big = (FixedDecimalColumn) FixedDecimalColumn.of(BigDecimal.valueOf(Long.MAX_VALUE, 2),
+				BigDecimal.valueOf(Long.MAX_VALUE, 2));
+		assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(BigDecimal.valueOf(2)), big.sum());
+
+		File file = File.createTempFile("testFixedScale", null);
+		file.deleteOnExit();
+		DataFrame df = DataFrameFactory.of("D", column.subColumn(0, 3), "S", sorted);
+		df.writeTo(file);
+		assertEquals(df, DataFrameFactory.readFrom(file));
+		assertEquals(2, ((FixedDecimalColumn) DataFrameFactory.mapFrom(file).decimalColumn("D")).scale());
+	}
+
+	@Test
+	public void testFallback() {
+
+		// rescaling to 20 digits after the decimal point overflows
+		BigDecimal[] elements = IntStream.range(0, 100)
+				.mapToObj(i -> i == 50 ? new BigDecimal("0.00000000000000000001") : BigDecimal.valueOf(i))
+				.toArray(BigDecimal[]::new);
+
+		DecimalColumn column = FixedDecimalColumn.of(elements);
+		assertFalse(column instanceof FixedDecimalColumn);
+		assertEquals(ColumnType.DECIMAL, column.getType());
+		assertEquals(DecimalColumn.of(Stream.of(elements).map(e -> e.setScale(20)).toArray(BigDecimal[]::new)),
+				column);
+
+		// a sorted builder still checks its elements after falling back
+		DecimalColumn sorted = FixedDecimalColumn.builder(SORTED).add(BigDecimal.ONE)
+				.add(BigDecimal.valueOf(Long.MAX_VALUE, 0)).add(new BigDecimal("1E+30")).build();
+		assertTrue(sorted.isSorted());
+		assertEquals(3, sorted.size());
+
+		DecimalColumn fixed = FixedDecimalColumn.of(new BigDecimal("9.99"), new BigDecimal("0.01"));
+		assertInstanceOf(FixedDecimalColumn.class, fixed);
+		assertEquals(new BigDecimal("10.00"), ((FixedDecimalColumn) fixed).sum());
+	}
+
+	@Test
+	public void testRescaleAfterBuild() {
+
+		FixedDecimalColumnBuilder builder = FixedDecimalColumn.builder().ensureCapacity(2);
+		DecimalColumn first = builder.add(BigDecimal.ONE).add(BigDecimal.TEN).build();
+
+		// rescaling the builder's elements must not change the column already built
+		DecimalColumn second = builder.add(new BigDecimal("0.5")).build();
+		assertEquals(DecimalColumn.of(BigDecimal.ONE, BigDecimal.TEN), first);
+		assertEquals(0, ((FixedDecimalColumn) first).scale());
+		assertEquals(DecimalColumn.of(new BigDecimal("1.0"), new BigDecimal("10.0"), new BigDecimal("0.5")), second);
+	}
+}
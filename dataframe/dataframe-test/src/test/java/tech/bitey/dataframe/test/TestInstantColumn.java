@@ -53,6 +53,24 @@ public class TestInstantColumn {
 		Assertions.assertEquals(expected, actual);
 	}
 
+	@Test
+	public void testEpochSecondAndNano() {
+
+		Instant[] instants = { Instant.now(), Instant.ofEpochSecond(-1, 999999999), null, Instant.EPOCH };
+		InstantColumn column = InstantColumn.of(instants).subColumn(1, 4);
+
+		for (int i = 0; i < column.size(); i++) {
+			Instant expected = instants[i + 1];
+			if (expected == null) {
+				final int index = i;
+				Assertions.assertThrows(NullPointerException.class, () -> column.getEpochSecond(index));
+			} else {
+				Assertions.assertEquals(expected.getEpochSecond(), column.getEpochSecond(i));
+				Assertions.assertEquals(expected.getNano(), column.getNano(i));
+			}
+		}
+	}
+
 	private static Instant packUnpack(Instant date) {
 		return InstantColumn.of(date).get(0);
 	}
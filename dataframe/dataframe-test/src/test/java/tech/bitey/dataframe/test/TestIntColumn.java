@@ -16,6 +16,11 @@
 
 package tech.bitey.dataframe.test;
 
+import static java.util.Spliterator.DISTINCT;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -23,13 +28,19 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
+import tech.bitey.dataframe.GroupByConfig;
 import tech.bitey.dataframe.IntColumn;
+import tech.bitey.dataframe.IntReader;
+import tech.bitey.dataframe.IntColumnBuilder;
 import tech.bitey.dataframe.StringColumn;
 
 public class TestIntColumn extends TestColumn<Integer> {
@@ -49,6 +60,150 @@ public class TestIntColumn extends TestColumn<Integer> {
 		}
 	}
 
+	@Test
+	public void testBulkAdd() {
+
+		ByteBuffer bb = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+		bb.putInt(4).putInt(5).putInt(6).putInt(7).putInt(8).flip();
+
+		IntColumnBuilder builder = IntColumn.builder(DISTINCT, 8);
+		IntColumn column = builder.addAll(new int[] { -1, 1, 2, 3, -1 }, 1, 3).addAll(bb.asIntBuffer()).build();
+		Assertions.assertEquals(IntColumn.of(1, 2, 3, 4, 5, 6, 7, 8), column);
+		Assertions.assertTrue(column.isDistinct());
+
+		// the builder does not write through to a column built over its buffer
+		IntColumn more = builder.add(9).build();
+		Assertions.assertEquals(IntColumn.of(1, 2, 3, 4, 5, 6, 7, 8), column);
+		Assertions.assertEquals(IntColumn.of(1, 2, 3, 4, 5, 6, 7, 8, 9), more);
+
+		// a sorted builder rejects out of order elements as soon as they're added
+		Assertions.assertThrows(IllegalStateException.class, () -> builder.addAll(9, 10));
+		Assertions.assertThrows(IndexOutOfBoundsException.class,
+				() -> IntColumn.builder().addAll(new int[3], 2, 2));
+	}
+
+	@Test
+	public void testCompact() {
+
+		final int size = 10_000;
+
+		// frame of reference, delta, and a column which doesn't compact
+		IntColumn small = IntColumn.of(IntStream.range(0, size).map(i -> RAND.nextInt(100) - 50));
+		IntColumn sorted = IntColumn.of(IntStream.range(0, size).map(i -> 1_000_000 + i * 3 + i % 2));
+		IntColumn random = IntColumn.of(IntStream.range(0, size).map(i -> RAND.nextInt()));
+		Assertions.assertSame(random, random.compact());
+
+		for (IntColumn column : Arrays.asList(small, sorted)) {
+			IntColumn compact = column.compact();
+			Assertions.assertNotSame(column, compact);
+			Assertions.assertSame(compact, compact.compact());
+			Assertions.assertEquals(column, compact);
+			Assertions.assertEquals(column.statistics().distinctCount(), compact.statistics().distinctCount());
+
+			for (int i = 0; i < 1000; i++) {
+				int index = RAND.nextInt(size);
+				Assertions.assertEquals(column.getInt(index), compact.getInt(index));
+			}
+
+			// sub-columns share the packed elements, other derived columns don't
+			IntColumn sub = compact.subColumn(1000, 5000);
+			Assertions.assertSame(sub, sub.compact());
+			Assertions.assertEquals(column.subColumn(1000, 5000), sub);
+			Assertions.assertEquals(column.toSorted(), compact.toSorted());
+			Assertions.assertEquals(column.toDistinct(), compact.subColumn(0, size).toDistinct());
+			Assertions.assertEquals(column.append(column), compact.append(compact.subColumn(0, 1000).append(sub)
+					.append(compact.subColumn(5000, size))));
+		}
+	}
+
+	@Test
+	public void testReadersEncoded() throws Exception {
+
+		Integer[] values = IntStream.range(0, 10_000).mapToObj(i -> i % 11 == 0 ? null : i / 100 % 7)
+				.toArray(Integer[]::new);
+		IntColumn column = IntColumn.of(values).subColumn(10, 9_990);
+
+		for (IntColumn encoded : Arrays.asList(column.compact(), column.toRunLengthEncoded())) {
+			Assertions.assertEquals(column, encoded);
+
+			IntReader reader = DataFrameFactory.of("C", encoded).intReader(0);
+			for (int i = 0; i < column.size(); i++)
+				Assertions.assertEquals(column.isNull(i) ? -1 : column.getInt(i), reader.getInt(i, -1));
+		}
+	}
+
+	@Test
+	public void testRunLengthEncoded() throws Exception {
+
+		final int size = 10_000;
+
+		IntColumn column = IntColumn.of(IntStream.range(0, size).map(i -> i / 100 % 7));
+		IntColumn rle = column.toRunLengthEncoded();
+		Assertions.assertSame(rle, rle.toRunLengthEncoded());
+		Assertions.assertEquals(column, rle);
+		Assertions.assertEquals(rle, column);
+
+		for (int i = 0; i < 1000; i++) {
+			int index = RAND.nextInt(size);
+			Assertions.assertEquals(column.getInt(index), rle.getInt(index));
+		}
+
+		IntColumn sub = rle.subColumn(50, 9_950);
+		Assertions.assertEquals(column.subColumn(50, 9_950), sub);
+		Assertions.assertEquals(column.subColumn(50, 9_950).copy(), sub.copy());
+		Assertions.assertEquals(column.filterByValue(2, true, 4, false), rle.filterByValue(2, true, 4, false));
+		Assertions.assertEquals(column.subColumn(50, 9_950).filterByValue(3, true, 3, true),
+				sub.filterByValue(3, true, 3, true));
+		Assertions.assertEquals(column.filterInt(i -> i % 2 == 0), rle.filterInt(i -> i % 2 == 0));
+		Assertions.assertEquals(column.toSorted(), rle.toSorted());
+		Assertions.assertEquals(column.toDistinct(), rle.toDistinct());
+		Assertions.assertEquals(column.append(column), rle.append(column));
+		Assertions.assertEquals(column.append(column), column.append(rle));
+		Assertions.assertEquals(column, rle.compact());
+
+		IntColumn reversed = IntColumn.of(IntStream.range(0, size).map(i -> size - i));
+		DataFrame df = DataFrameFactory.of("I", rle, "R", reversed);
+		DataFrame dfExpected = DataFrameFactory.of("I", column, "R", reversed);
+
+		Assertions.assertEquals(dfExpected.sort("I").column("I"), df.sort("I").column("I"));
+		Assertions.assertEquals(dfExpected.sort("I", "R"), df.sort("I", "R"));
+		Assertions.assertEquals(dfExpected.groupBy(new GroupByConfig(List.of("I"))),
+				df.groupBy(new GroupByConfig(List.of("I"))));
+		Assertions.assertEquals(dfExpected.filterByValue("I", 5, true, 5, true),
+				df.filterByValue("I", 5, true, 5, true));
+
+		File file = File.createTempFile("testRunLengthEncoded", null);
+		file.deleteOnExit();
+		for (boolean compact : new boolean[] { false, true }) {
+			df.subFrame(50, 9_950).writeTo(file, compact);
+			Assertions.assertEquals(dfExpected.subFrame(50, 9_950), DataFrameFactory.readFrom(file));
+			Assertions.assertEquals(dfExpected.subFrame(50, 9_950), DataFrameFactory.mapFrom(file));
+		}
+	}
+
+	@Override
+	List<TestSample<Integer>> samples() {
+
+		List<TestSample<Integer>> samples = super.samples();
+
+		// the same samples, bit-packed where that saves space
+		for (TestSample<Integer> s : new ArrayList<>(samples)) {
+			Column<Integer> compact = s.column().compact();
+			if (compact != s.column())
+				samples.add(new TestSample<>(s + "_compact", s.array(), 0, s.size(), compact));
+		}
+
+		// and run-length encoded
+		for (TestSample<Integer> s : new ArrayList<>(samples)) {
+			if (!s.toString().endsWith("_compact")) {
+				Column<Integer> rle = ((IntColumn) s.column()).toRunLengthEncoded();
+				samples.add(new TestSample<>(s + "_rle", s.array(), 0, s.size(), rle));
+			}
+		}
+
+		return samples;
+	}
+
 	@Override
 	Column<Integer> parseColumn(StringColumn stringColumn) {
 		return stringColumn.parseInt();
@@ -16,6 +16,7 @@
 
 package tech.bitey.dataframe.test;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -23,13 +24,18 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
 import tech.bitey.dataframe.LongColumn;
+import tech.bitey.dataframe.LongReader;
 import tech.bitey.dataframe.StringColumn;
 
 public class TestLongColumn extends TestColumn<Long> {
@@ -49,6 +55,105 @@ public class TestLongColumn extends TestColumn<Long> {
 		}
 	}
 
+	@Test
+	public void testCompact() {
+
+		final int size = 10_000;
+
+		// frame of reference, delta, and a column which doesn't compact
+		LongColumn small = LongColumn.of(LongStream.range(0, size).map(i -> RAND.nextInt(100) - 50));
+		LongColumn sorted = LongColumn.of(LongStream.range(0, size).map(i -> 1_000_000_000_000L + i * 3 + i % 2));
+		LongColumn random = LongColumn.of(LongStream.range(0, size).map(i -> RAND.nextLong()));
+		Assertions.assertSame(random, random.compact());
+
+		for (LongColumn column : Arrays.asList(small, sorted)) {
+			LongColumn compact = column.compact();
+			Assertions.assertNotSame(column, compact);
+			Assertions.assertSame(compact, compact.compact());
+			Assertions.assertEquals(column, compact);
+			Assertions.assertEquals(column.statistics().distinctCount(), compact.statistics().distinctCount());
+
+			for (int i = 0; i < 1000; i++) {
+				int index = RAND.nextInt(size);
+				Assertions.assertEquals(column.getLong(index), compact.getLong(index));
+			}
+
+			// sub-columns share the packed elements, other derived columns don't
+			LongColumn sub = compact.subColumn(1000, 5000);
+			Assertions.assertSame(sub, sub.compact());
+			Assertions.assertEquals(column.subColumn(1000, 5000), sub);
+			Assertions.assertEquals(column.toSorted(), compact.toSorted());
+			Assertions.assertEquals(column.toDistinct(), compact.subColumn(0, size).toDistinct());
+			Assertions.assertEquals(column.append(column), compact.append(compact.subColumn(0, 1000).append(sub)
+					.append(compact.subColumn(5000, size))));
+		}
+	}
+
+	@Test
+	public void testReadersEncoded() throws Exception {
+
+		Long[] values = IntStream.range(0, 10_000).mapToObj(i -> i % 11 == 0 ? null : (long) (i / 100 % 7) << 40)
+				.toArray(Long[]::new);
+		LongColumn column = LongColumn.of(values).subColumn(10, 9_990);
+
+		for (LongColumn encoded : Arrays.asList(column.compact(), column.toRunLengthEncoded())) {
+			Assertions.assertEquals(column, encoded);
+
+			LongReader reader = DataFrameFactory.of("C", encoded).longReader(0);
+			for (int i = 0; i < column.size(); i++)
+				Assertions.assertEquals(column.isNull(i) ? -1L : column.getLong(i), reader.getLong(i, -1L));
+		}
+	}
+
+	@Test
+	public void testRunLengthEncoded() throws Exception {
+
+		final int size = 10_000;
+
+		LongColumn column = LongColumn.of(LongStream.range(0, size).map(i -> (i / 100 % 7) << 40));
+		LongColumn rle = column.toRunLengthEncoded();
+		Assertions.assertSame(rle, rle.toRunLengthEncoded());
+		Assertions.assertEquals(column, rle);
+		Assertions.assertEquals(column.filterByValue(2L << 40, true, 4L << 40, false),
+				rle.filterByValue(2L << 40, true, 4L << 40, false));
+		Assertions.assertEquals(column.subColumn(50, 9_950), rle.subColumn(50, 9_950));
+		Assertions.assertEquals(column.toSorted(), rle.toSorted());
+		Assertions.assertEquals(column.toDistinct(), rle.toDistinct());
+
+		DataFrame df = DataFrameFactory.of("L", rle);
+
+		File file = File.createTempFile("testRunLengthEncoded", null);
+		file.deleteOnExit();
+		for (boolean compact : new boolean[] { false, true }) {
+			df.subFrame(50, 9_950).writeTo(file, compact);
+			Assertions.assertEquals(column.subColumn(50, 9_950), DataFrameFactory.readFrom(file).column("L"));
+			Assertions.assertEquals(column.subColumn(50, 9_950), DataFrameFactory.mapFrom(file).column("L"));
+		}
+	}
+
+	@Override
+	List<TestSample<Long>> samples() {
+
+		List<TestSample<Long>> samples = super.samples();
+
+		// the same samples, bit-packed where that saves space
+		for (TestSample<Long> s : new ArrayList<>(samples)) {
+			Column<Long> compact = s.column().compact();
+			if (compact != s.column())
+				samples.add(new TestSample<>(s + "_compact", s.array(), 0, s.size(), compact));
+		}
+
+		// and run-length encoded
+		for (TestSample<Long> s : new ArrayList<>(samples)) {
+			if (!s.toString().endsWith("_compact")) {
+				Column<Long> rle = ((LongColumn) s.column()).toRunLengthEncoded();
+				samples.add(new TestSample<>(s + "_rle", s.array(), 0, s.size(), rle));
+			}
+		}
+
+		return samples;
+	}
+
 	@Override
 	Column<Long> parseColumn(StringColumn stringColumn) {
 		return stringColumn.parseLong();
@@ -17,7 +17,12 @@
 package tech.bitey.dataframe.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.io.RandomAccessFile;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -34,6 +39,9 @@ import org.junit.jupiter.api.Test;
 import tech.bitey.dataframe.BooleanColumn;
 import tech.bitey.dataframe.ByteColumn;
 import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.ColumnType;
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
 import tech.bitey.dataframe.DateColumn;
 import tech.bitey.dataframe.DateTimeColumn;
 import tech.bitey.dataframe.DecimalColumn;
@@ -42,6 +50,8 @@ import tech.bitey.dataframe.FloatColumn;
 import tech.bitey.dataframe.IntColumn;
 import tech.bitey.dataframe.LongColumn;
 import tech.bitey.dataframe.NormalStringColumn;
+import tech.bitey.dataframe.NormalStringColumnBuilder;
+import tech.bitey.dataframe.NormalStringDictionary;
 import tech.bitey.dataframe.ShortColumn;
 import tech.bitey.dataframe.StringColumn;
 
@@ -178,6 +188,151 @@ public class TestNormalStringColumn extends TestColumn<String> {
 		assertEquals(DecimalColumn.of(BigDecimal.ONE.negate(), BigDecimal.ZERO), s.parseDecimal(), "parseDecmial");
 	}
 
+	@Test
+	public void testDictionary() {
+
+		// "Aa" and "BB" have the same hashCode, as do all concatenations of them
+		String[] collisions = { "Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB", null, "BB", "Aa", "AaBB" };
+		assertEquals(Arrays.asList(collisions), NormalStringColumn.of(collisions), "hash collisions");
+
+		String[] many = new String[5000];
+		for (int i = 0; i < many.length; i++)
+			many[i] = i % 7 == 0 ? null : String.valueOf(RAND.nextInt(1000));
+		assertEquals(Arrays.asList(many), NormalStringColumn.of(many), "short indices");
+
+		// parallel collection merges the dictionaries of several builders
+		assertEquals(Arrays.asList(many), Arrays.stream(many).parallel().collect(NormalStringColumn.collector()),
+				"parallel collect");
+
+		StringColumn strings = StringColumn.of(many);
+		assertEquals(strings, strings.normalize(1), "normalize");
+		assertEquals(ColumnType.NSTRING, strings.normalize(1).getType(), "normalize type");
+
+		List<String> filtered = new ArrayList<>(Arrays.asList(many));
+		filtered.removeIf(v -> v != null && v.compareTo("5") >= 0);
+		assertEquals(filtered, NormalStringColumn.of(many).filter(v -> v.compareTo("5") < 0), "filter short indices");
+	}
+
+	@Test
+	public void testBuilderWidensCodes() {
+
+		List<String> expected = new ArrayList<>();
+		NormalStringColumnBuilder builder = NormalStringColumn.builder();
+		for (int i = 0; i < 200; i++) {
+			expected.add(String.valueOf(i % 50));
+			builder.add(expected.get(i));
+		}
+		NormalStringColumn bytes = builder.build();
+
+		// more than 256 distinct values, which no longer fit in byte codes
+		for (int i = 0; i < 1000; i++) {
+			expected.add(String.valueOf(1000 - i));
+			builder.add(expected.get(200 + i));
+		}
+
+		assertEquals(expected.subList(0, 200), bytes, "built before widening");
+		assertEquals(expected, builder.build(), "after widening");
+	}
+
+	@Test
+	public void testLargeDictionary() throws Exception {
+
+		String[] many = new String[200_000];
+		for (int i = 0; i < many.length; i++)
+			many[i] = i % 11 == 0 ? null : Integer.toHexString(RAND.nextInt(100_000));
+
+		NormalStringColumn column = NormalStringColumn.of(many);
+		assertEquals(Arrays.asList(many), column, "int indices");
+		assertEquals(Arrays.asList(many).subList(1000, 150_000), column.subColumn(1000, 150_000), "subColumn");
+
+		List<String> filtered = new ArrayList<>(Arrays.asList(many));
+		filtered.removeIf(v -> v != null && v.compareTo("8") >= 0);
+		assertEquals(filtered, column.filter(v -> v.compareTo("8") < 0), "filter int indices");
+
+		StringColumn strings = StringColumn.of(many);
+		assertEquals(ColumnType.NSTRING, strings.normalize(1).getType(), "normalize type");
+		assertEquals(strings, strings.normalize(1), "normalize");
+
+		DataFrame df = DataFrameFactory.create(new Column<?>[] { column }, new String[] { "NS" });
+		File file = File.createTempFile("large-dictionary", null);
+		file.deleteOnExit();
+		df.writeTo(file);
+		assertEquals(df, DataFrameFactory.readFrom(file), "read/write");
+	}
+
+	@Test
+	public void testIntIndicesNeedVersion6() throws Exception {
+
+		String[] many = new String[70_000];
+		for (int i = 0; i < many.length; i++)
+			many[i] = Integer.toString(i);
+
+		DataFrame df = DataFrameFactory.create(new Column<?>[] { NormalStringColumn.of(many) }, new String[] { "NS" });
+		File file = File.createTempFile("int-indices", null);
+		file.deleteOnExit();
+		df.writeTo(file);
+
+		// claim the file was written by v5, which had no int-indexed NormalStringColumn
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.seek(8);
+			raf.writeInt(5);
+		}
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> DataFrameFactory.readFrom(file));
+		assertTrue(e.getMessage().startsWith("bad NSTRING index code"), e.getMessage());
+	}
+
+	@Test
+	public void testSharedDictionary() throws Exception {
+
+		NormalStringDictionary dictionary = NormalStringDictionary.of("c", "a", "b", "a");
+		assertEquals(StringColumn.of("a", "b", "c"), dictionary.values(), "sorted & distinct");
+		assertEquals(1, dictionary.indexOf("b"), "indexOf");
+		assertEquals(-1, dictionary.indexOf("d"), "indexOf missing");
+
+		NormalStringColumn monday = NormalStringColumn.builder(dictionary).add("b", null, "a").build();
+		NormalStringColumn tuesday = NormalStringColumn.builder(dictionary).add("c", "c").build();
+		assertEquals(dictionary, monday.dictionary(), "builder dictionary");
+		assertSame(dictionary.values(), tuesday.dictionary().values(), "shared values");
+
+		NormalStringColumn both = monday.append(tuesday);
+		assertEquals(Arrays.asList("b", null, "a", "c", "c"), both, "append");
+		assertSame(dictionary.values(), both.dictionary().values(), "append shares dictionary");
+		assertEquals(Arrays.asList(null, "a", "c"), monday.subColumn(1, 3).append(tuesday.subColumn(1, 2)),
+				"append subColumns");
+
+		NormalStringColumn runs = monday.toRunLengthEncoded().append(tuesday.toRunLengthEncoded());
+		assertEquals(both, runs, "append runs");
+		assertEquals(dictionary, runs.dictionary(), "runs keep dictionary");
+
+		assertThrows(IllegalArgumentException.class, () -> NormalStringColumn.builder(dictionary).add("d"),
+				"missing element");
+
+		NormalStringColumn other = NormalStringColumn.of("d", null, "a");
+		NormalStringDictionary union = NormalStringDictionary.union(monday, other);
+		assertEquals(StringColumn.of("a", "b", "c", "d"), union.values(), "union");
+		assertEquals(Arrays.asList("b", null, "a", "d", null, "a"),
+				monday.withDictionary(union).append(other.withDictionary(union)), "withDictionary");
+		assertEquals(other, other.toRunLengthEncoded().withDictionary(union), "withDictionary runs");
+		assertSame(monday, monday.withDictionary(dictionary), "withDictionary same");
+		assertThrows(IllegalArgumentException.class, () -> other.withDictionary(dictionary), "withDictionary missing");
+
+		// the dictionary is written once, and shared again when read back
+		DataFrame df = DataFrameFactory.create(new Column<?>[] { both, both.toRunLengthEncoded(), both },
+				new String[] { "A", "B", "C" });
+		File file = File.createTempFile("shared-dictionary", null);
+		file.deleteOnExit();
+		df.writeTo(file);
+
+		DataFrame read = DataFrameFactory.readFrom(file);
+		assertEquals(df, read, "read/write");
+		NormalStringColumn a = (NormalStringColumn) read.<String>column(0);
+		NormalStringColumn b = (NormalStringColumn) read.<String>column(1);
+		assertSame(a.dictionary().values(), b.dictionary().values(), "read shares dictionary");
+		assertTrue(a.dictionary().values().isSorted(), "read dictionary is sorted");
+		assertEquals(df, DataFrameFactory.mapFrom(file), "map");
+	}
+
 	// 1026 values
 	private static final String[] RANDOM = { "5", "5", "8", "5", "2", "6", "9", "2", "2", "8", "7", "1", "5", "1", "3",
 			"4", "8", "8", "3", "1", "5", "6", "1", "2", "1", "0", "1", "4", "5", "9", "1", "2", "2", "9", "7", "8",
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import tech.bitey.dataframe.Column;
+import tech.bitey.dataframe.DataFrame;
+import tech.bitey.dataframe.DataFrameFactory;
+import tech.bitey.dataframe.GroupByConfig;
+import tech.bitey.dataframe.IntColumn;
+import tech.bitey.dataframe.NormalStringColumn;
+import tech.bitey.dataframe.StringColumn;
+
+public class TestRunLengthStringColumn extends TestNormalStringColumn {
+
+	@Override
+	Column<String> parseColumn(StringColumn stringColumn) {
+		return stringColumn.toNormalStringColumn().toRunLengthEncoded();
+	}
+
+	@Override
+	TestSample<String> wrapSample(String label, String[] array, int characteristics) {
+		NormalStringColumn column = NormalStringColumn.builder().addAll(array).build().toRunLengthEncoded();
+		return new TestSample<>(label, array, 0, array.length, column);
+	}
+
+	@Override
+	Column<String> collect(Stream<String> stream) {
+		return stream.collect(NormalStringColumn.collector()).toRunLengthEncoded();
+	}
+
+	@Test
+	public void testRuns() throws Exception {
+
+		String[] array = IntStream.range(0, 10_000).mapToObj(i -> i % 1000 < 100 ? null : "v" + i / 1000)
+				.toArray(String[]::new);
+		NormalStringColumn expected = NormalStringColumn.of(array);
+		NormalStringColumn column = expected.toRunLengthEncoded();
+
+		assertEquals(expected, column);
+		assertSame(column, column.toRunLengthEncoded());
+		assertEquals(expected.subColumn(50, 9_950), column.subColumn(50, 9_950));
+		assertEquals(expected.subColumn(50, 9_950).copy(), column.subColumn(50, 9_950).copy());
+		assertEquals(expected.filter(s -> s.compareTo("v5") < 0, false),
+				column.filter(s -> s.compareTo("v5") < 0, false));
+		assertEquals(expected.clean(s -> s.equals("v3")), column.clean(s -> s.equals("v3")));
+		assertEquals(expected.append(expected), column.append(column));
+
+		IntColumn reversed = IntColumn.of(IntStream.range(0, array.length).map(i -> array.length - i).toArray());
+		DataFrame df = DataFrameFactory.of("S", column, "R", reversed);
+		DataFrame dfExpected = DataFrameFactory.of("S", expected, "R", reversed);
+
+		assertEquals(dfExpected.sort("S").column("S"), df.sort("S").column("S"));
+		assertEquals(dfExpected.groupBy(new GroupByConfig(List.of("S"))),
+				df.groupBy(new GroupByConfig(List.of("S"))));
+		assertEquals(dfExpected.filterNulls(), df.filterNulls());
+		assertEquals(dfExpected.sort("R"), df.sort("R"));
+		assertEquals(dfExpected.filter(r -> r.getInt("R") % 3 == 0), df.filter(r -> r.getInt("R") % 3 == 0));
+
+		File file = File.createTempFile("testRuns", null);
+		file.deleteOnExit();
+		df.subFrame(50, 9_950).writeTo(file);
+		assertEquals(dfExpected.subFrame(50, 9_950), DataFrameFactory.readFrom(file));
+		assertEquals(dfExpected.subFrame(50, 9_950), DataFrameFactory.mapFrom(file));
+	}
+}
@@ -19,6 +19,7 @@ package tech.bitey.dataframe.test;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.File;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -28,6 +29,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -209,6 +211,30 @@ public class TestStringColumn extends TestColumn<String> {
 		}
 	}
 
+	@Test
+	public void testCompactPointers() throws Exception {
+
+		final int size = 100_000;
+		StringColumn column = IntStream.range(0, size).mapToObj(i -> String.format("%04x", i & 0xFFFF))
+				.collect(StringColumn.collector());
+
+		// 4 bytes of characters and 4 bytes of pointer per element, plus headers
+		File file = File.createTempFile("testCompactPointers", null);
+		file.deleteOnExit();
+		DataFrame df = DataFrameFactory.of("S", column);
+		df.writeTo(file);
+		assertTrue(file.length() < size * 9L);
+
+		assertEquals(df, DataFrameFactory.readFrom(file));
+		assertEquals(df, DataFrameFactory.mapFrom(file));
+
+		StringColumn sub = column.subColumn(10, size - 10);
+		assertEquals(sub, sub.copy());
+		assertEquals(column, column.subColumn(0, 10).append(sub).append(column.subColumn(size - 10, size)));
+		assertEquals(sub.subList(5, 15), sub.copy().subColumn(5, 15));
+		assertEquals("000a", sub.filter(s -> s.startsWith("00"), false).get(0));
+	}
+
 	// 1026 values
 	private static final String[] RANDOM = { "5", "5", "8", "5", "2", "6", "9", "2", "2", "8", "7", "1", "5", "1", "3",
 			"4", "8", "8", "3", "1", "5", "6", "1", "2", "1", "0", "1", "4", "5", "9", "1", "2", "2", "9", "7", "8",
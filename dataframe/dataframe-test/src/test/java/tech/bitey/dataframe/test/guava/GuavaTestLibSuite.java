@@ -121,6 +121,9 @@ public class GuavaTestLibSuite {
 			new TestIngredients<>(ColumnType.DECIMAL, BigDecimal[]::new, new BigDecimal(-1), new BigDecimal(0),
 					new BigDecimal(2), new BigDecimal(1), new BigDecimal(3), new BigDecimal(4), new BigDecimal(5),
 					new BigDecimal(6), new BigDecimal(7)),
+			new TestIngredients<>(ColumnType.FDECIMAL, BigDecimal[]::new, new BigDecimal("-0.01"),
+					new BigDecimal("0.00"), new BigDecimal("0.02"), new BigDecimal("0.01"), new BigDecimal("0.03"),
+					new BigDecimal("0.04"), new BigDecimal("0.05"), new BigDecimal("0.06"), new BigDecimal("0.07")),
 			new TestIngredients<>(ColumnType.DATE, LocalDate[]::new, DATES),
 			new TestIngredients<>(ColumnType.DATETIME, LocalDateTime[]::new,
 					Arrays.stream(DATES).map(LocalDate::atStartOfDay).toArray(LocalDateTime[]::new)),
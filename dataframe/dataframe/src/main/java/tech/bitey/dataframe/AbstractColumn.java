@@ -26,23 +26,30 @@ import java.io.IOException;
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.NonWritableChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferBitSet;
 import tech.bitey.bufferstuff.BufferUtils;
+import tech.bitey.bufferstuff.SmallIntBuffer;
 
 @SuppressWarnings({ "rawtypes", "unchecked" })
 abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E, I, C>> extends AbstractCollection<E>
@@ -97,6 +104,63 @@ abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E
 			return applyFilter0(keep, cardinality);
 	}
 
+	/*
+	 * Flags the elements of this column which fall within the range, relative to
+	 * offset. Null elements never do.
+	 */
+	abstract BufferBitSet valuesInRange(ValueRange<E> range);
+
+	/*
+	 * Returns the runs of a run-length encoded column, or null. Sorting and
+	 * grouping work one run at a time when a column has runs.
+	 */
+	Runs runs() {
+		return null;
+	}
+
+	// compares the elements of two runs, nulls first, see runs()
+	int compareRuns(int lRun, int rRun) {
+		throw new UnsupportedOperationException();
+	}
+
+	BufferBitSet valuesInRange(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+
+		checkArgument((fromElement == null || checkType(fromElement)) && (toElement == null || checkType(toElement)),
+				"bounds must have the same element type as the column");
+		checkArgument(fromElement == null || toElement == null || getType().compare(fromElement, toElement) <= 0,
+				"fromElement cannot be greater than toElement");
+
+		return valuesInRange(new ValueRange<>(fromElement, fromInclusive, toElement, toInclusive));
+	}
+
+	@Override
+	public I filterByValue(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+
+		BufferBitSet keep = valuesInRange(fromElement, fromInclusive, toElement, toInclusive);
+
+		return (I) applyFilter(keep, keep.cardinality());
+	}
+
+	// computed on first use by statistics(), or read from a file. Benign race,
+	// since ColumnStatistics is immutable.
+	ColumnStatistics<E> statistics;
+
+	@Override
+	public ColumnStatistics<E> statistics() {
+		ColumnStatistics<E> statistics = this.statistics;
+		if (statistics == null)
+			this.statistics = statistics = computeStatistics();
+		return statistics;
+	}
+
+	abstract ColumnStatistics<E> computeStatistics();
+
+	/*
+	 * Approximate number of bytes of buffer storage used by the elements of this
+	 * column, which for a view is only the part of the buffers that it covers
+	 */
+	abstract long byteSize();
+
 	abstract Column<E> select0(IntColumn indices);
 
 	Column<E> select(IntColumn indices) {
@@ -106,31 +170,75 @@ abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E
 			return select0(indices);
 	}
 
+	/*
+	 * Returns a column of the specified size, where the elements of this column
+	 * appear in order at the set positions, and all other elements are null.
+	 * Requires positions.cardinality() == size()
+	 */
+	abstract Column<E> expand(BufferBitSet positions, int size);
+
 	abstract I append0(Column<E> tail);
 
 	@Override
 	public I append(Column<E> tail) {
-		checkArgument(getType() == tail.getType(), "columns must have the same type");
-		checkArgument(isSorted() == tail.isSorted() && isDistinct() == tail.isDistinct(),
-				"both columns must have same sorted & distinct characteristics");
+		checkAppend(this, tail);
 
-		if (isEmpty()) {
+		if (isEmpty())
 			return (I) tail;
-		} else if (tail.isEmpty()) {
+		else if (tail.isEmpty())
 			return (I) this;
-		} else {
-			if (isDistinct()) {
-				checkArgument(getType().compare(last(), tail.first()) < 0,
+		else
+			return append0(tail);
+	}
+
+	private static <E> void checkAppend(Column<E> head, Column<E> tail) {
+		checkArgument(head.getType() == tail.getType(), "columns must have the same type");
+		checkArgument(head.isSorted() == tail.isSorted() && head.isDistinct() == tail.isDistinct(),
+				"both columns must have same sorted & distinct characteristics");
+
+		if (!head.isEmpty() && !tail.isEmpty()) {
+			if (head.isDistinct()) {
+				checkArgument(head.getType().compare(head.last(), tail.first()) < 0,
 						"last item of this column must be less than first item of provided column");
-			} else if (isSorted()) {
-				checkArgument(getType().compare(last(), tail.first()) <= 0,
+			} else if (head.isSorted()) {
+				checkArgument(head.getType().compare(head.last(), tail.first()) <= 0,
 						"last item of this column must be <= first item of provided column");
 			}
+		}
+	}
 
-			return append0(tail);
+	/*
+	 * Appends the columns in order, in a single pass into a result sized for all
+	 * of them, rather than one append at a time. The columns must meet the same
+	 * conditions as for append.
+	 */
+	static <E> Column<E> appendAll(List<? extends Column<E>> columns) {
+
+		List<Column<E>> nonEmpty = new ArrayList<>(columns.size());
+
+		Column<E> head = columns.get(0);
+		if (!head.isEmpty())
+			nonEmpty.add(head);
+
+		for (Column<E> column : columns.subList(1, columns.size())) {
+			checkAppend(head, column);
+			if (!column.isEmpty()) {
+				nonEmpty.add(column);
+				head = column;
+			}
 		}
+
+		if (nonEmpty.isEmpty())
+			return columns.get(0);
+		else if (nonEmpty.size() == 1)
+			return nonEmpty.get(0);
+		else
+			return ((AbstractColumn<E, ?, ?>) nonEmpty.get(0)).appendAll0(nonEmpty.subList(1, nonEmpty.size()));
 	}
 
+	// appends the tails, which have been checked and are not empty
+	abstract I appendAll0(List<Column<E>> tails);
+
 	abstract int intersectBothSorted(C rhs, BufferBitSet keepLeft, BufferBitSet keepRight);
 
 	abstract IntColumn intersectLeftSorted(I rhs, BufferBitSet keepRight);
@@ -186,6 +294,49 @@ abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E
 		return indexOf(o, false);
 	}
 
+	@Override
+	public IntColumn indicesOf(Column<E> keys) {
+
+		final int size = keys.size();
+		if (size == 0)
+			return NonNullIntColumn.EMPTY.get(NonNullColumn.NONNULL_CHARACTERISTICS);
+
+		BigByteBuffer bb = BufferUtils.allocateBig((long) size * 4);
+		BufferBitSet found = new BufferBitSet();
+		int cardinality = indicesOf0(keys, bb.asIntBuffer(), found);
+
+		NonNullIntColumn indices = new NonNullIntColumn(bb, 0, size, NonNullColumn.NONNULL_CHARACTERISTICS, false);
+		if (cardinality == size)
+			return indices;
+		else
+			return new NullableIntColumn((NonNullIntColumn) indices.applyFilter(found, cardinality), found, null, 0,
+					size);
+	}
+
+	/*
+	 * Writes the index of each key into the buffer, and marks which keys were found
+	 * in the bitset. Returns the number of keys found.
+	 */
+	int indicesOf0(Column<E> keys, SmallIntBuffer indices, BufferBitSet found) {
+
+		Map<E, Integer> firstIndex = new HashMap<>();
+		for (int i = lastIndex(); i >= offset; i--)
+			if (!isNullNoOffset(i))
+				firstIndex.put(getNoOffset(i), i - offset);
+
+		int cardinality = 0;
+		for (int i = 0; i < keys.size(); i++) {
+			Integer index = keys.isNull(i) ? null : firstIndex.get(keys.get(i));
+			if (index != null) {
+				indices.put(i, index);
+				found.set(i);
+				cardinality++;
+			}
+		}
+
+		return cardinality;
+	}
+
 	@Override
 	public ListIterator<E> listIterator() {
 		return listIterator(0);
@@ -196,13 +347,35 @@ abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E
 		return listIterator();
 	}
 
+	@Override
+	public Spliterator<E> spliterator() {
+		return new ColumnSpliterator(offset, offset + size);
+	}
+
+	private class ColumnSpliterator extends RangeSpliterator<E> {
+
+		private ColumnSpliterator(int origin, int fence) {
+			super(origin, fence, AbstractColumn.this.characteristics());
+		}
+
+		@Override
+		E get(int index) {
+			return getNoOffset(index);
+		}
+
+		@Override
+		RangeSpliterator<E> split(int origin, int fence) {
+			return new ColumnSpliterator(origin, fence);
+		}
+	}
+
 	abstract boolean equals0(C rhs);
 
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
 			return true;
-		} else if (o instanceof AbstractColumn rhs && !mixedStringTypes(this, rhs)) {
+		} else if (o instanceof AbstractColumn rhs && !mixedTypes(this, rhs)) {
 			if (getType() != rhs.getType() || size != rhs.size)
 				return false;
 
@@ -248,11 +421,12 @@ abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E
 		}
 	}
 
-	private static boolean mixedStringTypes(AbstractColumn a, AbstractColumn b) {
+	// different column types with the same element type, such as STRING and NSTRING
+	private static boolean mixedTypes(AbstractColumn a, AbstractColumn b) {
 		ColumnType aType = a.getType();
 		ColumnType bType = b.getType();
 
-		return aType.isStringType() && bType.isStringType() && aType != bType;
+		return aType != bType && aType.getElementType() == bType.getElementType();
 	}
 
 	@Override
@@ -320,6 +494,22 @@ abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E
 	 *------------------------------------------------------------*/
 	abstract void writeTo(WritableByteChannel channel) throws IOException;
 
+	/*
+	 * Writes the column, bit-packing any INT or LONG elements if compact is true
+	 * and doing so saves space. See BitPacking.
+	 */
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
+		writeTo(channel);
+	}
+
+	/*
+	 * Writes the column as part of a dataframe, writing any NSTRING dictionary
+	 * shared with other columns only once. See ChannelDictionaries.
+	 */
+	void writeTo(WritableByteChannel channel, boolean compact, ChannelDictionaries dictionaries) throws IOException {
+		writeTo(channel, compact);
+	}
+
 	static void writeByteOrder(WritableByteChannel channel, ByteOrder order) throws IOException {
 		writeFully(channel, ByteBuffer.wrap(new byte[] { (byte) (order == BIG_ENDIAN ? 'B' : 'L') }));
 	}
@@ -354,7 +544,7 @@ abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E
 
 			if (map) {
 				FileChannel file = (FileChannel) channel;
-				buffers[i] = file.map(MapMode.READ_WRITE, file.position(), size).order(order);
+				buffers[i] = map(file, size).order(order);
 				file.position(file.position() + size);
 			} else {
 				buffers[i] = BufferUtils.allocate(size, order);
@@ -366,6 +556,19 @@ abstract class AbstractColumn<E, I extends Column<E>, C extends AbstractColumn<E
 		return BufferUtils.wrap(buffers);
 	}
 
+	/*
+	 * Maps the next size bytes of a file. Mapped data may be fixed up in place
+	 * after reading, so the mapping is read-write unless the file was opened
+	 * read-only, in which case readers copy any data they need to change.
+	 */
+	private static MappedByteBuffer map(FileChannel file, int size) throws IOException {
+		try {
+			return file.map(MapMode.READ_WRITE, file.position(), size);
+		} catch (NonWritableChannelException e) {
+			return file.map(MapMode.READ_ONLY, file.position(), size);
+		}
+	}
+
 	static BufferBitSet readBitSet(ReadableByteChannel channel, boolean map) throws IOException {
 		return map ? BufferBitSet.mapFrom((FileChannel) channel) : BufferBitSet.readFrom(channel);
 	}
@@ -70,17 +70,10 @@ abstract class AbstractColumnBuilder<E, C extends Column<E>, B extends AbstractC
 	abstract void append0(B tail);
 
 	B append(B tail) {
-		checkArgument((this.characteristics & tail.characteristics) == this.characteristics,
-				"incompatible characteristics");
+		checkCompatible(tail);
 
 		if (tail.size > 0) {
-			if (tail.nulls != null) {
-				BufferBitSet bothNulls = tail.nulls.shiftRight(this.size);
-				if (this.nulls != null)
-					bothNulls.or(this.nulls);
-				this.nulls = bothNulls;
-			}
-
+			appendNulls(tail);
 			append0(tail);
 
 			this.size += tail.size;
@@ -91,6 +84,38 @@ abstract class AbstractColumnBuilder<E, C extends Column<E>, B extends AbstractC
 		return cast;
 	}
 
+	/*
+	 * Appends each of the tails in turn. Builders which can copy their elements
+	 * in bulk override this to copy the tails into disjoint ranges of the
+	 * presized buffer concurrently.
+	 */
+	B appendAll(List<B> tails) {
+		return appendEach(tails);
+	}
+
+	final B appendEach(List<B> tails) {
+		@SuppressWarnings("unchecked")
+		B cast = (B) this;
+		for (B tail : tails)
+			cast = append(tail);
+		return cast;
+	}
+
+	void checkCompatible(B tail) {
+		checkArgument((this.characteristics & tail.characteristics) == this.characteristics,
+				"incompatible characteristics");
+	}
+
+	// merges the tail's nulls into this builder's, ahead of size being advanced
+	void appendNulls(B tail) {
+		if (tail.nulls != null) {
+			BufferBitSet bothNulls = tail.nulls.shiftRight(this.size);
+			if (this.nulls != null)
+				bothNulls.or(this.nulls);
+			this.nulls = bothNulls;
+		}
+	}
+
 	@Override
 	public C build() {
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.bufferstuff.BufferUtils.readFully;
+import static tech.bitey.bufferstuff.BufferUtils.writeFully;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.IntToLongFunction;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.BufferUtils;
+import tech.bitey.bufferstuff.SmallLongBuffer;
+
+/*
+ * Bit-packed encodings of INT and LONG columns in the channel format.
+ *
+ * FRAME (frame of reference) stores the minimum element, followed by each
+ * element's unsigned difference from the minimum, using just enough bits for
+ * the largest difference.
+ *
+ * DELTA stores the first element and the minimum difference between
+ * consecutive elements, followed by each difference relative to that minimum.
+ * This suits sorted columns, and other columns which change slowly.
+ *
+ * Packed values are stored in longs. Any value can be unpacked in constant
+ * time, and since parallel chunks start on a multiple of 64 elements, chunks
+ * never share a long. PackedLongs keeps the packed words in memory.
+ *
+ * RUN is not a bit packing, but shares the encoding byte: a run-length encoded
+ * column is written as its run values followed by its run ends, see Runs. DATE
+ * columns also have an encoding byte from v12, either PLAIN or RUN.
+ */
+enum BitPacking {
+	;
+
+	static final byte PLAIN = 'P';
+	static final byte FRAME = 'F';
+	static final byte DELTA = 'D';
+	static final byte RUN = 'R';
+
+	@FunctionalInterface
+	interface LongSink {
+		void put(int index, long value);
+	}
+
+	/*
+	 * Writes the encoding byte, followed by the packed elements if compact is true
+	 * and an encoding is smaller than the plain elements. Returns false if the
+	 * caller should write the plain elements instead.
+	 */
+	static boolean write(WritableByteChannel channel, ByteOrder order, int size, int elementSize,
+			IntToLongFunction values, boolean compact) throws IOException {
+
+		final PackedLongs packed = compact ? PackedLongs.pack(size, elementSize, order, values) : null;
+
+		if (packed == null) {
+			writeByte(channel, PLAIN);
+			return false;
+		} else {
+			packed.writeTo(channel);
+			return true;
+		}
+	}
+
+	static byte readEncoding(ReadableByteChannel channel) throws IOException {
+		byte[] b = new byte[1];
+		readFully(channel, ByteBuffer.wrap(b));
+		return b[0];
+	}
+
+	// number of bits needed for the unsigned value
+	static int bitWidth(long value) {
+		return 64 - Long.numberOfLeadingZeros(value);
+	}
+
+	static long words(int count, int width) {
+		return ((long) count * width + 63) >>> 6;
+	}
+
+	static BigByteBuffer pack(int count, int width, ByteOrder order, IntToLongFunction values) {
+
+		final BigByteBuffer buffer = BufferUtils.allocateBig(words(count, width) * 8, order);
+		final SmallLongBuffer words = buffer.asLongBuffer();
+
+		if (width > 0) {
+			Parallel.forEachChunk(count, (fromIndex, toIndex) -> {
+				for (int i = fromIndex; i < toIndex; i++) {
+					long value = values.applyAsLong(i);
+
+					long bit = (long) i * width;
+					int word = (int) (bit >>> 6);
+					int shift = (int) (bit & 63);
+
+					words.put(word, words.get(word) | value << shift);
+					if (shift + width > 64)
+						words.put(word + 1, words.get(word + 1) | value >>> (64 - shift));
+				}
+			});
+		}
+
+		return buffer;
+	}
+
+	static long unpack(SmallLongBuffer words, int index, int width) {
+
+		if (width == 0)
+			return 0;
+
+		long bit = (long) index * width;
+		int word = (int) (bit >>> 6);
+		int shift = (int) (bit & 63);
+
+		long value = words.get(word) >>> shift;
+		if (shift + width > 64)
+			value |= words.get(word + 1) << (64 - shift);
+
+		return width == 64 ? value : value & ((1L << width) - 1);
+	}
+
+	static void writeByte(WritableByteChannel channel, byte value) throws IOException {
+		writeFully(channel, ByteBuffer.wrap(new byte[] { value }));
+	}
+
+	static void writeLong(WritableByteChannel channel, ByteOrder order, long value) throws IOException {
+		ByteBuffer b = ByteBuffer.allocate(8).order(order);
+		b.putLong(0, value);
+		writeFully(channel, b);
+	}
+
+	static long readLong(ReadableByteChannel channel, ByteOrder order) throws IOException {
+		ByteBuffer b = ByteBuffer.allocate(8).order(order);
+		readFully(channel, b);
+		return b.getLong(0);
+	}
+}
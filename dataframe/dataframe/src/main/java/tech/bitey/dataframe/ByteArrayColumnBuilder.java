@@ -38,13 +38,13 @@ abstract class ByteArrayColumnBuilder<E, C extends Column<E>, B extends ByteArra
 	}
 
 	@Override
-	boolean checkSorted() {
-		return BufferUtils.isSorted(elements, 0, elements.position());
+	boolean checkSorted(int fromIndex) {
+		return BufferUtils.isSorted(elements, fromIndex, elements.position());
 	}
 
 	@Override
-	boolean checkDistinct() {
-		return BufferUtils.isSortedAndDistinct(elements, 0, elements.position());
+	boolean checkDistinct(int fromIndex) {
+		return BufferUtils.isSortedAndDistinct(elements, fromIndex, elements.position());
 	}
 
 	@Override
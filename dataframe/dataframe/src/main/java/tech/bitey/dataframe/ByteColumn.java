@@ -83,6 +83,9 @@ public interface ByteColumn extends Column<Byte> {
 	@Override
 	ByteColumn filter(Predicate<Byte> predicate, boolean keepNulls);
 
+	@Override
+	ByteColumn filterByValue(Byte fromElement, boolean fromInclusive, Byte toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -85,7 +85,7 @@ public final class ByteColumnBuilder extends ByteArrayColumnBuilder<Byte, ByteCo
 	public ByteColumnBuilder addAll(byte... elements) {
 		ensureAdditionalCapacity(elements.length);
 		this.elements.put(elements);
-		size += elements.length;
+		addedNonNulls(elements.length);
 		return this;
 	}
 
@@ -100,7 +100,7 @@ public final class ByteColumnBuilder extends ByteArrayColumnBuilder<Byte, ByteCo
 		int remaining = elements.remaining();
 		ensureAdditionalCapacity(remaining);
 		this.elements.put(elements);
-		size += remaining;
+		addedNonNulls(remaining);
 		return this;
 	}
 
@@ -116,7 +116,7 @@ public final class ByteColumnBuilder extends ByteArrayColumnBuilder<Byte, ByteCo
 		int remaining = elements.remaining();
 		ensureAdditionalCapacity(remaining);
 		this.elements.put(elements);
-		size += remaining;
+		addedNonNulls(remaining);
 		return this;
 	}
 
@@ -36,8 +36,16 @@ class ChannelDataFrameHeader {
 	 * v3: modified NonNullUuidColumn representation
 	 * v4: BigByteBuffer and friends
 	 * v5: support byte & short NormalStringColumn implementations
+	 * v6: 32-bit var-length pointers, with the width recorded per column; int-indexed NormalStringColumn
+	 * v7: run-length encoded NormalStringColumn
+	 * v8: optionally bit-packed INT and LONG columns, with an encoding byte
+	 * v9: NSTRING dictionaries shared by several columns are written once
+	 * v10: optional zone maps after the columns
+	 * v11: optional column statistics after the column headers
+	 * v12: run-length encoded INT, LONG and DATE columns, DATE columns gain an encoding byte
+	 * v13: NSTRING dictionaries record whether they are sorted
 	 */
-	private static final int VERSION = 5;
+	private static final int VERSION = 13;
 
 	private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.util.Spliterator.DISTINCT;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.SORTED;
+import static tech.bitey.dataframe.AbstractColumn.readInt;
+import static tech.bitey.dataframe.AbstractColumn.writeInt;
+import static tech.bitey.dataframe.BitPacking.readEncoding;
+import static tech.bitey.dataframe.BitPacking.writeByte;
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
+import static tech.bitey.dataframe.Pr.checkState;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * The NSTRING dictionaries of a dataframe file (version 9 and up).
+ *
+ * Each NSTRING column writes an int id before its dictionary. An id of -1 means
+ * the dictionary is not shared, and is written inline. Otherwise the dictionary
+ * is shared with other columns of the same dataframe: it is written inline by
+ * the first column which references it, where the id is one more than the last
+ * id written, and later columns only write its id.
+ *
+ * From version 13, an inline dictionary is preceded by a byte saying whether it
+ * is sorted ('S') or not ('U'). Older files carry no such byte, so their
+ * dictionaries are scanned on read instead: a dictionary read from a file older
+ * than version 9 is in insertion order, and may have been written back out that
+ * way.
+ */
+final class ChannelDictionaries {
+
+	private static final int INLINE = -1;
+
+	private static final byte SORTED_CODE = 'S';
+	private static final byte UNSORTED_CODE = 'U';
+
+	// shared dictionaries -> id, or INLINE until written
+	private final Map<NonNullStringColumn, Integer> ids = new IdentityHashMap<>();
+	private int nextId;
+
+	// dictionaries read so far, indexed by id
+	private final List<NonNullStringColumn> read = new ArrayList<>();
+
+	ChannelDictionaries() {
+	}
+
+	ChannelDictionaries(Column<?>[] columns) {
+
+		Map<NonNullStringColumn, Integer> counts = new IdentityHashMap<>();
+		for (Column<?> column : columns)
+			if (column instanceof NormalStringColumnImpl<?, ?, ?> ns)
+				counts.merge(ns.values, 1, Integer::sum);
+
+		counts.forEach((values, count) -> {
+			if (count > 1)
+				ids.put(values, INLINE);
+		});
+	}
+
+	boolean isShared(NonNullStringColumn values) {
+		return ids.containsKey(values);
+	}
+
+	void write(WritableByteChannel channel, NonNullStringColumn values) throws IOException {
+
+		Integer id = ids.get(values);
+
+		if (id == null) {
+			writeInt(channel, BIG_ENDIAN, INLINE);
+			writeInline(channel, values);
+		} else if (id == INLINE) {
+			id = nextId++;
+			ids.put(values, id);
+
+			writeInt(channel, BIG_ENDIAN, id);
+			writeInline(channel, values);
+		} else {
+			writeInt(channel, BIG_ENDIAN, id);
+		}
+	}
+
+	private static void writeInline(WritableByteChannel channel, NonNullStringColumn values) throws IOException {
+		writeByte(channel, values.isSorted() ? SORTED_CODE : UNSORTED_CODE);
+		values.writeTo(channel);
+	}
+
+	NonNullStringColumn read(ReadableByteChannel channel, int version, boolean map) throws IOException {
+
+		final int id = readInt(channel, BIG_ENDIAN);
+
+		if (id >= 0 && id < read.size())
+			return read.get(id);
+
+		checkState(id == INLINE || id == read.size(), "bad dictionary id: " + id);
+
+		final byte code = version >= 13 ? readEncoding(channel) : 0;
+		checkState(version < 13 || code == SORTED_CODE || code == UNSORTED_CODE,
+				"bad dictionary code: " + (char) code);
+
+		NonNullStringColumn values = (NonNullStringColumn) ColumnType.STRING.readFrom(channel, NONNULL, version, map);
+		if (version >= 13 ? code == SORTED_CODE : values.checkSorted())
+			values = values.withCharacteristics(NONNULL_CHARACTERISTICS | SORTED | DISTINCT);
+
+		if (id != INLINE)
+			read.add(values);
+
+		return values;
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.bufferstuff.BufferUtils.readFully;
+import static tech.bitey.bufferstuff.BufferUtils.writeFully;
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
+import static tech.bitey.dataframe.Pr.checkState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/*
+ * The column statistics of a dataframe file (version 11 and up), which follow
+ * the column headers. For each column there is a byte which is 1 if statistics
+ * follow, otherwise 0. Statistics are the size, null count, and distinct count,
+ * followed by a non-null column of the same type holding the minimum and
+ * maximum (or nothing). The byte size is not written, since it depends on how
+ * the column is read.
+ *
+ * Only statistics which have already been computed are written.
+ */
+enum ChannelStatistics {
+	;
+
+	private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
+
+	// NSTRING bounds are taken from the dictionary
+	private static ColumnType<?> boundsType(ColumnType<?> type) {
+		return type == ColumnType.NSTRING ? ColumnType.STRING : type;
+	}
+
+	@SuppressWarnings("rawtypes")
+	static void write(WritableByteChannel channel, Column<?>[] columns) throws IOException {
+
+		for (Column<?> column : columns) {
+			ColumnStatistics<?> statistics = ((AbstractColumn) column).statistics;
+
+			writeFully(channel, ByteBuffer.wrap(new byte[] { (byte) (statistics == null ? 0 : 1) }));
+			if (statistics != null) {
+				ByteBuffer b = ByteBuffer.allocate(4 + 4 + 8).order(ORDER);
+				b.putInt(statistics.size());
+				b.putInt(statistics.nullCount());
+				b.putLong(statistics.distinctCount());
+				b.flip();
+				writeFully(channel, b);
+
+				((AbstractColumn) statistics.bounds).writeTo(channel);
+			}
+		}
+	}
+
+	/*
+	 * Returns the statistics read for each column, or null where there are none.
+	 * The byte size of each is zero, since the columns have not been read yet.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static ColumnStatistics<?>[] read(ReadableByteChannel channel, ColumnType<?>[] columnTypes, int version,
+			boolean map) throws IOException {
+
+		ColumnStatistics<?>[] statistics = new ColumnStatistics<?>[columnTypes.length];
+
+		ByteBuffer flag = ByteBuffer.allocate(1);
+		ByteBuffer b = ByteBuffer.allocate(4 + 4 + 8).order(ORDER);
+
+		for (int i = 0; i < columnTypes.length; i++) {
+			flag.clear();
+			readFully(channel, flag);
+			if (flag.get(0) == 0)
+				continue;
+
+			b.clear();
+			readFully(channel, b);
+			b.flip();
+
+			int size = b.getInt();
+			int nullCount = b.getInt();
+			long distinctCount = b.getLong();
+			checkState(nullCount >= 0 && nullCount <= size && distinctCount >= 0 && distinctCount <= size - nullCount,
+					"bad column statistics");
+
+			Column bounds = boundsType(columnTypes[i]).readFrom(channel, NONNULL_CHARACTERISTICS, version, map);
+			checkState(bounds.size() == 0 || bounds.size() == 2, "bad column statistics bounds");
+
+			statistics[i] = new ColumnStatistics<>(size, nullCount, 0, distinctCount, bounds);
+		}
+
+		return statistics;
+	}
+
+	/*
+	 * Caches the statistics read for each column on the column itself
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static void attach(ColumnStatistics<?>[] statistics, Column<?>[] columns) {
+
+		for (int i = 0; i < columns.length; i++) {
+			if (statistics[i] == null)
+				continue;
+
+			AbstractColumn column = (AbstractColumn) columns[i];
+			checkState(statistics[i].size() == column.size(), "column statistics do not match column size");
+
+			column.statistics = statistics[i].withByteSize(column.byteSize());
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.bufferstuff.BufferUtils.readFully;
+import static tech.bitey.bufferstuff.BufferUtils.writeFully;
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
+import static tech.bitey.dataframe.Pr.checkState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/*
+ * The zone maps of a dataframe file (version 10 and up), which follow the
+ * columns. For each column there is a byte which is 1 if a zone map follows,
+ * otherwise 0. A zone map is its minimums and then its maximums, each written
+ * as a non-null column of the same type as the column.
+ *
+ * Only zone maps which have already been computed are written.
+ */
+enum ChannelZoneMaps {
+	;
+
+	/*
+	 * Returns the non-null column holding the values of the specified column,
+	 * which is where its zone map is cached, or null if it cannot have one
+	 */
+	@SuppressWarnings("rawtypes")
+	static NonNullColumn<?, ?, ?> valuesOf(Column<?> column) {
+		if (column.getType() == ColumnType.BOOLEAN || column.getType() == ColumnType.BLOB)
+			return null;
+		else if (column instanceof NonNullColumn nonNull)
+			return nonNull;
+		else if (column instanceof NullableColumn nullable)
+			return nullable.subColumn;
+		else
+			return null;
+	}
+
+	@SuppressWarnings("rawtypes")
+	static void write(WritableByteChannel channel, Column<?>[] columns) throws IOException {
+
+		for (Column<?> column : columns) {
+			NonNullColumn<?, ?, ?> values = valuesOf(column);
+			ZoneMap<?> zoneMap = values == null ? null : values.zoneMap;
+
+			writeFully(channel, ByteBuffer.wrap(new byte[] { (byte) (zoneMap == null ? 0 : 1) }));
+			if (zoneMap != null) {
+				((AbstractColumn) zoneMap.mins).writeTo(channel);
+				((AbstractColumn) zoneMap.maxes).writeTo(channel);
+			}
+		}
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static void read(ReadableByteChannel channel, Column<?>[] columns, int version, boolean map) throws IOException {
+
+		ByteBuffer flag = ByteBuffer.allocate(1);
+
+		for (Column<?> column : columns) {
+			flag.clear();
+			readFully(channel, flag);
+			if (flag.get(0) == 0)
+				continue;
+
+			ColumnType<?> type = column.getType();
+			NonNullColumn mins = (NonNullColumn) type.readFrom(channel, NONNULL_CHARACTERISTICS, version, map);
+			NonNullColumn maxes = (NonNullColumn) type.readFrom(channel, NONNULL_CHARACTERISTICS, version, map);
+
+			NonNullColumn<?, ?, ?> values = valuesOf(column);
+			checkState(values != null, "unexpected zone map for column of type " + type);
+			checkState(mins.size() == ZoneMap.blockCount(values.size()) && maxes.size() == mins.size(),
+					"zone map does not match column size");
+
+			values.zoneMap = new ZoneMap(mins, maxes);
+		}
+	}
+}
@@ -149,6 +149,18 @@ public interface Column<E> extends List<E>, RandomAccess {
 		return (characteristics() & DISTINCT) != 0;
 	}
 
+	/**
+	 * Returns summary statistics for this column: the null count, minimum and
+	 * maximum, approximate size in bytes, and approximate distinct count. The
+	 * statistics are computed in a single pass the first time this method is
+	 * called, and then cached.
+	 * 
+	 * @return summary statistics for this column
+	 * 
+	 * @see ColumnStatistics
+	 */
+	ColumnStatistics<E> statistics();
+
 	/**
 	 * Converts an index into a heap.
 	 * 
@@ -285,6 +297,25 @@ public interface Column<E> extends List<E>, RandomAccess {
 	 */
 	Column<E> copy();
 
+	/**
+	 * Returns a column equal to this one, but with elements stored in a smaller
+	 * encoding, if this column's type has one which saves space. Otherwise returns
+	 * this column.
+	 * <p>
+	 * {@link IntColumn} and {@link LongColumn} elements can be bit-packed relative
+	 * to the column's minimum (frame of reference), or as differences between
+	 * consecutive elements (delta encoding, which suits sorted columns). Elements
+	 * of a compacted column are still read in constant time, though not as quickly
+	 * as plain elements. Sub-columns share the compacted elements, while columns
+	 * derived in other ways store plain elements.
+	 * 
+	 * @return a column equal to this one, with elements stored compactly if that
+	 *         saves space
+	 */
+	default Column<E> compact() {
+		return this;
+	}
+
 	/**
 	 * Returns a {@link NavigableSet} view of this column.
 	 * <p>
@@ -296,6 +327,24 @@ public interface Column<E> extends List<E>, RandomAccess {
 	 */
 	NavigableSet<E> asSet();
 
+	/**
+	 * Returns the index of the first occurrence of each of the specified keys in
+	 * this column. This is the batch equivalent of calling {@link #indexOf(Object)}
+	 * once for every key.
+	 * <p>
+	 * If this column is sorted, the keys are probed in ascending order using a
+	 * single galloping pass over this column. Otherwise the first index of every
+	 * value in this column is hashed once, and each key is looked up in that
+	 * table.
+	 *
+	 * @param keys - the values to look up in this column
+	 *
+	 * @return an {@link IntColumn} the same size as {@code keys}, where each element
+	 *         is the index of the corresponding key in this column, or null if the
+	 *         key is null or not present.
+	 */
+	IntColumn indicesOf(Column<E> keys);
+
 	/*------------------------------------------------------------
 	 *  Type Transformation Methods
 	 *------------------------------------------------------------*/
@@ -484,6 +533,40 @@ public interface Column<E> extends List<E>, RandomAccess {
 	 */
 	Column<E> filter(Predicate<E> predicate, boolean keepNulls);
 
+	/**
+	 * Returns a new column containing the elements of this column which range from
+	 * {@code fromElement} to {@code toElement}, in their original order. Elements
+	 * are compared in the same order used by {@link #toSorted()}, and
+	 * {@code null} elements are removed.
+	 * <p>
+	 * Unlike {@link #subColumnByValue(Object, boolean, Object, boolean)
+	 * subColumnByValue}, this column does not need to be sorted. Instead, the
+	 * minimum and maximum element of each block of consecutive elements (a zone
+	 * map) are computed on first use and cached. Blocks which cannot contain any
+	 * element in range are skipped, and blocks which are entirely in range are kept
+	 * without testing each element. This is most effective when the column is
+	 * clustered by value, e.g. a timestamp column of rows which were appended over
+	 * time.
+	 * <p>
+	 * <em>This method is not available for boolean or blob columns.</em>
+	 * 
+	 * @param fromElement   low endpoint of the range, or {@code null} if the range
+	 *                      has no low endpoint
+	 * @param fromInclusive true if the low endpoint is to be included in the result
+	 * @param toElement     high endpoint of the range, or {@code null} if the range
+	 *                      has no high endpoint
+	 * @param toInclusive   true if the high endpoint is to be included in the
+	 *                      result
+	 * 
+	 * @return a new column containing the elements of this column which range from
+	 *         {@code fromElement} to {@code toElement}
+	 * 
+	 * @throws IllegalArgumentException      if {@code fromElement} is greater than
+	 *                                       {@code toElement}
+	 * @throws UnsupportedOperationException if this is a boolean or blob column
+	 */
+	Column<E> filterByValue(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive);
+
 	/*------------------------------------------------------------
 	 *  NavigableSet-inspired Methods
 	 *------------------------------------------------------------*/
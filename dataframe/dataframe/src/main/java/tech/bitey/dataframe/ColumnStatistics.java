@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+/**
+ * Summary statistics of a {@link Column}, as returned by
+ * {@link Column#statistics()}. Statistics are computed in a single pass over
+ * the column the first time they are requested, and then cached. Statistics
+ * which have been computed are written along with a dataframe, so that they do
+ * not need to be computed again when it is read.
+ * <p>
+ * The distinct count is estimated from a HyperLogLog sketch, and is typically
+ * within a few percent of the true count. It is exact for
+ * {@link NormalStringColumn NormalStringColumns}, for columns with the
+ * {@link java.util.Spliterator#DISTINCT DISTINCT} characteristic, and (short of
+ * a 64-bit hash collision) for columns with no more than 1024 distinct
+ * elements.
+ * 
+ * @param <E> the type of elements in the column
+ * 
+ * @author biteytech@protonmail.com
+ */
+public final class ColumnStatistics<E> {
+
+	private final int size;
+	private final int nullCount;
+	private final long byteSize;
+	private final long distinctCount;
+
+	// the minimum and then the maximum element, or empty if there are no non-null
+	// elements or they cannot be ordered
+	final Column<E> bounds;
+
+	ColumnStatistics(int size, int nullCount, long byteSize, long distinctCount, Column<E> bounds) {
+		this.size = size;
+		this.nullCount = nullCount;
+		this.byteSize = byteSize;
+		this.distinctCount = distinctCount;
+		this.bounds = bounds;
+	}
+
+	/**
+	 * Returns the number of elements in the column.
+	 * 
+	 * @return the number of elements in the column
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of null elements in the column.
+	 * 
+	 * @return the number of null elements in the column
+	 */
+	public int nullCount() {
+		return nullCount;
+	}
+
+	/**
+	 * Returns the approximate number of bytes of buffer storage used by the
+	 * column, including any dictionary and null bits.
+	 * 
+	 * @return the approximate size of the column in bytes
+	 */
+	public long byteSize() {
+		return byteSize;
+	}
+
+	/**
+	 * Returns the number of distinct non-null elements in the column. Approximate
+	 * unless otherwise noted above.
+	 * 
+	 * @return the number of distinct non-null elements in the column
+	 */
+	public long distinctCount() {
+		return distinctCount;
+	}
+
+	/**
+	 * Returns the smallest non-null element in the column.
+	 * 
+	 * @return the smallest non-null element in the column, or null if there are
+	 *         none, or if the elements of this column type cannot be compared
+	 */
+	public E min() {
+		return bounds.isEmpty() ? null : bounds.get(0);
+	}
+
+	/**
+	 * Returns the largest non-null element in the column.
+	 * 
+	 * @return the largest non-null element in the column, or null if there are
+	 *         none, or if the elements of this column type cannot be compared
+	 */
+	public E max() {
+		return bounds.isEmpty() ? null : bounds.get(1);
+	}
+
+	ColumnStatistics<E> withByteSize(long byteSize) {
+		return new ColumnStatistics<>(size, nullCount, byteSize, distinctCount, bounds);
+	}
+
+	@Override
+	public String toString() {
+		return "{size: " + size + ", nullCount: " + nullCount + ", byteSize: " + byteSize + ", distinctCount: "
+				+ distinctCount + ", min: " + min() + ", max: " + max() + "}";
+	}
+}
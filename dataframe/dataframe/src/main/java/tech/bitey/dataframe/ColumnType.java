@@ -17,9 +17,12 @@
 package tech.bitey.dataframe;
 
 import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.util.Spliterator.DISTINCT;
 import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.SORTED;
 import static tech.bitey.bufferstuff.BufferUtils.readFully;
 import static tech.bitey.dataframe.AbstractColumn.readInt;
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
 import static tech.bitey.dataframe.ColumnTypeCode.B;
 import static tech.bitey.dataframe.ColumnTypeCode.BD;
 import static tech.bitey.dataframe.ColumnTypeCode.BL;
@@ -27,6 +30,7 @@ import static tech.bitey.dataframe.ColumnTypeCode.D;
 import static tech.bitey.dataframe.ColumnTypeCode.DA;
 import static tech.bitey.dataframe.ColumnTypeCode.DT;
 import static tech.bitey.dataframe.ColumnTypeCode.F;
+import static tech.bitey.dataframe.ColumnTypeCode.FD;
 import static tech.bitey.dataframe.ColumnTypeCode.FS;
 import static tech.bitey.dataframe.ColumnTypeCode.I;
 import static tech.bitey.dataframe.ColumnTypeCode.IN;
@@ -37,6 +41,7 @@ import static tech.bitey.dataframe.ColumnTypeCode.T;
 import static tech.bitey.dataframe.ColumnTypeCode.TI;
 import static tech.bitey.dataframe.ColumnTypeCode.UU;
 import static tech.bitey.dataframe.ColumnTypeCode.Y;
+import static tech.bitey.dataframe.Pr.checkState;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -76,6 +81,7 @@ import tech.bitey.bufferstuff.BufferBitSet;
  * <li>{@link #NSTRING}
  * <li>{@link #BLOB}
  * <li>{@link #FSTRING}
+ * <li>{@link #FDECIMAL}
  * </ul>
  * 
  * @author biteytech@protonmail.com
@@ -235,6 +241,15 @@ public abstract class ColumnType<E> {
 		}
 	};
 
+	/** The type for {@link FixedDecimalColumn} */
+	public static final ColumnType<BigDecimal> FDECIMAL = new ColumnType<>(FD, BigDecimal.class) {
+
+		@Override
+		public int compare(BigDecimal lhs, BigDecimal rhs) {
+			return lhs.compareTo(rhs);
+		}
+	};
+
 	private final ColumnTypeCode code;
 	private final Class<E> elementType;
 
@@ -301,6 +316,7 @@ public abstract class ColumnType<E> {
 		case NS -> NormalStringColumn.builder();
 		case BL -> BlobColumn.builder();
 		case FS -> FixedAsciiColumn.builder(characteristic);
+		case FD -> FixedDecimalColumn.builder(characteristic);
 		};
 	}
 
@@ -316,6 +332,11 @@ public abstract class ColumnType<E> {
 	}
 
 	Column<?> readFrom(ReadableByteChannel channel, int characteristics, int version, boolean map) throws IOException {
+		return readFrom(channel, characteristics, version, map, new ChannelDictionaries());
+	}
+
+	Column<?> readFrom(ReadableByteChannel channel, int characteristics, int version, boolean map,
+			ChannelDictionaries dictionaries) throws IOException {
 		BufferBitSet nonNulls = null;
 		int size = 0;
 		if (getCode() != NS && !((characteristics & NONNULL) != 0)) {
@@ -437,24 +458,56 @@ public abstract class ColumnType<E> {
 			else
 				yield new NullableFixedAsciiColumn(column, nonNulls, null, 0, size);
 		}
+		case FD -> {
+			NonNullFixedDecimalColumn column = NonNullFixedDecimalColumn.empty(characteristics).readFrom(channel,
+					version, map);
+			if (nonNulls == null)
+				yield column;
+			else
+				yield new NullableFixedDecimalColumn(column, nonNulls, null, 0, size);
+		}
 		case NS -> {
-			final ColumnTypeCode colTypeCode;
+			final byte indexCode;
 			if (version < 5)
-				colTypeCode = Y;
+				indexCode = 'Y';
 			else {
 				ByteBuffer buf = ByteBuffer.allocate(1);
 				channel.read(buf);
-				// Y (byte) or T (short)
-				colTypeCode = ColumnTypeCode.valueOf(new String(new byte[] { buf.get(0) }));
+				// Y (byte), T (short), I (int), or R (run-length encoded)
+				indexCode = buf.get(0);
+			}
+			checkState(indexCode == 'Y' || indexCode == 'T' || indexCode == 'I' && version >= 6
+					|| indexCode == NormalStringColumnRunImpl.RUN_CODE && version >= 7,
+					"bad NSTRING index code for version " + version + ": " + (char) indexCode);
+
+			if (indexCode == NormalStringColumnRunImpl.RUN_CODE) {
+				IntColumn codes = (IntColumn) INT.readFrom(channel, characteristics, version, map);
+				NonNullIntColumn runEnds = (NonNullIntColumn) INT.readFrom(channel,
+						NONNULL_CHARACTERISTICS | SORTED | DISTINCT, version, map);
+				NonNullStringColumn values;
+				if (version >= 9)
+					values = dictionaries.read(channel, version, map);
+				else {
+					values = (NonNullStringColumn) STRING.readFrom(channel, NONNULL, version, map);
+					if (values.checkSorted())
+						values = values.withCharacteristics(NONNULL_CHARACTERISTICS | SORTED | DISTINCT);
+				}
+
+				yield new NormalStringColumnRunImpl(codes, runEnds, values, 0,
+						runEnds.isEmpty() ? 0 : runEnds.at(runEnds.size() - 1));
 			}
 
+			final ColumnTypeCode colTypeCode = ColumnTypeCode.valueOf(new String(new byte[] { indexCode }));
+
 			final Column<? extends Number> indices;
 			if (colTypeCode == Y)
 				indices = (ByteColumn) BYTE.readFrom(channel, characteristics, version, map);
-			else
+			else if (colTypeCode == T)
 				indices = (ShortColumn) SHORT.readFrom(channel, characteristics, version, map);
+			else
+				indices = (IntColumn) INT.readFrom(channel, characteristics, version, map);
 
-			final NonNullStringColumn values;
+			NonNullStringColumn values;
 			if (version == 1) {
 				StringColumnBuilder builder = StringColumn.builder(NONNULL);
 				int count = readInt(channel, BIG_ENDIAN);
@@ -467,14 +520,22 @@ public abstract class ColumnType<E> {
 					builder.add(value);
 				}
 				values = (NonNullStringColumn) builder.build();
-			} else {
+			} else if (version < 9) {
 				values = (NonNullStringColumn) STRING.readFrom(channel, NONNULL, version, map);
+			} else {
+				values = dictionaries.read(channel, version, map);
 			}
 
+			// dictionaries written by older versions are in insertion order
+			if (version < 9 && values.checkSorted())
+				values = values.withCharacteristics(NONNULL_CHARACTERISTICS | SORTED | DISTINCT);
+
 			if (colTypeCode == Y)
 				yield new NormalStringColumnByteImpl((ByteColumn) indices, values, 0, indices.size());
-			else
+			else if (colTypeCode == T)
 				yield new NormalStringColumnShortImpl((ShortColumn) indices, values, 0, indices.size());
+			else
+				yield new NormalStringColumnIntImpl((IntColumn) indices, values, 0, indices.size());
 		}
 		};
 	}
@@ -498,6 +559,7 @@ public abstract class ColumnType<E> {
 		case Y -> NullableByteColumn::new;
 		case NS -> throw new IllegalStateException();
 		case FS -> NullableFixedAsciiColumn::new;
+		case FD -> NullableFixedDecimalColumn::new;
 		case BL -> NullableBlobColumn::new;
 		};
 	}
@@ -562,7 +624,7 @@ public abstract class ColumnType<E> {
 	 * <td>as-is</td>
 	 * </tr>
 	 * <tr>
-	 * <td>DECIMAL</td>
+	 * <td>DECIMAL, FDECIMAL</td>
 	 * <td>{@link BigDecimal}</td>
 	 * <td>{@link BigDecimal#BigDecimal(String)}</td>
 	 * </tr>
@@ -592,7 +654,7 @@ public abstract class ColumnType<E> {
 		case T -> Short.valueOf(string);
 		case Y -> Byte.valueOf(string);
 		case S, NS, FS -> string;
-		case BD -> new BigDecimal(string);
+		case BD, FD -> new BigDecimal(string);
 		case UU -> java.util.UUID.fromString(string);
 		case BL -> new ByteArrayInputStream(string.getBytes());
 		};
@@ -622,7 +684,7 @@ public abstract class ColumnType<E> {
 	public Class<?> getType() {
 		return switch (getCode()) {
 		case B -> Boolean.class;
-		case BD -> BigDecimal.class;
+		case BD, FD -> BigDecimal.class;
 		case BL -> InputStream.class;
 		case D -> Double.class;
 		case DA -> LocalDate.class;
@@ -668,7 +730,7 @@ public abstract class ColumnType<E> {
 
 			ColumnType<?> type = code.getType();
 
-			if (type.isStringType() && type != STRING)
+			if ((type.isStringType() && type != STRING) || type == FDECIMAL)
 				continue;
 
 			CLASS_TYPE_MAP.put(type.getType(), type);
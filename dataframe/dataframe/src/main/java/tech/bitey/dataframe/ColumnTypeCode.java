@@ -36,6 +36,7 @@ package tech.bitey.dataframe;
  * <li>{@link #NS} - NormalString
  * <li>{@link #BL} - Blob
  * <li>{@link #FS} - FixedAscii
+ * <li>{@link #FD} - FixedDecimal
  * </ul>
  * 
  * @author biteytech@protonmail.com
@@ -76,6 +77,8 @@ public enum ColumnTypeCode {
 	BL, // Blob
 	/** The type code for {@link FixedAsciiColumn} */
 	FS, // Fixed Ascii String
+	/** The type code for {@link FixedDecimalColumn} */
+	FD, // Fixed-scale Decimal
 	;
 
 	public ColumnType<?> getType() {
@@ -97,6 +100,7 @@ public enum ColumnTypeCode {
 		case NS -> ColumnType.NSTRING;
 		case BL -> ColumnType.BLOB;
 		case FS -> ColumnType.FSTRING;
+		case FD -> ColumnType.FDECIMAL;
 		};
 	}
 }
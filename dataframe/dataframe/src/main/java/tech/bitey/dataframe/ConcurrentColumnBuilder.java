@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.dataframe.Pr.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Builds a {@link Column} from elements added concurrently by multiple
+ * threads, without locking. Each thread adds to its own {@link #local() local}
+ * builder, and the local builders are concatenated by {@link #build()}. Example:
+ *
+ * <pre>
+ * ConcurrentColumnBuilder&lt;Double, DoubleColumnBuilder&gt; prices = new ConcurrentColumnBuilder&lt;&gt;(
+ * 		DoubleColumn::builder);
+ * 
+ * // on each producer thread
+ * prices.local().add(price);
+ * 
+ * // once the producers are done
+ * DoubleColumn column = (DoubleColumn) prices.build();
+ * </pre>
+ * 
+ * Elements added by one thread appear in the resulting column in the same order
+ * they were added, and together with the other elements added by that thread.
+ * The threads' elements appear in the order in which the threads were created
+ * (by {@link Thread#getId() thread id}). As a result, columns from several
+ * {@code ConcurrentColumnBuilders} line up row for row, provided each thread
+ * adds one element to each builder per row. If the rows must instead be in the
+ * order they were produced, add a sequence column and
+ * {@link DataFrame#sort(String...) sort} the resulting dataframe by it.
+ * <p>
+ * Adding elements through a local builder is as fast as adding them to an
+ * ordinary {@link ColumnBuilder}. {@link #build()} must not run concurrently
+ * with adds, since the local builders are not themselves thread safe: join the
+ * producer threads (or otherwise wait for them to finish) first. As with
+ * {@code ColumnBuilder}, the builder can be reused, and each new column
+ * contains all the elements of the ones created before it, unless the builder
+ * has been {@link #reset() reset} in between.
+ *
+ * @author biteytech@protonmail.com
+ *
+ * @param <E> the type of elements in the column
+ * @param <B> the type of the local builders
+ */
+public final class ConcurrentColumnBuilder<E, B extends ColumnBuilder<E>> {
+
+	private final Supplier<B> factory;
+
+	/*
+	 * The local builders, ordered by the id of the thread they belong to. An id
+	 * can be reused once its thread has ended, so the key also holds a sequence
+	 * number, which is never reused, to keep a later thread from replacing the
+	 * builder of an earlier one.
+	 */
+	private final Map<LocalKey, B> locals = new ConcurrentSkipListMap<>();
+
+	private final AtomicLong registrations = new AtomicLong();
+
+	// replaced by reset, so that the threads' stale entries can be collected
+	private volatile ThreadLocal<B> local = ThreadLocal.withInitial(this::register);
+
+	/**
+	 * Creates a {@code ConcurrentColumnBuilder} whose local builders are created
+	 * by the specified factory. For example {@code IntColumn::builder}, or
+	 * {@code () -> IntColumn.builder(NONNULL, expectedSizePerThread)}.
+	 * 
+	 * @param factory - creates a new, empty builder each time it is called
+	 */
+	public ConcurrentColumnBuilder(Supplier<B> factory) {
+		this.factory = Objects.requireNonNull(factory, "factory cannot be null");
+	}
+
+	private B register() {
+		B builder = factory.get();
+		checkArgument(builder instanceof AbstractColumnBuilder && builder.size() == 0,
+				"factory must return a new, empty builder");
+
+		LocalKey key = new LocalKey(Thread.currentThread().getId(), registrations.getAndIncrement());
+		locals.put(key, builder);
+		return builder;
+	}
+
+	private record LocalKey(long threadId, long sequence) implements Comparable<LocalKey> {
+
+		@Override
+		public int compareTo(LocalKey o) {
+			int c = Long.compare(threadId, o.threadId);
+			return c != 0 ? c : Long.compare(sequence, o.sequence);
+		}
+	}
+
+	/**
+	 * Returns the calling thread's local builder, creating it if this is the
+	 * thread's first call. The local builder must only be used by the calling
+	 * thread.
+	 * 
+	 * @return the calling thread's local builder
+	 */
+	public B local() {
+		return local.get();
+	}
+
+	/**
+	 * Adds a single element to the calling thread's local builder.
+	 * 
+	 * @param element - the element to add. Can be null.
+	 * 
+	 * @return this builder
+	 */
+	public ConcurrentColumnBuilder<E, B> add(E element) {
+		local().add(element);
+		return this;
+	}
+
+	/**
+	 * Returns a newly-created {@code Column} containing the elements of every
+	 * local builder, in thread id order. Must not be called concurrently with any
+	 * adds.
+	 * 
+	 * @return a newly-created {@code Column}
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public Column<E> build() {
+
+		List<B> builders = new ArrayList<>(locals.values());
+
+		int size = 0;
+		for (B builder : builders)
+			size = Math.addExact(size, builder.size());
+
+		// each local builder's elements are copied into their own range of the
+		// presized buffer, in parallel where the builder type allows
+		AbstractColumnBuilder merged = (AbstractColumnBuilder) factory.get();
+		merged.ensureCapacity(size);
+		merged.appendAll(builders);
+
+		return merged.build();
+	}
+
+	/**
+	 * Discards every element added so far, along with the local builders. Each
+	 * thread gets a new local builder the next time it adds an element, and the
+	 * old ones are released, even while the producer threads live on (as in a
+	 * thread pool). Must not be called concurrently with any adds.
+	 */
+	public void reset() {
+		local = ThreadLocal.withInitial(this::register);
+		locals.clear();
+	}
+
+	/**
+	 * Returns the total number of elements added so far, across all threads. Must
+	 * not be called concurrently with any adds.
+	 * 
+	 * @return the total number of elements added so far
+	 */
+	public int size() {
+		int size = 0;
+		for (B builder : locals.values())
+			size += builder.size();
+		return size;
+	}
+}
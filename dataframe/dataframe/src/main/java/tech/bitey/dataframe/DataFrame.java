@@ -43,7 +43,6 @@ import java.util.List;
 import java.util.NavigableMap;
 import java.util.RandomAccess;
 import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -51,6 +50,9 @@ import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import tech.bitey.dataframe.db.ConnectionSupplier;
 
 /**
  * A two-dimensional, {@link Column}-oriented, immutable, heterogeneous tabular
@@ -131,9 +133,39 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 		return SIZED | SUBSIZED | ORDERED | IMMUTABLE | NONNULL | (hasKeyColumn() ? (SORTED | DISTINCT) : 0);
 	}
 
+	/**
+	 * Creates a {@link Spliterator} over the rows in this dataframe. Each split
+	 * covers a contiguous range of rows, and splits are balanced down to ranges of
+	 * about a thousand rows.
+	 *
+	 * @return a {@code Spliterator} over the rows in this dataframe.
+	 */
 	@Override
-	default Spliterator<Row> spliterator() {
-		return Spliterators.spliterator(this, characteristics());
+	Spliterator<Row> spliterator();
+
+	/**
+	 * Creates a {@link Spliterator} over the rows in this dataframe, where each
+	 * split presents its rows through a single {@link Cursor}. Splitting behaves
+	 * the same as {@link #spliterator()}.
+	 * <p>
+	 * The cursor passed to an action is positioned at the current row and is only
+	 * valid until the action returns. Actions must not move or retain it. Use
+	 * {@link #spliterator()} instead if rows need to be collected.
+	 *
+	 * @return a {@code Spliterator} which reuses one {@code Cursor} per split
+	 */
+	Spliterator<Cursor> cursorSpliterator();
+
+	/**
+	 * Returns a sequential or parallel {@link Stream} backed by
+	 * {@link #cursorSpliterator()}.
+	 *
+	 * @param parallel - if true then the returned stream is a parallel stream
+	 *
+	 * @return a {@code Stream} which reuses one {@code Cursor} per split
+	 */
+	default Stream<Cursor> cursorStream(boolean parallel) {
+		return StreamSupport.stream(cursorSpliterator(), parallel);
 	}
 
 	/**
@@ -1074,10 +1106,104 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 	 */
 	BlobColumn blobColumn(String columnName);
 
+	/**
+	 * Returns an {@link IntReader} bound to the {@link IntColumn} at the specified
+	 * index. Reading through the returned reader is faster than calling
+	 * {@link #getInt(int, int)} in a loop.
+	 * 
+	 * @param columnIndex - index of the column
+	 * 
+	 * @return a reader for the column at the specified index
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code columnIndex} is negative or is
+	 *                                   not less than {@link #columnCount()}
+	 * @throws ClassCastException        if the column is not a {@code IntColumn}
+	 */
+	IntReader intReader(int columnIndex);
+
+	/**
+	 * Returns an {@link IntReader} bound to the specified {@link IntColumn}.
+	 * Reading through the returned reader is faster than calling
+	 * {@link #getInt(int, String)} in a loop.
+	 * 
+	 * @param columnName - column name
+	 * 
+	 * @return a reader for the specified column
+	 * 
+	 * @throws IllegalArgumentException if {@code columnName} is not a recognized
+	 *                                  column name in this dataframe.
+	 * @throws ClassCastException       if the column is not a {@code IntColumn}
+	 */
+	IntReader intReader(String columnName);
+
+	/**
+	 * Returns a {@link LongReader} bound to the {@link LongColumn} at the specified
+	 * index. Reading through the returned reader is faster than calling
+	 * {@link #getLong(int, int)} in a loop.
+	 * 
+	 * @param columnIndex - index of the column
+	 * 
+	 * @return a reader for the column at the specified index
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code columnIndex} is negative or is
+	 *                                   not less than {@link #columnCount()}
+	 * @throws ClassCastException        if the column is not a {@code LongColumn}
+	 */
+	LongReader longReader(int columnIndex);
+
+	/**
+	 * Returns a {@link LongReader} bound to the specified {@link LongColumn}.
+	 * Reading through the returned reader is faster than calling
+	 * {@link #getLong(int, String)} in a loop.
+	 * 
+	 * @param columnName - column name
+	 * 
+	 * @return a reader for the specified column
+	 * 
+	 * @throws IllegalArgumentException if {@code columnName} is not a recognized
+	 *                                  column name in this dataframe.
+	 * @throws ClassCastException       if the column is not a {@code LongColumn}
+	 */
+	LongReader longReader(String columnName);
+
+	/**
+	 * Returns a {@link DoubleReader} bound to the {@link DoubleColumn} at the specified
+	 * index. Reading through the returned reader is faster than calling
+	 * {@link #getDouble(int, int)} in a loop.
+	 * 
+	 * @param columnIndex - index of the column
+	 * 
+	 * @return a reader for the column at the specified index
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code columnIndex} is negative or is
+	 *                                   not less than {@link #columnCount()}
+	 * @throws ClassCastException        if the column is not a {@code DoubleColumn}
+	 */
+	DoubleReader doubleReader(int columnIndex);
+
+	/**
+	 * Returns a {@link DoubleReader} bound to the specified {@link DoubleColumn}.
+	 * Reading through the returned reader is faster than calling
+	 * {@link #getDouble(int, String)} in a loop.
+	 * 
+	 * @param columnName - column name
+	 * 
+	 * @return a reader for the specified column
+	 * 
+	 * @throws IllegalArgumentException if {@code columnName} is not a recognized
+	 *                                  column name in this dataframe.
+	 * @throws ClassCastException       if the column is not a {@code DoubleColumn}
+	 */
+	DoubleReader doubleReader(String columnName);
+
 	/**
 	 * Derive a new {@link Column} from the rows of this dataframe. The new column
 	 * will have the same size as this dataframe, and each element will have been
 	 * derived from the corresponding row.
+	 * <p>
+	 * The function is called on the calling thread, in row order. See
+	 * {@link #deriveColumn(ColumnType, Function, boolean)}
+	 * to opt in to parallel execution.
 	 * 
 	 * @param type     - the new column's {@link ColumnType type}
 	 * @param function - the function used to compute column elements from dataframe
@@ -1090,67 +1216,219 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 	 * 
 	 * @throws ClassCastException if the column type does not match the return type.
 	 */
-	<T> Column<T> deriveColumn(ColumnType<T> type, Function<Row, T> function);
+	default <T> Column<T> deriveColumn(ColumnType<T> type, Function<Row, T> function) {
+		return deriveColumn(type, function, false);
+	}
+
+	/**
+	 * Derive a new {@link Column} from the rows of this dataframe. The new column
+	 * will have the same size as this dataframe, and each element will have been
+	 * derived from the corresponding row.
+	 * <p>
+	 * If {@code parallel} is true and this dataframe is large, rows are processed
+	 * in parallel chunks, so the function may be called concurrently from several
+	 * threads and in any row order. It must then be thread-safe, and must not
+	 * depend on the order in which rows are visited.
+	 * 
+	 * @param type     - the new column's {@link ColumnType type}
+	 * @param function - the function used to compute column elements from dataframe
+	 *                 rows
+	 * 
+	 * @param <T>      - the return type. Must be compatible with the column type.
+	 *                 No attempt is made to convert between types beyond a cast.
+	 * 
+	 * @param parallel - whether rows may be processed in parallel
+	 * 
+	 * @return the derived column
+	 * 
+	 * @throws ClassCastException if the column type does not match the return type.
+	 */
+	<T> Column<T> deriveColumn(ColumnType<T> type, Function<Row, T> function, boolean parallel);
+
+	/**
+	 * Derive a new {@link IntColumn} from the rows of this dataframe. The new
+	 * column will have the same size as this dataframe, and each element will have
+	 * been derived from the corresponding row.
+	 * <p>
+	 * The function is called on the calling thread, in row order. See
+	 * {@link #deriveColumn(ToIntFunction, boolean)}
+	 * to opt in to parallel execution.
+	 * 
+	 * @param function - the function used to compute column elements from dataframe
+	 *                 rows
+	 * 
+	 * @return the derived column
+	 */
+	default IntColumn deriveColumn(ToIntFunction<Row> function) {
+		return deriveColumn(function, false);
+	}
 
 	/**
 	 * Derive a new {@link IntColumn} from the rows of this dataframe. The new
 	 * column will have the same size as this dataframe, and each element will have
 	 * been derived from the corresponding row.
+	 * <p>
+	 * If {@code parallel} is true and this dataframe is large, rows are processed
+	 * in parallel chunks, so the function may be called concurrently from several
+	 * threads and in any row order. It must then be thread-safe, and must not
+	 * depend on the order in which rows are visited.
 	 * 
 	 * @param function - the function used to compute column elements from dataframe
 	 *                 rows
 	 * 
+	 * @param parallel - whether rows may be processed in parallel
+	 * 
 	 * @return the derived column
 	 */
-	IntColumn deriveColumn(ToIntFunction<Row> function);
+	IntColumn deriveColumn(ToIntFunction<Row> function, boolean parallel);
 
 	/**
 	 * Derive a new {@link LongColumn} from the rows of this dataframe. The new
 	 * column will have the same size as this dataframe, and each element will have
 	 * been derived from the corresponding row.
+	 * <p>
+	 * The function is called on the calling thread, in row order. See
+	 * {@link #deriveColumn(ToLongFunction, boolean)}
+	 * to opt in to parallel execution.
 	 * 
 	 * @param function - the function used to compute column elements from dataframe
 	 *                 rows
 	 * 
 	 * @return the derived column
 	 */
-	LongColumn deriveColumn(ToLongFunction<Row> function);
+	default LongColumn deriveColumn(ToLongFunction<Row> function) {
+		return deriveColumn(function, false);
+	}
+
+	/**
+	 * Derive a new {@link LongColumn} from the rows of this dataframe. The new
+	 * column will have the same size as this dataframe, and each element will have
+	 * been derived from the corresponding row.
+	 * <p>
+	 * If {@code parallel} is true and this dataframe is large, rows are processed
+	 * in parallel chunks, so the function may be called concurrently from several
+	 * threads and in any row order. It must then be thread-safe, and must not
+	 * depend on the order in which rows are visited.
+	 * 
+	 * @param function - the function used to compute column elements from dataframe
+	 *                 rows
+	 * 
+	 * @param parallel - whether rows may be processed in parallel
+	 * 
+	 * @return the derived column
+	 */
+	LongColumn deriveColumn(ToLongFunction<Row> function, boolean parallel);
 
 	/**
 	 * Derive a new {@link DoubleColumn} from the rows of this dataframe. The new
 	 * column will have the same size as this dataframe, and each element will have
 	 * been derived from the corresponding row.
+	 * <p>
+	 * The function is called on the calling thread, in row order. See
+	 * {@link #deriveColumn(ToDoubleFunction, boolean)}
+	 * to opt in to parallel execution.
 	 * 
 	 * @param function - the function used to compute column elements from dataframe
 	 *                 rows
 	 * 
 	 * @return the derived column
 	 */
-	DoubleColumn deriveColumn(ToDoubleFunction<Row> function);
+	default DoubleColumn deriveColumn(ToDoubleFunction<Row> function) {
+		return deriveColumn(function, false);
+	}
+
+	/**
+	 * Derive a new {@link DoubleColumn} from the rows of this dataframe. The new
+	 * column will have the same size as this dataframe, and each element will have
+	 * been derived from the corresponding row.
+	 * <p>
+	 * If {@code parallel} is true and this dataframe is large, rows are processed
+	 * in parallel chunks, so the function may be called concurrently from several
+	 * threads and in any row order. It must then be thread-safe, and must not
+	 * depend on the order in which rows are visited.
+	 * 
+	 * @param function - the function used to compute column elements from dataframe
+	 *                 rows
+	 * 
+	 * @param parallel - whether rows may be processed in parallel
+	 * 
+	 * @return the derived column
+	 */
+	DoubleColumn deriveColumn(ToDoubleFunction<Row> function, boolean parallel);
 
 	/**
 	 * Derive a new {@link FloatColumn} from the rows of this dataframe. The new
 	 * column will have the same size as this dataframe, and each element will have
 	 * been derived from the corresponding row.
+	 * <p>
+	 * The function is called on the calling thread, in row order. See
+	 * {@link #deriveColumn(ToFloatFunction, boolean)}
+	 * to opt in to parallel execution.
 	 * 
 	 * @param function - the function used to compute column elements from dataframe
 	 *                 rows
 	 * 
 	 * @return the derived column
 	 */
-	FloatColumn deriveColumn(ToFloatFunction<Row> function);
+	default FloatColumn deriveColumn(ToFloatFunction<Row> function) {
+		return deriveColumn(function, false);
+	}
+
+	/**
+	 * Derive a new {@link FloatColumn} from the rows of this dataframe. The new
+	 * column will have the same size as this dataframe, and each element will have
+	 * been derived from the corresponding row.
+	 * <p>
+	 * If {@code parallel} is true and this dataframe is large, rows are processed
+	 * in parallel chunks, so the function may be called concurrently from several
+	 * threads and in any row order. It must then be thread-safe, and must not
+	 * depend on the order in which rows are visited.
+	 * 
+	 * @param function - the function used to compute column elements from dataframe
+	 *                 rows
+	 * 
+	 * @param parallel - whether rows may be processed in parallel
+	 * 
+	 * @return the derived column
+	 */
+	FloatColumn deriveColumn(ToFloatFunction<Row> function, boolean parallel);
+
+	/**
+	 * Derive a new {@link BooleanColumn} from the rows of this dataframe. The new
+	 * column will have the same size as this dataframe, and each element will have
+	 * been derived from the corresponding row.
+	 * <p>
+	 * The function is called on the calling thread, in row order. See
+	 * {@link #deriveColumn(Predicate, boolean)} to opt in to parallel execution.
+	 * 
+	 * @param function - the function used to compute column elements from dataframe
+	 *                 rows
+	 * 
+	 * @return the derived column
+	 */
+	default BooleanColumn deriveColumn(Predicate<Row> function) {
+		return deriveColumn(function, false);
+	}
 
 	/**
 	 * Derive a new {@link BooleanColumn} from the rows of this dataframe. The new
 	 * column will have the same size as this dataframe, and each element will have
 	 * been derived from the corresponding row.
+	 * <p>
+	 * If {@code parallel} is true and this dataframe is large, rows are processed
+	 * in parallel chunks, so the function may be called concurrently from several
+	 * threads and in any row order. It must then be thread-safe, and must not
+	 * depend on the order in which rows are visited.
 	 * 
 	 * @param function - the function used to compute column elements from dataframe
 	 *                 rows
 	 * 
+	 * @param parallel - whether rows may be processed in parallel
+	 * 
 	 * @return the derived column
 	 */
-	BooleanColumn deriveColumn(Predicate<Row> function);
+	BooleanColumn deriveColumn(Predicate<Row> function, boolean parallel);
+
 
 	/*--------------------------------------------------------------------------------
 	 *	Row Selection Methods
@@ -1379,9 +1657,34 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 	 */
 	DataFrame subFrameByValue(Object fromKey, boolean fromInclusive, Object toKey, boolean toInclusive);
 
+	/**
+	 * Returns a dataframe with one row for each element of the specified column,
+	 * taken from the row in this dataframe whose key column value is equal to that
+	 * element. If an element is null or does not appear in the key column, the
+	 * corresponding row contains only nulls. The resulting dataframe has the same
+	 * columns as this one, but no key column.
+	 * <p>
+	 * The keys are matched using {@link Column#indicesOf(Column)}, so looking up
+	 * {@code S} keys in a dataframe with {@code T} rows runs in
+	 * {@code O(S*log(S) + T)} time rather than {@code O(S*log(T))}.
+	 *
+	 * @param keys - the key column values to look up
+	 *
+	 * @return a dataframe with one row for each element of {@code keys}
+	 *
+	 * @throws UnsupportedOperationException if this dataframe does not contain a
+	 *                                       key column
+	 * @throws IllegalArgumentException      if {@code keys} does not have the same
+	 *                                       element type as the key column
+	 */
+	DataFrame lookup(Column<?> keys);
+
 	/**
 	 * Returns a dataframe containing the rows which pass the specified
 	 * {@link Predicate}.
+	 * <p>
+	 * The predicate is called on the calling thread, in row order. See
+	 * {@link #filter(Predicate, boolean)} to opt in to parallel execution.
 	 * 
 	 * @param criteria - the {@code Predicate} used to filter the rows in this
 	 *                 dataframe
@@ -1389,7 +1692,105 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 	 * @return a dataframe containing the rows which pass the specified
 	 *         {@code Predicate}.
 	 */
-	DataFrame filter(Predicate<Row> criteria);
+	default DataFrame filter(Predicate<Row> criteria) {
+		return filter(criteria, false);
+	}
+
+	/**
+	 * Returns a dataframe containing the rows which pass the specified
+	 * {@link Predicate}.
+	 * <p>
+	 * If {@code parallel} is true and this dataframe is large, rows are processed
+	 * in parallel chunks, so the predicate may be called concurrently from several
+	 * threads and in any row order. It must then be thread-safe, and must not
+	 * depend on the order in which rows are visited.
+	 * 
+	 * @param criteria - the {@code Predicate} used to filter the rows in this
+	 *                 dataframe
+	 * 
+	 * @param parallel - whether rows may be processed in parallel
+	 * 
+	 * @return a dataframe containing the rows which pass the specified
+	 *         {@code Predicate}.
+	 */
+	DataFrame filter(Predicate<Row> criteria, boolean parallel);
+
+	/**
+	 * Returns a dataframe containing the rows where the value in the specified
+	 * column ranges from {@code fromElement} to {@code toElement}. Rows with a null
+	 * value in the column are removed. See
+	 * {@link Column#filterByValue(Object, boolean, Object, boolean)} for how the
+	 * column's zone map is used to skip blocks of rows.
+	 * 
+	 * @param columnIndex   - index of the column to filter on
+	 * @param fromElement   - low endpoint of the range, or {@code null} if the
+	 *                      range has no low endpoint
+	 * @param fromInclusive - true if the low endpoint is to be included in the
+	 *                      result
+	 * @param toElement     - high endpoint of the range, or {@code null} if the
+	 *                      range has no high endpoint
+	 * @param toInclusive   - true if the high endpoint is to be included in the
+	 *                      result
+	 * 
+	 * @return a dataframe containing the rows where the value in the specified
+	 *         column ranges from {@code fromElement} to {@code toElement}
+	 * 
+	 * @throws IllegalArgumentException      if {@code fromElement} is greater than
+	 *                                       {@code toElement}, or either does not
+	 *                                       match the element type of the column
+	 * @throws UnsupportedOperationException if the column is a boolean or blob
+	 *                                       column
+	 */
+	DataFrame filterByValue(int columnIndex, Object fromElement, boolean fromInclusive, Object toElement,
+			boolean toInclusive);
+
+	/**
+	 * Same behavior as
+	 * {@link #filterByValue(int, Object, boolean, Object, boolean)}, with the
+	 * column specified by name.
+	 * 
+	 * @param columnName    - name of the column to filter on
+	 * @param fromElement   - low endpoint of the range, or {@code null} if the
+	 *                      range has no low endpoint
+	 * @param fromInclusive - true if the low endpoint is to be included in the
+	 *                      result
+	 * @param toElement     - high endpoint of the range, or {@code null} if the
+	 *                      range has no high endpoint
+	 * @param toInclusive   - true if the high endpoint is to be included in the
+	 *                      result
+	 * 
+	 * @return a dataframe containing the rows where the value in the specified
+	 *         column ranges from {@code fromElement} to {@code toElement}
+	 */
+	default DataFrame filterByValue(String columnName, Object fromElement, boolean fromInclusive, Object toElement,
+			boolean toInclusive) {
+		return filterByValue(columnIndex(columnName), fromElement, fromInclusive, toElement, toInclusive);
+	}
+
+	/**
+	 * Computes the zone map of each column which does not already have one, as
+	 * would otherwise happen on first use by
+	 * {@link Column#filterByValue(Object, boolean, Object, boolean)
+	 * filterByValue}. Zone maps which have been computed are written along with
+	 * the dataframe by {@link #writeTo(File) writeTo}, so that a dataframe read or
+	 * mapped from the file can skip blocks without computing them again, or
+	 * touching the pages of blocks which are skipped.
+	 * <p>
+	 * Boolean, blob, and {@link NormalStringColumn} columns do not have zone maps.
+	 * 
+	 * @return this dataframe
+	 */
+	DataFrame computeZoneMaps();
+
+	/**
+	 * Computes the {@link Column#statistics() statistics} of each column which
+	 * does not already have them. Statistics which have been computed are written
+	 * along with the dataframe by {@link #writeTo(File) writeTo}, so that a
+	 * dataframe read or mapped from the file does not need to compute them again.
+	 * 
+	 * @return this dataframe
+	 */
+	DataFrame computeStatistics();
 
 	/**
 	 * Returns a dataframe containing the rows which do not contain any null values.
@@ -1405,6 +1806,9 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 	 * Appends the specified dataframe to this one by calling
 	 * {@link Column#append(Column)} on each pair of columns, and keeping the
 	 * meta-data from this dataframe.
+	 * <p>
+	 * Every call copies the elements of both dataframes. To accumulate many
+	 * batches of rows, see {@link DataFrameLog}.
 	 * 
 	 * @param df - the dataframe to be appended to this one
 	 * 
@@ -1660,7 +2064,30 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 	 * 
 	 * @throws IOException if some I/O error occurs
 	 */
-	void writeTo(File file) throws IOException;
+	default void writeTo(File file) throws IOException {
+		writeTo(file, false);
+	}
+
+	/**
+	 * Saves this dataframe to a file in a binary format, optionally compacting
+	 * {@link ColumnType#INT INT} and {@link ColumnType#LONG LONG} elements.
+	 * <p>
+	 * When {@code compact} is true, each integer column is stored with whichever
+	 * of the following is smallest: the plain elements, the elements bit-packed
+	 * relative to the column's minimum (frame of reference), or the differences
+	 * between consecutive elements bit-packed relative to the smallest difference
+	 * (delta encoding, which suits sorted columns). Compacted columns are read
+	 * back as {@link Column#compact() compact} columns, and
+	 * {@link DataFrameFactory#mapFrom(File) mapFrom} maps their packed elements
+	 * rather than decoding them. Columns which are already compact are written as
+	 * they are.
+	 * 
+	 * @param file    - the file to be (over)written.
+	 * @param compact - whether or not to compact integer columns
+	 * 
+	 * @throws IOException if some I/O error occurs
+	 */
+	void writeTo(File file, boolean compact) throws IOException;
 
 	/**
 	 * Writes this dataframe to the specified {@link WritableByteChannel}.
@@ -1669,7 +2096,21 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 	 * 
 	 * @throws IOException if some I/O error occurs
 	 */
-	void writeTo(WritableByteChannel channel) throws IOException;
+	default void writeTo(WritableByteChannel channel) throws IOException {
+		writeTo(channel, false);
+	}
+
+	/**
+	 * Writes this dataframe to the specified {@link WritableByteChannel},
+	 * optionally compacting integer columns as described in
+	 * {@link #writeTo(File, boolean)}.
+	 * 
+	 * @param channel - the channel to be written to
+	 * @param compact - whether or not to compact integer columns
+	 * 
+	 * @throws IOException if some I/O error occurs
+	 */
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException;
 
 	/**
 	 * Save this dataframe to an <a href="https://tools.ietf.org/html/rfc4180">RFC
@@ -1721,6 +2162,33 @@ public sealed interface DataFrame extends List<Row>, RandomAccess permits DataFr
 	 */
 	void writeTo(PreparedStatement ps, WriteToDbConfig config) throws SQLException;
 
+	/**
+	 * Writes this dataframe to a database concurrently, splitting its rows into
+	 * contiguous ranges as specified by the {@link DbWritePartitioning}. Each
+	 * range is written on its own thread, to its own connection from the
+	 * supplier, using a {@link PreparedStatement} prepared from the specified
+	 * {@code INSERT} statement.
+	 * <p>
+	 * The connections are closed once written. Autocommit is turned off on each
+	 * connection, and the {@link WriteToDbConfig#commit() commit} setting is
+	 * ignored: ranges are committed as specified by the partitioning.
+	 * 
+	 * @param connections  - supplies one connection per range
+	 * @param insert       - the SQL statement to prepare on each connection
+	 * @param partitioning - the number of ranges, commit mode, and progress
+	 *                     callback
+	 * @param config       - the {@link WriteToDbConfig configuration} for writing
+	 *                     each range to its {@code PreparedStatement}.
+	 * 
+	 * @see DbWritePartitioning
+	 * 
+	 * @throws SQLException if some SQL or database error occurs while writing or
+	 *                      committing any range. Errors from other ranges are
+	 *                      {@link Throwable#getSuppressed() suppressed}.
+	 */
+	void writeTo(ConnectionSupplier connections, String insert, DbWritePartitioning partitioning,
+			WriteToDbConfig config) throws SQLException;
+
 	/**
 	 * Equivalent to {@code writeTo(ps, WriteToDbConfig.DEFAULT_CONFIG)}
 	 * 
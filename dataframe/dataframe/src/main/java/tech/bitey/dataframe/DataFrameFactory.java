@@ -22,19 +22,22 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Method;
-import java.lang.reflect.RecordComponent;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.StandardOpenOption;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+import tech.bitey.dataframe.db.ConnectionSupplier;
 
 /**
  * Factory methods for creating {@link DataFrame DataFrames}.
@@ -251,7 +254,7 @@ public enum DataFrameFactory {
 		}
 	}
 
-	private static DataFrame readFrom(ReadableByteChannel channel, boolean map) throws IOException {
+	static DataFrame readFrom(ReadableByteChannel channel, boolean map) throws IOException {
 
 		ChannelDataFrameHeader dfHeader = new ChannelDataFrameHeader(channel);
 		final int cc = dfHeader.getColumnCount();
@@ -266,14 +269,48 @@ public enum DataFrameFactory {
 			characteristics[i] = columnHeader.getCharacteristics();
 		}
 
+		ColumnStatistics<?>[] statistics = dfHeader.getVersion() >= 11
+				? ChannelStatistics.read(channel, columnTypes, dfHeader.getVersion(), map)
+				: new ColumnStatistics<?>[cc];
+
+		ChannelDictionaries dictionaries = new ChannelDictionaries();
 		Column<?>[] columns = new Column<?>[cc];
 		for (int i = 0; i < cc; i++)
-			columns[i] = columnTypes[i].readFrom(channel, characteristics[i], dfHeader.getVersion(), map);
+			columns[i] = columnTypes[i].readFrom(channel, characteristics[i], dfHeader.getVersion(), map,
+					dictionaries);
+
+		if (dfHeader.getVersion() >= 10)
+			ChannelZoneMaps.read(channel, columns, dfHeader.getVersion(), map);
+
+		ChannelStatistics.attach(statistics, columns);
 
 		Integer keyIndex = dfHeader.keyIndex();
 		return create(columns, columnNames, keyIndex == null ? null : columnNames[keyIndex]);
 	}
 
+	// appends the dataframes in order, copying each column once into a result sized
+	// for all of them, and keeps the key column of the first
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static DataFrame concat(DataFrame[] dfs) {
+
+		final DataFrame first = dfs[0];
+		if (dfs.length == 1)
+			return first;
+
+		Column<?>[] columns = new Column<?>[first.columnCount()];
+		for (int i = 0; i < columns.length; i++) {
+			List<Column> column = new ArrayList<>(dfs.length);
+			for (DataFrame df : dfs) {
+				checkArgument(df.columnCount() == columns.length, "mismatched column counts");
+				column.add(df.column(i));
+			}
+			columns[i] = AbstractColumn.appendAll((List) column);
+		}
+
+		return create(columns, first.columnNames().toArray(new String[0]),
+				first.hasKeyColumn() ? first.keyColumnName() : null);
+	}
+
 	/**
 	 * Read a dataframe from a CSV file. The CSV must adhere to
 	 * <a href="https://tools.ietf.org/html/rfc4180">RFC 4180</a>, with the
@@ -350,6 +387,132 @@ public enum DataFrameFactory {
 		return config.read(rs);
 	}
 
+	/**
+	 * Read a {@link ResultSet} lazily as a stream of dataframes of up to
+	 * {@code chunkSize} rows each, according to the specified
+	 * {@link ReadFromDbConfig configuration}. Each dataframe is read from the
+	 * {@code ResultSet} as the stream reaches it, so memory use is bounded by the
+	 * chunk size rather than the size of the {@code ResultSet}. For example, each
+	 * chunk can be aggregated or written to its own file before the next one is
+	 * read.
+	 * <p>
+	 * The stream is sequential, and the {@code ResultSet} must not be used
+	 * elsewhere while the stream is consumed. Neither closes the
+	 * {@code ResultSet}.
+	 * 
+	 * @param rs        - a {@link ResultSet}
+	 * @param config    - a {@link ReadFromDbConfig configuration} containing
+	 *                  per-column logic for getting fields from the
+	 *                  {@code ResultSet}. The number of columns in the
+	 *                  configuration must match the number in the
+	 *                  {@code ResultSet}.
+	 * @param chunkSize - the maximum number of rows in each dataframe
+	 * 
+	 * @return a stream of dataframes with the rows of the {@code ResultSet}, in
+	 *         order. Only the last dataframe can have fewer than
+	 *         {@code chunkSize} rows, and none are empty.
+	 * 
+	 * @throws SQLException             if some SQL or database error occurs while
+	 *                                  reading the metadata. Errors while reading
+	 *                                  rows are thrown from the stream as a
+	 *                                  {@link RuntimeException} with the
+	 *                                  {@code SQLException} as the cause.
+	 * @throws IllegalArgumentException if {@code chunkSize} is not positive
+	 * @throws IllegalStateException    if the number of columns in the
+	 *                                  configuration does not match the number in
+	 *                                  the {@code ResultSet}
+	 */
+	public static Stream<DataFrame> streamFrom(ResultSet rs, ReadFromDbConfig config, int chunkSize)
+			throws SQLException {
+		return config.stream(rs, chunkSize);
+	}
+
+	/**
+	 * Read a dataframe from a database by running one query per partition
+	 * concurrently, each with its own connection, on at most {@code parallelism}
+	 * threads. The partitions are read according to the specified
+	 * {@link ReadFromDbConfig configuration}, and concatenated in partition
+	 * order. Example:
+	 * 
+	 * <pre>
+	 * DataFrame df = DataFrameFactory.readFrom(dataSource::getConnection,
+	 * 		"select * from trades where " + DbPartitioning.PLACEHOLDER,
+	 * 		DbPartitioning.ranges("trade_id", 0, 40_000_000, 32), config, 8);
+	 * </pre>
+	 * 
+	 * @param connections  - supplies a new connection for each partition, which is
+	 *                     closed once the partition has been read
+	 * @param query        - a query containing {@link DbPartitioning#PLACEHOLDER},
+	 *                     which is replaced with the predicate of each partition.
+	 *                     The query cannot have any other parameters.
+	 * @param partitioning - the {@link DbPartitioning partitions} to read
+	 * @param config       - a {@link ReadFromDbConfig configuration} containing
+	 *                     per-column logic for getting fields from each
+	 *                     {@code ResultSet}
+	 * @param parallelism  - the maximum number of partitions read at once, and so
+	 *                     the maximum number of open connections
+	 * 
+	 * @return the dataframe read from the partitions
+	 * 
+	 * @throws SQLException             if some SQL or database error occurs while
+	 *                                  reading any partition, or if interrupted
+	 * @throws IllegalArgumentException if the query does not contain the
+	 *                                  placeholder, if it has any other
+	 *                                  parameters, or if {@code parallelism} is not
+	 *                                  positive
+	 * @throws IllegalStateException    if the number of columns in the
+	 *                                  configuration does not match the number in
+	 *                                  the {@code ResultSet}
+	 */
+	public static DataFrame readFrom(ConnectionSupplier connections, String query, DbPartitioning partitioning,
+			ReadFromDbConfig config, int parallelism) throws SQLException {
+		return config.read(connections, query, List.of(), partitioning, parallelism);
+	}
+
+	/**
+	 * Read a dataframe from a database by running one query per partition
+	 * concurrently, each with its own connection, on at most {@code parallelism}
+	 * threads. The query can have parameters of its own, before and after the
+	 * {@link DbPartitioning#PLACEHOLDER placeholder}. The parameters of each
+	 * partition's predicate are bound in place of the placeholder. Example:
+	 * 
+	 * <pre>
+	 * DataFrame df = DataFrameFactory.readFrom(dataSource::getConnection,
+	 * 		"select * from trades where trade_date = ? and " + DbPartitioning.PLACEHOLDER,
+	 * 		List.of(Date.valueOf(tradeDate)), DbPartitioning.modulo("account_id", 32), config, 8);
+	 * </pre>
+	 * 
+	 * @param connections  - supplies a new connection for each partition, which is
+	 *                     closed once the partition has been read
+	 * @param query        - a query containing {@link DbPartitioning#PLACEHOLDER},
+	 *                     which is replaced with the predicate of each partition
+	 * @param parameters   - the values of the query's own parameters, in the order
+	 *                     they occur. Every {@code ?} in the query, outside of the
+	 *                     placeholder, is a parameter.
+	 * @param partitioning - the {@link DbPartitioning partitions} to read
+	 * @param config       - a {@link ReadFromDbConfig configuration} containing
+	 *                     per-column logic for getting fields from each
+	 *                     {@code ResultSet}
+	 * @param parallelism  - the maximum number of partitions read at once, and so
+	 *                     the maximum number of open connections
+	 * 
+	 * @return the dataframe read from the partitions
+	 * 
+	 * @throws SQLException             if some SQL or database error occurs while
+	 *                                  reading any partition, or if interrupted
+	 * @throws IllegalArgumentException if the query does not contain the
+	 *                                  placeholder, if the number of parameters
+	 *                                  does not match the query, or if
+	 *                                  {@code parallelism} is not positive
+	 * @throws IllegalStateException    if the number of columns in the
+	 *                                  configuration does not match the number in
+	 *                                  the {@code ResultSet}
+	 */
+	public static DataFrame readFrom(ConnectionSupplier connections, String query, List<?> parameters,
+			DbPartitioning partitioning, ReadFromDbConfig config, int parallelism) throws SQLException {
+		return config.read(connections, query, parameters, partitioning, parallelism);
+	}
+
 	/**
 	 * Returns a dataframe with a single column
 	 * 
@@ -649,47 +812,64 @@ public enum DataFrameFactory {
 		Objects.requireNonNull(clazz, "clazz cannot be null");
 		Objects.requireNonNull(records, "records cannot be null");
 
-		final RecordComponent[] components = clazz.getRecordComponents();
-
-		final String[] columnNames = new String[components.length];
-		final ColumnBuilder[] builders = new ColumnBuilder[components.length];
-		final Method[] accessors = new Method[components.length];
+		final RecordMapper<R> mapper = RecordMapper.of(clazz);
 
-		for (int i = 0; i < components.length; i++) {
+		final ColumnBuilder[] builders = mapper.builders(records.size());
 
-			columnNames[i] = components[i].getName();
-			accessors[i] = components[i].getAccessor();
-			accessors[i].setAccessible(true);
+		for (R record : records)
+			mapper.add(record, builders);
 
-			ColumnType<?> type = ColumnType.forClass(components[i].getType());
+		return mapper.build(builders);
+	}
 
-			if (type == null)
-				throw new RuntimeException("unsupported component type: " + components[i]);
+	/**
+	 * Converts a {@link Collection collection} of {@link Record records} into a
+	 * {@link DataFrame dataframe} in parallel, with the same result as
+	 * {@link #of(Class, Collection)}.
+	 * <p>
+	 * The records are split into chunks, each of which is added to its own column
+	 * builders concurrently, and the builders are then concatenated in encounter
+	 * order. Collections which are not {@link RandomAccess random access} lists
+	 * are first copied to an array. Small collections are converted on the
+	 * calling thread.
+	 * 
+	 * @param <R>     - the record type
+	 *
+	 * @param clazz   - the record's class
+	 * @param records - a collection of records
+	 * 
+	 * @return a dataframe where each row in the resulting dataframe corresponds to
+	 *         one record in the collection
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static <R extends Record> DataFrame ofParallel(Class<R> clazz, Collection<R> records) {
 
-			builders[i] = type.builder();
-		}
+		Objects.requireNonNull(clazz, "clazz cannot be null");
+		Objects.requireNonNull(records, "records cannot be null");
 
-		for (R record : records) {
-			if (record == null) {
-				for (var b : builders)
-					b.addNull();
-			} else {
-				for (int i = 0; i < builders.length; i++) {
-					try {
-						Object value = accessors[i].invoke(record);
-						builders[i].add(value);
-					} catch (Exception e) {
-						throw new RuntimeException(e);
-					}
-				}
-			}
+		final RecordMapper<R> mapper = RecordMapper.of(clazz);
+
+		final List<R> list = records instanceof List && records instanceof RandomAccess ? (List<R>) records
+				: (List<R>) (List) Arrays.asList(records.toArray());
+
+		List<ColumnBuilder[]> chunks = Parallel.mapChunks(list.size(), (fromIndex, toIndex) -> {
+			ColumnBuilder[] builders = mapper.builders(toIndex - fromIndex);
+			for (R record : list.subList(fromIndex, toIndex))
+				mapper.add(record, builders);
+			return builders;
+		});
+
+		// characteristics are detected when the concatenated builders are built, as
+		// they are by the sequential conversion
+		final ColumnBuilder[] builders = chunks.get(0);
+		for (int i = 0; i < builders.length; i++) {
+			AbstractColumnBuilder builder = (AbstractColumnBuilder) builders[i];
+			builder.ensureCapacity(list.size());
+			for (int c = 1; c < chunks.size(); c++)
+				builder.append((AbstractColumnBuilder) chunks.get(c)[i]);
 		}
 
-		Column[] columns = new Column[builders.length];
-		for (int i = 0; i < builders.length; i++)
-			columns[i] = builders[i].build();
-
-		return create(columns, columnNames);
+		return mapper.build(builders);
 	}
 
 	/**
@@ -32,7 +32,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.RecordComponent;
 import java.math.BigDecimal;
 import java.nio.channels.FileChannel;
@@ -57,9 +57,11 @@ import java.util.NavigableMap;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.IntBinaryOperator;
+import java.util.function.IntToLongFunction;
 import java.util.function.Predicate;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
@@ -74,7 +76,11 @@ import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferBitSet;
 import tech.bitey.bufferstuff.BufferSort;
 import tech.bitey.bufferstuff.BufferUtils;
+import tech.bitey.bufferstuff.SmallDoubleBuffer;
+import tech.bitey.bufferstuff.SmallFloatBuffer;
 import tech.bitey.bufferstuff.SmallIntBuffer;
+import tech.bitey.bufferstuff.SmallLongBuffer;
+import tech.bitey.dataframe.db.ConnectionSupplier;
 
 @SuppressWarnings({ "rawtypes", "unchecked" })
 final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
@@ -241,6 +247,16 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 		return new CursorImpl(index);
 	}
 
+	@Override
+	public Spliterator<Row> spliterator() {
+		return new RowSpliterator(0, size());
+	}
+
+	@Override
+	public Spliterator<Cursor> cursorSpliterator() {
+		return new CursorSpliterator(0, size());
+	}
+
 	@Override
 	public <K extends Comparable<? super K>, V> NavigableMap<K, V> asMap(int columnIndex) {
 		return asMap(checkedColumn(columnIndex));
@@ -276,7 +292,8 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 
 		Objects.requireNonNull(recordClass, "recordClass cannot be null");
 
-		RecordComponent[] components = recordClass.getRecordComponents();
+		RecordMapper<R> mapper = RecordMapper.of(recordClass);
+		RecordComponent[] components = mapper.components;
 
 		if (components.length != columns.length)
 			throw new IllegalArgumentException("number of record components (%d) must match number of columns (%d)"
@@ -292,17 +309,14 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 						.formatted(colType.getCode(), columnNames[i], components[i]));
 		}
 
-		Constructor<R> constructor = (Constructor<R>) recordClass.getDeclaredConstructors()[0];
-		constructor.setAccessible(true);
-
-		Object[] args = new Object[columns.length];
+		final MethodHandle reader = mapper.reader(columns);
 
-		return stream().map(r -> {
-			for (int i = 0; i < columns.length; i++)
-				args[i] = r.get(i);
+		return IntStream.range(0, size()).mapToObj(i -> {
 			try {
-				return constructor.newInstance(args);
-			} catch (Exception e) {
+				return (R) (Record) reader.invokeExact(i);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
 				throw new RuntimeException(e);
 			}
 		});
@@ -678,75 +692,118 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 	}
 
 	@Override
-	public <T> Column<T> deriveColumn(ColumnType<T> type, Function<Row, T> function) {
+	public IntReader intReader(int columnIndex) {
+		return new IntReader(intColumn(columnIndex));
+	}
 
-		ColumnBuilder<T> builder = type.builder();
-		builder.ensureCapacity(size());
+	@Override
+	public IntReader intReader(String columnName) {
+		return new IntReader(intColumn(columnName));
+	}
 
-		for (Cursor cursor = cursor(); cursor.hasNext(); cursor.next())
-			builder.add(function.apply(cursor));
+	@Override
+	public LongReader longReader(int columnIndex) {
+		return new LongReader(longColumn(columnIndex));
+	}
 
-		return builder.build();
+	@Override
+	public LongReader longReader(String columnName) {
+		return new LongReader(longColumn(columnName));
 	}
 
 	@Override
-	public IntColumn deriveColumn(ToIntFunction<Row> function) {
+	public DoubleReader doubleReader(int columnIndex) {
+		return new DoubleReader(doubleColumn(columnIndex));
+	}
 
-		IntColumnBuilder builder = IntColumn.builder();
+	@Override
+	public DoubleReader doubleReader(String columnName) {
+		return new DoubleReader(doubleColumn(columnName));
+	}
+
+	@Override
+	public <T> Column<T> deriveColumn(ColumnType<T> type, Function<Row, T> function, boolean parallel) {
+
+		ColumnBuilder<T> builder = type.builder();
 		builder.ensureCapacity(size());
 
-		for (Cursor cursor = cursor(); cursor.hasNext(); cursor.next())
-			builder.add(function.applyAsInt(cursor));
+		if (parallel && Parallel.isParallel(size())) {
+			// apply the function in parallel, but build the column sequentially
+			List<Object[]> chunks = Parallel.mapChunks(size(), (fromIndex, toIndex) -> {
+				Object[] values = new Object[toIndex - fromIndex];
+				for (CursorImpl cursor = new CursorImpl(fromIndex); cursor.rowIndex < toIndex; cursor.rowIndex++)
+					values[cursor.rowIndex - fromIndex] = function.apply(cursor);
+				return values;
+			});
+			for (Object[] values : chunks)
+				builder.addAll((T[]) values);
+		} else {
+			for (Cursor cursor = cursor(); cursor.hasNext(); cursor.next())
+				builder.add(function.apply(cursor));
+		}
 
 		return builder.build();
 	}
 
 	@Override
-	public LongColumn deriveColumn(ToLongFunction<Row> function) {
+	public IntColumn deriveColumn(ToIntFunction<Row> function, boolean parallel) {
 
-		LongColumnBuilder builder = LongColumn.builder();
-		builder.ensureCapacity(size());
+		final BigByteBuffer buffer = BufferUtils.allocateBig((long) size() * 4);
+		final SmallIntBuffer elements = buffer.asIntBuffer();
 
-		for (Cursor cursor = cursor(); cursor.hasNext(); cursor.next())
-			builder.add(function.applyAsLong(cursor));
+		Parallel.forEachChunk(parallel, size(), (fromIndex, toIndex) -> {
+			for (CursorImpl cursor = new CursorImpl(fromIndex); cursor.rowIndex < toIndex; cursor.rowIndex++)
+				elements.put(cursor.rowIndex, function.applyAsInt(cursor));
+		});
 
-		return builder.build();
+		return new NonNullIntColumn(buffer, 0, size(), NONNULL_CHARACTERISTICS, false);
 	}
 
 	@Override
-	public DoubleColumn deriveColumn(ToDoubleFunction<Row> function) {
+	public LongColumn deriveColumn(ToLongFunction<Row> function, boolean parallel) {
 
-		DoubleColumnBuilder builder = DoubleColumn.builder();
-		builder.ensureCapacity(size());
+		final BigByteBuffer buffer = BufferUtils.allocateBig((long) size() * 8);
+		final SmallLongBuffer elements = buffer.asLongBuffer();
 
-		for (Cursor cursor = cursor(); cursor.hasNext(); cursor.next())
-			builder.add(function.applyAsDouble(cursor));
+		Parallel.forEachChunk(parallel, size(), (fromIndex, toIndex) -> {
+			for (CursorImpl cursor = new CursorImpl(fromIndex); cursor.rowIndex < toIndex; cursor.rowIndex++)
+				elements.put(cursor.rowIndex, function.applyAsLong(cursor));
+		});
 
-		return builder.build();
+		return new NonNullLongColumn(buffer, 0, size(), NONNULL_CHARACTERISTICS, false);
 	}
 
 	@Override
-	public FloatColumn deriveColumn(ToFloatFunction<Row> function) {
+	public DoubleColumn deriveColumn(ToDoubleFunction<Row> function, boolean parallel) {
 
-		FloatColumnBuilder builder = FloatColumn.builder();
-		builder.ensureCapacity(size());
+		final BigByteBuffer buffer = BufferUtils.allocateBig((long) size() * 8);
+		final SmallDoubleBuffer elements = buffer.asDoubleBuffer();
 
-		for (Cursor cursor = cursor(); cursor.hasNext(); cursor.next())
-			builder.add(function.applyAsFloat(cursor));
+		Parallel.forEachChunk(parallel, size(), (fromIndex, toIndex) -> {
+			for (CursorImpl cursor = new CursorImpl(fromIndex); cursor.rowIndex < toIndex; cursor.rowIndex++)
+				elements.put(cursor.rowIndex, function.applyAsDouble(cursor));
+		});
 
-		return builder.build();
+		return new NonNullDoubleColumn(buffer, 0, size(), NONNULL_CHARACTERISTICS, false);
 	}
 
 	@Override
-	public BooleanColumn deriveColumn(Predicate<Row> function) {
+	public FloatColumn deriveColumn(ToFloatFunction<Row> function, boolean parallel) {
 
-		BooleanColumnBuilder builder = BooleanColumn.builder();
-		builder.ensureCapacity(size());
+		final BigByteBuffer buffer = BufferUtils.allocateBig((long) size() * 4);
+		final SmallFloatBuffer elements = buffer.asFloatBuffer();
 
-		for (Cursor cursor = cursor(); cursor.hasNext(); cursor.next())
-			builder.add(function.test(cursor));
+		Parallel.forEachChunk(parallel, size(), (fromIndex, toIndex) -> {
+			for (CursorImpl cursor = new CursorImpl(fromIndex); cursor.rowIndex < toIndex; cursor.rowIndex++)
+				elements.put(cursor.rowIndex, function.applyAsFloat(cursor));
+		});
 
-		return builder.build();
+		return new NonNullFloatColumn(buffer, 0, size(), NONNULL_CHARACTERISTICS, false);
+	}
+
+	@Override
+	public BooleanColumn deriveColumn(Predicate<Row> function, boolean parallel) {
+		return new NonNullBooleanColumn(test(function, parallel), 0, size(), false);
 	}
 
 	/*--------------------------------------------------------------------------------
@@ -823,16 +880,80 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 	}
 
 	@Override
-	public DataFrame filter(Predicate<Row> criteria) {
+	public DataFrame lookup(Column<?> keys) {
+		NonNullColumn keyColumn = checkedKeyColumn("lookup");
 
-		BufferBitSet keep = new BufferBitSet();
+		checkArgument(keyColumn.getType().getElementType() == keys.getType().getElementType(),
+				"keys must have the same element type as the key column");
 
-		int i = 0;
-		for (Cursor cursor = cursor(); cursor.hasNext(); cursor.next(), i++)
-			if (criteria.test(cursor))
-				keep.set(i);
+		IntColumn indices = keyColumn.indicesOf(keys);
+
+		Column<?>[] columns = new Column<?>[columnCount()];
+		if (indices.isNonnull()) {
+			for (int i = 0; i < columns.length; i++)
+				columns[i] = ((AbstractColumn) this.columns[i]).select(indices);
+		} else {
+			NullableIntColumn nullable = (NullableIntColumn) indices;
+			for (int i = 0; i < columns.length; i++) {
+				AbstractColumn found = (AbstractColumn) ((AbstractColumn) this.columns[i]).select(nullable.subColumn);
+				columns[i] = found.expand(nullable.nonNulls, keys.size());
+			}
+		}
 
-		return filter(keep);
+		return create(columns, columnNames, null);
+	}
+
+	@Override
+	public DataFrame filter(Predicate<Row> criteria, boolean parallel) {
+		return filter(test(criteria, parallel));
+	}
+
+	/*
+	 * Evaluates the predicate against every row, in parallel chunks for large
+	 * dataframes if requested
+	 */
+	private BufferBitSet test(Predicate<Row> criteria, boolean parallel) {
+		return Parallel.bitSet(parallel, size(), (fromIndex, toIndex) -> {
+
+			BufferBitSet result = new BufferBitSet();
+
+			CursorImpl cursor = new CursorImpl(fromIndex);
+			for (int i = 0; cursor.rowIndex < toIndex; cursor.rowIndex++, i++)
+				if (criteria.test(cursor))
+					result.set(i);
+
+			return result;
+		});
+	}
+
+	@Override
+	public DataFrame filterByValue(int columnIndex, Object fromElement, boolean fromInclusive, Object toElement,
+			boolean toInclusive) {
+
+		AbstractColumn column = (AbstractColumn) column(columnIndex);
+
+		return filter(column.valuesInRange(fromElement, fromInclusive, toElement, toInclusive));
+	}
+
+	@Override
+	public DataFrame computeZoneMaps() {
+
+		for (Column<?> column : columns) {
+			NonNullColumn<?, ?, ?> values = ChannelZoneMaps.valuesOf(column);
+			if (values != null)
+				values.zoneMap();
+		}
+
+		return this;
+	}
+
+	@Override
+	public DataFrame computeStatistics() {
+
+		for (Column<?> column : columns)
+			column.statistics();
+
+		return this;
 	}
 
 	@Override
@@ -845,9 +966,7 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 
 				final BufferBitSet nonNulls;
 				if (columns[i].getType() == ColumnType.NSTRING) {
-					NormalStringColumnImpl c = (NormalStringColumnImpl) columns[i];
-					NullableColumn n = (NullableColumn) c.indices;
-					nonNulls = n.nonNulls.get(c.offset, c.offset + c.size);
+					nonNulls = ((NormalStringColumnImpl) columns[i]).nonNulls();
 				} else {
 					NullableColumn n = (NullableColumn) columns[i];
 					nonNulls = n.nonNulls.get(n.offset, n.offset + n.size);
@@ -1067,24 +1186,78 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 		BufferBitSet matchedLeft = isLeftJoin ? new BufferBitSet() : null;
 
 		{
-			Map<Row, Integer> hashMap = new HashMap<>();
-
-			for (Row row : selectColumns(leftColumnIndices)) {
-				if (hashMap.containsKey(row))
-					throw new IllegalStateException("columns do not form a unqiue index");
-				else
-					hashMap.put(row, row.rowIndex());
+			// NSTRING keys are joined on their dictionary codes, with the right side
+			// remapped into the left dictionary. Nulls are coded as -1, and right values
+			// missing from the left dictionary as -2, which never matches.
+			final int keyCount = leftColumnIndices.length;
+			Column<?>[] leftKeys = new Column<?>[keyCount];
+			Column<?>[] rightKeys = new Column<?>[keyCount];
+			String[] keyNames = new String[keyCount];
+			boolean coded = false;
+			for (int i = 0; i < keyCount; i++) {
+				leftKeys[i] = columns[leftColumnIndices[i]];
+				rightKeys[i] = rhs.columns[rightColumnIndices[i]];
+				keyNames[i] = String.valueOf(i);
+
+				if (leftKeys[i] instanceof NormalStringColumnImpl<?, ?, ?> l
+						&& rightKeys[i] instanceof NormalStringColumnImpl<?, ?, ?> r) {
+					leftKeys[i] = l.codes(null, -1);
+					rightKeys[i] = r.codes(r.remapTo(l.values, -2), -1);
+					coded = true;
+				}
 			}
 
 			IntColumnBuilder builder = IntColumn.builder();
 
-			for (Row row : rhs.selectColumns(rightColumnIndices)) {
-				int leftRowIndex = hashMap.getOrDefault(row, -1);
-				if (leftRowIndex >= 0) {
-					builder.add(leftRowIndex);
-					keepRight.set(row.rowIndex());
-					if (matchedLeft != null)
-						matchedLeft.set(leftRowIndex);
+			if (coded && keyCount == 1) {
+				final IntColumn leftCodes = (IntColumn) leftKeys[0];
+				final IntColumn rightCodes = (IntColumn) rightKeys[0];
+
+				// indexed by code + 1, so that the null code has a slot
+				int[] table = new int[((NormalStringColumnImpl<?, ?, ?>) columns[leftColumnIndices[0]]).values.size()
+						+ 1];
+				Arrays.fill(table, -1);
+
+				for (int i = 0; i < leftCodes.size(); i++) {
+					int slot = leftCodes.getInt(i) + 1;
+					if (table[slot] >= 0)
+						throw new IllegalStateException("columns do not form a unqiue index");
+					else
+						table[slot] = i;
+				}
+
+				for (int i = 0; i < rightCodes.size(); i++) {
+					int code = rightCodes.getInt(i);
+					int leftRowIndex = code == -2 ? -1 : table[code + 1];
+					if (leftRowIndex >= 0) {
+						builder.add(leftRowIndex);
+						keepRight.set(i);
+						if (matchedLeft != null)
+							matchedLeft.set(leftRowIndex);
+					}
+				}
+			} else {
+				DataFrame leftKeyFrame = coded ? create(leftKeys, keyNames, null) : selectColumns(leftColumnIndices);
+				DataFrame rightKeyFrame = coded ? create(rightKeys, keyNames, null)
+						: rhs.selectColumns(rightColumnIndices);
+
+				Map<Row, Integer> hashMap = new HashMap<>();
+
+				for (Row row : leftKeyFrame) {
+					if (hashMap.containsKey(row))
+						throw new IllegalStateException("columns do not form a unqiue index");
+					else
+						hashMap.put(row, row.rowIndex());
+				}
+
+				for (Row row : rightKeyFrame) {
+					int leftRowIndex = hashMap.getOrDefault(row, -1);
+					if (leftRowIndex >= 0) {
+						builder.add(leftRowIndex);
+						keepRight.set(row.rowIndex());
+						if (matchedLeft != null)
+							matchedLeft.set(leftRowIndex);
+					}
 				}
 			}
 
@@ -1138,31 +1311,205 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 
 	private static IntColumn sortIndices(DataFrame df) {
 
-		IntBinaryOperator comparator = (l, r) -> {
-			if (l == r)
-				return 0;
+		BigByteBuffer bb = BufferUtils.allocateBig((long) df.size() * 4);
+		SmallIntBuffer b = bb.asIntBuffer();
 
-			for (int i = 0; i < df.columnCount(); i++) {
+		Column<?> first = df.columnCount() == 1 ? df.column(0) : null;
+		if (first instanceof AbstractColumn<?, ?, ?> column && column.runs() != null)
+			sortRuns(column, column.runs(), b);
+		else if (first instanceof NormalStringColumnImpl<?, ?, ?> ns && ns.isSortedDictionary()) {
+			// counting sort over the dictionary codes, with nulls first
+			final NonNullIntColumn codes = ns.codes(null, -1);
+			int[] starts = new int[ns.values.size() + 2];
+			for (int i = 0; i < df.size(); i++)
+				starts[codes.at(i) + 2]++;
+			for (int i = 1; i < starts.length; i++)
+				starts[i] += starts[i - 1];
+			for (int i = 0; i < df.size(); i++)
+				b.put(starts[codes.at(i) + 1]++, i);
+		} else {
+			for (int i = 0; i < df.size(); i++)
+				b.put(i, i);
+
+			BufferSort.heapSort(b, rowComparator(df, false), 0, df.size());
+		}
 
-				Comparable lc = df.get(l, i);
-				Comparable rc = df.get(r, i);
+		return new NonNullIntColumn(bb, 0, df.size(), NONNULL_CHARACTERISTICS, false);
+	}
+
+	// sorts the runs of a run-length encoded column, then lays out the rows of each run
+	private static void sortRuns(AbstractColumn<?, ?, ?> column, Runs runs, SmallIntBuffer b) {
+
+		if (column.size() == 0)
+			return;
+
+		final int offset = column.offset;
+		final int firstRun = runs.runAt(offset);
+		final int count = runs.runAt(offset + column.size() - 1) - firstRun + 1;
+
+		final SmallIntBuffer order = BufferUtils.allocateBig((long) count * 4).asIntBuffer();
+		for (int i = 0; i < count; i++)
+			order.put(i, firstRun + i);
+
+		BufferSort.heapSort(order, column::compareRuns, 0, count);
 
-				int d = lc.compareTo(rc);
+		for (int i = 0, j = 0; i < count; i++) {
+			int run = order.get(i);
+			int toIndex = Math.min(runs.end(run), offset + column.size()) - offset;
+			for (int k = Math.max(runs.start(run), offset) - offset; k < toIndex; k++)
+				b.put(j++, k);
+		}
+	}
+
+	/*
+	 * Compares rows by index. If equalityOnly is true, the comparator only
+	 * distinguishes equal rows (0) from unequal ones, which lets NSTRING columns be
+	 * compared by dictionary code even when their dictionary is not sorted.
+	 */
+	private static IntBinaryOperator rowComparator(DataFrame df, boolean equalityOnly) {
+
+		final IntBinaryOperator[] comparators = new IntBinaryOperator[df.columnCount()];
+		for (int i = 0; i < comparators.length; i++)
+			comparators[i] = columnComparator(df.column(i), equalityOnly);
+
+		return (l, r) -> {
+			if (l == r)
+				return 0;
+
+			for (IntBinaryOperator comparator : comparators) {
+				int d = comparator.applyAsInt(l, r);
 				if (d != 0)
 					return d;
 			}
 
 			return 0;
 		};
+	}
 
-		BigByteBuffer bb = BufferUtils.allocateBig((long) df.size() * 4);
-		SmallIntBuffer b = bb.asIntBuffer();
-		for (int i = 0; i < df.size(); i++)
-			b.put(i, i);
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static IntBinaryOperator columnComparator(Column<?> column, boolean equalityOnly) {
+
+		if (column instanceof AbstractColumn<?, ?, ?> c && c.runs() != null) {
+			// rows are compared by the runs they fall in
+			final Runs runs = c.runs();
+			return (l, r) -> c.compareRuns(runs.runAt(l + c.offset), runs.runAt(r + c.offset));
+		} else if (column instanceof NormalStringColumnImpl<?, ?, ?> ns
+				&& (equalityOnly || ns.isSortedDictionary())) {
+			// nulls are coded as -1, so they sort first
+			final NonNullIntColumn codes = ns.codes(null, -1);
+			return (l, r) -> Integer.compare(codes.at(l), codes.at(r));
+		} else if (equalityOnly) {
+			final IntBinaryOperator equality = valueEquality(column);
+			if (column.isNonnull())
+				return equality;
+
+			return (l, r) -> {
+				boolean lNull = column.isNull(l), rNull = column.isNull(r);
+				return lNull || rNull ? (lNull == rNull ? 0 : 1) : equality.applyAsInt(l, r);
+			};
+		} else
+			return (l, r) -> ((Comparable) column.get(l)).compareTo(column.get(r));
+	}
+
+	/*
+	 * Compares non-null elements for equality only (0 if equal, 1 otherwise), by
+	 * their primitive or packed values where the column has them, so that the
+	 * elements are not boxed. Agrees with equals on the boxed elements.
+	 */
+	private static IntBinaryOperator valueEquality(Column<?> column) {
+		return switch (column.getType().getCode()) {
+		case B -> {
+			BooleanColumn c = (BooleanColumn) column;
+			yield (l, r) -> c.getBoolean(l) == c.getBoolean(r) ? 0 : 1;
+		}
+		case DA -> (l, r) -> IntArrayColumn.packed(column, l) == IntArrayColumn.packed(column, r) ? 0 : 1;
+		case DT, TI -> (l, r) -> LongArrayColumn.packed(column, l) == LongArrayColumn.packed(column, r) ? 0 : 1;
+		case IN -> {
+			InstantColumn c = (InstantColumn) column;
+			yield (l, r) -> c.getEpochSecond(l) == c.getEpochSecond(r) && c.getNano(l) == c.getNano(r) ? 0 : 1;
+		}
+		case D -> {
+			DoubleColumn c = (DoubleColumn) column;
+			yield (l, r) -> Double.compare(c.getDouble(l), c.getDouble(r)) == 0 ? 0 : 1;
+		}
+		case F -> {
+			FloatColumn c = (FloatColumn) column;
+			yield (l, r) -> Float.compare(c.getFloat(l), c.getFloat(r)) == 0 ? 0 : 1;
+		}
+		case L -> {
+			LongColumn c = (LongColumn) column;
+			yield (l, r) -> c.getLong(l) == c.getLong(r) ? 0 : 1;
+		}
+		case I -> {
+			IntColumn c = (IntColumn) column;
+			yield (l, r) -> c.getInt(l) == c.getInt(r) ? 0 : 1;
+		}
+		case T -> {
+			ShortColumn c = (ShortColumn) column;
+			yield (l, r) -> c.getShort(l) == c.getShort(r) ? 0 : 1;
+		}
+		case Y -> {
+			ByteColumn c = (ByteColumn) column;
+			yield (l, r) -> c.getByte(l) == c.getByte(r) ? 0 : 1;
+		}
+		default -> (l, r) -> column.get(l).equals(column.get(r)) ? 0 : 1;
+		};
+	}
 
-		BufferSort.heapSort(b, comparator, 0, df.size());
+	/*
+	 * Hashes the elements of a column by the same values that valueEquality
+	 * compares. NSTRING columns are hashed by their codes.
+	 */
+	private static IntToLongFunction valueHash(Column<?> column) {
 
-		return new NonNullIntColumn(bb, 0, df.size(), NONNULL_CHARACTERISTICS, false);
+		if (column instanceof NormalStringColumnImpl<?, ?, ?> ns) {
+			// nulls are coded as -1
+			final NonNullIntColumn codes = ns.codes(null, -1);
+			return i -> codes.at(i);
+		}
+
+		final IntToLongFunction hash = switch (column.getType().getCode()) {
+		case B -> {
+			BooleanColumn c = (BooleanColumn) column;
+			yield i -> c.getBoolean(i) ? 1 : 0;
+		}
+		case DA -> i -> IntArrayColumn.packed(column, i);
+		case DT, TI -> i -> LongArrayColumn.packed(column, i);
+		case IN -> {
+			InstantColumn c = (InstantColumn) column;
+			yield i -> c.getEpochSecond(i) * 31 + c.getNano(i);
+		}
+		case D -> {
+			DoubleColumn c = (DoubleColumn) column;
+			yield i -> Double.doubleToLongBits(c.getDouble(i));
+		}
+		case F -> {
+			FloatColumn c = (FloatColumn) column;
+			yield i -> Float.floatToIntBits(c.getFloat(i));
+		}
+		case L -> {
+			LongColumn c = (LongColumn) column;
+			yield c::getLong;
+		}
+		case I -> {
+			IntColumn c = (IntColumn) column;
+			yield c::getInt;
+		}
+		case T -> {
+			ShortColumn c = (ShortColumn) column;
+			yield c::getShort;
+		}
+		case Y -> {
+			ByteColumn c = (ByteColumn) column;
+			yield c::getByte;
+		}
+		default -> i -> column.get(i).hashCode();
+		};
+
+		if (column.isNonnull())
+			return hash;
+		else
+			return i -> column.isNull(i) ? Long.MIN_VALUE : hash.applyAsLong(i);
 	}
 
 	@Override
@@ -1170,7 +1517,8 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 
 		// sort by 'group by' columns
 		DataFrame dfSelect = selectColumns(config.groupByNames());
-		IntColumn indices = sortIndices(dfSelect);
+		IntColumn indices = groupIndices((DataFrameImpl) dfSelect);
+		IntBinaryOperator equality = rowComparator(dfSelect, true);
 
 		// set up new column builders
 		final int dfScc = dfSelect.columnCount();
@@ -1183,7 +1531,7 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 		// loop over groups
 		for (int begin = 0; begin < size();) {
 
-			int end = findGroupEnd(dfSelect, indices, begin);
+			int end = findGroupEnd(dfSelect, equality, indices, begin);
 
 			// set group values
 			Row group = dfSelect.get(indices.getInt(begin));
@@ -1217,19 +1565,135 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 		return grouped;
 	}
 
-	private static int findGroupEnd(DataFrame dfSelect, IntColumn indices, int begin) {
+	// groupBy hashes rows into groups instead of sorting them when the column
+	// statistics predict at least this many rows per group
+	private static final int HASH_GROUP_SIZE = 16;
+
+	/*
+	 * Returns the row indices of df ordered so that equal rows are adjacent, and
+	 * groups of equal rows are in sorted order. When there are few groups, rows are
+	 * hashed into groups and only the first row of each group is sorted. Otherwise
+	 * all of the rows are sorted.
+	 */
+	private static IntColumn groupIndices(DataFrameImpl df) {
+
+		final int size = df.size();
+
+		// sortIndices already sorts the runs of a single run-length encoded column, and
+		// uses a counting sort for a single NSTRING column
+		Column<?> first = df.columnCount() == 1 ? df.column(0) : null;
+		if (first instanceof AbstractColumn<?, ?, ?> column && column.runs() != null
+				|| first instanceof NormalStringColumnImpl<?, ?, ?> ns && ns.isSortedDictionary())
+			return sortIndices(df);
+
+		// estimated number of groups, counting null as one more distinct value
+		long groups = 1;
+		for (int i = 0; i < df.columnCount() && groups <= size; i++) {
+			ColumnStatistics<?> statistics = df.column(i).statistics();
+			groups *= statistics.distinctCount() + (statistics.nullCount() == 0 ? 0 : 1);
+		}
+
+		if (groups > size / HASH_GROUP_SIZE)
+			return sortIndices(df);
+
+		final IntToLongFunction[] hashes = new IntToLongFunction[df.columnCount()];
+		for (int i = 0; i < hashes.length; i++)
+			hashes[i] = valueHash(df.column(i));
+		final IntBinaryOperator equality = rowComparator(df, true);
+
+		// group ids, in order of first appearance. The table is open addressed with
+		// linear probing, and each slot holds a group id plus one (zero when empty).
+		int[] slots = new int[tableSize((int) groups)];
+		int[] firstRows = new int[(int) groups + 1];
+		long[] groupHashes = new long[firstRows.length];
+		int groupCount = 0;
+
+		final int[] groupOf = new int[size];
+		for (int row = 0; row < size; row++) {
+
+			long hash = 0;
+			for (IntToLongFunction h : hashes)
+				hash = hash * 31 + h.applyAsLong(row);
+			hash = HyperLogLog.mix(hash);
+
+			int mask = slots.length - 1;
+			int slot = (int) hash & mask, id;
+			while ((id = slots[slot] - 1) >= 0
+					&& (groupHashes[id] != hash || equality.applyAsInt(firstRows[id], row) != 0))
+				slot = (slot + 1) & mask;
+
+			if (id < 0) {
+				id = groupCount++;
+				if (id == firstRows.length) {
+					firstRows = Arrays.copyOf(firstRows, id * 2);
+					groupHashes = Arrays.copyOf(groupHashes, id * 2);
+				}
+				firstRows[id] = row;
+				groupHashes[id] = hash;
+				slots[slot] = id + 1;
+
+				// the statistics underestimated the number of groups
+				if (groupCount > slots.length / 2)
+					slots = rehash(groupHashes, groupCount, slots.length * 2);
+			}
+
+			groupOf[row] = id;
+		}
+
+		// sort the groups by their first row, then lay out the rows of each group
+		final IntColumn order = sortIndices(df.select(IntColumn.of(Arrays.copyOf(firstRows, groupCount))));
+
+		final int[] starts = new int[order.size()];
+		for (int i = 0; i < size; i++)
+			starts[groupOf[i]]++;
+		for (int i = 0, start = 0; i < order.size(); i++) {
+			int id = order.getInt(i);
+			int count = starts[id];
+			starts[id] = start;
+			start += count;
+		}
+
+		BigByteBuffer bb = BufferUtils.allocateBig((long) size * 4);
+		SmallIntBuffer b = bb.asIntBuffer();
+		for (int i = 0; i < size; i++)
+			b.put(starts[groupOf[i]]++, i);
+
+		return new NonNullIntColumn(bb, 0, size, NONNULL_CHARACTERISTICS, false);
+	}
+
+	// a power of two, at least twice the expected number of entries
+	private static int tableSize(int expected) {
+		return Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+	}
+
+	private static int[] rehash(long[] hashes, int count, int length) {
+
+		final int[] slots = new int[length];
+		final int mask = length - 1;
 
-		final Row key = dfSelect.get(indices.getInt(begin));
+		for (int id = 0; id < count; id++) {
+			int slot = (int) hashes[id] & mask;
+			while (slots[slot] != 0)
+				slot = (slot + 1) & mask;
+			slots[slot] = id + 1;
+		}
+
+		return slots;
+	}
+
+	private static int findGroupEnd(DataFrame dfSelect, IntBinaryOperator equality, IntColumn indices, int begin) {
+
+		final int key = indices.getInt(begin);
 		final int maxIndex = dfSelect.size() - 1;
 		int fromIndex = begin;
 
-		while (fromIndex != maxIndex && key.equals(dfSelect.get(indices.getInt(fromIndex + 1)))) {
+		while (fromIndex != maxIndex && equality.applyAsInt(key, indices.getInt(fromIndex + 1)) == 0) {
 
 			int range = 1, rangeIndex;
 			do {
 				range <<= 1;
 				rangeIndex = fromIndex + range;
-			} while (rangeIndex <= maxIndex && key.equals(dfSelect.get(indices.getInt(rangeIndex))));
+			} while (rangeIndex <= maxIndex && equality.applyAsInt(key, indices.getInt(rangeIndex)) == 0);
 
 			fromIndex += range >> 1;
 		}
@@ -1242,14 +1706,14 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 	 *--------------------------------------------------------------------------------*/
 
 	@Override
-	public void writeTo(File file) throws IOException {
+	public void writeTo(File file, boolean compact) throws IOException {
 		try (FileChannel fileChannel = FileChannel.open(file.toPath(), WRITE, CREATE, TRUNCATE_EXISTING);) {
-			writeTo(fileChannel);
+			writeTo(fileChannel, compact);
 		}
 	}
 
 	@Override
-	public void writeTo(WritableByteChannel channel) throws IOException {
+	public void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
 		ChannelDataFrameHeader dfHeader = new ChannelDataFrameHeader(this);
 		dfHeader.writeTo(channel);
 
@@ -1258,8 +1722,13 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 			columnHeader.writeTo(channel);
 		}
 
+		ChannelStatistics.write(channel, columns);
+
+		ChannelDictionaries dictionaries = new ChannelDictionaries(columns);
 		for (Column<?> column : columns)
-			((AbstractColumn) column).writeTo(channel);
+			((AbstractColumn) column).writeTo(channel, compact, dictionaries);
+
+		ChannelZoneMaps.write(channel, columns);
 	}
 
 	@Override
@@ -1319,6 +1788,12 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 		config.write(this, ps);
 	}
 
+	@Override
+	public void writeTo(ConnectionSupplier connections, String insert, DbWritePartitioning partitioning,
+			WriteToDbConfig config) throws SQLException {
+		config.write(this, connections, insert, partitioning);
+	}
+
 	/*--------------------------------------------------------------------------------
 	 *	Cell Accessors
 	 *--------------------------------------------------------------------------------*/
@@ -1810,10 +2285,53 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 		}
 	}
 
+	private class RowSpliterator extends RangeSpliterator<Row> {
+
+		private RowSpliterator(int origin, int fence) {
+			super(origin, fence, DataFrameImpl.this.characteristics());
+		}
+
+		@Override
+		Row get(int index) {
+			return new RowImpl(index);
+		}
+
+		@Override
+		RangeSpliterator<Row> split(int origin, int fence) {
+			return new RowSpliterator(origin, fence);
+		}
+	}
+
+	private class CursorSpliterator extends RangeSpliterator<Cursor> {
+
+		private CursorImpl cursor;
+
+		private CursorSpliterator(int origin, int fence) {
+			super(origin, fence, DataFrameImpl.this.characteristics() & ~(SORTED | DISTINCT));
+		}
+
+		@Override
+		Cursor get(int index) {
+			if (cursor == null)
+				cursor = new CursorImpl(index);
+			else
+				cursor.rowIndex = index;
+			return cursor;
+		}
+
+		@Override
+		RangeSpliterator<Cursor> split(int origin, int fence) {
+			return new CursorSpliterator(origin, fence);
+		}
+	}
+
 	private class CursorImpl extends AbstractRow implements Cursor {
 
 		private int rowIndex;
 
+		// primitive readers, bound to each column on first access
+		private final Object[] readers = new Object[columns.length];
+
 		private CursorImpl(int rowIndex) {
 			this.rowIndex = rowIndex;
 		}
@@ -1823,6 +2341,57 @@ final class DataFrameImpl extends AbstractList<Row> implements DataFrame {
 			return rowIndex;
 		}
 
+		@Override
+		public int getInt(int columnIndex) {
+			return intReader(columnIndex).getInt(rowIndex);
+		}
+
+		@Override
+		public int getInt(String columnName) {
+			return intReader(checkedColumnIndex(columnName)).getInt(rowIndex);
+		}
+
+		private IntReader intReader(int columnIndex) {
+			Object reader = readers[columnIndex];
+			if (reader == null)
+				readers[columnIndex] = reader = DataFrameImpl.this.intReader(columnIndex);
+			return (IntReader) reader;
+		}
+
+		@Override
+		public long getLong(int columnIndex) {
+			return longReader(columnIndex).getLong(rowIndex);
+		}
+
+		@Override
+		public long getLong(String columnName) {
+			return longReader(checkedColumnIndex(columnName)).getLong(rowIndex);
+		}
+
+		private LongReader longReader(int columnIndex) {
+			Object reader = readers[columnIndex];
+			if (reader == null)
+				readers[columnIndex] = reader = DataFrameImpl.this.longReader(columnIndex);
+			return (LongReader) reader;
+		}
+
+		@Override
+		public double getDouble(int columnIndex) {
+			return doubleReader(columnIndex).getDouble(rowIndex);
+		}
+
+		@Override
+		public double getDouble(String columnName) {
+			return doubleReader(checkedColumnIndex(columnName)).getDouble(rowIndex);
+		}
+
+		private DoubleReader doubleReader(int columnIndex) {
+			Object reader = readers[columnIndex];
+			if (reader == null)
+				readers[columnIndex] = reader = DataFrameImpl.this.doubleReader(columnIndex);
+			return (DoubleReader) reader;
+		}
+
 		@Override
 		public boolean hasNext() {
 			return rowIndex < size();
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static tech.bitey.dataframe.Pr.checkArgument;
+import static tech.bitey.dataframe.Pr.checkState;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An append-only log of dataframes on disk. Each
+ * {@link #append(File, DataFrame) append} adds a batch of rows to the end of
+ * the log as a self-contained segment, in the same binary format as
+ * {@link DataFrame#writeTo(File)}, without reading or rewriting the segments
+ * before it. The cost of an append is therefore proportional to the size of
+ * the batch, however long the log has grown.
+ * <p>
+ * {@link #mapFrom(File) mapFrom} memory-maps every segment of the log and
+ * returns their rows as a single dataframe. The log's header records how far
+ * it has been committed, and is only advanced once a segment has been fully
+ * written and forced to disk. Readers therefore see a consistent snapshot: each
+ * append is either entirely present or entirely absent, even if it is still in
+ * progress or was interrupted. The log is opened read-only for mapping.
+ * <p>
+ * {@link #compact(File) compact} rewrites the log as a single segment, which is
+ * then mapped without being copied. The compacted log replaces the original
+ * via an atomic rename. Dataframes already mapped from the original remain
+ * valid.
+ * <p>
+ * Appends and compactions are serialized by an exclusive
+ * {@link FileChannel#lock() file lock}, across threads and processes. Every
+ * segment must have the same column names and types as the first one.
+ * 
+ * @author biteytech@protonmail.com
+ */
+public enum DataFrameLog {
+	;
+
+	private static final long MAGIC_NUMBER = ((long) 'd') << 56 | ((long) 'f') << 48 | ((long) 'l') << 40
+			| ((long) 'o') << 32 | 'g' << 24 | 'l' << 16 | 'o' << 8 | 'g';
+
+	private static final int VERSION = 1;
+
+	private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
+
+	/*-
+	 * header: magic number, version, retired flag, committed length
+	 * segment: length, dataframe
+	 */
+	private static final int HEADER_SIZE = 8 + 4 + 4 + 8;
+	private static final long RETIRED_POSITION = 8 + 4;
+	private static final long COMMITTED_POSITION = 8 + 4 + 4;
+
+	// a FileLock cannot be held twice within one JVM, so threads wait here first
+	private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+	/**
+	 * Appends the rows of a dataframe to the end of a log, creating the log if
+	 * the file does not exist or is empty.
+	 * 
+	 * @param file - the log file
+	 * @param df   - the rows to append
+	 * 
+	 * @throws IOException              if some I/O error occurs
+	 * @throws IllegalArgumentException if the dataframe's column names or types
+	 *                                  do not match those of the log
+	 * @throws IllegalStateException    if the file is not a dataframe log
+	 */
+	public static void append(File file, DataFrame df) throws IOException {
+
+		final Path path = file.toPath().toAbsolutePath();
+
+		ReentrantLock threadLock = LOCKS.computeIfAbsent(path, p -> new ReentrantLock());
+		threadLock.lock();
+		try {
+			// retried if the log is compacted (and replaced) while waiting for the lock
+			while (true) {
+				try (FileChannel channel = FileChannel.open(path, READ, WRITE, CREATE);
+						FileLock lock = channel.lock()) {
+
+					if (channel.size() == 0)
+						writeHeader(channel, HEADER_SIZE);
+
+					ByteBuffer header = readHeader(channel);
+					if (header.getInt((int) RETIRED_POSITION) != 0)
+						continue;
+
+					final long start = header.getLong((int) COMMITTED_POSITION);
+					if (start > HEADER_SIZE)
+						checkColumns(channel, df);
+
+					final long end = writeSegment(channel, start, df);
+
+					// everything past the committed length is left over from failed appends
+					channel.truncate(end);
+					channel.force(false);
+					writeLong(channel, COMMITTED_POSITION, end);
+					channel.force(false);
+					return;
+				}
+			}
+		} finally {
+			threadLock.unlock();
+		}
+	}
+
+	/**
+	 * Memory-maps every segment committed to a log, and returns their rows as a
+	 * single dataframe, in the order they were appended. A log with one segment
+	 * (for example one which has just been compacted) is mapped without being
+	 * copied. Otherwise each column is copied once, from every segment, into
+	 * memory sized for all of them.
+	 * 
+	 * @param file - the log file
+	 * 
+	 * @return the rows committed to the log
+	 * 
+	 * @throws IOException           if some I/O error occurs
+	 * @throws IllegalStateException if the file is not a dataframe log, or has
+	 *                               no committed segments
+	 */
+	public static DataFrame mapFrom(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), READ)) {
+			return mapFrom(channel);
+		}
+	}
+
+	private static DataFrame mapFrom(FileChannel channel) throws IOException {
+
+		final long committed = readHeader(channel).getLong((int) COMMITTED_POSITION);
+
+		List<DataFrame> segments = new ArrayList<>();
+		for (long position = HEADER_SIZE; position < committed;) {
+			final long length = readLong(channel, position);
+
+			channel.position(position + 8);
+			segments.add(DataFrameFactory.readFrom(channel, true));
+
+			position += 8 + length;
+			checkState(channel.position() == position, "corrupt segment at position " + (position - 8 - length));
+		}
+
+		checkState(!segments.isEmpty(), "log has no committed segments");
+
+		return DataFrameFactory.concat(segments.toArray(DataFrame[]::new));
+	}
+
+	/**
+	 * Rewrites a log as a single segment. The compacted log is written to a
+	 * temporary file in the same directory, and then renamed over the original.
+	 * Appends wait for the compaction to finish, and then continue with the
+	 * compacted log.
+	 * 
+	 * @param file - the log file
+	 * 
+	 * @throws IOException           if some I/O error occurs
+	 * @throws IllegalStateException if the file is not a dataframe log, or has
+	 *                               no committed segments
+	 */
+	public static void compact(File file) throws IOException {
+
+		final Path path = file.toPath().toAbsolutePath();
+
+		ReentrantLock threadLock = LOCKS.computeIfAbsent(path, p -> new ReentrantLock());
+		threadLock.lock();
+		try {
+			while (true) {
+				try (FileChannel channel = FileChannel.open(path, READ, WRITE); FileLock lock = channel.lock()) {
+
+					if (readHeader(channel).getInt((int) RETIRED_POSITION) != 0)
+						continue;
+
+					DataFrame df = mapFrom(channel);
+
+					Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), null);
+					try {
+						try (FileChannel compacted = FileChannel.open(temp, READ, WRITE)) {
+							writeHeader(compacted, writeSegment(compacted, HEADER_SIZE, df));
+							compacted.force(true);
+						}
+						Files.move(temp, path, ATOMIC_MOVE);
+					} catch (IOException | RuntimeException e) {
+						Files.deleteIfExists(temp);
+						throw e;
+					}
+
+					// tell appenders waiting on the original to reopen the log
+					ByteBuffer retired = ByteBuffer.allocate(4).order(ORDER).putInt(0, 1);
+					write(channel, RETIRED_POSITION, retired);
+					return;
+				}
+			}
+		} finally {
+			threadLock.unlock();
+		}
+	}
+
+	// writes a segment at the specified position, and returns the position after it
+	private static long writeSegment(FileChannel channel, long position, DataFrame df) throws IOException {
+
+		channel.position(position + 8);
+		df.writeTo(channel);
+
+		final long end = channel.position();
+		writeLong(channel, position, end - position - 8);
+		return end;
+	}
+
+	private static void checkColumns(FileChannel channel, DataFrame df) throws IOException {
+
+		channel.position(HEADER_SIZE + 8);
+		ChannelDataFrameHeader dfHeader = new ChannelDataFrameHeader(channel);
+
+		checkArgument(dfHeader.getColumnCount() == df.columnCount(), "mismatched column counts");
+		for (int i = 0; i < df.columnCount(); i++) {
+			ChannelColumnHeader columnHeader = new ChannelColumnHeader(channel);
+			checkArgument(columnHeader.getColumnName().equals(df.columnName(i)), "mismatched column names");
+			checkArgument(columnHeader.getColumnType() == df.columnType(i), "mismatched column types");
+		}
+	}
+
+	private static void writeHeader(FileChannel channel, long committed) throws IOException {
+
+		ByteBuffer b = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+		b.putLong(MAGIC_NUMBER);
+		b.putInt(VERSION);
+		b.putInt(0);
+		b.putLong(committed);
+		b.flip();
+
+		write(channel, 0, b);
+	}
+
+	private static ByteBuffer readHeader(FileChannel channel) throws IOException {
+
+		checkState(channel.size() >= HEADER_SIZE, "not a dataframe log");
+		ByteBuffer b = read(channel, 0, HEADER_SIZE);
+
+		checkState(b.getLong(0) == MAGIC_NUMBER, "bad magic number: " + b.getLong(0));
+		checkState(b.getInt(8) == VERSION, "bad version: " + b.getInt(8));
+
+		final long committed = b.getLong((int) COMMITTED_POSITION);
+		checkState(committed >= HEADER_SIZE && committed <= channel.size(), "bad committed length: " + committed);
+
+		return b;
+	}
+
+	private static long readLong(FileChannel channel, long position) throws IOException {
+		return read(channel, position, 8).getLong(0);
+	}
+
+	private static void writeLong(FileChannel channel, long position, long value) throws IOException {
+		write(channel, position, ByteBuffer.allocate(8).order(ORDER).putLong(0, value));
+	}
+
+	private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+
+		ByteBuffer b = ByteBuffer.allocate(size).order(ORDER);
+		while (b.hasRemaining())
+			checkState(channel.read(b, position + b.position()) >= 0, "unexpected end of log");
+
+		return b;
+	}
+
+	private static void write(FileChannel channel, long position, ByteBuffer b) throws IOException {
+		while (b.hasRemaining())
+			channel.write(b, position + b.position());
+	}
+}
@@ -42,7 +42,9 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A {@link ResultSet} implementation backed by a {@link DataFrame}. Supports
@@ -56,6 +58,15 @@ class DataFrameResultSet implements ResultSet {
 
 	private DataFrame df;
 
+	// cached so that getters do not go through the checked accessors of the
+	// dataframe on every call
+	private Column<?>[] columns;
+	private final ColumnTypeCode[] types;
+
+	// column labels are case insensitive, and the first of several matches wins
+	private final Map<String, Integer> labels = new HashMap<>();
+	private final Map<String, Integer> caseInsensitiveLabels = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
 	private final int AFTER_LAST;
 	private int row = BEFORE_FIRST;
 
@@ -64,6 +75,30 @@ class DataFrameResultSet implements ResultSet {
 	DataFrameResultSet(DataFrame df) {
 		this.df = df;
 		this.AFTER_LAST = df.size() + 1;
+
+		columns = df.columns().toArray(new Column<?>[0]);
+		types = new ColumnTypeCode[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			types[i] = columns[i].getType().getCode();
+
+			String label = df.columnName(i);
+			labels.put(label, i);
+			caseInsensitiveLabels.putIfAbsent(label, i);
+		}
+	}
+
+	private int columnIndex(String columnLabel) throws SQLException {
+		checkClosed();
+
+		// exact matches are the common case, and need no case folding
+		Integer index = labels.get(columnLabel);
+		if (index == null) {
+			index = caseInsensitiveLabels.get(columnLabel);
+			if (index == null)
+				throw new SQLException("no such column label: " + columnLabel);
+		}
+
+		return index;
 	}
 
 	private static void throwReadOnly() throws SQLException {
@@ -141,6 +176,7 @@ class DataFrameResultSet implements ResultSet {
 	@Override
 	public void close() throws SQLException {
 		df = null;
+		columns = null;
 	}
 
 	@Override
@@ -150,12 +186,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public int findColumn(String columnLabel) throws SQLException {
-		checkClosed();
-		try {
-			return df.columnIndex(columnLabel) + 1;
-		} catch (Exception e) {
-			throw new SQLException(e);
-		}
+		return columnIndex(columnLabel) + 1;
 	}
 
 	@Override
@@ -186,20 +217,21 @@ class DataFrameResultSet implements ResultSet {
 	private BigDecimal getBigDecimal0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return null;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case BD -> df.getBigDecimal(rowIndex, columnIndex);
-		case S, NS, FS -> new BigDecimal(df.getString(rowIndex, columnIndex));
-		case D -> BigDecimal.valueOf(df.getDouble(rowIndex, columnIndex));
-		case F -> BigDecimal.valueOf(df.getFloat(rowIndex, columnIndex));
-		case L -> BigDecimal.valueOf(df.getLong(rowIndex, columnIndex));
-		case I -> BigDecimal.valueOf(df.getInt(rowIndex, columnIndex));
-		case T -> BigDecimal.valueOf(df.getShort(rowIndex, columnIndex));
-		case Y -> BigDecimal.valueOf(df.getByte(rowIndex, columnIndex));
+		case BD, FD -> (BigDecimal) column.get(rowIndex);
+		case S, NS, FS -> new BigDecimal((String) column.get(rowIndex));
+		case D -> BigDecimal.valueOf(((DoubleColumn) column).getDouble(rowIndex));
+		case F -> BigDecimal.valueOf(((FloatColumn) column).getFloat(rowIndex));
+		case L -> BigDecimal.valueOf(((LongColumn) column).getLong(rowIndex));
+		case I -> BigDecimal.valueOf(((IntColumn) column).getInt(rowIndex));
+		case T -> BigDecimal.valueOf(((ShortColumn) column).getShort(rowIndex));
+		case Y -> BigDecimal.valueOf(((ByteColumn) column).getByte(rowIndex));
 		default -> throw new SQLException("cannot convert from " + type + " to BigDecimal");
 		};
 	}
@@ -211,7 +243,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
-		return getBigDecimal0(df.columnIndex(columnLabel));
+		return getBigDecimal0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -227,13 +259,14 @@ class DataFrameResultSet implements ResultSet {
 	private InputStream getBinaryStream0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return null;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case BL -> df.getBlob(rowIndex, columnIndex);
+		case BL -> (InputStream) column.get(rowIndex);
 		default -> throw new SQLException("cannot convert from " + type + " to BigDecimal");
 		};
 	}
@@ -245,7 +278,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public InputStream getBinaryStream(String columnLabel) throws SQLException {
-		return getBinaryStream0(df.columnIndex(columnLabel));
+		return getBinaryStream0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -261,17 +294,19 @@ class DataFrameResultSet implements ResultSet {
 	private boolean getBoolean0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return false;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		switch (type) {
 		case B: {
-			return df.getBoolean(rowIndex, columnIndex);
+			return ((BooleanColumn) column).getBoolean(rowIndex);
 		}
-		case BD: {
-			BigDecimal bd = df.getBigDecimal(rowIndex, columnIndex);
+		case BD:
+		case FD: {
+			BigDecimal bd = (BigDecimal) column.get(rowIndex);
 			if (BigDecimal.ZERO.equals(bd))
 				return false;
 			else if (BigDecimal.ONE.equals(bd))
@@ -281,7 +316,7 @@ class DataFrameResultSet implements ResultSet {
 		case S:
 		case NS:
 		case FS: {
-			String s = df.getString(rowIndex, columnIndex);
+			String s = (String) column.get(rowIndex);
 			if (s.length() > 5)
 				break;
 			switch (s.toUpperCase()) {
@@ -297,7 +332,7 @@ class DataFrameResultSet implements ResultSet {
 			break;
 		}
 		case D: {
-			double d = df.getDouble(rowIndex, columnIndex);
+			double d = ((DoubleColumn) column).getDouble(rowIndex);
 			if (d == 0d)
 				return false;
 			else if (d == 1d)
@@ -305,7 +340,7 @@ class DataFrameResultSet implements ResultSet {
 			break;
 		}
 		case F: {
-			float f = df.getFloat(rowIndex, columnIndex);
+			float f = ((FloatColumn) column).getFloat(rowIndex);
 			if (f == 0f)
 				return false;
 			else if (f == 1f)
@@ -313,7 +348,7 @@ class DataFrameResultSet implements ResultSet {
 			break;
 		}
 		case L: {
-			long l = df.getLong(rowIndex, columnIndex);
+			long l = ((LongColumn) column).getLong(rowIndex);
 			if (l == 0l)
 				return false;
 			else if (l == 1l)
@@ -321,7 +356,7 @@ class DataFrameResultSet implements ResultSet {
 			break;
 		}
 		case I: {
-			int i = df.getInt(rowIndex, columnIndex);
+			int i = ((IntColumn) column).getInt(rowIndex);
 			if (i == 0)
 				return false;
 			else if (i == 1)
@@ -329,7 +364,7 @@ class DataFrameResultSet implements ResultSet {
 			break;
 		}
 		case T: {
-			short t = df.getShort(rowIndex, columnIndex);
+			short t = ((ShortColumn) column).getShort(rowIndex);
 			if (t == 0)
 				return false;
 			else if (t == 1)
@@ -337,7 +372,7 @@ class DataFrameResultSet implements ResultSet {
 			break;
 		}
 		case Y: {
-			byte y = df.getByte(rowIndex, columnIndex);
+			byte y = ((ByteColumn) column).getByte(rowIndex);
 			if (y == 0)
 				return false;
 			else if (y == 1)
@@ -358,26 +393,27 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public boolean getBoolean(String columnLabel) throws SQLException {
-		return getBoolean0(df.columnIndex(columnLabel));
+		return getBoolean0(columnIndex(columnLabel));
 	}
 
 	private byte getByte0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return 0;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case BD -> df.getBigDecimal(rowIndex, columnIndex).byteValue();
-		case S, NS, FS -> Byte.parseByte(df.getString(rowIndex, columnIndex));
-		case D -> (byte) df.getDouble(rowIndex, columnIndex);
-		case F -> (byte) df.getFloat(rowIndex, columnIndex);
-		case L -> (byte) df.getLong(rowIndex, columnIndex);
-		case I -> (byte) df.getInt(rowIndex, columnIndex);
-		case T -> (byte) df.getShort(rowIndex, columnIndex);
-		case Y -> df.getByte(rowIndex, columnIndex);
+		case BD, FD -> ((BigDecimal) column.get(rowIndex)).byteValue();
+		case S, NS, FS -> Byte.parseByte((String) column.get(rowIndex));
+		case D -> (byte) ((DoubleColumn) column).getDouble(rowIndex);
+		case F -> (byte) ((FloatColumn) column).getFloat(rowIndex);
+		case L -> (byte) ((LongColumn) column).getLong(rowIndex);
+		case I -> (byte) ((IntColumn) column).getInt(rowIndex);
+		case T -> (byte) ((ShortColumn) column).getShort(rowIndex);
+		case Y -> ((ByteColumn) column).getByte(rowIndex);
 		default -> throw new SQLException("cannot convert from " + type + " to byte");
 		};
 	}
@@ -389,23 +425,24 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public byte getByte(String columnLabel) throws SQLException {
-		return getByte0(df.columnIndex(columnLabel));
+		return getByte0(columnIndex(columnLabel));
 	}
 
 	private byte[] getBytes0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return null;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case S, NS -> df.getString(rowIndex, columnIndex).getBytes(UTF_8);
-		case FS -> df.getString(rowIndex, columnIndex).getBytes(US_ASCII);
+		case S, NS -> ((String) column.get(rowIndex)).getBytes(UTF_8);
+		case FS -> ((String) column.get(rowIndex)).getBytes(US_ASCII);
 		case BL -> {
 			try {
-				yield df.getBlob(rowIndex, columnIndex).readAllBytes();
+				yield ((InputStream) column.get(rowIndex)).readAllBytes();
 			} catch (IOException e) {
 				throw new RuntimeException(e);
 			}
@@ -421,7 +458,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public byte[] getBytes(String columnLabel) throws SQLException {
-		return getBytes0(df.columnIndex(columnLabel));
+		return getBytes0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -454,17 +491,70 @@ class DataFrameResultSet implements ResultSet {
 		throw new SQLFeatureNotSupportedException("getCursorName");
 	}
 
+	/*
+	 * Dates, times and timestamps are built straight from the packed values of the
+	 * columns (see IntArrayPacker.LOCAL_DATE and LongArrayPacker), with the same
+	 * constructors that the valueOf(java.time) factories use, so that no java.time
+	 * objects are created along the way.
+	 */
+	// fields of a packed LongArrayPacker.LOCAL_DATE_TIME
+	private static int year(long packed) {
+		return (int) (packed >> 46);
+	}
+
+	private static int month(long packed) {
+		return (int) ((packed & 0x3C0000000000L) >> 42);
+	}
+
+	private static int day(long packed) {
+		return (int) ((packed & 0x3E000000000L) >> 37);
+	}
+
+	private static int hour(long packed) {
+		return (int) ((packed & 0x1F00000000L) >> 32);
+	}
+
+	private static int minute(long packed) {
+		return (int) ((packed & 0xFC000000L) >> 26);
+	}
+
+	private static int second(long packed) {
+		return (int) ((packed & 0x3F00000L) >> 20);
+	}
+
+	@SuppressWarnings("deprecation")
+	private static Date sqlDate(int year, int month, int day) {
+		return new Date(year - 1900, month - 1, day);
+	}
+
+	@SuppressWarnings("deprecation")
+	private static Time sqlTime(int hour, int minute, int second) {
+		return new Time(hour, minute, second);
+	}
+
+	@SuppressWarnings("deprecation")
+	private static Timestamp sqlTimestamp(int year, int month, int day, int hour, int minute, int second, int nano) {
+		return new Timestamp(year - 1900, month - 1, day, hour, minute, second, nano);
+	}
+
 	private Date getDate0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return null;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case DT -> Date.valueOf(df.getDateTime(rowIndex, columnIndex).toLocalDate());
-		case DA -> Date.valueOf(df.getDate(rowIndex, columnIndex));
+		case DT -> {
+			long packed = LongArrayColumn.packed(column, rowIndex);
+			yield sqlDate(year(packed), month(packed), day(packed));
+		}
+		case DA -> {
+			int packed = IntArrayColumn.packed(column, rowIndex);
+			yield sqlDate(packed >> 9, (packed & 0x1E0) >> 5, packed & 0x1F);
+		}
 		default -> throw new SQLException("cannot convert from " + type + " to Date");
 		};
 	}
@@ -476,7 +566,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public Date getDate(String columnLabel) throws SQLException {
-		return getDate0(df.columnIndex(columnLabel));
+		return getDate0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -492,20 +582,21 @@ class DataFrameResultSet implements ResultSet {
 	private double getDouble0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return 0d;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case BD -> df.getBigDecimal(rowIndex, columnIndex).doubleValue();
-		case S, NS, FS -> Double.parseDouble(df.getString(rowIndex, columnIndex));
-		case D -> df.getDouble(rowIndex, columnIndex);
-		case F -> df.getFloat(rowIndex, columnIndex);
-		case L -> df.getLong(rowIndex, columnIndex);
-		case I -> df.getInt(rowIndex, columnIndex);
-		case T -> df.getShort(rowIndex, columnIndex);
-		case Y -> df.getByte(rowIndex, columnIndex);
+		case BD, FD -> ((BigDecimal) column.get(rowIndex)).doubleValue();
+		case S, NS, FS -> Double.parseDouble((String) column.get(rowIndex));
+		case D -> ((DoubleColumn) column).getDouble(rowIndex);
+		case F -> ((FloatColumn) column).getFloat(rowIndex);
+		case L -> ((LongColumn) column).getLong(rowIndex);
+		case I -> ((IntColumn) column).getInt(rowIndex);
+		case T -> ((ShortColumn) column).getShort(rowIndex);
+		case Y -> ((ByteColumn) column).getByte(rowIndex);
 		default -> throw new SQLException("cannot convert from " + type + " to double");
 		};
 	}
@@ -517,7 +608,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public double getDouble(String columnLabel) throws SQLException {
-		return getDouble0(df.columnIndex(columnLabel));
+		return getDouble0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -534,20 +625,21 @@ class DataFrameResultSet implements ResultSet {
 	private float getFloat0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return 0f;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case BD -> df.getBigDecimal(rowIndex, columnIndex).floatValue();
-		case S, NS, FS -> Float.parseFloat(df.getString(rowIndex, columnIndex));
-		case D -> (float) df.getDouble(rowIndex, columnIndex);
-		case F -> df.getFloat(rowIndex, columnIndex);
-		case L -> df.getLong(rowIndex, columnIndex);
-		case I -> df.getInt(rowIndex, columnIndex);
-		case T -> df.getShort(rowIndex, columnIndex);
-		case Y -> df.getByte(rowIndex, columnIndex);
+		case BD, FD -> ((BigDecimal) column.get(rowIndex)).floatValue();
+		case S, NS, FS -> Float.parseFloat((String) column.get(rowIndex));
+		case D -> (float) ((DoubleColumn) column).getDouble(rowIndex);
+		case F -> ((FloatColumn) column).getFloat(rowIndex);
+		case L -> ((LongColumn) column).getLong(rowIndex);
+		case I -> ((IntColumn) column).getInt(rowIndex);
+		case T -> ((ShortColumn) column).getShort(rowIndex);
+		case Y -> ((ByteColumn) column).getByte(rowIndex);
 		default -> throw new SQLException("cannot convert from " + type + " to float");
 		};
 	}
@@ -559,7 +651,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public float getFloat(String columnLabel) throws SQLException {
-		return getFloat0(df.columnIndex(columnLabel));
+		return getFloat0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -570,20 +662,21 @@ class DataFrameResultSet implements ResultSet {
 	private int getInt0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return 0;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case BD -> df.getBigDecimal(rowIndex, columnIndex).intValue();
-		case S, NS, FS -> Integer.parseInt(df.getString(rowIndex, columnIndex));
-		case D -> (int) df.getDouble(rowIndex, columnIndex);
-		case F -> (int) df.getFloat(rowIndex, columnIndex);
-		case L -> (int) df.getLong(rowIndex, columnIndex);
-		case I -> df.getInt(rowIndex, columnIndex);
-		case T -> df.getShort(rowIndex, columnIndex);
-		case Y -> df.getByte(rowIndex, columnIndex);
+		case BD, FD -> ((BigDecimal) column.get(rowIndex)).intValue();
+		case S, NS, FS -> Integer.parseInt((String) column.get(rowIndex));
+		case D -> (int) ((DoubleColumn) column).getDouble(rowIndex);
+		case F -> (int) ((FloatColumn) column).getFloat(rowIndex);
+		case L -> (int) ((LongColumn) column).getLong(rowIndex);
+		case I -> ((IntColumn) column).getInt(rowIndex);
+		case T -> ((ShortColumn) column).getShort(rowIndex);
+		case Y -> ((ByteColumn) column).getByte(rowIndex);
 		default -> throw new SQLException("cannot convert from " + type + " to int");
 		};
 	}
@@ -595,26 +688,27 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public int getInt(String columnLabel) throws SQLException {
-		return getInt0(df.columnIndex(columnLabel));
+		return getInt0(columnIndex(columnLabel));
 	}
 
 	private long getLong0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return 0l;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case BD -> df.getBigDecimal(rowIndex, columnIndex).longValue();
-		case S, NS, FS -> Long.parseLong(df.getString(rowIndex, columnIndex));
-		case D -> (long) df.getDouble(rowIndex, columnIndex);
-		case F -> (long) df.getFloat(rowIndex, columnIndex);
-		case L -> df.getLong(rowIndex, columnIndex);
-		case I -> df.getInt(rowIndex, columnIndex);
-		case T -> df.getShort(rowIndex, columnIndex);
-		case Y -> df.getByte(rowIndex, columnIndex);
+		case BD, FD -> ((BigDecimal) column.get(rowIndex)).longValue();
+		case S, NS, FS -> Long.parseLong((String) column.get(rowIndex));
+		case D -> (long) ((DoubleColumn) column).getDouble(rowIndex);
+		case F -> (long) ((FloatColumn) column).getFloat(rowIndex);
+		case L -> ((LongColumn) column).getLong(rowIndex);
+		case I -> ((IntColumn) column).getInt(rowIndex);
+		case T -> ((ShortColumn) column).getShort(rowIndex);
+		case Y -> ((ByteColumn) column).getByte(rowIndex);
 		default -> throw new SQLException("cannot convert from " + type + " to long");
 		};
 	}
@@ -626,7 +720,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public long getLong(String columnLabel) throws SQLException {
-		return getLong0(df.columnIndex(columnLabel));
+		return getLong0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -667,7 +761,7 @@ class DataFrameResultSet implements ResultSet {
 
 	private Object getObject0(int columnIndex) throws SQLException {
 		checkClosed();
-		Object o = df.get(rowIndex(), columnIndex);
+		Object o = columns[columnIndex].get(rowIndex());
 		wasNull = o == null;
 		return o;
 	}
@@ -679,7 +773,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public Object getObject(String columnLabel) throws SQLException {
-		return getObject0(df.columnIndex(columnLabel));
+		return getObject0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -741,20 +835,21 @@ class DataFrameResultSet implements ResultSet {
 	private short getShort0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return 0;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case BD -> df.getBigDecimal(rowIndex, columnIndex).shortValue();
-		case S, NS, FS -> Short.parseShort(df.getString(rowIndex, columnIndex));
-		case D -> (short) df.getDouble(rowIndex, columnIndex);
-		case F -> (short) df.getFloat(rowIndex, columnIndex);
-		case L -> (short) df.getLong(rowIndex, columnIndex);
-		case I -> (short) df.getInt(rowIndex, columnIndex);
-		case T -> df.getShort(rowIndex, columnIndex);
-		case Y -> df.getByte(rowIndex, columnIndex);
+		case BD, FD -> ((BigDecimal) column.get(rowIndex)).shortValue();
+		case S, NS, FS -> Short.parseShort((String) column.get(rowIndex));
+		case D -> (short) ((DoubleColumn) column).getDouble(rowIndex);
+		case F -> (short) ((FloatColumn) column).getFloat(rowIndex);
+		case L -> (short) ((LongColumn) column).getLong(rowIndex);
+		case I -> (short) ((IntColumn) column).getInt(rowIndex);
+		case T -> ((ShortColumn) column).getShort(rowIndex);
+		case Y -> ((ByteColumn) column).getByte(rowIndex);
 		default -> throw new SQLException("cannot convert from " + type + " to short");
 		};
 	}
@@ -766,7 +861,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public short getShort(String columnLabel) throws SQLException {
-		return getShort0(df.columnIndex(columnLabel));
+		return getShort0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -777,7 +872,7 @@ class DataFrameResultSet implements ResultSet {
 
 	private String getString0(int columnIndex) throws SQLException {
 		checkClosed();
-		Object o = df.get(rowIndex(), columnIndex);
+		Object o = columns[columnIndex].get(rowIndex());
 		if (o == null) {
 			wasNull = true;
 			return null;
@@ -794,21 +889,29 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public String getString(String columnLabel) throws SQLException {
-		return getString0(df.columnIndex(columnLabel));
+		return getString0(columnIndex(columnLabel));
 	}
 
 	private Time getTime0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return null;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case DT -> Time.valueOf(df.getDateTime(rowIndex, columnIndex).toLocalTime());
-		case TI -> Time.valueOf(df.getTime(rowIndex, columnIndex));
-		default -> throw new SQLException("cannot convert from " + type + " to Date");
+		case DT -> {
+			long packed = LongArrayColumn.packed(column, rowIndex);
+			yield sqlTime(hour(packed), minute(packed), second(packed));
+		}
+		case TI -> {
+			long packed = LongArrayColumn.packed(column, rowIndex);
+			yield sqlTime((int) (packed >> 42), (int) ((packed & 0x3F000000000L) >> 36),
+					(int) ((packed & 0xFC0000000L) >> 30));
+		}
+		default -> throw new SQLException("cannot convert from " + type + " to Time");
 		};
 	}
 
@@ -819,7 +922,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public Time getTime(String columnLabel) throws SQLException {
-		return getTime0(df.columnIndex(columnLabel));
+		return getTime0(columnIndex(columnLabel));
 	}
 
 	@Override
@@ -835,15 +938,35 @@ class DataFrameResultSet implements ResultSet {
 	private Timestamp getTimestamp0(int columnIndex) throws SQLException {
 
 		final int rowIndex = rowIndex();
+		final Column<?> column = columns[columnIndex];
 
-		if (wasNull = df.isNull(rowIndex, columnIndex))
+		if (wasNull = column.isNull(rowIndex))
 			return null;
 
-		ColumnTypeCode type = df.columnType(columnIndex).getCode();
+		ColumnTypeCode type = types[columnIndex];
 		return switch (type) {
-		case DT -> Timestamp.valueOf(df.getDateTime(rowIndex, columnIndex));
-		case DA -> Timestamp.valueOf(df.getDate(rowIndex, columnIndex).atStartOfDay());
-		case TI -> Timestamp.valueOf(df.getTime(rowIndex, columnIndex).atDate(LocalDate.now()));
+		case DT -> {
+			long packed = LongArrayColumn.packed(column, rowIndex);
+			yield sqlTimestamp(year(packed), month(packed), day(packed), hour(packed), minute(packed), second(packed),
+					(int) (packed & 0xFFFFF) * 1000);
+		}
+		case DA -> {
+			int packed = IntArrayColumn.packed(column, rowIndex);
+			yield sqlTimestamp(packed >> 9, (packed & 0x1E0) >> 5, packed & 0x1F, 0, 0, 0, 0);
+		}
+		case TI -> {
+			long packed = LongArrayColumn.packed(column, rowIndex);
+			LocalDate today = LocalDate.now();
+			yield sqlTimestamp(today.getYear(), today.getMonthValue(), today.getDayOfMonth(), (int) (packed >> 42),
+					(int) ((packed & 0x3F000000000L) >> 36), (int) ((packed & 0xFC0000000L) >> 30),
+					(int) (packed & 0x3FFFFFFF));
+		}
+		case IN -> {
+			InstantColumn instants = (InstantColumn) column;
+			Timestamp timestamp = new Timestamp(Math.multiplyExact(instants.getEpochSecond(rowIndex), 1000));
+			timestamp.setNanos(instants.getNano(rowIndex));
+			yield timestamp;
+		}
 		default -> throw new SQLException("cannot convert from " + type + " to Timestamp");
 		};
 	}
@@ -855,7 +978,7 @@ class DataFrameResultSet implements ResultSet {
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel) throws SQLException {
-		return getTimestamp0(df.columnIndex(columnLabel));
+		return getTimestamp0(columnIndex(columnLabel));
 	}
 
 	@Override
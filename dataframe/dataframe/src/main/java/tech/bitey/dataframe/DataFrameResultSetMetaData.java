@@ -49,6 +49,7 @@ class DataFrameResultSetMetaData implements ResultSetMetaData {
 		case T:
 		case Y:
 		case BD:
+		case FD:
 			return true;
 		default:
 			return false;
@@ -69,12 +69,25 @@ public interface DateColumn extends Column<LocalDate> {
 	@Override
 	DateColumn copy();
 
+	/**
+	 * Returns a run-length encoded version of this column, which stores each run
+	 * of equal consecutive elements only once. Suited to columns with long runs,
+	 * such as the leading columns of an index-organized {@link DataFrame}. Returns
+	 * this column if it is already run-length encoded.
+	 * 
+	 * @return a run-length encoded version of this column
+	 */
+	DateColumn toRunLengthEncoded();
+
 	@Override
 	DateColumn clean(Predicate<LocalDate> predicate);
 
 	@Override
 	DateColumn filter(Predicate<LocalDate> predicate, boolean keepNulls);
 
+	@Override
+	DateColumn filterByValue(LocalDate fromElement, boolean fromInclusive, LocalDate toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -80,6 +80,10 @@ public interface DateTimeColumn extends Column<LocalDateTime> {
 	@Override
 	DateTimeColumn filter(Predicate<LocalDateTime> predicate, boolean keepNulls);
 
+	@Override
+	DateTimeColumn filterByValue(LocalDateTime fromElement, boolean fromInclusive, LocalDateTime toElement,
+			boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
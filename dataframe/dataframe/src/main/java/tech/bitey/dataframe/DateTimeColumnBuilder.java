@@ -16,7 +16,17 @@
 
 package tech.bitey.dataframe;
 
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.util.Spliterator;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
@@ -42,6 +52,10 @@ import tech.bitey.bufferstuff.BufferBitSet;
 public final class DateTimeColumnBuilder
 		extends LongArrayColumnBuilder<LocalDateTime, DateTimeColumn, DateTimeColumnBuilder> {
 
+	// the years which fit in a packed date-time
+	private static final int MIN_YEAR = -(1 << 17);
+	private static final int MAX_YEAR = (1 << 17) - 1;
+
 	DateTimeColumnBuilder(int characteristics) {
 		super(characteristics, LongArrayPacker.LOCAL_DATE_TIME);
 	}
@@ -61,6 +75,49 @@ public final class DateTimeColumnBuilder
 		return new NullableDateTimeColumn((NonNullDateTimeColumn) column, nonNulls, null, 0, size);
 	}
 
+	/**
+	 * Adds a date-time to the column.
+	 *
+	 * @param year   - the year (yyyy)
+	 * @param month  - the month, 1-based
+	 * @param day    - the day, 1-based
+	 * @param hour   - the hour of day, 0-23
+	 * @param minute - the minute of hour, 0-59
+	 * @param second - the second of minute, 0-59
+	 * @param nano   - the nano of second, stored at microsecond precision
+	 * 
+	 * @return this builder
+	 * 
+	 * @throws DateTimeException if a field is out of range, or the day is not
+	 *                           valid for the month and year. Years can range
+	 *                           from {@code -131072} to {@code 131071}, as for
+	 *                           {@link DateTimeColumn}.
+	 * @throws IllegalStateException if the builder's characteristics require
+	 *                               sorted or distinct elements, and this
+	 *                               date-time is out of order.
+	 */
+	public DateTimeColumnBuilder add(int year, int month, int day, int hour, int minute, int second, int nano) {
+
+		if (year < MIN_YEAR || year > MAX_YEAR)
+			throw new DateTimeException("year out of range: " + year);
+		MONTH_OF_YEAR.checkValidValue(month);
+		DAY_OF_MONTH.checkValidValue(day);
+		if (day > 28 && day > Month.of(month).length(Year.isLeap(year)))
+			throw new DateTimeException("invalid date: " + year + "-" + month + "-" + day);
+		HOUR_OF_DAY.checkValidValue(hour);
+		MINUTE_OF_HOUR.checkValidValue(minute);
+		SECOND_OF_MINUTE.checkValidValue(second);
+		NANO_OF_SECOND.checkValidValue(nano);
+
+		addPacked(LongArrayPacker.packDateTime(year, month, day, hour, minute, second, nano));
+
+		// report an out of order element here rather than at build time
+		if (sorted())
+			checkCharacteristics();
+
+		return this;
+	}
+
 	@Override
 	public ColumnType<LocalDateTime> getType() {
 		return ColumnType.DATETIME;
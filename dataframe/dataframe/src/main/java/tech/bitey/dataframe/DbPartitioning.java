@@ -0,0 +1,233 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.dataframe.Pr.checkArgument;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import tech.bitey.dataframe.db.ConnectionSupplier;
+
+/**
+ * Splits a query into partitions, which are read concurrently by
+ * {@link DataFrameFactory#readFrom(ConnectionSupplier, String, List, DbPartitioning, ReadFromDbConfig, int)}.
+ * Each partition is described by a SQL predicate, which replaces the
+ * {@value #PLACEHOLDER} placeholder in the query, and the values of any
+ * parameters in that predicate. Those values are bound in place of the
+ * placeholder, between any parameters of the query which come before and after
+ * it.
+ * <p>
+ * Every row returned by the query must satisfy exactly one of the predicates.
+ * The factory methods produce predicates which satisfy this for any row:
+ * <ul>
+ * <li>{@link #ranges(String, long, long, int) ranges} - contiguous ranges of
+ * an integer column. The first range also covers smaller values and nulls, and
+ * the last range covers larger values.
+ * <li>{@link #ranges(String, LocalDate, LocalDate, int) ranges} - the same,
+ * for a date column
+ * <li>{@link #modulo(String, int) modulo} - the remainder of an integer
+ * expression, such as a hash, divided by the number of partitions
+ * </ul>
+ * 
+ * @param predicates - the SQL predicate of each partition
+ * @param parameters - the values of the parameters in each predicate, in order
+ * 
+ * @author biteytech@protonmail.com
+ */
+public record DbPartitioning(List<String> predicates, List<List<Object>> parameters) {
+
+	/**
+	 * The placeholder in a query which is replaced with the predicate of each
+	 * partition.
+	 */
+	public static final String PLACEHOLDER = "{partition}";
+
+	public DbPartitioning {
+		checkArgument(!predicates.isEmpty(), "there must be at least one partition");
+		checkArgument(predicates.size() == parameters.size(), "predicates.size() != parameters.size()");
+
+		predicates = List.copyOf(predicates);
+		parameters = parameters.stream().map(List::copyOf).toList();
+	}
+
+	/**
+	 * Partitions a query into contiguous ranges of an integer column, of roughly
+	 * equal width. The first range also covers values less than
+	 * {@code fromInclusive} and nulls, and the last range also covers values
+	 * greater than or equal to {@code toExclusive}.
+	 * 
+	 * @param columnName    - the name of an integer column
+	 * @param fromInclusive - the start of the first range
+	 * @param toExclusive   - the end of the last range
+	 * @param count         - the number of partitions
+	 * 
+	 * @return the specified partitioning
+	 * 
+	 * @throws IllegalArgumentException if {@code count} is not positive, or is
+	 *                                  greater than the number of values between
+	 *                                  {@code fromInclusive} and
+	 *                                  {@code toExclusive}
+	 */
+	public static DbPartitioning ranges(String columnName, long fromInclusive, long toExclusive, int count) {
+
+		final long span = toExclusive - fromInclusive;
+		checkArgument(fromInclusive < toExclusive && span > 0, "bad range");
+		checkArgument(count >= 1 && count <= span, "count must be >= 1 and <= the width of the range");
+
+		// floor(span * i / count), without overflowing
+		Object[] bounds = new Object[count + 1];
+		for (int i = 0; i <= count; i++)
+			bounds[i] = fromInclusive + span / count * i + span % count * i / count;
+
+		return ranges(columnName, bounds);
+	}
+
+	/**
+	 * Partitions a query into contiguous ranges of a date column, of roughly equal
+	 * width. The first range also covers dates before {@code fromInclusive} and
+	 * nulls, and the last range also covers dates on or after
+	 * {@code toExclusive}. Dates are bound as {@link java.sql.Date}.
+	 * 
+	 * @param columnName    - the name of a date column
+	 * @param fromInclusive - the start of the first range
+	 * @param toExclusive   - the end of the last range
+	 * @param count         - the number of partitions
+	 * 
+	 * @return the specified partitioning
+	 * 
+	 * @throws IllegalArgumentException if {@code count} is not positive, or is
+	 *                                  greater than the number of days between
+	 *                                  {@code fromInclusive} and
+	 *                                  {@code toExclusive}
+	 */
+	public static DbPartitioning ranges(String columnName, LocalDate fromInclusive, LocalDate toExclusive, int count) {
+
+		final long days = ChronoUnit.DAYS.between(fromInclusive, toExclusive);
+		checkArgument(days > 0, "bad range");
+		checkArgument(count >= 1 && count <= days, "count must be >= 1 and <= the number of days in the range");
+
+		Object[] bounds = new Object[count + 1];
+		for (int i = 0; i <= count; i++)
+			bounds[i] = Date.valueOf(fromInclusive.plusDays(days * i / count));
+
+		return ranges(columnName, bounds);
+	}
+
+	private static DbPartitioning ranges(String columnName, Object[] bounds) {
+
+		final int count = bounds.length - 1;
+
+		List<String> predicates = new ArrayList<>(count);
+		List<List<Object>> parameters = new ArrayList<>(count);
+
+		if (count == 1) {
+			predicates.add("1 = 1");
+			parameters.add(List.of());
+			return new DbPartitioning(predicates, parameters);
+		}
+
+		predicates.add(columnName + " < ? OR " + columnName + " IS NULL");
+		parameters.add(List.of(bounds[1]));
+
+		for (int i = 1; i < count - 1; i++) {
+			predicates.add(columnName + " >= ? AND " + columnName + " < ?");
+			parameters.add(List.of(bounds[i], bounds[i + 1]));
+		}
+
+		predicates.add(columnName + " >= ?");
+		parameters.add(List.of(bounds[count - 1]));
+
+		return new DbPartitioning(predicates, parameters);
+	}
+
+	/**
+	 * Partitions a query by the remainder of an integer expression divided by the
+	 * number of partitions, using the SQL {@code MOD} function. The expression is
+	 * typically a hash, or a key which is not clustered enough for
+	 * {@link #ranges(String, long, long, int) ranges}. Negative values are
+	 * partitioned by the absolute value of their remainder, and rows where the
+	 * expression is null are in the first partition.
+	 * 
+	 * @param expression - an integer SQL expression
+	 * @param count      - the number of partitions
+	 * 
+	 * @return the specified partitioning
+	 * 
+	 * @throws IllegalArgumentException if {@code count} is not positive
+	 */
+	public static DbPartitioning modulo(String expression, int count) {
+
+		checkArgument(count >= 1, "count must be >= 1");
+
+		List<String> predicates = new ArrayList<>(count);
+		List<List<Object>> parameters = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			String predicate = "MOD(" + expression + ", ?) IN (?, ?)";
+			predicates.add(i == 0 ? predicate + " OR " + expression + " IS NULL" : predicate);
+			parameters.add(List.of(count, i, -i));
+		}
+
+		return new DbPartitioning(predicates, parameters);
+	}
+
+	/**
+	 * Returns the number of partitions.
+	 * 
+	 * @return the number of partitions
+	 */
+	public int count() {
+		return predicates.size();
+	}
+
+	// the query for the specified partition
+	String sql(String query, int partition) {
+		return query.replace(PLACEHOLDER, "(" + predicates.get(partition) + ")");
+	}
+
+	// the number of parameters in the query, outside of the placeholder
+	static int parameterCount(String query) {
+		return (int) query.replace(PLACEHOLDER, "").chars().filter(c -> c == '?').count();
+	}
+
+	/*
+	 * Binds the query's own parameters, and the parameters of the specified
+	 * partition wherever the placeholder appears, in the order they occur in the
+	 * query
+	 */
+	void bind(PreparedStatement ps, String query, List<?> queryParameters, int partition) throws SQLException {
+
+		final List<Object> values = parameters.get(partition);
+
+		int index = 1, next = 0;
+		for (int i = 0; i < query.length(); i++) {
+			if (query.startsWith(PLACEHOLDER, i)) {
+				for (Object value : values)
+					ps.setObject(index++, value);
+				i += PLACEHOLDER.length() - 1;
+			} else if (query.charAt(i) == '?')
+				ps.setObject(index++, queryParameters.get(next++));
+		}
+	}
+}
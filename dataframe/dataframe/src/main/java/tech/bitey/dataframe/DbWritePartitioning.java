@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.dataframe.Pr.checkArgument;
+
+import java.util.function.IntConsumer;
+
+import tech.bitey.dataframe.db.ConnectionSupplier;
+
+/**
+ * Splits the rows of a dataframe into contiguous ranges, which are written
+ * concurrently by
+ * {@link DataFrame#writeTo(ConnectionSupplier, String, DbWritePartitioning, WriteToDbConfig)}.
+ * Each range is written on its own thread, with its own connection and
+ * {@link java.sql.PreparedStatement}, so that binding rows for one connection
+ * overlaps with the database round trips of the others.
+ * <p>
+ * Two commit modes are supported:
+ * <ul>
+ * <li>{@link #perPartition(int) perPartition} - each connection commits as
+ * soon as its range has been written. If one range fails, the others may
+ * already have been committed.
+ * <li>{@link #allOrNothing(int) allOrNothing} - connections are kept open
+ * until every range has been written, and then all are committed, or all are
+ * rolled back if any range failed. This is not a distributed transaction: if
+ * a commit itself fails, connections which have already committed stay
+ * committed, and the rest are rolled back. Databases which lock a table for a
+ * single writer, such as SQLite, cannot make progress in this mode with more
+ * than one partition.
+ * </ul>
+ * 
+ * @param partitions   - the maximum number of ranges, and of concurrent
+ *                     connections. There are never more ranges than rows.
+ * @param allOrNothing - whether to commit only once every range has been
+ *                     written
+ * @param progress     - called with the number of rows in each batch after it
+ *                     has been executed, concurrently from the writing
+ *                     threads. May be {@code null}.
+ * 
+ * @author biteytech@protonmail.com
+ */
+public record DbWritePartitioning(int partitions, boolean allOrNothing, IntConsumer progress) {
+
+	public DbWritePartitioning {
+		checkArgument(partitions >= 1, "partitions must be >= 1");
+
+		if (progress == null)
+			progress = rows -> {
+			};
+	}
+
+	/**
+	 * Writes up to {@code partitions} ranges concurrently, each committing as soon
+	 * as it has been written.
+	 * 
+	 * @param partitions - the maximum number of ranges
+	 * 
+	 * @return the specified partitioning
+	 * 
+	 * @throws IllegalArgumentException if {@code partitions} is not positive
+	 */
+	public static DbWritePartitioning perPartition(int partitions) {
+		return new DbWritePartitioning(partitions, false, null);
+	}
+
+	/**
+	 * Writes up to {@code partitions} ranges concurrently, committing only once
+	 * all of them have been written.
+	 * 
+	 * @param partitions - the maximum number of ranges
+	 * 
+	 * @return the specified partitioning
+	 * 
+	 * @throws IllegalArgumentException if {@code partitions} is not positive
+	 */
+	public static DbWritePartitioning allOrNothing(int partitions) {
+		return new DbWritePartitioning(partitions, true, null);
+	}
+
+	/**
+	 * Returns a copy of this partitioning with the specified progress callback.
+	 * 
+	 * @param progress - called with the number of rows in each batch after it has
+	 *                 been executed, concurrently from the writing threads
+	 * 
+	 * @return a copy of this partitioning with the specified progress callback
+	 */
+	public DbWritePartitioning withProgress(IntConsumer progress) {
+		return new DbWritePartitioning(partitions, allOrNothing, progress);
+	}
+
+	// the first row of each range, followed by the number of rows
+	int[] bounds(int rows) {
+
+		final int count = Math.max(1, Math.min(partitions, rows));
+
+		int[] bounds = new int[count + 1];
+		for (int i = 0; i <= count; i++)
+			bounds[i] = (int) ((long) rows * i / count);
+
+		return bounds;
+	}
+}
@@ -77,6 +77,10 @@ public interface DecimalColumn extends Column<BigDecimal> {
 	@Override
 	DecimalColumn filter(Predicate<BigDecimal> predicate, boolean keepNulls);
 
+	@Override
+	DecimalColumn filterByValue(BigDecimal fromElement, boolean fromInclusive, BigDecimal toElement,
+			boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
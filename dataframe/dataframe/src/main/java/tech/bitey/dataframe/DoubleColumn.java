@@ -102,6 +102,9 @@ public interface DoubleColumn extends Column<Double> {
 	@Override
 	DoubleColumn filter(Predicate<Double> predicate, boolean keepNulls);
 
+	@Override
+	DoubleColumn filterByValue(Double fromElement, boolean fromInclusive, Double toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -155,13 +158,35 @@ public interface DoubleColumn extends Column<Double> {
 	 * Derives a new {@link DoubleColumn} from this one by applying the specified
 	 * {@link DoubleUnaryOperator} to each non-null element.
 	 * <p>
+	 * The operator is called on the calling thread, in order. See
+	 * {@link #evaluate(DoubleUnaryOperator, boolean)} to opt in to parallel execution.
+	 * <p>
 	 * The resulting column will not be flagged as sorted or distinct.
 	 * 
 	 * @param op a {@link DoubleUnaryOperator}
 	 * 
 	 * @return {@code op(this)}
 	 */
-	DoubleColumn evaluate(DoubleUnaryOperator op);
+	default DoubleColumn evaluate(DoubleUnaryOperator op) {
+		return evaluate(op, false);
+	}
+
+	/**
+	 * Derives a new {@link DoubleColumn} from this one by applying the specified
+	 * {@link DoubleUnaryOperator} to each non-null element.
+	 * <p>
+	 * If {@code parallel} is true and this column is large, elements are processed
+	 * in parallel chunks, so the operator may be called concurrently from several
+	 * threads and in any order. It must then be thread-safe.
+	 * <p>
+	 * The resulting column will not be flagged as sorted or distinct.
+	 * 
+	 * @param op       a {@link DoubleUnaryOperator}
+	 * @param parallel whether elements may be processed in parallel
+	 * 
+	 * @return {@code op(this)}
+	 */
+	DoubleColumn evaluate(DoubleUnaryOperator op, boolean parallel);
 
 	/**
 	 * Primitive specialization of {@link Column#get(int)}.
@@ -203,6 +228,23 @@ public interface DoubleColumn extends Column<Double> {
 		return new DoubleColumnBuilder(characteristic);
 	}
 
+	/**
+	 * Returns a {@link DoubleColumnBuilder builder} with the specified
+	 * characteristic, and with room for {@code expectedSize} elements before it
+	 * needs to grow. When exactly that many non-null elements are added, the
+	 * built column shares the builder's buffer rather than a copy of it.
+	 * 
+	 * @param characteristic - see {@link #builder(int)}
+	 * @param expectedSize   - the number of elements expected to be added
+	 * 
+	 * @return a new {@link DoubleColumnBuilder}
+	 * 
+	 * @throws IllegalArgumentException if {@code characteristic} is not valid
+	 */
+	public static DoubleColumnBuilder builder(int characteristic, int expectedSize) {
+		return new DoubleColumnBuilder(characteristic).ensureCapacity(expectedSize);
+	}
+
 	/**
 	 * Returns a new {@link DoubleColumnBuilder}
 	 * <p>
@@ -16,6 +16,7 @@
 
 package tech.bitey.dataframe;
 
+import java.nio.DoubleBuffer;
 import java.util.Spliterator;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
@@ -76,7 +77,57 @@ public final class DoubleColumnBuilder
 	public DoubleColumnBuilder addAll(double... elements) {
 		ensureAdditionalCapacity(elements.length);
 		this.elements.put(elements);
-		size += elements.length;
+		addedNonNulls(elements.length);
+		return this;
+	}
+
+	/**
+	 * Adds a range of {@code doubles} to the column.
+	 *
+	 * @param elements the array containing the {@code doubles} to add
+	 * @param offset   index of the first {@code double} to add
+	 * @param length   number of {@code doubles} to add
+	 * 
+	 * @return this builder
+	 * 
+	 * @throws IndexOutOfBoundsException if the range is out of bounds for the
+	 *                                   array
+	 */
+	public DoubleColumnBuilder addAll(double[] elements, int offset, int length) {
+		return addAll(DoubleBuffer.wrap(elements, offset, length));
+	}
+
+	/**
+	 * Adds the {@code doubles} remaining in a buffer to the column. The buffer's
+	 * position is advanced to its limit. A {@link java.nio.ByteBuffer} can be
+	 * added via {@link java.nio.ByteBuffer#asDoubleBuffer asDoubleBuffer}.
+	 *
+	 * @param elements the {@code doubles} to add
+	 * 
+	 * @return this builder
+	 */
+	public DoubleColumnBuilder addAll(DoubleBuffer elements) {
+		int remaining = elements.remaining();
+		ensureAdditionalCapacity(remaining);
+		this.elements.put(elements);
+		addedNonNulls(remaining);
+		return this;
+	}
+
+	/**
+	 * Adds the {@code doubles} remaining in a buffer to the column. The buffer's
+	 * position is advanced to its limit.
+	 *
+	 * @param elements the {@code doubles} to add
+	 * 
+	 * @return this builder
+	 */
+	@SuppressWarnings("exports") // is this warning a bug in Eclipse?
+	public DoubleColumnBuilder addAll(SmallDoubleBuffer elements) {
+		int remaining = elements.remaining();
+		ensureAdditionalCapacity(remaining);
+		this.elements.put(elements);
+		addedNonNulls(remaining);
 		return this;
 	}
 
@@ -86,13 +137,13 @@ public final class DoubleColumnBuilder
 	}
 
 	@Override
-	boolean checkSorted() {
-		return BufferUtils.isSorted(elements, 0, elements.position());
+	boolean checkSorted(int fromIndex) {
+		return BufferUtils.isSorted(elements, fromIndex, elements.position());
 	}
 
 	@Override
-	boolean checkDistinct() {
-		return BufferUtils.isSortedAndDistinct(elements, 0, elements.position());
+	boolean checkDistinct(int fromIndex) {
+		return BufferUtils.isSortedAndDistinct(elements, fromIndex, elements.position());
 	}
 
 	@Override
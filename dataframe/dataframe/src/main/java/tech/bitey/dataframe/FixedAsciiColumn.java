@@ -73,6 +73,9 @@ public interface FixedAsciiColumn extends StringColumn {
 	@Override
 	FixedAsciiColumn filter(Predicate<String> predicate, boolean keepNulls);
 
+	@Override
+	FixedAsciiColumn filterByValue(String fromElement, boolean fromInclusive, String toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
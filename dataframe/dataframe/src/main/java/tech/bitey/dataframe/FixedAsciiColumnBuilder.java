@@ -18,6 +18,7 @@ package tech.bitey.dataframe;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Spliterator;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
@@ -119,4 +120,10 @@ public final class FixedAsciiColumnBuilder
 
 		this.nonNullSize += tail.nonNullSize;
 	}
+
+	// the width and non-null size are carried over from each tail in turn
+	@Override
+	FixedAsciiColumnBuilder appendAll(List<FixedAsciiColumnBuilder> tails) {
+		return appendEach(tails);
+	}
 }
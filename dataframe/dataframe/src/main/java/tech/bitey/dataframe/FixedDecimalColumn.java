@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * A {@link DecimalColumn} whose elements all have the same scale.
+ * <p>
+ * Elements are stored as unscaled {@code longs}, where the value is
+ * {@code (unscaled x 10^-scale)}. Sorting, searching, and comparing elements
+ * work directly on the unscaled values, and {@link #sum()} only allocates its
+ * result.
+ * <p>
+ * Columns are built with a {@link FixedDecimalColumnBuilder}, which falls back
+ * to a regular {@link DecimalColumn} if an element does not fit in a
+ * {@code long} at the column's scale.
+ * 
+ * @author biteytech@protonmail.com
+ */
+public interface FixedDecimalColumn extends DecimalColumn {
+
+	@Override
+	FixedDecimalColumn subColumn(int fromIndex, int toIndex);
+
+	@Override
+	FixedDecimalColumn subColumnByValue(BigDecimal fromElement, boolean fromInclusive, BigDecimal toElement,
+			boolean toInclusive);
+
+	@Override
+	FixedDecimalColumn subColumnByValue(BigDecimal fromElement, BigDecimal toElement);
+
+	@Override
+	FixedDecimalColumn head(BigDecimal toElement, boolean inclusive);
+
+	@Override
+	FixedDecimalColumn head(BigDecimal toElement);
+
+	@Override
+	FixedDecimalColumn tail(BigDecimal fromElement, boolean inclusive);
+
+	@Override
+	FixedDecimalColumn tail(BigDecimal fromElement);
+
+	@Override
+	FixedDecimalColumn toHeap();
+
+	@Override
+	FixedDecimalColumn toSorted();
+
+	@Override
+	FixedDecimalColumn toDistinct();
+
+	@Override
+	FixedDecimalColumn append(Column<BigDecimal> tail);
+
+	@Override
+	FixedDecimalColumn copy();
+
+	@Override
+	FixedDecimalColumn clean(Predicate<BigDecimal> predicate);
+
+	@Override
+	FixedDecimalColumn filter(Predicate<BigDecimal> predicate, boolean keepNulls);
+
+	@Override
+	FixedDecimalColumn filterByValue(BigDecimal fromElement, boolean fromInclusive, BigDecimal toElement,
+			boolean toInclusive);
+
+	/**
+	 * Returns a new column derived by testing each value with the specified
+	 * predicate and removing values when the predicate returns {@code false}.
+	 * {@code null} values are not passed to the predicate for testing and are kept
+	 * as-is. Equivalent to {@link #filter(Predicate, boolean) filter(predicate,
+	 * true)}.
+	 * 
+	 * @param predicate the {@link Predicate} used to test for values which should
+	 *                  be kept.
+	 * 
+	 * @return a new column derived by testing each value with the specified
+	 *         predicate.
+	 */
+	@Override
+	default FixedDecimalColumn filter(Predicate<BigDecimal> predicate) {
+		return filter(predicate, true);
+	}
+
+	/**
+	 * Returns the scale shared by every element in this column.
+	 * 
+	 * @return the scale shared by every element in this column.
+	 */
+	int scale();
+
+	/**
+	 * Returns the unscaled value of the element at the specified index, without
+	 * allocating a {@link BigDecimal}.
+	 * 
+	 * @param index - index of the element to return
+	 * 
+	 * @return the unscaled value of the element at the specified index
+	 * 
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *                                   {@code (index < 0 || index >= size())}
+	 * @throws NullPointerException      if the value at the specified index is
+	 *                                   null
+	 */
+	long getUnscaled(int index);
+
+	/**
+	 * Returns the sum of the non-null elements in this column, with the column's
+	 * scale. The unscaled values are added as {@code longs}, switching to a
+	 * {@link java.math.BigInteger BigInteger} only if the sum overflows.
+	 * 
+	 * @return the sum of the non-null elements in this column
+	 */
+	BigDecimal sum();
+
+	/**
+	 * Returns a {@link FixedDecimalColumnBuilder builder} with the specified
+	 * characteristic.
+	 * 
+	 * @param characteristic - one of:
+	 *                       <ul>
+	 *                       <li>{@code 0} (zero) - no constraints on the elements
+	 *                       to be added to the column
+	 *                       <li>{@link java.util.Spliterator#NONNULL NONNULL}
+	 *                       <li>{@link java.util.Spliterator#SORTED SORTED}
+	 *                       <li>{@link java.util.Spliterator#DISTINCT DISTINCT}
+	 *                       </ul>
+	 * 
+	 * @return a new {@link FixedDecimalColumnBuilder}
+	 * 
+	 * @throws IllegalArgumentException if {@code characteristic} is not valid
+	 */
+	public static FixedDecimalColumnBuilder builder(int characteristic) {
+		return new FixedDecimalColumnBuilder(characteristic);
+	}
+
+	/**
+	 * Returns a new {@link FixedDecimalColumnBuilder}
+	 * <p>
+	 * Equivalent to {@link #builder(int) builder(0)}
+	 * 
+	 * @return a new {@link FixedDecimalColumnBuilder}
+	 */
+	public static FixedDecimalColumnBuilder builder() {
+		return builder(0);
+	}
+
+	/**
+	 * Returns a new {@code DecimalColumn} containing the specified elements. The
+	 * column is a {@code FixedDecimalColumn} unless an element does not fit, see
+	 * {@link FixedDecimalColumnBuilder}.
+	 * 
+	 * @param elements the elements to be included in the new column
+	 * 
+	 * @return a new {@code DecimalColumn} containing the specified elements.
+	 */
+	public static DecimalColumn of(BigDecimal... elements) {
+		return builder().addAll(elements).build();
+	}
+
+	/**
+	 * Collects a stream of {@code BigDecimals} into a new {@code DecimalColumn}.
+	 * The column is a {@code FixedDecimalColumn} unless an element does not fit,
+	 * see {@link FixedDecimalColumnBuilder}.
+	 * 
+	 * @return a new {@link DecimalColumn}
+	 */
+	public static Collector<BigDecimal, ?, DecimalColumn> collector() {
+		return Collector.of(FixedDecimalColumn::builder, FixedDecimalColumnBuilder::add,
+				FixedDecimalColumnBuilder::append, FixedDecimalColumnBuilder::build);
+	}
+
+	/**
+	 * Returns a new {@code DecimalColumn} containing the specified elements. The
+	 * column is a {@code FixedDecimalColumn} unless an element does not fit, see
+	 * {@link FixedDecimalColumnBuilder}.
+	 * 
+	 * @param c the elements to be included in the new column
+	 * 
+	 * @return a new {@code DecimalColumn} containing the specified elements.
+	 */
+	public static DecimalColumn of(Collection<BigDecimal> c) {
+		return c.stream().collect(collector());
+	}
+}
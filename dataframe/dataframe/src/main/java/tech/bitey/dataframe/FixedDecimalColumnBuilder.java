@@ -0,0 +1,228 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static java.util.Spliterator.DISTINCT;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.SORTED;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.BufferBitSet;
+
+/**
+ * A builder for creating {@link FixedDecimalColumn} instances. Example:
+ *
+ * <pre>
+ * DecimalColumn column = FixedDecimalColumn.builder().add(new BigDecimal("1.5"), new BigDecimal("42.42")).build();
+ * </pre>
+ * 
+ * Elements appear in the resulting column in the same order they were added to
+ * the builder.
+ * <p>
+ * Every element of the resulting column has the largest scale of any element
+ * added to the builder. Elements with a smaller scale are padded with trailing
+ * zeros, so {@code 1.5} becomes {@code 1.50} in the example above.
+ * <p>
+ * If an element's unscaled value does not fit in a {@code long} at that scale,
+ * the builder falls back to storing elements the same way as a
+ * {@link DecimalColumnBuilder}, and {@link #build()} returns a regular
+ * {@link DecimalColumn} (still with a single scale) instead of a
+ * {@code FixedDecimalColumn}.
+ * <p>
+ * Builder instances can be reused; it is safe to call
+ * {@link ColumnBuilder#build build} multiple times to build multiple columns in
+ * series. Each new column contains all the elements of the ones created before
+ * it.
+ *
+ * @author biteytech@protonmail.com
+ */
+public final class FixedDecimalColumnBuilder
+		extends LongArrayColumnBuilder<BigDecimal, DecimalColumn, FixedDecimalColumnBuilder> {
+
+	private static final long[] POWERS_OF_TEN = new long[19];
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++)
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+	}
+
+	// largest scale of any element added so far
+	private int scale = 0;
+
+	// holds every element once one of them does not fit in a long
+	private DecimalColumnBuilder fallback;
+
+	FixedDecimalColumnBuilder(int characteristics) {
+		// elements are packed by addNonNull, at the builder's current scale
+		super(characteristics, null);
+	}
+
+	@Override
+	void addNonNull(BigDecimal element) {
+		addNonNull0(element);
+		size++;
+	}
+
+	private void addNonNull0(BigDecimal element) {
+
+		if (fallback == null) {
+			if (element.scale() > scale)
+				rescale(element.scale());
+
+			if (fallback == null) {
+				try {
+					long unscaled = element.setScale(scale).unscaledValue().longValueExact();
+
+					ensureAdditionalCapacity(1);
+					elements.put(unscaled);
+					return;
+				} catch (ArithmeticException e) {
+					startFallback();
+				}
+			}
+		}
+
+		scale = Math.max(scale, element.scale());
+		fallback.add(element);
+	}
+
+	/*
+	 * Multiplies the unscaled values by a power of ten, or falls back to a
+	 * DecimalColumnBuilder if any of them would overflow.
+	 */
+	private void rescale(int newScale) {
+
+		final int shift = newScale - scale;
+		final long factor = shift < POWERS_OF_TEN.length ? POWERS_OF_TEN[shift] : 0;
+		final int count = super.getNonNullSize();
+
+		for (int i = 0; i < count; i++) {
+			long value = elements.get(i);
+
+			if (factor == 0 ? value != 0 : Math.multiplyHigh(value, factor) != (value * factor) >> 63) {
+				startFallback();
+				return;
+			}
+		}
+
+		// copies the buffer first if it is shared with a previously built column
+		ensureAdditionalCapacity(0);
+
+		for (int i = 0; i < count; i++)
+			elements.put(i, elements.get(i) * factor);
+
+		scale = newScale;
+	}
+
+	private void startFallback() {
+
+		final int count = super.getNonNullSize();
+
+		fallback = new DecimalColumnBuilder(NONNULL);
+		fallback.ensureCapacity(count);
+		for (int i = 0; i < count; i++)
+			fallback.add(BigDecimal.valueOf(elements.get(i), scale));
+
+		elements.clear();
+	}
+
+	@Override
+	public FixedDecimalColumnBuilder ensureCapacity(int minCapacity) {
+		if (fallback == null)
+			return super.ensureCapacity(minCapacity);
+
+		fallback.ensureCapacity(minCapacity);
+		return this;
+	}
+
+	@Override
+	int getNonNullSize() {
+		return fallback == null ? super.getNonNullSize() : fallback.size();
+	}
+
+	@Override
+	void checkCharacteristics() {
+		// a fallback column is checked by its own builder
+		if (fallback == null)
+			super.checkCharacteristics();
+	}
+
+	@Override
+	DecimalColumn emptyNonNull() {
+		return NonNullFixedDecimalColumn.empty(characteristics);
+	}
+
+	@Override
+	DecimalColumn buildNonNullColumn(int characteristics) {
+
+		if (fallback == null)
+			return super.buildNonNullColumn(characteristics);
+
+		DecimalColumnBuilder builder = new DecimalColumnBuilder(characteristics & (NONNULL | SORTED | DISTINCT));
+		builder.ensureCapacity(fallback.size());
+		for (BigDecimal element : fallback.build())
+			builder.add(element.setScale(scale));
+
+		return builder.build();
+	}
+
+	@Override
+	DecimalColumn buildNonNullColumn(BigByteBuffer trim, int characteristics) {
+		return new NonNullFixedDecimalColumn(trim, scale, 0, getNonNullSize(), characteristics, false);
+	}
+
+	@Override
+	DecimalColumn wrapNullableColumn(DecimalColumn column, BufferBitSet nonNulls) {
+		if (column instanceof NonNullFixedDecimalColumn fixed)
+			return new NullableFixedDecimalColumn(fixed, nonNulls, null, 0, size);
+		else
+			return new NullableDecimalColumn((NonNullDecimalColumn) column, nonNulls, null, 0, size);
+	}
+
+	@Override
+	public ColumnType<BigDecimal> getType() {
+		return ColumnType.FDECIMAL;
+	}
+
+	@Override
+	void append0(FixedDecimalColumnBuilder tail) {
+
+		if (fallback == null && tail.fallback == null && scale == tail.scale) {
+			super.append0(tail);
+			return;
+		}
+
+		// add the tail's elements one at a time, rescaling as needed
+		if (tail.fallback == null) {
+			for (int i = 0; i < tail.getNonNullSize(); i++)
+				addNonNull0(BigDecimal.valueOf(tail.elements.get(i), tail.scale));
+		} else {
+			for (BigDecimal element : tail.fallback.build())
+				addNonNull0(element);
+		}
+	}
+
+	// a tail may need rescaling, or may have fallen back to a DecimalColumnBuilder
+	@Override
+	FixedDecimalColumnBuilder appendAll(List<FixedDecimalColumnBuilder> tails) {
+		return appendEach(tails);
+	}
+}
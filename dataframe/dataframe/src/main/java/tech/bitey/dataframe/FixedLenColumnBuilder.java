@@ -34,9 +34,9 @@ abstract class FixedLenColumnBuilder<E, C extends Column<E>, B extends FixedLenC
 	abstract int compareValuesAt(int l, int r);
 
 	@Override
-	boolean checkSorted() {
+	boolean checkSorted(int fromIndex) {
 
-		for (int i = 1; i < size; i++)
+		for (int i = fromIndex + 1; i < size; i++)
 			if (compareValuesAt(i - 1, i) > 0)
 				return false;
 
@@ -44,9 +44,9 @@ abstract class FixedLenColumnBuilder<E, C extends Column<E>, B extends FixedLenC
 	}
 
 	@Override
-	boolean checkDistinct() {
+	boolean checkDistinct(int fromIndex) {
 
-		for (int i = 1; i < size; i++)
+		for (int i = fromIndex + 1; i < size; i++)
 			if (compareValuesAt(i - 1, i) >= 0)
 				return false;
 
@@ -69,6 +69,11 @@ abstract class FixedLenColumnBuilder<E, C extends Column<E>, B extends FixedLenC
 		this.buffer.put(tail.buffer.duplicate().flip());
 	}
 
+	@Override
+	void skipNonNulls(int count) {
+		buffer.position(buffer.position() + (long) count * elementSize());
+	}
+
 	@Override
 	void append00(SmallByteBuffer elements) {
 		throw new UnsupportedOperationException();
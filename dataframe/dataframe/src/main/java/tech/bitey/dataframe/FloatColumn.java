@@ -86,6 +86,9 @@ public interface FloatColumn extends Column<Float> {
 	@Override
 	FloatColumn filter(Predicate<Float> predicate, boolean keepNulls);
 
+	@Override
+	FloatColumn filterByValue(Float fromElement, boolean fromInclusive, Float toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -76,7 +76,7 @@ public final class FloatColumnBuilder
 	public FloatColumnBuilder addAll(float... elements) {
 		ensureAdditionalCapacity(elements.length);
 		this.elements.put(elements);
-		size += elements.length;
+		addedNonNulls(elements.length);
 		return this;
 	}
 
@@ -86,13 +86,13 @@ public final class FloatColumnBuilder
 	}
 
 	@Override
-	boolean checkSorted() {
-		return BufferUtils.isSorted(elements, 0, elements.position());
+	boolean checkSorted(int fromIndex) {
+		return BufferUtils.isSorted(elements, fromIndex, elements.position());
 	}
 
 	@Override
-	boolean checkDistinct() {
-		return BufferUtils.isSortedAndDistinct(elements, 0, elements.position());
+	boolean checkDistinct(int fromIndex) {
+		return BufferUtils.isSortedAndDistinct(elements, fromIndex, elements.position());
 	}
 
 	@Override
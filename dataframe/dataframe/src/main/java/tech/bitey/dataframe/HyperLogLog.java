@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import java.nio.ByteOrder;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+
+/*
+ * A HyperLogLog sketch, for estimating the number of distinct elements in a
+ * column from a 64-bit hash of each one. Uses 2^PRECISION one-byte registers,
+ * for a standard error of about 1.6%, and linear counting for small
+ * cardinalities. Until more than SPARSE_LIMIT distinct hashes have been added,
+ * they are kept as is instead, and counted exactly.
+ *
+ * Sketches of disjoint chunks of a column can be merged, so that they can be
+ * computed in parallel.
+ */
+final class HyperLogLog {
+
+	static final int PRECISION = 12;
+
+	private static final int REGISTERS = 1 << PRECISION;
+
+	private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+	private static final int SPARSE_LIMIT = REGISTERS / 4;
+
+	// the distinct hashes added so far, in an open-addressing table where zero
+	// marks an empty slot, or null once there are too many and registers is used
+	private long[] sparse = new long[SPARSE_LIMIT * 2];
+	private int sparseSize;
+	private boolean sparseZero;
+
+	private byte[] registers;
+
+	void add(long hash) {
+		if (sparse != null)
+			addSparse(hash);
+		else
+			addRegister(hash);
+	}
+
+	private void addSparse(long hash) {
+
+		if (hash == 0) {
+			if (sparseZero)
+				return;
+			sparseZero = true;
+		} else {
+			final int mask = sparse.length - 1;
+
+			int slot = (int) hash & mask;
+			for (; sparse[slot] != 0; slot = (slot + 1) & mask)
+				if (sparse[slot] == hash)
+					return;
+
+			sparse[slot] = hash;
+		}
+
+		if (++sparseSize > SPARSE_LIMIT)
+			toRegisters();
+	}
+
+	private void toRegisters() {
+
+		final long[] hashes = sparse;
+
+		sparse = null;
+		registers = new byte[REGISTERS];
+
+		for (long hash : hashes)
+			if (hash != 0)
+				addRegister(hash);
+		if (sparseZero)
+			addRegister(0);
+	}
+
+	private void addRegister(long hash) {
+
+		final int register = (int) (hash >>> (64 - PRECISION));
+
+		// position of the first set bit after the register bits, capped at 64 - PRECISION + 1
+		final int rank = Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1;
+
+		if (rank > registers[register])
+			registers[register] = (byte) rank;
+	}
+
+	HyperLogLog merge(HyperLogLog other) {
+
+		if (other.sparse != null) {
+			for (long hash : other.sparse)
+				if (hash != 0)
+					add(hash);
+			if (other.sparseZero)
+				add(0);
+		} else {
+			if (sparse != null)
+				toRegisters();
+
+			for (int i = 0; i < REGISTERS; i++)
+				if (other.registers[i] > registers[i])
+					registers[i] = other.registers[i];
+		}
+
+		return this;
+	}
+
+	long estimate() {
+
+		if (sparse != null)
+			return sparseSize;
+
+		double sum = 0;
+		int zeros = 0;
+		for (byte rank : registers) {
+			sum += Math.scalb(1.0, -rank);
+			if (rank == 0)
+				zeros++;
+		}
+
+		final double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+
+		if (estimate <= 2.5 * REGISTERS && zeros > 0)
+			return Math.round(REGISTERS * Math.log((double) REGISTERS / zeros));
+		else
+			return Math.round(estimate);
+	}
+
+	// finalizer from MurmurHash3
+	static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	// hash of the bytes in [fromIndex, toIndex)
+	static long hash(BigByteBuffer buffer, long fromIndex, long toIndex) {
+
+		long hash = toIndex - fromIndex;
+
+		long i = fromIndex;
+		for (; i + 8 <= toIndex; i += 8)
+			hash = mixWord(hash, buffer.getLong(i));
+		for (; i < toIndex; i++)
+			hash = mixByte(hash, buffer.get(i));
+
+		return mix(hash);
+	}
+
+	/*
+	 * The same as hash() of the elementSize (4 or 8) bytes which hold value in a
+	 * buffer with the specified order, for columns which don't keep those bytes.
+	 */
+	static long hash(long value, int elementSize, ByteOrder order) {
+
+		long hash = elementSize;
+
+		if (elementSize == 8)
+			hash = mixWord(hash, value);
+		else
+			for (int i = 0; i < elementSize; i++) {
+				int shift = order == ByteOrder.LITTLE_ENDIAN ? i * 8 : (elementSize - 1 - i) * 8;
+				hash = mixByte(hash, (byte) (value >>> shift));
+			}
+
+		return mix(hash);
+	}
+
+	private static long mixWord(long hash, long word) {
+		return Long.rotateLeft(hash ^ mix(word), 27) * 5 + 0x52dce729;
+	}
+
+	private static long mixByte(long hash, byte b) {
+		return Long.rotateLeft(hash ^ b * 0x87c37b91114253d5L, 31) * 5 + 0x38495ab5;
+	}
+}
@@ -73,6 +73,9 @@ public interface InstantColumn extends Column<Instant> {
 	@Override
 	InstantColumn filter(Predicate<Instant> predicate, boolean keepNulls);
 
+	@Override
+	InstantColumn filterByValue(Instant fromElement, boolean fromInclusive, Instant toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -90,6 +93,30 @@ public interface InstantColumn extends Column<Instant> {
 		return filter(predicate, true);
 	}
 
+	/**
+	 * Returns the seconds from the epoch of the instant at the specified index,
+	 * without creating an {@link Instant}.
+	 * 
+	 * @param index - index of a non-null element
+	 * 
+	 * @return {@link Instant#getEpochSecond()} of the element
+	 * 
+	 * @throws NullPointerException if the element is null
+	 */
+	long getEpochSecond(int index);
+
+	/**
+	 * Returns the nanosecond adjustment of the instant at the specified index,
+	 * without creating an {@link Instant}.
+	 * 
+	 * @param index - index of a non-null element
+	 * 
+	 * @return {@link Instant#getNano()} of the element
+	 * 
+	 * @throws NullPointerException if the element is null
+	 */
+	int getNano(int index);
+
 	/**
 	 * Returns a {@link InstantColumnBuilder builder} with the specified
 	 * characteristic.
@@ -44,6 +44,18 @@ abstract class IntArrayColumn<E, I extends Column<E>, C extends IntArrayColumn<E
 		return elements.get(index);
 	}
 
+	// the packed element at the specified index, relative to the offset
+	int packedAt(int index) {
+		return at(index + offset);
+	}
+
+	// the packed element at the specified index of a column of this kind, or of
+	// its nullable wrapper, where the element must not be null
+	static int packed(Column<?> column, int index) {
+		return column instanceof NullableIntArrayColumn<?, ?, ?, ?> nullable ? nullable.packedAt(index)
+				: ((IntArrayColumn<?, ?, ?>) column).packedAt(index);
+	}
+
 	@Override
 	E getNoOffset(int index) {
 		return packer.unpack(at(index));
@@ -114,10 +126,14 @@ abstract class IntArrayColumn<E, I extends Column<E>, C extends IntArrayColumn<E
 	C applyFilter0(BufferBitSet keep, int cardinality) {
 
 		BigByteBuffer buffer = allocate(cardinality);
-		for (int i = offset; i <= lastIndex(); i++)
-			if (keep.get(i - offset))
-				buffer.putInt(at(i));
-		buffer.flip();
+		SmallIntBuffer filtered = buffer.asIntBuffer();
+
+		int[] offsets = Parallel.filterOffsets(keep, size);
+		Parallel.forEachChunk(size, (fromIndex, toIndex) -> {
+			int j = offsets[fromIndex / Parallel.CHUNK_SIZE];
+			for (int i = keep.nextSetBit(fromIndex); i >= 0 && i < toIndex; i = keep.nextSetBit(i + 1))
+				filtered.put(j++, at(i + offset));
+		});
 
 		return construct(buffer, 0, cardinality, characteristics, false);
 	}
@@ -126,9 +142,12 @@ abstract class IntArrayColumn<E, I extends Column<E>, C extends IntArrayColumn<E
 	C select0(IntColumn indices) {
 
 		BigByteBuffer buffer = allocate(indices.size());
-		for (int i = 0; i < indices.size(); i++)
-			buffer.putInt(at(indices.getInt(i) + offset));
-		buffer.flip();
+		SmallIntBuffer selected = buffer.asIntBuffer();
+
+		Parallel.forEachChunk(indices.size(), (fromIndex, toIndex) -> {
+			for (int i = fromIndex; i < toIndex; i++)
+				selected.put(i, at(indices.getInt(i) + offset));
+		});
 
 		return construct(buffer, 0, indices.size(), NONNULL, false);
 	}
@@ -138,6 +157,11 @@ abstract class IntArrayColumn<E, I extends Column<E>, C extends IntArrayColumn<E
 		return Integer.compare(at(l + offset), rhs.at(r + rhs.offset));
 	}
 
+	@Override
+	int compareValueAt(int index, E value) {
+		return Integer.compare(at(index), packer.pack(value));
+	}
+
 	@Override
 	void intersectLeftSorted(C rhs, IntColumnBuilder indices, BufferBitSet keepRight) {
 
@@ -71,6 +71,19 @@ public interface IntColumn extends Column<Integer> {
 	@Override
 	IntColumn copy();
 
+	@Override
+	IntColumn compact();
+
+	/**
+	 * Returns a run-length encoded version of this column, which stores each run
+	 * of equal consecutive elements only once. Suited to columns with long runs,
+	 * such as the leading columns of an index-organized {@link DataFrame}. Returns
+	 * this column if it is already run-length encoded.
+	 * 
+	 * @return a run-length encoded version of this column
+	 */
+	IntColumn toRunLengthEncoded();
+
 	@Override
 	IntColumn clean(Predicate<Integer> predicate);
 
@@ -91,6 +104,9 @@ public interface IntColumn extends Column<Integer> {
 	@Override
 	IntColumn filter(Predicate<Integer> predicate, boolean keepNulls);
 
+	@Override
+	IntColumn filterByValue(Integer fromElement, boolean fromInclusive, Integer toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -143,13 +159,35 @@ public interface IntColumn extends Column<Integer> {
 	 * Derives a new {@link IntColumn} from this one by applying the specified
 	 * {@link IntUnaryOperator} to each non-null element.
 	 * <p>
+	 * The operator is called on the calling thread, in order. See
+	 * {@link #evaluate(IntUnaryOperator, boolean)} to opt in to parallel execution.
+	 * <p>
 	 * The resulting column will not be flagged as sorted or distinct.
 	 * 
 	 * @param op an {@link IntUnaryOperator}
 	 * 
 	 * @return {@code op(this)}
 	 */
-	IntColumn evaluate(IntUnaryOperator op);
+	default IntColumn evaluate(IntUnaryOperator op) {
+		return evaluate(op, false);
+	}
+
+	/**
+	 * Derives a new {@link IntColumn} from this one by applying the specified
+	 * {@link IntUnaryOperator} to each non-null element.
+	 * <p>
+	 * If {@code parallel} is true and this column is large, elements are processed
+	 * in parallel chunks, so the operator may be called concurrently from several
+	 * threads and in any order. It must then be thread-safe.
+	 * <p>
+	 * The resulting column will not be flagged as sorted or distinct.
+	 * 
+	 * @param op       an {@link IntUnaryOperator}
+	 * @param parallel whether elements may be processed in parallel
+	 * 
+	 * @return {@code op(this)}
+	 */
+	IntColumn evaluate(IntUnaryOperator op, boolean parallel);
 
 	/**
 	 * Primitive specialization of {@link Column#get(int)}.
@@ -191,6 +229,23 @@ public interface IntColumn extends Column<Integer> {
 		return new IntColumnBuilder(characteristic);
 	}
 
+	/**
+	 * Returns an {@link IntColumnBuilder builder} with the specified
+	 * characteristic, and with room for {@code expectedSize} elements before it
+	 * needs to grow. When exactly that many non-null elements are added, the
+	 * built column shares the builder's buffer rather than a copy of it.
+	 * 
+	 * @param characteristic - see {@link #builder(int)}
+	 * @param expectedSize   - the number of elements expected to be added
+	 * 
+	 * @return a new {@link IntColumnBuilder}
+	 * 
+	 * @throws IllegalArgumentException if {@code characteristic} is not valid
+	 */
+	public static IntColumnBuilder builder(int characteristic, int expectedSize) {
+		return new IntColumnBuilder(characteristic).ensureCapacity(expectedSize);
+	}
+
 	/**
 	 * Returns a new {@link IntColumnBuilder}
 	 * <p>
@@ -16,10 +16,12 @@
 
 package tech.bitey.dataframe;
 
+import java.nio.IntBuffer;
 import java.util.Spliterator;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.SmallIntBuffer;
 
 /**
  * A builder for creating {@link IntColumn} instances. Example:
@@ -83,7 +85,57 @@ public final class IntColumnBuilder extends IntArrayColumnBuilder<Integer, IntCo
 	public IntColumnBuilder addAll(int... elements) {
 		ensureAdditionalCapacity(elements.length);
 		this.elements.put(elements);
-		size += elements.length;
+		addedNonNulls(elements.length);
+		return this;
+	}
+
+	/**
+	 * Adds a range of {@code ints} to the column.
+	 *
+	 * @param elements the array containing the {@code ints} to add
+	 * @param offset   index of the first {@code int} to add
+	 * @param length   number of {@code ints} to add
+	 * 
+	 * @return this builder
+	 * 
+	 * @throws IndexOutOfBoundsException if the range is out of bounds for the
+	 *                                   array
+	 */
+	public IntColumnBuilder addAll(int[] elements, int offset, int length) {
+		return addAll(IntBuffer.wrap(elements, offset, length));
+	}
+
+	/**
+	 * Adds the {@code ints} remaining in a buffer to the column. The buffer's
+	 * position is advanced to its limit. A {@link java.nio.ByteBuffer} can be
+	 * added via {@link java.nio.ByteBuffer#asIntBuffer asIntBuffer}.
+	 *
+	 * @param elements the {@code ints} to add
+	 * 
+	 * @return this builder
+	 */
+	public IntColumnBuilder addAll(IntBuffer elements) {
+		int remaining = elements.remaining();
+		ensureAdditionalCapacity(remaining);
+		this.elements.put(elements);
+		addedNonNulls(remaining);
+		return this;
+	}
+
+	/**
+	 * Adds the {@code ints} remaining in a buffer to the column. The buffer's
+	 * position is advanced to its limit.
+	 *
+	 * @param elements the {@code ints} to add
+	 * 
+	 * @return this builder
+	 */
+	@SuppressWarnings("exports") // is this warning a bug in Eclipse?
+	public IntColumnBuilder addAll(SmallIntBuffer elements) {
+		int remaining = elements.remaining();
+		ensureAdditionalCapacity(remaining);
+		this.elements.put(elements);
+		addedNonNulls(remaining);
 		return this;
 	}
 
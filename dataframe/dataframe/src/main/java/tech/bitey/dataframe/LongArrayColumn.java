@@ -44,6 +44,18 @@ abstract class LongArrayColumn<E, I extends Column<E>, C extends LongArrayColumn
 		return elements.get(index);
 	}
 
+	// the packed element at the specified index, relative to the offset
+	long packedAt(int index) {
+		return at(index + offset);
+	}
+
+	// the packed element at the specified index of a column of this kind, or of
+	// its nullable wrapper, where the element must not be null
+	static long packed(Column<?> column, int index) {
+		return column instanceof NullableLongArrayColumn<?, ?, ?, ?> nullable ? nullable.packedAt(index)
+				: ((LongArrayColumn<?, ?, ?>) column).packedAt(index);
+	}
+
 	@Override
 	E getNoOffset(int index) {
 		return packer.unpack(at(index));
@@ -117,10 +129,14 @@ abstract class LongArrayColumn<E, I extends Column<E>, C extends LongArrayColumn
 	C applyFilter0(BufferBitSet keep, int cardinality) {
 
 		BigByteBuffer buffer = allocate(cardinality);
-		for (int i = offset; i <= lastIndex(); i++)
-			if (keep.get(i - offset))
-				buffer.putLong(at(i));
-		buffer.flip();
+		SmallLongBuffer filtered = buffer.asLongBuffer();
+
+		int[] offsets = Parallel.filterOffsets(keep, size);
+		Parallel.forEachChunk(size, (fromIndex, toIndex) -> {
+			int j = offsets[fromIndex / Parallel.CHUNK_SIZE];
+			for (int i = keep.nextSetBit(fromIndex); i >= 0 && i < toIndex; i = keep.nextSetBit(i + 1))
+				filtered.put(j++, at(i + offset));
+		});
 
 		return construct(buffer, 0, cardinality, characteristics, false);
 	}
@@ -129,9 +145,12 @@ abstract class LongArrayColumn<E, I extends Column<E>, C extends LongArrayColumn
 	C select0(IntColumn indices) {
 
 		BigByteBuffer buffer = allocate(indices.size());
-		for (int i = 0; i < indices.size(); i++)
-			buffer.putLong(at(indices.getInt(i) + offset));
-		buffer.flip();
+		SmallLongBuffer selected = buffer.asLongBuffer();
+
+		Parallel.forEachChunk(indices.size(), (fromIndex, toIndex) -> {
+			for (int i = fromIndex; i < toIndex; i++)
+				selected.put(i, at(indices.getInt(i) + offset));
+		});
 
 		return construct(buffer, 0, indices.size(), NONNULL, false);
 	}
@@ -141,6 +160,11 @@ abstract class LongArrayColumn<E, I extends Column<E>, C extends LongArrayColumn
 		return Long.compare(at(l + offset), rhs.at(r + rhs.offset));
 	}
 
+	@Override
+	int compareValueAt(int index, E value) {
+		return Long.compare(at(index), packer.pack(value));
+	}
+
 	@Override
 	void intersectLeftSorted(C rhs, IntColumnBuilder indices, BufferBitSet keepRight) {
 
@@ -32,19 +32,24 @@ abstract class LongArrayColumnBuilder<E, C extends Column<E>, B extends LongArra
 
 	@Override
 	void addNonNull(E element) {
+		addPacked(packer.pack(element));
+	}
+
+	// adds an element which has already been packed
+	void addPacked(long packed) {
 		ensureAdditionalCapacity(1);
-		elements.put(packer.pack(element));
+		elements.put(packed);
 		size++;
 	}
 
 	@Override
-	boolean checkSorted() {
-		return BufferUtils.isSorted(elements, 0, elements.position());
+	boolean checkSorted(int fromIndex) {
+		return BufferUtils.isSorted(elements, fromIndex, elements.position());
 	}
 
 	@Override
-	boolean checkDistinct() {
-		return BufferUtils.isSortedAndDistinct(elements, 0, elements.position());
+	boolean checkDistinct(int fromIndex) {
+		return BufferUtils.isSortedAndDistinct(elements, fromIndex, elements.position());
 	}
 
 	@Override
@@ -16,6 +16,7 @@
 
 package tech.bitey.dataframe;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
@@ -41,11 +42,8 @@ interface LongArrayPacker<E> {
 		@Override
 		public long pack(LocalDateTime value) {
 
-			long packed = (long) value.getYear() << 46 | (long) value.getMonthValue() << 42
-					| (long) value.getDayOfMonth() << 37 | (long) value.getHour() << 32 | (long) value.getMinute() << 26
-					| value.getSecond() << 20 | value.getNano() / 1000;
-
-			return packed;
+			return packDateTime(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(),
+					value.getMinute(), value.getSecond(), value.getNano());
 		}
 
 		@Override
@@ -83,7 +81,32 @@ interface LongArrayPacker<E> {
 		}
 	};
 
+	/**
+	 * Unscaled values of decimals with the specified scale. Throws
+	 * {@link ArithmeticException} if a value has more digits after the decimal
+	 * point than the scale allows, or if its unscaled value does not fit in a
+	 * long.
+	 */
+	static LongArrayPacker<BigDecimal> decimal(int scale) {
+		return new LongArrayPacker<BigDecimal>() {
+			@Override
+			public long pack(BigDecimal value) {
+				return value.setScale(scale).unscaledValue().longValueExact();
+			}
+
+			@Override
+			public BigDecimal unpack(long packed) {
+				return BigDecimal.valueOf(packed, scale);
+			}
+		};
+	}
+
 	long pack(E value);
 
 	E unpack(long packed);
+
+	public static long packDateTime(int year, int month, int day, int hour, int minute, int second, int nano) {
+		return (long) year << 46 | (long) month << 42 | (long) day << 37 | (long) hour << 32 | (long) minute << 26
+				| second << 20 | nano / 1000;
+	}
 }
@@ -71,6 +71,19 @@ public interface LongColumn extends Column<Long> {
 	@Override
 	LongColumn copy();
 
+	@Override
+	LongColumn compact();
+
+	/**
+	 * Returns a run-length encoded version of this column, which stores each run
+	 * of equal consecutive elements only once. Suited to columns with long runs,
+	 * such as the leading columns of an index-organized {@link DataFrame}. Returns
+	 * this column if it is already run-length encoded.
+	 * 
+	 * @return a run-length encoded version of this column
+	 */
+	LongColumn toRunLengthEncoded();
+
 	@Override
 	LongColumn clean(Predicate<Long> predicate);
 
@@ -91,6 +104,9 @@ public interface LongColumn extends Column<Long> {
 	@Override
 	LongColumn filter(Predicate<Long> predicate, boolean keepNulls);
 
+	@Override
+	LongColumn filterByValue(Long fromElement, boolean fromInclusive, Long toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -144,13 +160,35 @@ public interface LongColumn extends Column<Long> {
 	 * Derives a new {@link LongColumn} from this one by applying the specified
 	 * {@link LongUnaryOperator} to each non-null element.
 	 * <p>
+	 * The operator is called on the calling thread, in order. See
+	 * {@link #evaluate(LongUnaryOperator, boolean)} to opt in to parallel execution.
+	 * <p>
 	 * The resulting column will not be flagged as sorted or distinct.
 	 * 
 	 * @param op a {@link LongUnaryOperator}
 	 * 
 	 * @return {@code op(this)}
 	 */
-	LongColumn evaluate(LongUnaryOperator op);
+	default LongColumn evaluate(LongUnaryOperator op) {
+		return evaluate(op, false);
+	}
+
+	/**
+	 * Derives a new {@link LongColumn} from this one by applying the specified
+	 * {@link LongUnaryOperator} to each non-null element.
+	 * <p>
+	 * If {@code parallel} is true and this column is large, elements are processed
+	 * in parallel chunks, so the operator may be called concurrently from several
+	 * threads and in any order. It must then be thread-safe.
+	 * <p>
+	 * The resulting column will not be flagged as sorted or distinct.
+	 * 
+	 * @param op       a {@link LongUnaryOperator}
+	 * @param parallel whether elements may be processed in parallel
+	 * 
+	 * @return {@code op(this)}
+	 */
+	LongColumn evaluate(LongUnaryOperator op, boolean parallel);
 
 	/**
 	 * Primitive specialization of {@link Column#get(int)}.
@@ -192,6 +230,23 @@ public interface LongColumn extends Column<Long> {
 		return new LongColumnBuilder(characteristic);
 	}
 
+	/**
+	 * Returns a {@link LongColumnBuilder builder} with the specified
+	 * characteristic, and with room for {@code expectedSize} elements before it
+	 * needs to grow. When exactly that many non-null elements are added, the
+	 * built column shares the builder's buffer rather than a copy of it.
+	 * 
+	 * @param characteristic - see {@link #builder(int)}
+	 * @param expectedSize   - the number of elements expected to be added
+	 * 
+	 * @return a new {@link LongColumnBuilder}
+	 * 
+	 * @throws IllegalArgumentException if {@code characteristic} is not valid
+	 */
+	public static LongColumnBuilder builder(int characteristic, int expectedSize) {
+		return new LongColumnBuilder(characteristic).ensureCapacity(expectedSize);
+	}
+
 	/**
 	 * Returns a new {@link LongColumnBuilder}
 	 * <p>
@@ -16,10 +16,12 @@
 
 package tech.bitey.dataframe;
 
+import java.nio.LongBuffer;
 import java.util.Spliterator;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.SmallLongBuffer;
 
 /**
  * A builder for creating {@link LongColumn} instances. Example:
@@ -83,7 +85,57 @@ public final class LongColumnBuilder extends LongArrayColumnBuilder<Long, LongCo
 	public LongColumnBuilder addAll(long... elements) {
 		ensureAdditionalCapacity(elements.length);
 		this.elements.put(elements);
-		size += elements.length;
+		addedNonNulls(elements.length);
+		return this;
+	}
+
+	/**
+	 * Adds a range of {@code longs} to the column.
+	 *
+	 * @param elements the array containing the {@code longs} to add
+	 * @param offset   index of the first {@code long} to add
+	 * @param length   number of {@code longs} to add
+	 * 
+	 * @return this builder
+	 * 
+	 * @throws IndexOutOfBoundsException if the range is out of bounds for the
+	 *                                   array
+	 */
+	public LongColumnBuilder addAll(long[] elements, int offset, int length) {
+		return addAll(LongBuffer.wrap(elements, offset, length));
+	}
+
+	/**
+	 * Adds the {@code longs} remaining in a buffer to the column. The buffer's
+	 * position is advanced to its limit. A {@link java.nio.ByteBuffer} can be
+	 * added via {@link java.nio.ByteBuffer#asLongBuffer asLongBuffer}.
+	 *
+	 * @param elements the {@code longs} to add
+	 * 
+	 * @return this builder
+	 */
+	public LongColumnBuilder addAll(LongBuffer elements) {
+		int remaining = elements.remaining();
+		ensureAdditionalCapacity(remaining);
+		this.elements.put(elements);
+		addedNonNulls(remaining);
+		return this;
+	}
+
+	/**
+	 * Adds the {@code longs} remaining in a buffer to the column. The buffer's
+	 * position is advanced to its limit.
+	 *
+	 * @param elements the {@code longs} to add
+	 * 
+	 * @return this builder
+	 */
+	@SuppressWarnings("exports") // is this warning a bug in Eclipse?
+	public LongColumnBuilder addAll(SmallLongBuffer elements) {
+		int remaining = elements.remaining();
+		ensureAdditionalCapacity(remaining);
+		this.elements.put(elements);
+		addedNonNulls(remaining);
 		return this;
 	}
 
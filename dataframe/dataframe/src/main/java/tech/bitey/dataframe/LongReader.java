@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import java.util.Objects;
+
+import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.SmallLongBuffer;
+
+/**
+ * Reads primitive {@code long} values from a {@link LongColumn} by index.
+ * <p>
+ * A reader is bound directly to the column's backing buffer, so that a loop
+ * over {@link #getLong(int)} avoids the interface dispatch and repeated lookups
+ * of {@link DataFrame#getLong(int, int)} or {@link Row#getLong(int)}.
+ * A compacted or run-length encoded column is decoded into a plain buffer
+ * when the reader is created.
+ * <p>
+ * Readers are immutable and safe to share between threads.
+ *
+ * @author biteytech@protonmail.com
+ * 
+ * @see DataFrame#longReader(int)
+ */
+public final class LongReader {
+
+	private final SmallLongBuffer elements;
+	private final int offset;
+	private final int size;
+
+	// null if the column has no null values
+	private final BufferBitSet nonNulls;
+	private final INullCounts nullCounts;
+	private final int elementOffset;
+
+	LongReader(LongColumn column) {
+		if (column instanceof NullableLongColumn nullable) {
+			NonNullLongColumn nonNull = nullable.column.plain();
+			this.elements = nonNull.elements;
+			this.offset = nullable.offset;
+			this.size = nullable.size;
+			this.nonNulls = nullable.nonNulls;
+			this.nullCounts = nullable.nullCounts;
+			this.elementOffset = nonNull.offset;
+		} else {
+			NonNullLongColumn nonNull = ((NonNullLongColumn) column).plain();
+			this.elements = nonNull.elements;
+			this.offset = nonNull.offset;
+			this.size = nonNull.size;
+			this.nonNulls = null;
+			this.nullCounts = null;
+			this.elementOffset = 0;
+		}
+	}
+
+	/**
+	 * Returns the number of values in the underlying column.
+	 * 
+	 * @return the number of values in the underlying column
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns {@code true} if the value at the specified index is null.
+	 * 
+	 * @param index - index of the value
+	 * 
+	 * @return {@code true} if the value at the specified index is null
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or is not
+	 *                                   less than {@link #size()}
+	 */
+	public boolean isNull(int index) {
+		Objects.checkIndex(index, size);
+		return nonNulls != null && !nonNulls.get(index + offset);
+	}
+
+	/**
+	 * Returns the value at the specified index.
+	 * 
+	 * @param index - index of the value
+	 * 
+	 * @return the value at the specified index
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or is not
+	 *                                   less than {@link #size()}
+	 * @throws NullPointerException      if the value at the specified index is
+	 *                                   null
+	 */
+	public long getLong(int index) {
+		Objects.checkIndex(index, size);
+
+		if (nonNulls == null)
+			return elements.get(index + offset);
+		else if (nonNulls.get(index + offset))
+			return elements.get(nullCounts.nonNullIndex(index + offset) + elementOffset);
+		else
+			throw new NullPointerException();
+	}
+
+	/**
+	 * Returns the value at the specified index, or {@code nullValue} if that value
+	 * is null.
+	 * 
+	 * @param index     - index of the value
+	 * @param nullValue - the value to return in place of null
+	 * 
+	 * @return the value at the specified index, or {@code nullValue}
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or is not
+	 *                                   less than {@link #size()}
+	 */
+	public long getLong(int index, long nullValue) {
+		Objects.checkIndex(index, size);
+
+		if (nonNulls == null)
+			return elements.get(index + offset);
+		else if (nonNulls.get(index + offset))
+			return elements.get(nullCounts.nonNullIndex(index + offset) + elementOffset);
+		else
+			return nullValue;
+	}
+}
@@ -21,6 +21,7 @@ import static tech.bitey.bufferstuff.BufferUtils.EMPTY_BIG_BUFFER;
 import java.io.InputStream;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.BufferBitSet;
 
 final class NonNullBlobColumn extends NonNullVarLenColumn<InputStream, BlobColumn, NonNullBlobColumn>
 		implements BlobColumn {
@@ -53,4 +54,9 @@ final class NonNullBlobColumn extends NonNullVarLenColumn<InputStream, BlobColum
 	boolean checkType(Object o) {
 		return o instanceof InputStream;
 	}
+
+	@Override
+	BufferBitSet valuesInRange(ValueRange<InputStream> range) {
+		throw new UnsupportedOperationException("filterByValue");
+	}
 }
@@ -25,6 +25,8 @@ import static tech.bitey.bufferstuff.BufferBitSet.EMPTY_BITSET;
 import java.io.IOException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import tech.bitey.bufferstuff.BufferBitSet;
@@ -81,6 +83,11 @@ final class NonNullBooleanColumn extends NonNullColumn<Boolean, BooleanColumn, N
 		return EMPTY;
 	}
 
+	@Override
+	long byteSize() {
+		return (size + 7) / 8;
+	}
+
 	@Override
 	public boolean getBoolean(int index) {
 		Objects.checkIndex(index, size);
@@ -144,6 +151,26 @@ final class NonNullBooleanColumn extends NonNullColumn<Boolean, BooleanColumn, N
 		return new NonNullBooleanColumn(elements, 0, this.size() + tail.size(), false);
 	}
 
+	@Override
+	NonNullBooleanColumn appendAllNonNull(List<NonNullBooleanColumn> tails) {
+
+		final List<NonNullBooleanColumn> columns = new ArrayList<>(tails.size() + 1);
+		columns.add(this);
+		columns.addAll(tails);
+
+		BufferBitSet elements = new BufferBitSet();
+		int size = 0;
+
+		for (NonNullBooleanColumn column : columns) {
+			for (int i = 0; i < column.size; i++)
+				if (column.elements.get(column.offset + i))
+					elements.set(size + i);
+			size += column.size;
+		}
+
+		return new NonNullBooleanColumn(elements, 0, size, false);
+	}
+
 	@Override
 	int intersectBothSorted(NonNullBooleanColumn rhs, BufferBitSet keepLeft, BufferBitSet keepRight) {
 		throw new UnsupportedOperationException("intersectBothSorted");
@@ -159,6 +186,11 @@ final class NonNullBooleanColumn extends NonNullColumn<Boolean, BooleanColumn, N
 		throw new UnsupportedOperationException("compareValuesAt");
 	}
 
+	@Override
+	BufferBitSet valuesInRange(ValueRange<Boolean> range) {
+		throw new UnsupportedOperationException("filterByValue");
+	}
+
 	@Override
 	NonNullBooleanColumn toSorted0() {
 		throw new UnsupportedOperationException("toSorted");
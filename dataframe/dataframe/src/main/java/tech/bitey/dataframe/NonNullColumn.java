@@ -27,11 +27,10 @@ import java.math.BigDecimal;
 import java.nio.channels.ReadableByteChannel;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -41,6 +40,9 @@ import java.util.function.ToLongFunction;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.BufferSort;
+import tech.bitey.bufferstuff.BufferUtils;
+import tech.bitey.bufferstuff.SmallIntBuffer;
 
 @SuppressWarnings({ "unchecked", "rawtypes" })
 abstract class NonNullColumn<E, I extends Column<E>, C extends NonNullColumn<E, I, C>> extends AbstractColumn<E, I, C> {
@@ -142,6 +144,21 @@ abstract class NonNullColumn<E, I extends Column<E>, C extends NonNullColumn<E,
 
 	abstract C appendNonNull(C tail);
 
+	// appends the tails in a single pass, into a result sized for all of them
+	abstract C appendAllNonNull(List<C> tails);
+
+	@Override
+	I appendAll0(List<Column<E>> tails) {
+
+		for (Column<E> tail : tails) {
+			if (!tail.isNonnull())
+				return (I) ((NullableColumn) tail).appendAll(this, tails);
+			checkArgument(characteristics == tail.characteristics(), "both columns must have the same characteristics");
+		}
+
+		return (I) appendAllNonNull((List) tails);
+	}
+
 	@Override
 	I append0(Column<E> tail) {
 
@@ -206,11 +223,6 @@ abstract class NonNullColumn<E, I extends Column<E>, C extends NonNullColumn<E,
 			return hashCode(offset, lastIndex());
 	}
 
-	@Override
-	public Spliterator<E> spliterator() {
-		return Spliterators.spliterator(this, characteristics);
-	}
-
 	@Override
 	public int indexOf(Object o) {
 		if (!checkType(o))
@@ -229,6 +241,87 @@ abstract class NonNullColumn<E, I extends Column<E>, C extends NonNullColumn<E,
 		return index < 0 ? -1 : index - offset;
 	}
 
+	/*
+	 * Compares the element at the specified (absolute) index to the specified
+	 * value, in the same order used by toSorted()
+	 */
+	int compareValueAt(int index, E value) {
+		return getType().compare(getNoOffset(index), value);
+	}
+
+	@Override
+	int indicesOf0(Column<E> keys, SmallIntBuffer indices, BufferBitSet found) {
+
+		if (!isSorted())
+			return super.indicesOf0(keys, indices, found);
+
+		// positions of the non-null keys, in ascending order of key
+		int count = 0;
+		SmallIntBuffer order = BufferUtils.allocateBig((long) keys.size() * 4).asIntBuffer();
+		for (int i = 0; i < keys.size(); i++)
+			if (!keys.isNull(i))
+				order.put(count++, i);
+		final ColumnType<E> type = getType();
+		if (!keys.isSorted())
+			BufferSort.heapSort(order, (l, r) -> type.compare(keys.get(l), keys.get(r)), 0, count);
+
+		int cardinality = 0;
+		int from = offset;
+		int index = -1;
+		E previous = null;
+		for (int k = 0; k < count; k++) {
+			final int position = order.get(k);
+			final E key = keys.get(position);
+
+			// consecutive equal keys share the same result
+			if (previous == null || type.compare(previous, key) != 0) {
+				from = gallop(key, from);
+				index = from <= lastIndex() && compareValueAt(from, key) == 0 ? from : -1;
+				previous = key;
+			}
+
+			if (index >= 0) {
+				indices.put(position, index - offset);
+				found.set(position);
+				cardinality++;
+			}
+		}
+
+		return cardinality;
+	}
+
+	/*
+	 * Returns the lowest (absolute) index at or after fromIndex whose element is
+	 * not less than the specified key, probing 1, 2, 4, ... elements ahead before
+	 * falling back to a binary search.
+	 */
+	private int gallop(E key, int fromIndex) {
+
+		final int end = offset + size;
+
+		int low = fromIndex;
+		int high = fromIndex;
+		for (int step = 1; high < end && compareValueAt(high, key) < 0; step <<= 1) {
+			low = high + 1;
+			high = end - high > step ? high + step : end;
+		}
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compareValueAt(mid, key) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+
+		return low;
+	}
+
+	@Override
+	Column<E> expand(BufferBitSet positions, int size) {
+		return getType().nullableConstructor().create(toHeap(), positions, null, 0, size);
+	}
+
 	@Override
 	public boolean contains(Object o) {
 		return o == null ? false : indexOf(o) != -1;
@@ -669,6 +762,95 @@ abstract class NonNullColumn<E, I extends Column<E>, C extends NonNullColumn<E,
 		return (C) applyFilter(keep, cardinality);
 	}
 
+	// computed on first use by zoneMap(), or read from a file. Benign race, since
+	// ZoneMap is immutable.
+	ZoneMap<E> zoneMap;
+
+	ZoneMap<E> zoneMap() {
+		ZoneMap<E> zoneMap = this.zoneMap;
+		if (zoneMap == null)
+			this.zoneMap = zoneMap = ZoneMap.of(this);
+		return zoneMap;
+	}
+
+	@Override
+	BufferBitSet valuesInRange(ValueRange<E> range) {
+
+		final ZoneMap<E> zoneMap = zoneMap();
+
+		return Parallel.bitSet(size, (fromIndex, toIndex) -> zoneMap.test(this, range, fromIndex, toIndex));
+	}
+
+	/*
+	 * 64-bit hash of the element at the specified (absolute) index, for estimating
+	 * distinct counts
+	 */
+	long hash64(int index) {
+		return HyperLogLog.mix(getNoOffset(index).hashCode());
+	}
+
+	// minimum and maximum (absolute) index of a chunk, and a sketch of its elements
+	private record ChunkStatistics(int minIndex, int maxIndex, HyperLogLog sketch) {
+	}
+
+	@Override
+	ColumnStatistics<E> computeStatistics() {
+
+		if (size == 0)
+			return new ColumnStatistics<>(0, 0, 0, 0, empty());
+		else if (isDistinct())
+			return new ColumnStatistics<>(size, 0, byteSize(), size, select(IntColumn.of(0, size - 1)));
+
+		// no need to look for the minimum and maximum of a sorted column
+		final boolean ordered = getType() != ColumnType.BLOB && !isSorted();
+
+		List<ChunkStatistics> chunks = Parallel.mapChunks(size, (fromIndex, toIndex) -> {
+
+			final HyperLogLog sketch = new HyperLogLog();
+
+			int minIndex = fromIndex + offset, maxIndex = minIndex;
+			E min = getNoOffset(minIndex), max = min;
+			for (int i = fromIndex + offset; i < toIndex + offset; i++) {
+				sketch.add(hash64(i));
+
+				if (!ordered)
+					continue;
+				if (compareValueAt(i, min) < 0)
+					min = getNoOffset(minIndex = i);
+				else if (compareValueAt(i, max) > 0)
+					max = getNoOffset(maxIndex = i);
+			}
+
+			return new ChunkStatistics(minIndex, maxIndex, sketch);
+		});
+
+		final HyperLogLog sketch = chunks.get(0).sketch();
+		int minIndex = chunks.get(0).minIndex(), maxIndex = chunks.get(0).maxIndex();
+		for (int i = 1; i < chunks.size(); i++) {
+			ChunkStatistics chunk = chunks.get(i);
+			sketch.merge(chunk.sketch());
+
+			if (!ordered)
+				continue;
+			if (compareValueAt(chunk.minIndex(), getNoOffset(minIndex)) < 0)
+				minIndex = chunk.minIndex();
+			if (compareValueAt(chunk.maxIndex(), getNoOffset(maxIndex)) > 0)
+				maxIndex = chunk.maxIndex();
+		}
+
+		final Column<E> bounds;
+		if (getType() == ColumnType.BLOB)
+			bounds = empty();
+		else if (isSorted())
+			bounds = select(IntColumn.of(0, size - 1));
+		else
+			bounds = select(IntColumn.of(minIndex - offset, maxIndex - offset));
+
+		final long distinctCount = Math.max(1, Math.min(sketch.estimate(), size));
+
+		return new ColumnStatistics<>(size, 0, byteSize(), distinctCount, bounds);
+	}
+
 	private int filter00(Predicate<E> predicate, BufferBitSet filter) {
 
 		int cardinality = 0;
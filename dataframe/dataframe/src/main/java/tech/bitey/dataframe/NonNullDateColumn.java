@@ -21,6 +21,10 @@ import static java.util.Spliterator.SORTED;
 import static tech.bitey.bufferstuff.BufferUtils.EMPTY_BIG_BUFFER;
 import static tech.bitey.dataframe.IntArrayPacker.LOCAL_DATE;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,7 +32,8 @@ import java.util.Objects;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
 
-final class NonNullDateColumn extends IntArrayColumn<LocalDate, DateColumn, NonNullDateColumn> implements DateColumn {
+sealed class NonNullDateColumn extends IntArrayColumn<LocalDate, DateColumn, NonNullDateColumn> implements DateColumn
+		permits RunLengthDateColumn {
 
 	static final Map<Integer, NonNullDateColumn> EMPTY = new HashMap<>();
 	static {
@@ -73,4 +78,51 @@ final class NonNullDateColumn extends IntArrayColumn<LocalDate, DateColumn, NonN
 	boolean checkType(Object o) {
 		return o instanceof LocalDate;
 	}
+
+	@Override
+	public DateColumn toRunLengthEncoded() {
+		return RunLengthDateColumn.encode(this);
+	}
+
+	@Override
+	boolean equals0(NonNullDateColumn rhs, int lStart, int rStart, int length) {
+
+		if (rhs instanceof RunLengthDateColumn)
+			return rhs.equals0(this, rStart, lStart, length);
+		else
+			return super.equals0(rhs, lStart, rStart, length);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel) throws IOException {
+
+		final ByteOrder order = buffer.order();
+
+		writeByteOrder(channel, order);
+		writeInt(channel, order, size);
+		BitPacking.writeByte(channel, BitPacking.PLAIN);
+
+		writeBuffer(channel, slice0());
+	}
+
+	@Override
+	NonNullDateColumn readFrom(ReadableByteChannel channel, int version, boolean map) throws IOException {
+
+		if (version < 12)
+			return super.readFrom(channel, version, map);
+
+		final ByteOrder order = readByteOrder(channel);
+		final int size = readInt(channel, order);
+		final byte encoding = BitPacking.readEncoding(channel);
+
+		if (encoding == BitPacking.RUN) {
+			NonNullIntColumn values = NonNullIntColumn.empty(NONNULL_CHARACTERISTICS).readFrom(channel, version, map);
+			Runs runs = Runs.readFrom(channel, version, map);
+			return new RunLengthDateColumn(values, runs, 0, size, characteristics, false);
+		}
+
+		Pr.checkState(encoding == BitPacking.PLAIN, "bad DATE encoding: " + (char) encoding);
+
+		return readFrom0(channel, order, readBuffer(channel, order, map), size);
+	}
 }
@@ -52,7 +52,7 @@ final class NonNullDoubleColumn extends NonNullSingleBufferColumn<Double, Double
 		return EMPTY.get(characteristics | NONNULL_CHARACTERISTICS);
 	}
 
-	private final SmallDoubleBuffer elements;
+	final SmallDoubleBuffer elements;
 
 	NonNullDoubleColumn(BigByteBuffer buffer, int offset, int size, int characteristics, boolean view) {
 		super(buffer, offset, size, characteristics, view);
@@ -156,10 +156,14 @@ final class NonNullDoubleColumn extends NonNullSingleBufferColumn<Double, Double
 	NonNullDoubleColumn applyFilter0(BufferBitSet keep, int cardinality) {
 
 		BigByteBuffer buffer = allocate(cardinality);
-		for (int i = offset; i <= lastIndex(); i++)
-			if (keep.get(i - offset))
-				buffer.putDouble(at(i));
-		buffer.flip();
+		SmallDoubleBuffer filtered = buffer.asDoubleBuffer();
+
+		int[] offsets = Parallel.filterOffsets(keep, size);
+		Parallel.forEachChunk(size, (fromIndex, toIndex) -> {
+			int j = offsets[fromIndex / Parallel.CHUNK_SIZE];
+			for (int i = keep.nextSetBit(fromIndex); i >= 0 && i < toIndex; i = keep.nextSetBit(i + 1))
+				filtered.put(j++, at(i + offset));
+		});
 
 		return new NonNullDoubleColumn(buffer, 0, cardinality, characteristics, false);
 	}
@@ -168,9 +172,12 @@ final class NonNullDoubleColumn extends NonNullSingleBufferColumn<Double, Double
 	NonNullDoubleColumn select0(IntColumn indices) {
 
 		BigByteBuffer buffer = allocate(indices.size());
-		for (int i = 0; i < indices.size(); i++)
-			buffer.putDouble(at(indices.getInt(i) + offset));
-		buffer.flip();
+		SmallDoubleBuffer selected = buffer.asDoubleBuffer();
+
+		Parallel.forEachChunk(indices.size(), (fromIndex, toIndex) -> {
+			for (int i = fromIndex; i < toIndex; i++)
+				selected.put(i, at(indices.getInt(i) + offset));
+		});
 
 		return construct(buffer, 0, indices.size(), NONNULL, false);
 	}
@@ -258,15 +265,15 @@ final class NonNullDoubleColumn extends NonNullSingleBufferColumn<Double, Double
 	}
 
 	@Override
-	public DoubleColumn evaluate(DoubleUnaryOperator op) {
+	public DoubleColumn evaluate(DoubleUnaryOperator op, boolean parallel) {
 
 		final BigByteBuffer bb = allocate(size);
 		final SmallDoubleBuffer buf = bb.asDoubleBuffer();
 
-		for (int i = offset; i <= lastIndex(); i++) {
-			double value = op.applyAsDouble(at(i));
-			buf.put(value);
-		}
+		Parallel.forEachChunk(parallel, size, (fromIndex, toIndex) -> {
+			for (int i = fromIndex; i < toIndex; i++)
+				buf.put(i, op.applyAsDouble(at(i + offset)));
+		});
 
 		return new NonNullDoubleColumn(bb, 0, size, NONNULL_CHARACTERISTICS, false);
 	}
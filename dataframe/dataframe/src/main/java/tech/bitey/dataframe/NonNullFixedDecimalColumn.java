@@ -0,0 +1,218 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static java.util.Spliterator.DISTINCT;
+import static java.util.Spliterator.SORTED;
+import static tech.bitey.bufferstuff.BufferUtils.EMPTY_BIG_BUFFER;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.BufferBitSet;
+
+final class NonNullFixedDecimalColumn
+		extends LongArrayColumn<BigDecimal, FixedDecimalColumn, NonNullFixedDecimalColumn>
+		implements FixedDecimalColumn {
+
+	static final Map<Integer, NonNullFixedDecimalColumn> EMPTY = new HashMap<>();
+	static {
+		EMPTY.computeIfAbsent(NONNULL_CHARACTERISTICS,
+				c -> new NonNullFixedDecimalColumn(EMPTY_BIG_BUFFER, 0, 0, 0, c, false));
+		EMPTY.computeIfAbsent(NONNULL_CHARACTERISTICS | SORTED,
+				c -> new NonNullFixedDecimalColumn(EMPTY_BIG_BUFFER, 0, 0, 0, c, false));
+		EMPTY.computeIfAbsent(NONNULL_CHARACTERISTICS | SORTED | DISTINCT,
+				c -> new NonNullFixedDecimalColumn(EMPTY_BIG_BUFFER, 0, 0, 0, c, false));
+	}
+
+	static NonNullFixedDecimalColumn empty(int characteristics) {
+		return EMPTY.get(characteristics | NONNULL_CHARACTERISTICS);
+	}
+
+	private final int scale;
+
+	NonNullFixedDecimalColumn(BigByteBuffer buffer, int scale, int offset, int size, int characteristics,
+			boolean view) {
+		super(buffer, LongArrayPacker.decimal(scale), offset, size, characteristics, view);
+
+		this.scale = scale;
+	}
+
+	@Override
+	NonNullFixedDecimalColumn construct(BigByteBuffer buffer, int offset, int size, int characteristics,
+			boolean view) {
+		return new NonNullFixedDecimalColumn(buffer, scale, offset, size, characteristics, view);
+	}
+
+	@Override
+	NonNullFixedDecimalColumn empty() {
+		return construct(EMPTY_BIG_BUFFER, 0, 0, characteristics, false);
+	}
+
+	@Override
+	public ColumnType<BigDecimal> getType() {
+		return ColumnType.FDECIMAL;
+	}
+
+	@Override
+	boolean checkType(Object o) {
+		return o instanceof BigDecimal;
+	}
+
+	@Override
+	public int scale() {
+		return scale;
+	}
+
+	@Override
+	public long getUnscaled(int index) {
+		Objects.checkIndex(index, size);
+		return at(index + offset);
+	}
+
+	@Override
+	public BigDecimal sum() {
+
+		BigInteger sum = BigInteger.ZERO;
+		for (BigInteger chunk : Parallel.mapChunks(size, this::sum))
+			sum = sum.add(chunk);
+
+		return new BigDecimal(sum, scale);
+	}
+
+	private BigInteger sum(int fromIndex, int toIndex) {
+
+		long sum = 0;
+		int i = fromIndex;
+		for (; i < toIndex; i++) {
+			long value = at(i + offset);
+			long next = sum + value;
+
+			// overflow if both operands have the opposite sign of the result
+			if (((sum ^ next) & (value ^ next)) < 0)
+				break;
+
+			sum = next;
+		}
+
+		if (i == toIndex)
+			return BigInteger.valueOf(sum);
+
+		BigInteger big = BigInteger.valueOf(sum);
+		for (; i < toIndex; i++)
+			big = big.add(BigInteger.valueOf(at(i + offset)));
+
+		return big;
+	}
+
+	@Override
+	int search(BigDecimal value, boolean first) {
+
+		try {
+			packer.pack(value);
+		} catch (ArithmeticException e) {
+			if (!isSorted())
+				return -1;
+
+			// no element equals the value, so return its insertion point
+			int low = offset;
+			int high = offset + size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (compareValueAt(mid, value) < 0)
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			return -(low + 1);
+		}
+
+		return super.search(value, first);
+	}
+
+	@Override
+	int compareValueAt(int index, BigDecimal value) {
+		if (value.scale() == scale && value.unscaledValue().bitLength() < 64)
+			return Long.compare(at(index), value.unscaledValue().longValue());
+		else
+			return getNoOffset(index).compareTo(value);
+	}
+
+	@Override
+	int compareValuesAt(NonNullFixedDecimalColumn rhs, int l, int r) {
+		if (scale == rhs.scale)
+			return super.compareValuesAt(rhs, l, r);
+		else
+			return getNoOffset(l + offset).compareTo(rhs.getNoOffset(r + rhs.offset));
+	}
+
+	@Override
+	void intersectLeftSorted(NonNullFixedDecimalColumn rhs, IntColumnBuilder indices, BufferBitSet keepRight) {
+
+		if (scale == rhs.scale) {
+			super.intersectLeftSorted(rhs, indices, keepRight);
+			return;
+		}
+
+		for (int i = rhs.offset; i <= rhs.lastIndex(); i++) {
+
+			int leftIndex = search(rhs.getNoOffset(i), true);
+			if (leftIndex >= offset && leftIndex <= lastIndex()) {
+
+				indices.add(leftIndex - offset);
+				keepRight.set(i - rhs.offset);
+			}
+		}
+	}
+
+	@Override
+	boolean equals0(NonNullFixedDecimalColumn rhs, int lStart, int rStart, int length) {
+		// BigDecimal.equals compares scales
+		return (scale == rhs.scale || length == 0) && super.equals0(rhs, lStart, rStart, length);
+	}
+
+	@Override
+	NonNullFixedDecimalColumn appendAllNonNull(List<NonNullFixedDecimalColumn> tails) {
+		for (NonNullFixedDecimalColumn tail : tails)
+			Pr.checkArgument(scale == tail.scale, "both columns must have the same scale");
+		return super.appendAllNonNull(tails);
+	}
+
+	@Override
+	void writeTo0(WritableByteChannel channel, ByteOrder order) throws IOException {
+		writeInt(channel, order, scale);
+	}
+
+	@Override
+	NonNullFixedDecimalColumn readFrom0(ReadableByteChannel channel, ByteOrder order, BigByteBuffer bbb, int size)
+			throws IOException {
+
+		int scale = readInt(channel, order);
+
+		return new NonNullFixedDecimalColumn(bbb, scale, 0, size, characteristics, false);
+	}
+}
@@ -23,6 +23,7 @@ import static tech.bitey.bufferstuff.BufferUtils.EMPTY_BIG_BUFFER;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
 
@@ -67,6 +68,18 @@ final class NonNullInstantColumn extends NonNullFixedLenColumn<Instant, InstantC
 		buffer.putInt(lindex + 8, nanos);
 	}
 
+	@Override
+	public long getEpochSecond(int index) {
+		Objects.checkIndex(index, size);
+		return second(index + offset);
+	}
+
+	@Override
+	public int getNano(int index) {
+		Objects.checkIndex(index, size);
+		return nano(index + offset);
+	}
+
 	@Override
 	Instant getNoOffset(int index) {
 		return Instant.ofEpochSecond(second(index), nano(index));
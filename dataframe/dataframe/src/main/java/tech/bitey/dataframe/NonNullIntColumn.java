@@ -21,6 +21,10 @@ import static java.util.Spliterator.SORTED;
 import static tech.bitey.bufferstuff.BufferUtils.EMPTY_BIG_BUFFER;
 import static tech.bitey.dataframe.IntArrayPacker.INTEGER;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -33,7 +37,8 @@ import tech.bitey.bufferstuff.BufferBitSet;
 import tech.bitey.bufferstuff.BufferUtils;
 import tech.bitey.bufferstuff.SmallIntBuffer;
 
-final class NonNullIntColumn extends IntArrayColumn<Integer, IntColumn, NonNullIntColumn> implements IntColumn {
+sealed class NonNullIntColumn extends IntArrayColumn<Integer, IntColumn, NonNullIntColumn> implements IntColumn
+		permits PackedIntColumn, RunLengthIntColumn {
 
 	static final Map<Integer, NonNullIntColumn> EMPTY = new HashMap<>();
 	static {
@@ -132,16 +137,85 @@ final class NonNullIntColumn extends IntArrayColumn<Integer, IntColumn, NonNullI
 	}
 
 	@Override
-	public IntColumn evaluate(IntUnaryOperator op) {
+	public IntColumn evaluate(IntUnaryOperator op, boolean parallel) {
 
 		final BigByteBuffer bb = allocate(size);
 		final SmallIntBuffer buf = bb.asIntBuffer();
 
-		for (int i = offset; i <= lastIndex(); i++) {
-			int value = op.applyAsInt(at(i));
-			buf.put(value);
-		}
+		Parallel.forEachChunk(parallel, size, (fromIndex, toIndex) -> {
+			for (int i = fromIndex; i < toIndex; i++)
+				buf.put(i, op.applyAsInt(at(i + offset)));
+		});
 
 		return new NonNullIntColumn(bb, 0, size, NONNULL_CHARACTERISTICS, false);
 	}
+
+	@Override
+	public IntColumn compact() {
+
+		PackedLongs packed = PackedLongs.pack(size, 4, buffer.order(), i -> at(i + offset));
+
+		return packed == null ? this : new PackedIntColumn(packed, 0, size, characteristics, false);
+	}
+
+	@Override
+	public IntColumn toRunLengthEncoded() {
+		return RunLengthIntColumn.encode(this);
+	}
+
+	// this column, or the elements of a compacted or run-length encoded column
+	// decoded into a plain buffer
+	NonNullIntColumn plain() {
+		return this;
+	}
+
+	@Override
+	boolean equals0(NonNullIntColumn rhs, int lStart, int rStart, int length) {
+
+		if (rhs instanceof PackedIntColumn || rhs instanceof RunLengthIntColumn)
+			return rhs.equals0(this, rStart, lStart, length);
+		else
+			return super.equals0(rhs, lStart, rStart, length);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel) throws IOException {
+		writeTo(channel, false);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
+
+		final ByteOrder order = buffer.order();
+
+		writeByteOrder(channel, order);
+		writeInt(channel, order, size);
+
+		if (!BitPacking.write(channel, order, size, 4, i -> at(i + offset), compact))
+			writeBuffer(channel, slice0());
+	}
+
+	@Override
+	NonNullIntColumn readFrom(ReadableByteChannel channel, int version, boolean map) throws IOException {
+
+		if (version < 8)
+			return super.readFrom(channel, version, map);
+
+		final ByteOrder order = readByteOrder(channel);
+		final int size = readInt(channel, order);
+		final byte encoding = BitPacking.readEncoding(channel);
+
+		if (encoding == BitPacking.PLAIN)
+			return readFrom0(channel, order, readBuffer(channel, order, map), size);
+
+		if (encoding == BitPacking.RUN) {
+			NonNullIntColumn values = empty(NONNULL_CHARACTERISTICS).readFrom(channel, version, map);
+			Runs runs = Runs.readFrom(channel, version, map);
+			return new RunLengthIntColumn(values, runs, 0, size, characteristics, false);
+		}
+
+		PackedLongs packed = PackedLongs.readFrom(channel, order, encoding, size, map);
+
+		return new PackedIntColumn(packed, 0, size, characteristics, false);
+	}
 }
@@ -21,6 +21,10 @@ import static java.util.Spliterator.SORTED;
 import static tech.bitey.bufferstuff.BufferUtils.EMPTY_BIG_BUFFER;
 import static tech.bitey.dataframe.LongArrayPacker.LONG;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -33,7 +37,8 @@ import tech.bitey.bufferstuff.BufferBitSet;
 import tech.bitey.bufferstuff.BufferUtils;
 import tech.bitey.bufferstuff.SmallLongBuffer;
 
-final class NonNullLongColumn extends LongArrayColumn<Long, LongColumn, NonNullLongColumn> implements LongColumn {
+sealed class NonNullLongColumn extends LongArrayColumn<Long, LongColumn, NonNullLongColumn> implements LongColumn
+		permits PackedLongColumn, RunLengthLongColumn {
 
 	static final Map<Integer, NonNullLongColumn> EMPTY = new HashMap<>();
 	static {
@@ -132,16 +137,85 @@ final class NonNullLongColumn extends LongArrayColumn<Long, LongColumn, NonNullL
 	}
 
 	@Override
-	public LongColumn evaluate(LongUnaryOperator op) {
+	public LongColumn evaluate(LongUnaryOperator op, boolean parallel) {
 
 		final BigByteBuffer bb = allocate(size);
 		final SmallLongBuffer buf = bb.asLongBuffer();
 
-		for (int i = offset; i <= lastIndex(); i++) {
-			long value = op.applyAsLong(at(i));
-			buf.put(value);
-		}
+		Parallel.forEachChunk(parallel, size, (fromIndex, toIndex) -> {
+			for (int i = fromIndex; i < toIndex; i++)
+				buf.put(i, op.applyAsLong(at(i + offset)));
+		});
 
 		return new NonNullLongColumn(bb, 0, size, NONNULL_CHARACTERISTICS, false);
 	}
+
+	@Override
+	public LongColumn compact() {
+
+		PackedLongs packed = PackedLongs.pack(size, 8, buffer.order(), i -> at(i + offset));
+
+		return packed == null ? this : new PackedLongColumn(packed, 0, size, characteristics, false);
+	}
+
+	@Override
+	public LongColumn toRunLengthEncoded() {
+		return RunLengthLongColumn.encode(this);
+	}
+
+	// this column, or the elements of a compacted or run-length encoded column
+	// decoded into a plain buffer
+	NonNullLongColumn plain() {
+		return this;
+	}
+
+	@Override
+	boolean equals0(NonNullLongColumn rhs, int lStart, int rStart, int length) {
+
+		if (rhs instanceof PackedLongColumn || rhs instanceof RunLengthLongColumn)
+			return rhs.equals0(this, rStart, lStart, length);
+		else
+			return super.equals0(rhs, lStart, rStart, length);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel) throws IOException {
+		writeTo(channel, false);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
+
+		final ByteOrder order = buffer.order();
+
+		writeByteOrder(channel, order);
+		writeInt(channel, order, size);
+
+		if (!BitPacking.write(channel, order, size, 8, i -> at(i + offset), compact))
+			writeBuffer(channel, slice0());
+	}
+
+	@Override
+	NonNullLongColumn readFrom(ReadableByteChannel channel, int version, boolean map) throws IOException {
+
+		if (version < 8)
+			return super.readFrom(channel, version, map);
+
+		final ByteOrder order = readByteOrder(channel);
+		final int size = readInt(channel, order);
+		final byte encoding = BitPacking.readEncoding(channel);
+
+		if (encoding == BitPacking.PLAIN)
+			return readFrom0(channel, order, readBuffer(channel, order, map), size);
+
+		if (encoding == BitPacking.RUN) {
+			NonNullLongColumn values = empty(NONNULL_CHARACTERISTICS).readFrom(channel, version, map);
+			Runs runs = Runs.readFrom(channel, version, map);
+			return new RunLengthLongColumn(values, runs, 0, size, characteristics, false);
+		}
+
+		PackedLongs packed = PackedLongs.readFrom(channel, order, encoding, size, map);
+
+		return new PackedLongColumn(packed, 0, size, characteristics, false);
+	}
 }
@@ -25,6 +25,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.List;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferUtils;
@@ -54,20 +55,30 @@ abstract class NonNullSingleBufferColumn<E, I extends Column<E>, C extends NonNu
 		return construct(buffer, offset, size, characteristics, view);
 	}
 
+	// an empty buffer, for a column whose elements are encoded elsewhere
+	static BigByteBuffer emptyBuffer(ByteOrder order) {
+		return BufferUtils.allocateBig(0, order);
+	}
+
+	// a copy of the elements in a new buffer, which sort and deduplicate modify in place
+	C bufferCopy() {
+		return copy();
+	}
+
 	abstract void sort();
 
 	abstract int deduplicate();
 
 	@Override
 	C toSorted0() {
-		C copy = copy();
+		C copy = bufferCopy();
 		copy.sort();
 		return copy.withCharacteristics(SORTED);
 	}
 
 	@Override
 	C toDistinct0(boolean sort) {
-		C copy = copy();
+		C copy = bufferCopy();
 		if (sort)
 			copy.sort();
 
@@ -100,19 +111,37 @@ abstract class NonNullSingleBufferColumn<E, I extends Column<E>, C extends NonNu
 
 	@Override
 	C appendNonNull(C tail) {
+		return appendAllNonNull(List.of(tail));
+	}
+
+	@Override
+	C appendAllNonNull(List<C> tails) {
 
-		final int size = size() + tail.size();
+		int size = size();
+		for (C tail : tails)
+			size += tail.size();
 
 		BigByteBuffer buffer = allocate(size);
 
 		buffer.put(this.slice0());
-		buffer.put(tail.slice0());
+		for (C tail : tails)
+			buffer.put(tail.slice0());
 
 		buffer.flip();
 
 		return construct(buffer, 0, size, characteristics, false);
 	}
 
+	@Override
+	long hash64(int index) {
+		return HyperLogLog.hash(buffer, (long) index * elementSize(), (long) (index + 1) * elementSize());
+	}
+
+	@Override
+	long byteSize() {
+		return (long) size * elementSize();
+	}
+
 	BigByteBuffer slice0() {
 		return buffer.slice((long) offset * elementSize(), (long) (offset + size) * elementSize());
 	}
@@ -26,7 +26,9 @@ import java.nio.ByteOrder;
 import java.nio.LongBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -70,6 +72,16 @@ final class NonNullUuidColumn extends NonNullColumn<UUID, UuidColumn, NonNullUui
 		return lsb.getLong(index);
 	}
 
+	@Override
+	long hash64(int index) {
+		return HyperLogLog.mix(msb(index) ^ HyperLogLog.mix(lsb(index)));
+	}
+
+	@Override
+	long byteSize() {
+		return (long) size * 16;
+	}
+
 	@Override
 	public ColumnType<UUID> getType() {
 		return ColumnType.UUID;
@@ -91,11 +103,27 @@ final class NonNullUuidColumn extends NonNullColumn<UUID, UuidColumn, NonNullUui
 
 	@Override
 	NonNullUuidColumn appendNonNull(NonNullUuidColumn tail) {
+		return appendAllNonNull(List.of(tail));
+	}
+
+	@Override
+	NonNullUuidColumn appendAllNonNull(List<NonNullUuidColumn> tails) {
+
+		List<NonNullLongColumn> msbs = new ArrayList<>(tails.size());
+		List<NonNullLongColumn> lsbs = new ArrayList<>(tails.size());
+		int size = this.size;
+
+		for (NonNullUuidColumn tail : tails) {
+			NonNullUuidColumn rhs = tail.slice();
+			msbs.add(rhs.msb);
+			lsbs.add(rhs.lsb);
+			size += tail.size;
+		}
+
 		NonNullUuidColumn lhs = this.slice();
-		NonNullUuidColumn rhs = tail.slice();
 
-		return new NonNullUuidColumn(lhs.msb.appendNonNull(rhs.msb), lhs.lsb.appendNonNull(rhs.lsb), 0,
-				size + tail.size, 0, false);
+		return new NonNullUuidColumn(lhs.msb.appendAllNonNull(msbs), lhs.lsb.appendAllNonNull(lsbs), 0, size, 0,
+				false);
 	}
 
 	@Override
@@ -274,8 +302,13 @@ final class NonNullUuidColumn extends NonNullColumn<UUID, UuidColumn, NonNullUui
 
 	@Override
 	void writeTo(WritableByteChannel channel) throws IOException {
-		sub(msb).writeTo(channel);
-		sub(lsb).writeTo(channel);
+		writeTo(channel, false);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
+		sub(msb).writeTo(channel, compact);
+		sub(lsb).writeTo(channel, compact);
 	}
 
 	@Override
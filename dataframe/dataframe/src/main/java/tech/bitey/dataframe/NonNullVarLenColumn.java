@@ -21,6 +21,7 @@ import static java.util.Spliterator.NONNULL;
 import static java.util.Spliterator.SORTED;
 import static tech.bitey.bufferstuff.BufferUtils.EMPTY_BIG_BUFFER;
 import static tech.bitey.bufferstuff.BufferUtils.readFully;
+import static tech.bitey.bufferstuff.BufferUtils.writeFully;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -29,6 +30,8 @@ import java.nio.IntBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntUnaryOperator;
 
@@ -42,10 +45,16 @@ import tech.bitey.bufferstuff.SmallLongBuffer;
 abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarLenColumn<E, I, C>>
 		extends NonNullColumn<E, I, C> {
 
+	// pointers are unsigned ints if the elements fit in 4GB, and longs otherwise
+	static final long MAX_COMPACT_LENGTH = 0xFFFFFFFFL;
+
 	final BigByteBuffer elements;
 
 	final BigByteBuffer rawPointers;
+	final SmallIntBuffer intPointers;
 	final SmallLongBuffer pointers;
+	final int pointerWidth;
+	final int pointerCount;
 
 	final VarLenPacker<E> packer;
 
@@ -59,14 +68,63 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 		this.elements = elements;
 
 		this.rawPointers = rawPointers;
-		this.pointers = rawPointers.asLongBuffer();
+		this.pointerWidth = pointerWidth(elements.limit());
+		if (pointerWidth == 4) {
+			this.intPointers = rawPointers.asIntBuffer();
+			this.pointers = null;
+		} else {
+			this.intPointers = null;
+			this.pointers = rawPointers.asLongBuffer();
+		}
+		this.pointerCount = (int) (rawPointers.limit() / pointerWidth);
 
 		this.packer = packer;
 	}
 
 	// pointer at index
 	long pat(int index) {
-		return pointers.get(index);
+		return intPointers != null ? Integer.toUnsignedLong(intPointers.get(index)) : pointers.get(index);
+	}
+
+	static int pointerWidth(long byteLength) {
+		return byteLength <= MAX_COMPACT_LENGTH ? 4 : 8;
+	}
+
+	static void putPointer(BigByteBuffer rawPointers, int width, long pointer) {
+		if (width == 4)
+			rawPointers.putInt((int) pointer);
+		else
+			rawPointers.putLong(pointer);
+	}
+
+	static long getPointer(BigByteBuffer rawPointers, int width, int index) {
+		if (width == 4)
+			return Integer.toUnsignedLong(rawPointers.getInt((long) index * 4));
+		else
+			return rawPointers.getLong((long) index * 8);
+	}
+
+	/*
+	 * Returns a copy of the pointers, with the first rebased to zero, using the
+	 * width appropriate for elements of the specified byte length.
+	 */
+	static BigByteBuffer rebase(BigByteBuffer rawPointers, int fromWidth, int size, long byteLength) {
+
+		final int width = pointerWidth(byteLength);
+		final long first = size == 0 ? 0 : getPointer(rawPointers, fromWidth, 0);
+
+		BigByteBuffer rebased = BufferUtils.allocateBig((long) size * width);
+		for (int i = 0; i < size; i++)
+			putPointer(rebased, width, getPointer(rawPointers, fromWidth, i) - first);
+		rebased.flip();
+
+		return rebased;
+	}
+
+	// writes the pointers in [fromIndex, toIndex), shifted by the specified amount
+	void putPointers(BigByteBuffer dest, int width, int fromIndex, int toIndex, long shift) {
+		for (int i = fromIndex; i < toIndex; i++)
+			putPointer(dest, width, pat(i) + shift);
 	}
 
 	// element byte at index
@@ -83,7 +141,7 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 	}
 
 	long end(int index) {
-		return index == pointers.limit() - 1 ? elements.limit() : pat(index + 1);
+		return index == pointerCount - 1 ? elements.limit() : pat(index + 1);
 	}
 
 	long length(int index) {
@@ -113,6 +171,16 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 		return AbstractColumnSearch.search(this, value, first);
 	}
 
+	@Override
+	long hash64(int index) {
+		return HyperLogLog.hash(elements, pat(index), end(index));
+	}
+
+	@Override
+	long byteSize() {
+		return size == 0 ? 0 : end(lastIndex()) - pat(offset) + (long) size * pointerWidth;
+	}
+
 	@Override
 	public int hashCode(int fromIndex, int toIndex) {
 		// from Arrays::hashCode
@@ -148,20 +216,21 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 	@Override
 	C applyFilter0(BufferBitSet keep, int cardinality) {
 
-		BigByteBuffer rawPointers = BufferUtils.allocateBig((long) cardinality * 8);
 		long byteLength = 0;
+		for (int i = offset; i <= lastIndex(); i++)
+			if (keep.get(i - offset))
+				byteLength += length(i);
+
+		final int width = pointerWidth(byteLength);
+		BigByteBuffer rawPointers = BufferUtils.allocateBig((long) cardinality * width);
+		BigByteBuffer elements = BufferUtils.allocateBig(byteLength);
 		for (int i = offset; i <= lastIndex(); i++) {
 			if (keep.get(i - offset)) {
-				rawPointers.putLong(byteLength);
-				byteLength += length(i);
+				putPointer(rawPointers, width, elements.position());
+				copyElement(i, elements);
 			}
 		}
 		rawPointers.flip();
-
-		BigByteBuffer elements = BufferUtils.allocateBig(byteLength);
-		for (int i = offset; i <= lastIndex(); i++)
-			if (keep.get(i - offset))
-				copyElement(i, elements);
 		elements.flip();
 
 		return construct(elements, rawPointers, 0, cardinality, characteristics, false);
@@ -170,19 +239,18 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 	@Override
 	C select0(IntColumn indices) {
 
-		BigByteBuffer rawPointers = BufferUtils.allocateBig((long) indices.size() * 8);
 		long byteLength = 0;
-		for (int i = 0; i < indices.size(); i++) {
-			rawPointers.putLong(byteLength);
+		for (int i = 0; i < indices.size(); i++)
 			byteLength += length(indices.getInt(i) + offset);
-		}
-		rawPointers.flip();
 
+		final int width = pointerWidth(byteLength);
+		BigByteBuffer rawPointers = BufferUtils.allocateBig((long) indices.size() * width);
 		BigByteBuffer elements = BufferUtils.allocateBig(byteLength);
 		for (int i = 0; i < indices.size(); i++) {
-			int index = indices.getInt(i) + offset;
-			copyElement(index, elements);
+			putPointer(rawPointers, width, elements.position());
+			copyElement(indices.getInt(i) + offset, elements);
 		}
+		rawPointers.flip();
 		elements.flip();
 
 		return construct(elements, rawPointers, 0, indices.size(), NONNULL, false);
@@ -193,41 +261,52 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 	}
 
 	BigByteBuffer sliceRawPointers() {
-		return rawPointers.slice((long) offset * 8, (long) (offset + size) * 8);
+		return rawPointers.slice((long) offset * pointerWidth, (long) (offset + size) * pointerWidth);
 	}
 
-	BigByteBuffer copyRawPointers() {
-		return rawPointers.copy((long) offset * 8, (long) (offset + size) * 8);
+	// pointers for this column's elements, rebased to start at zero
+	BigByteBuffer rebasedRawPointers(long byteLength) {
+		final int width = pointerWidth(byteLength);
+		BigByteBuffer rawPointers = BufferUtils.allocateBig((long) size * width);
+		putPointers(rawPointers, width, offset, offset + size, -pat(offset));
+		rawPointers.flip();
+		return rawPointers;
 	}
 
 	@Override
 	C appendNonNull(C tail) {
+		return appendAllNonNull(List.of(tail));
+	}
 
-		final long thisByteLength = this.end(this.lastIndex()) - this.pat(this.offset);
-		final long tailByteLength = tail.end(tail.lastIndex()) - tail.pat(tail.offset);
+	@SuppressWarnings("unchecked")
+	@Override
+	C appendAllNonNull(List<C> tails) {
 
-		BigByteBuffer elements = BufferUtils.allocateBig(thisByteLength + tailByteLength);
-		{
-			elements.put(this.sliceElements());
-			elements.put(tail.sliceElements());
-			elements.flip();
-		}
+		final List<C> columns = new ArrayList<>(tails.size() + 1);
+		columns.add((C) this);
+		columns.addAll(tails);
 
-		BigByteBuffer rawPointers = BufferUtils.allocateBig((long) (this.size() + tail.size()) * 8);
-		{
-			rawPointers.put(this.sliceRawPointers());
-			rawPointers.put(tail.sliceRawPointers());
-			rawPointers.flip();
+		long byteLength = 0;
+		int size = 0;
+		for (C column : columns) {
+			byteLength += column.end(column.lastIndex()) - column.pat(column.offset);
+			size += column.size();
 		}
 
-		final SmallLongBuffer pointers = rawPointers.asLongBuffer();
-		final int size = pointers.limit();
-		final long thisOffset = this.pat(this.offset);
-		for (int i = 0; i < this.size(); i++)
-			pointers.put(i, pointers.get(i) - thisOffset);
-		final long tailOffset = tail.pat(tail.offset);
-		for (int i = this.size(); i < size; i++)
-			pointers.put(i, pointers.get(i) - tailOffset + thisByteLength);
+		BigByteBuffer elements = BufferUtils.allocateBig(byteLength);
+		for (C column : columns)
+			elements.put(column.sliceElements());
+		elements.flip();
+
+		final int width = pointerWidth(byteLength);
+		BigByteBuffer rawPointers = BufferUtils.allocateBig((long) size * width);
+		long position = 0;
+		for (C column : columns) {
+			column.putPointers(rawPointers, width, column.offset, column.offset + column.size,
+					position - column.pat(column.offset));
+			position += column.end(column.lastIndex()) - column.pat(column.offset);
+		}
+		rawPointers.flip();
 
 		return construct(elements, rawPointers, 0, size, characteristics, false);
 	}
@@ -256,10 +335,8 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 		if (isEmpty())
 			return construct(EMPTY_BIG_BUFFER, EMPTY_BIG_BUFFER, 0, 0, characteristics, false);
 
-		BigByteBuffer rawPointers = copyRawPointers();
-		zero(rawPointers, size);
-
 		BigByteBuffer elements = this.elements.copy(pat(offset), end(lastIndex()));
+		BigByteBuffer rawPointers = rebasedRawPointers(elements.limit());
 
 		return construct(elements, rawPointers, 0, size, characteristics, false);
 	}
@@ -269,27 +346,32 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 		if (isEmpty())
 			return empty();
 
+		final BigByteBuffer elements = sliceElements();
+
 		final BigByteBuffer rawPointers;
-		if (offset == 0) {
+		if (offset == 0 && pointerWidth(elements.limit()) == pointerWidth) {
 			rawPointers = sliceRawPointers();
 		} else {
-			rawPointers = copyRawPointers();
-			zero(rawPointers, size);
+			rawPointers = rebasedRawPointers(elements.limit());
 		}
 
-		return construct(sliceElements(), rawPointers, 0, size, characteristics, false);
+		return construct(elements, rawPointers, 0, size, characteristics, false);
 	}
 
-	private static boolean zero(BigByteBuffer rawPointers, int size) {
+	private static boolean zero(BigByteBuffer rawPointers, int width, int size) {
 		if (size > 0) {
-			SmallLongBuffer pointers = rawPointers.asLongBuffer();
-			long first = pointers.get(0);
+			long first = getPointer(rawPointers, width, 0);
 
 			if (first == 0)
 				return false;
 
-			for (int i = 0; i < size; i++)
-				pointers.put(i, pointers.get(i) - first);
+			for (int i = 0; i < size; i++) {
+				long pointer = getPointer(rawPointers, width, i) - first;
+				if (width == 4)
+					rawPointers.putInt((long) i * 4, (int) pointer);
+				else
+					rawPointers.putLong((long) i * 8, pointer);
+			}
 
 			return true;
 		} else
@@ -400,6 +482,7 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 		writeInt(channel, order, size);
 
 		if (size > 0) {
+			writeFully(channel, ByteBuffer.wrap(new byte[] { (byte) pointerWidth }));
 			writeBuffer(channel, sliceRawPointers());
 			writeBuffer(channel, sliceElements());
 		}
@@ -417,8 +500,9 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 		if (size == 0)
 			return (C) this;
 
-		final BigByteBuffer rawPointers;
+		BigByteBuffer rawPointers;
 		final BigByteBuffer elements;
+		final int width;
 
 		if (version <= 3) {
 			ByteBuffer rp = BufferUtils.allocate(size * 4, order);
@@ -429,6 +513,7 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 			while (irp.hasRemaining())
 				rawPointers.putLong(irp.get());
 			rawPointers.flip();
+			width = 8;
 
 			int length = readInt(channel, order);
 			ByteBuffer el = BufferUtils.allocate(length, order);
@@ -436,11 +521,26 @@ abstract class NonNullVarLenColumn<E, I extends Column<E>, C extends NonNullVarL
 			el.flip();
 			elements = BufferUtils.wrap(new ByteBuffer[] { el });
 		} else {
+			if (version <= 5) {
+				width = 8;
+			} else {
+				byte[] b = new byte[1];
+				readFully(channel, ByteBuffer.wrap(b));
+				width = b[0];
+			}
+
 			rawPointers = readBuffer(channel, order, map);
 			elements = readBuffer(channel, order, map);
 		}
 
-		if (zero(rawPointers, size) && map) {
+		if (width != pointerWidth(elements.limit())) {
+			// written by an older version, or with different rules for pointer width
+			rawPointers = rebase(rawPointers, width, size, elements.limit());
+		} else if (rawPointers.isReadOnly()) {
+			// mapped from a read-only file, so the pointers can't be zeroed in place
+			if (size > 0 && getPointer(rawPointers, width, 0) != 0)
+				rawPointers = rebase(rawPointers, width, size, elements.limit());
+		} else if (zero(rawPointers, width, size) && map) {
 			((FileChannel) channel).force(true);
 		}
 
@@ -68,6 +68,40 @@ public interface NormalStringColumn extends StringColumn {
 	@Override
 	NormalStringColumn append(Column<String> tail);
 
+	/**
+	 * Returns a run-length encoded version of this column, which stores each run
+	 * of equal consecutive elements only once. Suited to columns with long runs,
+	 * such as the leading columns of an index-organized {@link DataFrame}. Returns
+	 * this column if it is already run-length encoded.
+	 * 
+	 * @return a run-length encoded version of this column
+	 */
+	NormalStringColumn toRunLengthEncoded();
+
+	/**
+	 * Returns the dictionary of this column. Columns derived from this one, such
+	 * as by {@link #subColumn(int, int) subColumn}, share the same dictionary.
+	 * 
+	 * @return the dictionary of this column
+	 * 
+	 * @see NormalStringDictionary
+	 */
+	NormalStringDictionary dictionary();
+
+	/**
+	 * Returns a column with the same elements as this one, encoded with the
+	 * specified dictionary. Returns this column if it already uses the dictionary.
+	 * 
+	 * @param dictionary the dictionary to encode elements with
+	 * 
+	 * @return a column with the same elements as this one, encoded with the
+	 *         specified dictionary
+	 * 
+	 * @throws IllegalArgumentException if the dictionary does not contain every
+	 *                                  non-null element of this column
+	 */
+	NormalStringColumn withDictionary(NormalStringDictionary dictionary);
+
 	@Override
 	NormalStringColumn copy();
 
@@ -77,6 +111,9 @@ public interface NormalStringColumn extends StringColumn {
 	@Override
 	NormalStringColumn filter(Predicate<String> predicate, boolean keepNulls);
 
+	@Override
+	NormalStringColumn filterByValue(String fromElement, boolean fromInclusive, String toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -106,6 +143,20 @@ public interface NormalStringColumn extends StringColumn {
 		return new NormalStringColumnBuilder();
 	}
 
+	/**
+	 * Returns a new {@link NormalStringColumnBuilder} which encodes elements with
+	 * the specified dictionary. Every column it builds shares the dictionary, and
+	 * adding an element which the dictionary does not contain throws
+	 * {@link IllegalArgumentException}.
+	 * 
+	 * @param dictionary the dictionary to encode elements with
+	 * 
+	 * @return a new {@link NormalStringColumnBuilder}
+	 */
+	public static NormalStringColumnBuilder builder(NormalStringDictionary dictionary) {
+		return new NormalStringColumnBuilder(dictionary.values);
+	}
+
 	/**
 	 * Returns a new {@code NormalStringColumn} containing the specified elements.
 	 * 
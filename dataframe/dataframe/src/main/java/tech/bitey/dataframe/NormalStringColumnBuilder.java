@@ -16,12 +16,14 @@
 
 package tech.bitey.dataframe;
 
-import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.DISTINCT;
+import static tech.bitey.dataframe.Pr.checkArgument;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
+import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.BufferUtils;
 
 /**
  * A builder for creating {@link NormalStringColumn} instances. Example:
@@ -33,6 +35,14 @@ import tech.bitey.bufferstuff.BufferBitSet;
  * Elements appear in the resulting column in the same order they were added to
  * the builder.
  * <p>
+ * The distinct values are stored once each, in sorted order, and each element
+ * is stored as the index of its value. Indices are bytes, shorts, or ints,
+ * depending on the number of distinct values.
+ * <p>
+ * A builder created with {@link NormalStringColumn#builder(NormalStringDictionary)}
+ * instead encodes elements with the specified dictionary, and rejects elements
+ * which it does not contain. The columns it builds share that dictionary.
+ * <p>
  * Builder instances can be reused; it is safe to call
  * {@link ColumnBuilder#build build} multiple times to build multiple columns in
  * series. Each new column contains all the elements of the ones created before
@@ -43,21 +53,95 @@ import tech.bitey.bufferstuff.BufferBitSet;
 public final class NormalStringColumnBuilder
 		extends AbstractColumnBuilder<String, NormalStringColumn, NormalStringColumnBuilder> {
 
-	static final int MAX_VALUES = 1 << 16;
-	private static final String MAX_VALUE_ERROR = "exceeded %d distinct values".formatted(MAX_VALUES);
+	static final int MAX_BYTE_VALUES = 1 << 8;
+	static final int MAX_SHORT_VALUES = 1 << 16;
 
-	private final ShortColumnBuilder builder;
-	private final StringColumnBuilder values;
+	// dictionary codes, in insertion order, as bytes, shorts, or ints: the
+	// narrowest width which fits the dictionary so far
+	private BigByteBuffer codes = BufferUtils.EMPTY_BIG_BUFFER;
+	private int codeWidth;
+	private int codeCount;
 
-	private final Map<NormalStringHash, Integer> valueIndexMap;
+	private final StringDictionary dictionary;
+
+	// the fixed dictionary of every column built, or null to build one from the
+	// elements added
+	private final NonNullStringColumn shared;
 
 	NormalStringColumnBuilder() {
+		this(null);
+	}
+
+	NormalStringColumnBuilder(NonNullStringColumn shared) {
 		super(0);
 
-		builder = new ShortColumnBuilder(NONNULL);
-		values = new StringColumnBuilder(NONNULL);
+		dictionary = new StringDictionary();
+		if (shared != null)
+			for (int i = 0; i < shared.size(); i++)
+				dictionary.add(shared.get(i));
+
+		this.shared = shared;
+
+		codeWidth = codeWidth(dictionary.size());
+	}
+
+	private static int codeWidth(int distinct) {
+		if (distinct <= MAX_BYTE_VALUES)
+			return 1;
+		else if (distinct <= MAX_SHORT_VALUES)
+			return 2;
+		else
+			return 4;
+	}
+
+	private int codeAt(int index) {
+		return switch (codeWidth) {
+		case 1 -> codes.get(index) & 0xFF;
+		case 2 -> codes.getShort((long) index * 2) & 0xFFFF;
+		default -> codes.getInt((long) index * 4);
+		};
+	}
+
+	private void putCode(int code) {
+
+		switch (codeWidth) {
+		case 1 -> codes.put(codeCount, (byte) code);
+		case 2 -> codes.putShort((long) codeCount * 2, (short) code);
+		default -> codes.putInt((long) codeCount * 4, code);
+		}
+
+		codeCount++;
+	}
+
+	private int codeCapacity() {
+		return (int) (codes.capacity() / codeWidth);
+	}
+
+	// copies the codes into a buffer with the specified capacity and code width
+	private void resize(int capacity, int width) {
+
+		BigByteBuffer resized = BufferUtils.allocateBig((long) capacity * width);
+
+		if (width == codeWidth)
+			resized.put(codes.slice(0, (long) codeCount * codeWidth));
+		else
+			for (int i = 0; i < codeCount; i++) {
+				int code = codeAt(i);
+				if (width == 2)
+					resized.putShort((short) code);
+				else
+					resized.putInt(code);
+			}
+
+		codes = resized;
+		codeWidth = width;
+	}
 
-		valueIndexMap = new HashMap<>();
+	// widens the codes once the dictionary outgrows their width
+	private void widenIfNeeded() {
+		int width = codeWidth(dictionary.size());
+		if (width > codeWidth)
+			resize(Math.max(codeCapacity(), codeCount + 1), width);
 	}
 
 	@Override
@@ -68,33 +152,46 @@ public final class NormalStringColumnBuilder
 	@Override
 	void addNonNull(String element) {
 
-		int mapSize = valueIndexMap.size();
+		int code = code(element);
 
-		int index = valueIndexMap.computeIfAbsent(new NormalStringHash(element), x -> {
-			if (mapSize == MAX_VALUES)
-				throw new RuntimeException(MAX_VALUE_ERROR);
-			values.add(element);
-			return mapSize;
-		});
+		widenIfNeeded();
+		ensureAdditionalCapacity(1);
+		putCode(code);
 
-		builder.add((short) index);
 		size++;
 	}
 
+	private int code(String element) {
+
+		if (shared == null)
+			return dictionary.add(element);
+
+		int code = dictionary.indexOf(element);
+		checkArgument(code != -1, "dictionary does not contain: " + element);
+		return code;
+	}
+
 	@Override
 	public ColumnBuilder<String> ensureCapacity(int minCapacity) {
-		builder.ensureCapacity(minCapacity);
+
+		int capacity = codeCapacity();
+		if (capacity < minCapacity) {
+			// grow by half, as SingleBufferColumnBuilder does
+			int expanded = capacity + (capacity >> 1) + 1;
+			resize(expanded < minCapacity || expanded < 0 ? minCapacity : expanded, codeWidth);
+		}
+
 		return this;
 	}
 
 	@Override
 	int getNonNullSize() {
-		return builder.getNonNullSize();
+		return codeCount;
 	}
 
 	@Override
 	void ensureAdditionalCapacity(int additionalCapacity) {
-		builder.ensureCapacity(builder.size() + additionalCapacity);
+		ensureCapacity(codeCount + additionalCapacity);
 	}
 
 	@Override
@@ -114,18 +211,33 @@ public final class NormalStringColumnBuilder
 
 	@Override
 	NormalStringColumn emptyNonNull() {
-		return NormalStringColumnByteImpl.EMPTY;
+		if (shared == null)
+			return NormalStringColumnByteImpl.EMPTY;
+		else
+			return NormalStringColumnImpl.encode(shared, i -> 0, 0, null, 0);
 	}
 
 	@Override
 	NormalStringColumn buildNonNullColumn(int characteristics) {
 
-		if (valueIndexMap.size() <= 256)
-			return new NormalStringColumnByteImpl(builder.build().toByteColumn(Short::byteValue),
-					(NonNullStringColumn) values.build(), 0, builder.size());
-		else
-			return new NormalStringColumnShortImpl(builder.build(), (NonNullStringColumn) values.build(), 0,
-					builder.size());
+		final int size = codeCount;
+
+		if (shared != null)
+			return NormalStringColumnImpl.encode(shared, this::codeAt, size, null, size);
+
+		final int distinct = dictionary.size();
+
+		// sort the dictionary, so that indices are ordered the same as their values
+		String[] sorted = dictionary.toArray();
+		Arrays.sort(sorted);
+
+		final int[] remap = new int[distinct];
+		for (int i = 0; i < distinct; i++)
+			remap[dictionary.indexOf(sorted[i])] = i;
+
+		NonNullStringColumn values = (NonNullStringColumn) new StringColumnBuilder(DISTINCT).addAll(sorted).build();
+
+		return NormalStringColumnImpl.encode(values, i -> remap[codeAt(i)], size, null, size);
 	}
 
 	@Override
@@ -134,46 +246,28 @@ public final class NormalStringColumnBuilder
 		if (column instanceof NormalStringColumnByteImpl impl) {
 			ByteColumn bytes = new NullableByteColumn((NonNullByteColumn) impl.indices, nonNulls, null, 0, size);
 			return new NormalStringColumnByteImpl(bytes, impl.values, 0, size);
-		} else {
-			NormalStringColumnShortImpl impl = (NormalStringColumnShortImpl) column;
+		} else if (column instanceof NormalStringColumnShortImpl impl) {
 			ShortColumn shorts = new NullableShortColumn((NonNullShortColumn) impl.indices, nonNulls, null, 0, size);
 			return new NormalStringColumnShortImpl(shorts, impl.values, 0, size);
+		} else {
+			NormalStringColumnIntImpl impl = (NormalStringColumnIntImpl) column;
+			IntColumn ints = new NullableIntColumn((NonNullIntColumn) impl.indices, nonNulls, null, 0, size);
+			return new NormalStringColumnIntImpl(ints, impl.values, 0, size);
 		}
 	}
 
 	@Override
 	void append0(NormalStringColumnBuilder tail) {
 
-		int headSize = builder.size();
-		int tailSize = tail.builder.size();
-
-		builder.append(tail.builder);
-
-		short[] remap = new short[tail.valueIndexMap.size()];
-		int r = valueIndexMap.size();
-		IntColumnBuilder indices = IntColumn.builder(NONNULL);
-		for (var e : tail.valueIndexMap.entrySet()) {
+		// before appending, since a shared dictionary may not contain the tail's values
+		int[] remap = new int[tail.dictionary.size()];
+		for (int tailIndex = 0; tailIndex < remap.length; tailIndex++)
+			remap[tailIndex] = code(tail.dictionary.get(tailIndex));
 
-			int tailIndex = e.getValue();
+		widenIfNeeded();
+		ensureAdditionalCapacity(tail.codeCount);
 
-			if (valueIndexMap.containsKey(e.getKey())) {
-				remap[tailIndex] = valueIndexMap.get(e.getKey()).shortValue();
-			} else {
-				if (r >= MAX_VALUES)
-					throw new RuntimeException(MAX_VALUE_ERROR);
-
-				remap[tailIndex] = (short) (r);
-				valueIndexMap.put(e.getKey(), r);
-				r++;
-				indices.add(tailIndex);
-			}
-		}
-
-		values.addAll(((NonNullStringColumn) tail.values.build()).select(indices.build()));
-
-		for (int i = headSize; i < headSize + tailSize; i++) {
-			short s = builder.buffer.getShort(i * 2);
-			builder.buffer.putShort(i * 2, remap[s & 0xFFFF]);
-		}
+		for (int i = 0; i < tail.codeCount; i++)
+			putCode(remap[tail.codeAt(i)]);
 	}
 }
@@ -18,7 +18,6 @@ package tech.bitey.dataframe;
 
 import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
 
-import java.util.List;
 import java.util.function.Predicate;
 
 import tech.bitey.bufferstuff.BufferBitSet;
@@ -44,21 +43,8 @@ public class NormalStringColumnByteImpl extends NormalStringColumnImpl<Byte, Byt
 	}
 
 	@Override
-	String at(int index) {
-		return values.get(indices.get(index) & 0xFF);
-	}
-
-	@Override
-	public boolean equals(Object o) {
-		if (o == this) {
-			return true;
-		} else if (o instanceof NormalStringColumnByteImpl) {
-			return equals0((NormalStringColumnByteImpl) o);
-		} else if (o instanceof List) {
-			return super.equals(o);
-		} else {
-			return false;
-		}
+	int code(int index) {
+		return indices.getByte(index) & 0xFF;
 	}
 
 	/*------------------------------------------------------------
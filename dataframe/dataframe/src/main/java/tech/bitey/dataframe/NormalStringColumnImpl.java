@@ -16,6 +16,10 @@
 
 package tech.bitey.dataframe;
 
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
+import static tech.bitey.dataframe.NormalStringColumnBuilder.MAX_BYTE_VALUES;
+import static tech.bitey.dataframe.NormalStringColumnBuilder.MAX_SHORT_VALUES;
+import static tech.bitey.dataframe.Pr.checkArgument;
 import static tech.bitey.dataframe.Pr.checkPositionIndex;
 
 import java.io.IOException;
@@ -24,18 +28,25 @@ import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Predicate;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 
+import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.BufferUtils;
+import tech.bitey.bufferstuff.SmallIntBuffer;
+import tech.bitey.bufferstuff.SmallShortBuffer;
 
 abstract class NormalStringColumnImpl<N extends Number, I extends Column<N>, C extends NormalStringColumnImpl<N, I, C>>
 		extends AbstractColumn<String, NormalStringColumn, NormalStringColumnImpl<N, I, C>>
@@ -51,7 +62,275 @@ abstract class NormalStringColumnImpl<N extends Number, I extends Column<N>, C e
 		this.values = values;
 	}
 
-	abstract String at(int index);
+	/**
+	 * Returns the index into {@link #values} of the non-null element at the
+	 * specified index, which already includes the offset.
+	 */
+	abstract int code(int index);
+
+	String at(int index) {
+		return values.get(code(index));
+	}
+
+	/**
+	 * Returns true if {@link #values} is sorted, in which case comparing codes is
+	 * equivalent to comparing the strings they represent.
+	 */
+	boolean isSortedDictionary() {
+		return values.isSorted();
+	}
+
+	/**
+	 * Returns the codes of this column as a non-null {@link IntColumn}. Codes are
+	 * translated through {@code remap} if it is not null, and null elements are
+	 * replaced with {@code nullCode}.
+	 */
+	NonNullIntColumn codes(int[] remap, int nullCode) {
+
+		final BigByteBuffer buffer = BufferUtils.allocateBig((long) size * 4);
+		final SmallIntBuffer codes = buffer.asIntBuffer();
+
+		Parallel.forEachChunk(size, (fromIndex, toIndex) -> {
+			for (int i = fromIndex; i < toIndex; i++) {
+				if (isNullNoOffset(i + offset))
+					codes.put(i, nullCode);
+				else if (remap == null)
+					codes.put(i, code(i + offset));
+				else
+					codes.put(i, remap[code(i + offset)]);
+			}
+		});
+
+		return new NonNullIntColumn(buffer, 0, size, NONNULL_CHARACTERISTICS, false);
+	}
+
+	/**
+	 * Maps each code of this column to the code of the same string in the
+	 * specified dictionary, or to {@code missingCode} if that dictionary does not
+	 * contain the string. Returns null if this column already uses the dictionary,
+	 * so that the codes are the same.
+	 */
+	int[] remapTo(NonNullStringColumn values, int missingCode) {
+
+		if (NormalStringDictionary.same(this.values, values))
+			return null;
+
+		StringDictionary dictionary = new StringDictionary();
+		for (int i = 0; i < values.size(); i++)
+			dictionary.add(values.get(i));
+
+		final NonNullStringColumn from = this.values;
+
+		int[] remap = new int[from.size()];
+		for (int i = 0; i < remap.length; i++) {
+			int code = dictionary.indexOf(from.get(i));
+			remap[i] = code == -1 ? missingCode : code;
+		}
+
+		return remap;
+	}
+
+	/**
+	 * Translates a code of this column through a remapping returned by
+	 * {@link #remapTo(NonNullStringColumn, int) remapTo} with a
+	 * {@code missingCode} of -1.
+	 */
+	int remapCode(int[] remap, int code) {
+
+		if (remap == null)
+			return code;
+
+		checkArgument(remap[code] != -1, "dictionary does not contain: " + values.get(code));
+		return remap[code];
+	}
+
+	/**
+	 * Returns a new column over the specified dictionary, with the narrowest index
+	 * type that can address it. {@code nonNullCodes} supplies the code of each
+	 * non-null element in turn, and {@code nonNulls} flags the non-null elements,
+	 * or is null if there are no nulls.
+	 */
+	static NormalStringColumn encode(NonNullStringColumn values, IntUnaryOperator nonNullCodes, int nonNullSize,
+			BufferBitSet nonNulls, int size) {
+
+		if (values.size() <= MAX_BYTE_VALUES) {
+			BigByteBuffer buffer = BufferUtils.allocateBig(nonNullSize);
+			Parallel.forEachChunk(nonNullSize, (fromIndex, toIndex) -> {
+				for (int i = fromIndex; i < toIndex; i++)
+					buffer.put(i, (byte) nonNullCodes.applyAsInt(i));
+			});
+			NonNullByteColumn indices = new NonNullByteColumn(buffer, 0, nonNullSize, NONNULL_CHARACTERISTICS, false);
+			return new NormalStringColumnByteImpl(
+					nonNulls == null ? indices : new NullableByteColumn(indices, nonNulls, null, 0, size), values, 0,
+					size);
+		} else if (values.size() <= MAX_SHORT_VALUES) {
+			BigByteBuffer buffer = BufferUtils.allocateBig((long) nonNullSize * 2);
+			SmallShortBuffer shorts = buffer.asShortBuffer();
+			Parallel.forEachChunk(nonNullSize, (fromIndex, toIndex) -> {
+				for (int i = fromIndex; i < toIndex; i++)
+					shorts.put(i, (short) nonNullCodes.applyAsInt(i));
+			});
+			NonNullShortColumn indices = new NonNullShortColumn(buffer, 0, nonNullSize, NONNULL_CHARACTERISTICS, false);
+			return new NormalStringColumnShortImpl(
+					nonNulls == null ? indices : new NullableShortColumn(indices, nonNulls, null, 0, size), values, 0,
+					size);
+		} else {
+			BigByteBuffer buffer = BufferUtils.allocateBig((long) nonNullSize * 4);
+			SmallIntBuffer ints = buffer.asIntBuffer();
+			Parallel.forEachChunk(nonNullSize, (fromIndex, toIndex) -> {
+				for (int i = fromIndex; i < toIndex; i++)
+					ints.put(i, nonNullCodes.applyAsInt(i));
+			});
+			NonNullIntColumn indices = new NonNullIntColumn(buffer, 0, nonNullSize, NONNULL_CHARACTERISTICS, false);
+			return new NormalStringColumnIntImpl(
+					nonNulls == null ? indices : new NullableIntColumn(indices, nonNulls, null, 0, size), values, 0,
+					size);
+		}
+	}
+
+	/**
+	 * Returns a new column over the specified dictionary which contains the
+	 * elements of each of the specified columns in turn. The codes of each column
+	 * are translated through {@code remap} if it is not null, otherwise the
+	 * columns must already use the dictionary.
+	 */
+	static NormalStringColumn encode(NonNullStringColumn values, int[] remap,
+			NormalStringColumnImpl<?, ?, ?>... columns) {
+
+		int size = 0;
+		for (NormalStringColumnImpl<?, ?, ?> column : columns)
+			size += column.size;
+
+		final int[] codes = new int[size];
+		final BufferBitSet nonNulls = new BufferBitSet();
+		int nonNullSize = 0;
+
+		int index = 0;
+		for (NormalStringColumnImpl<?, ?, ?> column : columns) {
+			for (int i = column.offset; i <= column.lastIndex(); i++, index++) {
+				if (!column.isNullNoOffset(i)) {
+					codes[nonNullSize++] = column.remapCode(remap, column.code(i));
+					nonNulls.set(index);
+				}
+			}
+		}
+
+		return encode(values, i -> codes[i], nonNullSize, nonNullSize == size ? null : nonNulls, size);
+	}
+
+	@Override
+	public NormalStringDictionary dictionary() {
+		return new NormalStringDictionary(values);
+	}
+
+	@Override
+	public NormalStringColumn withDictionary(NormalStringDictionary dictionary) {
+
+		if (values == dictionary.values)
+			return this;
+
+		int[] remap = remapTo(dictionary.values, -1);
+		if (remap == null)
+			return constuct(indices, dictionary.values, offset, size);
+		else
+			return encode(dictionary.values, remap, this);
+	}
+
+	/**
+	 * Returns a bitset with a bit set for each non-null element of this column.
+	 * Only valid if {@link #indices} is nullable.
+	 */
+	@SuppressWarnings("rawtypes")
+	BufferBitSet nonNulls() {
+		return ((NullableColumn) indices).nonNulls.get(offset, offset + size);
+	}
+
+	// flags the codes of the dictionary values which fall within the range
+	BufferBitSet codesInRange(ValueRange<String> range) {
+
+		final BufferBitSet codes = new BufferBitSet();
+		for (int i = 0; i < values.size(); i++)
+			if (range.contains(values, i + values.offset))
+				codes.set(i);
+
+		return codes;
+	}
+
+	@Override
+	BufferBitSet valuesInRange(ValueRange<String> range) {
+
+		// the range is tested once per dictionary value, rather than per element
+		final BufferBitSet codes = codesInRange(range);
+
+		return Parallel.bitSet(size, (fromIndex, toIndex) -> {
+
+			BufferBitSet result = new BufferBitSet();
+			for (int i = fromIndex; i < toIndex; i++)
+				if (!isNullNoOffset(i + offset) && codes.get(code(i + offset)))
+					result.set(i - fromIndex);
+
+			return result;
+		});
+	}
+
+	/*
+	 * Flags the dictionary codes of the non-null elements of this column, and
+	 * returns the number of null elements
+	 */
+	int usedCodes(BufferBitSet used) {
+
+		int nullCount = 0;
+		for (int i = offset; i <= lastIndex(); i++) {
+			if (isNullNoOffset(i))
+				nullCount++;
+			else
+				used.set(code(i));
+		}
+
+		return nullCount;
+	}
+
+	@Override
+	ColumnStatistics<String> computeStatistics() {
+
+		final BufferBitSet used = new BufferBitSet();
+		final int nullCount = usedCodes(used);
+
+		// the distinct count is exact, since it's the number of dictionary values in use
+		int minCode = -1, maxCode = -1;
+		if (isSortedDictionary()) {
+			minCode = used.nextSetBit(0);
+			maxCode = used.previousSetBit(values.size() - 1);
+		} else {
+			for (int code = used.nextSetBit(0); code >= 0; code = used.nextSetBit(code + 1)) {
+				if (minCode == -1 || values.get(code).compareTo(values.get(minCode)) < 0)
+					minCode = code;
+				if (maxCode == -1 || values.get(code).compareTo(values.get(maxCode)) > 0)
+					maxCode = code;
+			}
+		}
+
+		Column<String> bounds = minCode == -1 ? values.empty() : values.select(IntColumn.of(minCode, maxCode));
+
+		return new ColumnStatistics<>(size, nullCount, byteSize(), used.cardinality(), bounds);
+	}
+
+	@Override
+	long byteSize() {
+		// the part of the indices covered by this column, and the whole dictionary
+		AbstractColumn<?, ?, ?> indices = (AbstractColumn<?, ?, ?>) this.indices;
+		return (long) ((double) indices.byteSize() * size / Math.max(indices.size(), 1)) + values.byteSize();
+	}
+
+	@Override
+	public NormalStringColumn toRunLengthEncoded() {
+
+		NormalStringColumnRunImpl.RunBuilder builder = new NormalStringColumnRunImpl.RunBuilder();
+		for (int i = offset; i <= lastIndex(); i++)
+			builder.add(isNullNoOffset(i) ? NormalStringColumnRunImpl.NULL_CODE : code(i), 1);
+
+		return builder.build(values, false);
+	}
 
 	abstract C constuct(I indices, NonNullStringColumn values, int offset, int size);
 
@@ -88,6 +367,17 @@ abstract class NormalStringColumnImpl<N extends Number, I extends Column<N>, C e
 		return constuct(column, this.values, 0, column.size());
 	}
 
+	@Override
+	Column<String> expand(BufferBitSet positions, int size) {
+
+		@SuppressWarnings("rawtypes")
+		AbstractColumn slice = (AbstractColumn) sliceIndices();
+		@SuppressWarnings("unchecked")
+		I column = (I) slice.expand(positions, size);
+
+		return constuct(column, this.values, 0, size);
+	}
+
 	@SuppressWarnings("unchecked")
 	I sliceIndices() {
 		return (I) indices.subColumn(offset, offset + size);
@@ -135,6 +425,20 @@ abstract class NormalStringColumnImpl<N extends Number, I extends Column<N>, C e
 		return true;
 	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		} else if (o instanceof NormalStringColumnImpl rhs) {
+			return equals0(rhs);
+		} else if (o instanceof List) {
+			return super.equals(o);
+		} else {
+			return false;
+		}
+	}
+
 	@Override
 	public ListIterator<String> listIterator(final int idx) {
 
@@ -198,18 +502,54 @@ abstract class NormalStringColumnImpl<N extends Number, I extends Column<N>, C e
 
 	@Override
 	NormalStringColumn append0(Column<String> tail) {
+		return appendAll0(List.of(tail));
+	}
+
+	@Override
+	NormalStringColumn appendAll0(List<Column<String>> tails) {
+
+		final NormalStringColumnImpl<?, ?, ?>[] columns = new NormalStringColumnImpl<?, ?, ?>[tails.size() + 1];
+		columns[0] = this;
+
+		int size = this.size;
+		for (int i = 0; i < tails.size(); i++) {
+			if (tails.get(i) instanceof NormalStringColumnImpl<?, ?, ?> rhs
+					&& NormalStringDictionary.same(values, rhs.values))
+				columns[i + 1] = rhs;
+			size += tails.get(i).size();
+		}
+
+		// columns sharing a dictionary are appended by their codes alone
+		if (Arrays.stream(columns).allMatch(Objects::nonNull))
+			return encode(values, null, columns);
+
+		NormalStringColumnBuilder builder = new NormalStringColumnBuilder();
+		builder.ensureCapacity(size);
+		builder.addAll(this);
+		for (Column<String> tail : tails)
+			builder.addAll(tail);
 
-		return new NormalStringColumnBuilder().addAll(this).addAll(tail).build();
+		return builder.build();
 	}
 
-	@SuppressWarnings("rawtypes")
 	@Override
 	void writeTo(WritableByteChannel channel) throws IOException {
+		writeTo(channel, false);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
+		writeTo(channel, compact, new ChannelDictionaries());
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	void writeTo(WritableByteChannel channel, boolean compact, ChannelDictionaries dictionaries) throws IOException {
 
 		channel.write(ByteBuffer.wrap(new byte[] { indices.getType().getCode().name().getBytes()[0] }));
-		((AbstractColumn) sliceIndices()).writeTo(channel);
+		((AbstractColumn) sliceIndices()).writeTo(channel, compact);
 
-		values.writeTo(channel);
+		dictionaries.write(channel, values);
 	}
 
 	/*------------------------------------------------------------
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
+
+import java.util.function.Predicate;
+
+import tech.bitey.bufferstuff.BufferBitSet;
+
+public class NormalStringColumnIntImpl extends NormalStringColumnImpl<Integer, IntColumn, NormalStringColumnIntImpl>
+		implements NormalStringColumn {
+
+	static final NormalStringColumnIntImpl EMPTY = new NormalStringColumnIntImpl(
+			NonNullIntColumn.empty(NONNULL_CHARACTERISTICS), NonNullStringColumn.empty(NONNULL_CHARACTERISTICS), 0,
+			0);
+
+	NormalStringColumnIntImpl(IntColumn indices, NonNullStringColumn values, int offset, int size) {
+		super(indices, values, offset, size);
+	}
+
+	@Override
+	NormalStringColumnIntImpl constuct(IntColumn indices, NonNullStringColumn values, int offset, int size) {
+		return new NormalStringColumnIntImpl(indices, values, offset, size);
+	}
+
+	@Override
+	NormalStringColumnIntImpl empty() {
+		return EMPTY;
+	}
+
+	@Override
+	int code(int index) {
+		return indices.getInt(index);
+	}
+
+	/*------------------------------------------------------------
+	 *                      clean & filter
+	 *------------------------------------------------------------*/
+
+	private class NSFilter {
+
+		final BufferBitSet filter = new BufferBitSet();
+		final int cardinality;
+
+		NSFilter(Predicate<String> predicate) {
+
+			int cardinality = 0;
+
+			for (int i = values.lastIndex(); i >= 0; i--) {
+				if (predicate.test(values.get(i))) {
+					filter.set(i);
+					cardinality++;
+				}
+			}
+
+			this.cardinality = cardinality;
+		}
+
+		NormalStringColumn finish(IntColumn indices, boolean flip) {
+
+			int cardinality = this.cardinality;
+
+			if (flip) {
+				filter.flip(0, values.size());
+				cardinality = values.size() - cardinality;
+			}
+
+			NonNullStringColumn vals = (NonNullStringColumn) values.applyFilter(filter, cardinality);
+
+			int[] remap = new int[values.size()];
+			for (int i = 0, j = 0; i < remap.length; i++)
+				if (filter.get(i))
+					remap[i] = j++;
+
+			IntColumn ints = indices.evaluate(i -> remap[i], true);
+
+			return new NormalStringColumnIntImpl(ints, vals, 0, ints.size());
+		}
+	}
+
+	@Override
+	public NormalStringColumn clean(Predicate<String> predicate) {
+
+		NSFilter filter = new NSFilter(predicate);
+
+		if (filter.cardinality == values.size())
+			return NormalStringColumn.builder().addNulls(size).build();
+		else if (filter.cardinality == 0)
+			return this;
+
+		IntColumn subColumn = this.indices.subColumn(offset, offset + size);
+		IntColumn indices = subColumn.cleanInt(i -> filter.filter.get(i));
+
+		return filter.finish(indices, true);
+	}
+
+	@Override
+	public NormalStringColumn filter(Predicate<String> predicate, boolean keepNulls) {
+
+		NSFilter filter = new NSFilter(predicate);
+
+		if (indices.isNonnull() || keepNulls) {
+			if (filter.cardinality == values.size())
+				return this;
+			else if (filter.cardinality == 0)
+				return EMPTY;
+		}
+
+		IntColumn subColumn = this.indices.subColumn(offset, offset + size);
+		IntColumn indices = subColumn.filterInt(i -> filter.filter.get(i), keepNulls);
+
+		if (indices.size() == 0)
+			return EMPTY;
+		else
+			return filter.finish(indices, false);
+	}
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static java.util.Spliterator.DISTINCT;
+import static java.util.Spliterator.NONNULL;
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
+import static tech.bitey.dataframe.Pr.checkPositionIndex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.BufferUtils;
+import tech.bitey.bufferstuff.SmallIntBuffer;
+
+/**
+ * A run-length encoded {@link NormalStringColumn}. Each run of equal
+ * consecutive elements is stored once, as a dictionary code in
+ * {@link #indices}, along with the index where the run ends in
+ * {@link #runEnds}.
+ */
+public class NormalStringColumnRunImpl extends NormalStringColumnImpl<Integer, IntColumn, NormalStringColumnRunImpl>
+		implements NormalStringColumn {
+
+	// written in place of the index type code
+	static final byte RUN_CODE = 'R';
+
+	// code for a run of nulls
+	static final int NULL_CODE = -1;
+
+	static final NormalStringColumnRunImpl EMPTY = new NormalStringColumnRunImpl(
+			NonNullIntColumn.empty(NONNULL_CHARACTERISTICS), NonNullIntColumn.empty(NONNULL_CHARACTERISTICS),
+			NonNullStringColumn.empty(NONNULL_CHARACTERISTICS), 0, 0);
+
+	// exclusive end of each run, in the same index space as offset
+	final NonNullIntColumn runEnds;
+
+	NormalStringColumnRunImpl(IntColumn indices, NonNullIntColumn runEnds, NonNullStringColumn values, int offset,
+			int size) {
+		super(indices, values, offset, size);
+
+		this.runEnds = runEnds;
+	}
+
+	@Override
+	NormalStringColumnRunImpl constuct(IntColumn indices, NonNullStringColumn values, int offset, int size) {
+		return new NormalStringColumnRunImpl(indices, runEnds, values, offset, size);
+	}
+
+	@Override
+	NormalStringColumnRunImpl empty() {
+		return EMPTY;
+	}
+
+	/*------------------------------------------------------------
+	 *                      run access
+	 *------------------------------------------------------------*/
+
+	// the run containing the element at index, which includes the offset
+	int runAt(int index) {
+
+		int low = 0;
+		int high = runEnds.size() - 1;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (runEnds.at(mid) > index)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+
+		return low;
+	}
+
+	int runStart(int run) {
+		return run == 0 ? 0 : runEnds.at(run - 1);
+	}
+
+	int runCode(int run) {
+		return indices.isNull(run) ? NULL_CODE : indices.getInt(run);
+	}
+
+	// number of elements of the run which fall within this column
+	private int runLength(int run) {
+		return Math.min(runEnds.at(run), offset + size) - Math.max(runStart(run), offset);
+	}
+
+	private String valueOfRun(int run) {
+		return indices.isNull(run) ? null : values.get(indices.getInt(run));
+	}
+
+	private int firstRun() {
+		return runAt(offset);
+	}
+
+	private int lastRun() {
+		return size == 0 ? -1 : runAt(lastIndex());
+	}
+
+	@Override
+	Runs runs() {
+		return new Runs(runEnds);
+	}
+
+	@Override
+	int compareRuns(int lRun, int rRun) {
+		if (isSortedDictionary())
+			return Integer.compare(runCode(lRun), runCode(rRun));
+
+		String l = valueOfRun(lRun), r = valueOfRun(rRun);
+		return l == null ? (r == null ? 0 : -1) : r == null ? 1 : l.compareTo(r);
+	}
+
+	@Override
+	int code(int index) {
+		return indices.getInt(runAt(index));
+	}
+
+	@Override
+	boolean isNullNoOffset(int index) {
+		return indices.isNull(runAt(index));
+	}
+
+	@Override
+	String getNoOffset(int index) {
+		return valueOfRun(runAt(index));
+	}
+
+	@Override
+	int usedCodes(BufferBitSet used) {
+
+		int nullCount = 0;
+		for (int run = firstRun(); run <= lastRun(); run++) {
+			int code = runCode(run);
+			if (code == NULL_CODE)
+				nullCount += runLength(run);
+			else
+				used.set(code);
+		}
+
+		return nullCount;
+	}
+
+	@Override
+	long byteSize() {
+		return ((AbstractColumn<?, ?, ?>) indices).byteSize() + runEnds.byteSize() + values.byteSize();
+	}
+
+	@Override
+	public int characteristics() {
+		// a run can hold more than one element
+		return indices.characteristics() & ~DISTINCT;
+	}
+
+	/*------------------------------------------------------------
+	 *                  operations on runs
+	 *------------------------------------------------------------*/
+
+	@Override
+	public NormalStringColumn toRunLengthEncoded() {
+		return this;
+	}
+
+	// the runs of this column, rebased to start at zero
+	private NormalStringColumnRunImpl compact(NonNullStringColumn values, boolean dropUnused) {
+
+		RunBuilder builder = new RunBuilder();
+		addRuns(builder, null);
+
+		return builder.build(values, dropUnused);
+	}
+
+	// adds the runs of this column to the builder, with codes translated through
+	// remap as per remapCode
+	private void addRuns(RunBuilder builder, int[] remap) {
+		for (int run = firstRun(); run <= lastRun(); run++) {
+			int code = runCode(run);
+			builder.add(code == NULL_CODE ? code : remapCode(remap, code), runLength(run));
+		}
+	}
+
+	@Override
+	public NormalStringColumn withDictionary(NormalStringDictionary dictionary) {
+
+		if (values == dictionary.values)
+			return this;
+
+		RunBuilder builder = new RunBuilder();
+		addRuns(builder, remapTo(dictionary.values, -1));
+
+		return builder.build(dictionary.values, false);
+	}
+
+	@Override
+	public NormalStringColumn copy() {
+		return compact(values.copy(), true);
+	}
+
+	@Override
+	Column<String> applyFilter0(BufferBitSet keep, int cardinality) {
+
+		RunBuilder builder = new RunBuilder();
+		for (int run = firstRun(); run <= lastRun(); run++) {
+			int from = Math.max(runStart(run), offset) - offset;
+			int to = Math.min(runEnds.at(run), offset + size) - offset;
+			builder.add(runCode(run), keep.cardinality(from, to));
+		}
+
+		return builder.build(values);
+	}
+
+	@Override
+	Column<String> select0(IntColumn indices) {
+
+		RunBuilder builder = new RunBuilder();
+		int run = -1;
+		for (int i = 0; i < indices.size(); i++) {
+			int index = indices.getInt(i) + offset;
+			if (run == -1 || index < runStart(run) || index >= runEnds.at(run))
+				run = runAt(index);
+			builder.add(runCode(run), 1);
+		}
+
+		return builder.build(values);
+	}
+
+	@Override
+	Column<String> expand(BufferBitSet positions, int size) {
+
+		RunBuilder builder = new RunBuilder();
+		int run = this.size == 0 ? 0 : firstRun();
+		for (int i = 0, index = offset; i < size; i++) {
+			if (positions.get(i)) {
+				while (runEnds.at(run) <= index)
+					run++;
+				builder.add(runCode(run), 1);
+				index++;
+			} else
+				builder.add(NULL_CODE, 1);
+		}
+
+		return builder.build(values);
+	}
+
+	@Override
+	NonNullIntColumn codes(int[] remap, int nullCode) {
+
+		final BigByteBuffer buffer = BufferUtils.allocateBig((long) size * 4);
+		final SmallIntBuffer codes = buffer.asIntBuffer();
+
+		for (int run = firstRun(); run <= lastRun(); run++) {
+			int code = runCode(run);
+			int value = code == NULL_CODE ? nullCode : remap == null ? code : remap[code];
+
+			int from = Math.max(runStart(run), offset) - offset;
+			int to = Math.min(runEnds.at(run), offset + size) - offset;
+			for (int i = from; i < to; i++)
+				codes.put(i, value);
+		}
+
+		return new NonNullIntColumn(buffer, 0, size, NONNULL_CHARACTERISTICS, false);
+	}
+
+	@Override
+	BufferBitSet nonNulls() {
+
+		BufferBitSet nonNulls = new BufferBitSet();
+		for (int run = firstRun(); run <= lastRun(); run++) {
+			if (!indices.isNull(run)) {
+				int from = Math.max(runStart(run), offset) - offset;
+				int to = Math.min(runEnds.at(run), offset + size) - offset;
+				nonNulls.set(from, to);
+			}
+		}
+
+		return nonNulls;
+	}
+
+	@Override
+	NormalStringColumn append0(Column<String> tail) {
+
+		if (tail instanceof NormalStringColumnRunImpl rhs && NormalStringDictionary.same(values, rhs.values)) {
+			RunBuilder builder = new RunBuilder();
+			addRuns(builder, null);
+			rhs.addRuns(builder, null);
+
+			return builder.build(values, false);
+		}
+
+		return super.append0(tail).toRunLengthEncoded();
+	}
+
+	@Override
+	public ListIterator<String> listIterator(final int idx) {
+
+		checkPositionIndex(idx, size);
+
+		return new ImmutableListIterator<String>() {
+
+			int index = idx + offset;
+			int run = size == 0 ? 0 : runAt(Math.min(index, lastIndex()));
+
+			@Override
+			public boolean hasNext() {
+				return index <= lastIndex();
+			}
+
+			@Override
+			public String next() {
+				if (!hasNext())
+					throw new NoSuchElementException("called next when hasNext is false");
+
+				while (runEnds.at(run) <= index)
+					run++;
+
+				index++;
+				return valueOfRun(run);
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return index > offset;
+			}
+
+			@Override
+			public String previous() {
+				if (!hasPrevious())
+					throw new NoSuchElementException("called previous when hasPrevious is false");
+
+				index--;
+				while (runStart(run) > index)
+					run--;
+
+				return valueOfRun(run);
+			}
+
+			@Override
+			public int nextIndex() {
+				return index - offset;
+			}
+
+			@Override
+			public int previousIndex() {
+				return index - offset - 1;
+			}
+		};
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	void writeTo(WritableByteChannel channel) throws IOException {
+		writeTo(channel, false);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel, boolean pack) throws IOException {
+		writeTo(channel, pack, new ChannelDictionaries());
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	void writeTo(WritableByteChannel channel, boolean pack, ChannelDictionaries dictionaries) throws IOException {
+
+		// a shared dictionary is written as-is, even if this column does not use all of it
+		NormalStringColumnRunImpl compact = compact(values, !dictionaries.isShared(values));
+
+		// the codes must be nullable if the column's characteristics say so
+		IntColumn codes = compact.indices;
+		if (!isNonnull() && codes.isNonnull()) {
+			BufferBitSet nonNulls = new BufferBitSet();
+			nonNulls.set(0, codes.size());
+			codes = new NullableIntColumn((NonNullIntColumn) codes, nonNulls, null, 0, codes.size());
+		}
+
+		channel.write(ByteBuffer.wrap(new byte[] { RUN_CODE }));
+		((AbstractColumn) codes).writeTo(channel, pack);
+		compact.runEnds.writeTo(channel, pack);
+
+		dictionaries.write(channel, compact.values);
+	}
+
+	/*------------------------------------------------------------
+	 *                      clean & filter
+	 *------------------------------------------------------------*/
+
+	// flags the codes of the values which pass the predicate
+	private BufferBitSet test(Predicate<String> predicate) {
+
+		BufferBitSet pass = new BufferBitSet();
+		for (int i = values.lastIndex(); i >= 0; i--)
+			if (predicate.test(values.get(i)))
+				pass.set(i);
+
+		return pass;
+	}
+
+	@Override
+	public NormalStringColumn clean(Predicate<String> predicate) {
+
+		BufferBitSet pass = test(predicate);
+
+		RunBuilder builder = new RunBuilder();
+		for (int run = firstRun(); run <= lastRun(); run++) {
+			int code = runCode(run);
+			builder.add(code != NULL_CODE && pass.get(code) ? NULL_CODE : code, runLength(run));
+		}
+
+		return builder.build(values);
+	}
+
+	@Override
+	public NormalStringColumn filter(Predicate<String> predicate, boolean keepNulls) {
+
+		BufferBitSet pass = test(predicate);
+
+		RunBuilder builder = new RunBuilder();
+		for (int run = firstRun(); run <= lastRun(); run++) {
+			int code = runCode(run);
+			if (code == NULL_CODE ? keepNulls : pass.get(code))
+				builder.add(code, runLength(run));
+		}
+
+		return builder.build(values);
+	}
+
+	@Override
+	BufferBitSet valuesInRange(ValueRange<String> range) {
+
+		// the range is tested once per dictionary value, and each run is flagged whole
+		final BufferBitSet pass = codesInRange(range);
+
+		return runs().flag(offset, size, run -> {
+			int code = runCode(run);
+			return code != NULL_CODE && pass.get(code);
+		});
+	}
+
+	/*------------------------------------------------------------
+	 *                      RunBuilder
+	 *------------------------------------------------------------*/
+
+	/*
+	 * Builds a run-length encoded column from runs of codes into a dictionary,
+	 * merging adjacent runs with the same code. Dictionary values which are not
+	 * referenced by any run are dropped, unless the dictionary is to be kept as-is.
+	 */
+	static final class RunBuilder {
+
+		private static final int NO_RUN = Integer.MIN_VALUE;
+
+		private final IntColumnBuilder codes = new IntColumnBuilder(0);
+		private final IntColumnBuilder runEnds = new IntColumnBuilder(NONNULL);
+
+		private int code = NO_RUN;
+		private int end;
+
+		void add(int code, int length) {
+			if (length == 0)
+				return;
+
+			if (code != this.code) {
+				flush();
+				this.code = code;
+			}
+
+			end += length;
+		}
+
+		private void flush() {
+			if (code == NO_RUN)
+				return;
+
+			if (code == NULL_CODE)
+				codes.addNull();
+			else
+				codes.add(code);
+
+			runEnds.add(end);
+		}
+
+		NormalStringColumnRunImpl build(NonNullStringColumn values) {
+			return build(values, true);
+		}
+
+		NormalStringColumnRunImpl build(NonNullStringColumn values, boolean dropUnused) {
+
+			flush();
+			code = NO_RUN;
+
+			IntColumn codes = this.codes.build();
+			NonNullIntColumn runEnds = (NonNullIntColumn) this.runEnds.build();
+
+			if (dropUnused) {
+				BufferBitSet used = new BufferBitSet();
+				for (int i = 0; i < codes.size(); i++)
+					if (!codes.isNull(i))
+						used.set(codes.getInt(i));
+
+				int cardinality = used.cardinality();
+				if (cardinality < values.size()) {
+					int[] remap = new int[values.size()];
+					for (int i = 0, j = 0; i < remap.length; i++)
+						if (used.get(i))
+							remap[i] = j++;
+
+					values = (NonNullStringColumn) values.applyFilter(used, cardinality);
+					codes = codes.evaluate(i -> remap[i], true);
+				}
+			}
+
+			return new NormalStringColumnRunImpl(codes, runEnds, values, 0, end);
+		}
+	}
+}
@@ -18,7 +18,6 @@ package tech.bitey.dataframe;
 
 import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
 
-import java.util.List;
 import java.util.function.Predicate;
 
 import tech.bitey.bufferstuff.BufferBitSet;
@@ -45,21 +44,8 @@ public class NormalStringColumnShortImpl extends NormalStringColumnImpl<Short, S
 	}
 
 	@Override
-	String at(int index) {
-		return values.get(indices.get(index) & 0xFFFF);
-	}
-
-	@Override
-	public boolean equals(Object o) {
-		if (o == this) {
-			return true;
-		} else if (o instanceof NormalStringColumnShortImpl) {
-			return equals0((NormalStringColumnShortImpl) o);
-		} else if (o instanceof List) {
-			return super.equals(o);
-		} else {
-			return false;
-		}
+	int code(int index) {
+		return indices.getShort(index) & 0xFFFF;
 	}
 
 	/*------------------------------------------------------------
@@ -96,10 +82,10 @@ public class NormalStringColumnShortImpl extends NormalStringColumnImpl<Short, S
 
 			NonNullStringColumn vals = (NonNullStringColumn) values.applyFilter(filter, cardinality);
 
-			byte[] remap = new byte[values.size()];
+			short[] remap = new short[values.size()];
 			for (int i = 0, j = 0; i < remap.length; i++)
 				if (filter.get(i))
-					remap[i] = (byte) (j++);
+					remap[i] = (short) (j++);
 
 			ShortColumn byts = indices.evaluate(b -> remap[b & 0xFFFF]);
 
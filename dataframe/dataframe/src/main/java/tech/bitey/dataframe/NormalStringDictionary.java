@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static java.util.Spliterator.DISTINCT;
+import static tech.bitey.dataframe.Pr.checkArgument;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The distinct values of one or more {@link NormalStringColumn
+ * NormalStringColumns}. Each element of such a column is stored as the index,
+ * or code, of its value in the column's dictionary.
+ * <p>
+ * Columns which share a dictionary can be appended and joined by their codes
+ * alone, without looking up or re-encoding any strings, and a dictionary shared
+ * by several columns of a {@link DataFrame} is only written once by
+ * {@link DataFrame#writeTo(java.io.File) writeTo}. A dictionary can be shared
+ * by columns in the same dataframe, or across dataframes which are later
+ * appended or joined. Example:
+ *
+ * <pre>
+ * NormalStringDictionary dictionary = NormalStringDictionary.of("AAPL", "IBM", "MSFT");
+ * 
+ * NormalStringColumn monday = NormalStringColumn.builder(dictionary).add("IBM", "AAPL").build();
+ * NormalStringColumn tuesday = NormalStringColumn.builder(dictionary).add("MSFT").build();
+ * 
+ * NormalStringColumn both = monday.append(tuesday); // codes only
+ * </pre>
+ * 
+ * Two dictionaries are equal if they contain the same values in the same
+ * order. Columns read from separate files therefore still share a dictionary
+ * if the columns they were written from did.
+ * 
+ * @author biteytech@protonmail.com
+ */
+public final class NormalStringDictionary {
+
+	final NonNullStringColumn values;
+
+	NormalStringDictionary(NonNullStringColumn values) {
+		this.values = values;
+	}
+
+	/**
+	 * Returns a dictionary containing the distinct values in the specified array.
+	 * 
+	 * @param values the values to be included in the dictionary
+	 * 
+	 * @return a dictionary containing the distinct values in the specified array
+	 * 
+	 * @throws IllegalArgumentException if any of the values are null
+	 */
+	public static NormalStringDictionary of(String... values) {
+
+		String[] sorted = values.clone();
+		for (String value : sorted)
+			checkArgument(value != null, "dictionary values cannot be null");
+		Arrays.sort(sorted);
+
+		StringColumnBuilder builder = new StringColumnBuilder(DISTINCT);
+		for (int i = 0; i < sorted.length; i++)
+			if (i == 0 || !sorted[i].equals(sorted[i - 1]))
+				builder.add(sorted[i]);
+
+		return new NormalStringDictionary((NonNullStringColumn) builder.build());
+	}
+
+	/**
+	 * Returns a dictionary containing the distinct values in the specified
+	 * collection.
+	 * 
+	 * @param values the values to be included in the dictionary
+	 * 
+	 * @return a dictionary containing the distinct values in the specified
+	 *         collection
+	 * 
+	 * @throws IllegalArgumentException if any of the values are null
+	 */
+	public static NormalStringDictionary of(Collection<String> values) {
+		return of(values.toArray(new String[0]));
+	}
+
+	/**
+	 * Returns a dictionary containing all of the values in the dictionaries of the
+	 * specified columns. Re-encoding each column with
+	 * {@link NormalStringColumn#withDictionary(NormalStringDictionary)
+	 * withDictionary} then makes them all share the one dictionary.
+	 * 
+	 * @param columns the columns whose dictionaries are to be combined
+	 * 
+	 * @return a dictionary containing all of the values in the dictionaries of the
+	 *         specified columns
+	 */
+	public static NormalStringDictionary union(NormalStringColumn... columns) {
+
+		StringDictionary union = new StringDictionary();
+		for (NormalStringColumn column : columns) {
+			StringColumn values = column.dictionary().values();
+			for (int i = 0; i < values.size(); i++)
+				union.add(values.get(i));
+		}
+
+		return of(union.toArray());
+	}
+
+	/**
+	 * Returns the number of values in this dictionary.
+	 * 
+	 * @return the number of values in this dictionary
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	/**
+	 * Returns the value with the specified code.
+	 * 
+	 * @param code the code of the value to return
+	 * 
+	 * @return the value with the specified code
+	 * 
+	 * @throws IndexOutOfBoundsException if the code is out of range
+	 */
+	public String get(int code) {
+		return values.get(code);
+	}
+
+	/**
+	 * Returns the code of the specified value, or -1 if this dictionary does not
+	 * contain it.
+	 * 
+	 * @param value the value to look up
+	 * 
+	 * @return the code of the specified value, or -1 if this dictionary does not
+	 *         contain it
+	 */
+	public int indexOf(String value) {
+		return values.indexOf(value);
+	}
+
+	/**
+	 * Returns the values in this dictionary, indexed by code. The values are
+	 * sorted, except in dictionaries read from files written by older versions of
+	 * this library.
+	 * 
+	 * @return the values in this dictionary, indexed by code
+	 */
+	public StringColumn values() {
+		return values;
+	}
+
+	/*
+	 * True if the values are the same instance, or failing that equal. Comparing
+	 * the values is proportional to the size of the dictionary, which is typically
+	 * much smaller than the columns using it.
+	 */
+	static boolean same(NonNullStringColumn lhs, NonNullStringColumn rhs) {
+		return lhs == rhs || lhs.equals(rhs);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof NormalStringDictionary rhs && same(values, rhs.values);
+	}
+
+	@Override
+	public int hashCode() {
+		return values.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return values.toString();
+	}
+}
@@ -25,7 +25,9 @@ import java.math.BigDecimal;
 import java.nio.channels.WritableByteChannel;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NavigableSet;
@@ -320,6 +322,33 @@ abstract class NullableColumn<E, I extends Column<E>, C extends NonNullColumn<E,
 		return construct(nullableCleaned.column, nonNulls, size);
 	}
 
+	@Override
+	BufferBitSet valuesInRange(ValueRange<E> range) {
+
+		BufferBitSet values = subColumn.valuesInRange(range);
+
+		BufferBitSet result = new BufferBitSet();
+		for (int i = offset, j = 0; i <= lastIndex(); i++)
+			if (nonNulls.get(i) && values.get(j++))
+				result.set(i - offset);
+
+		return result;
+	}
+
+	@Override
+	ColumnStatistics<E> computeStatistics() {
+
+		ColumnStatistics<E> values = subColumn.statistics();
+
+		return new ColumnStatistics<>(size, size - subColumn.size(), byteSize(), values.distinctCount(),
+				values.bounds);
+	}
+
+	@Override
+	long byteSize() {
+		return subColumn.byteSize() + (size + 7) / 8;
+	}
+
 	@Override
 	public I filter(Predicate<E> predicate, boolean keepNulls) {
 
@@ -380,6 +409,64 @@ abstract class NullableColumn<E, I extends Column<E>, C extends NonNullColumn<E,
 			return construct(column, decodedNonNulls, indices.size());
 	}
 
+	@Override
+	Column<E> expand(BufferBitSet positions, int size) {
+
+		BufferBitSet expandedNonNulls = new BufferBitSet();
+		for (int i = offset, j = positions.nextSetBit(0); i <= lastIndex(); i++, j = positions.nextSetBit(j + 1))
+			if (nonNulls.get(i))
+				expandedNonNulls.set(j);
+
+		return construct(subColumn, expandedNonNulls, size);
+	}
+
+	@Override
+	I appendAll0(List<Column<E>> tails) {
+		return appendAll(this, tails);
+	}
+
+	/*
+	 * Appends the tails to the head, any of which can be nullable. The non-null
+	 * elements are appended in a single pass, and the non-null flags are set in
+	 * a single bit set.
+	 */
+	I appendAll(Column<E> head, List<Column<E>> tails) {
+
+		List<Column<E>> columns = new ArrayList<>(tails.size() + 1);
+		columns.add(head);
+		columns.addAll(tails);
+
+		List<C> nonNullColumns = new ArrayList<>(columns.size());
+		BufferBitSet nonNulls = new BufferBitSet();
+		int size = 0;
+
+		for (Column<E> column : columns) {
+			if (column.isNonnull()) {
+				nonNullColumns.add((C) column);
+				nonNulls.set(size, size + column.size());
+			} else {
+				N nullable = (N) column;
+				nonNullColumns.add(nullable.subColumn);
+
+				final BufferBitSet flags = nullable.nonNulls;
+				final int lastIndex = nullable.lastIndex();
+				for (int i = flags.nextSetBit(nullable.offset); i >= 0 && i <= lastIndex; i = flags.nextSetBit(i + 1))
+					nonNulls.set(size + i - nullable.offset);
+			}
+			size += column.size();
+		}
+
+		nonNullColumns.removeIf(Column::isEmpty);
+
+		final C column;
+		if (nonNullColumns.isEmpty())
+			column = subColumn;
+		else
+			column = nonNullColumns.get(0).appendAllNonNull(nonNullColumns.subList(1, nonNullColumns.size()));
+
+		return (I) construct(column, nonNulls, size);
+	}
+
 	I prependNonNull(C head) {
 
 		BufferBitSet nonNulls = subNonNulls();
@@ -461,9 +548,14 @@ abstract class NullableColumn<E, I extends Column<E>, C extends NonNullColumn<E,
 
 	@Override
 	void writeTo(WritableByteChannel channel) throws IOException {
+		writeTo(channel, false);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
 		writeInt(channel, BIG_ENDIAN, size);
 		nonNulls.writeTo(channel, offset, offset + size);
-		subColumn.writeTo(channel);
+		subColumn.writeTo(channel, compact);
 	}
 
 	/*------------------------------------------------------------
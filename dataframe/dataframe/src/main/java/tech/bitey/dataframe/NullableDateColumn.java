@@ -33,4 +33,13 @@ final class NullableDateColumn extends
 		checkGetPrimitive(index);
 		return column.yyyymmdd(nonNullIndex(index + offset));
 	}
+
+	@Override
+	public DateColumn toRunLengthEncoded() {
+
+		DateColumn encoded = column.toRunLengthEncoded();
+
+		return encoded == column ? this
+				: new NullableDateColumn((NonNullDateColumn) encoded, nonNulls, nullCounts, offset, size);
+	}
 }
@@ -60,8 +60,9 @@ final class NullableDoubleColumn extends NullableColumn<Double, DoubleColumn, No
 	}
 
 	@Override
-	public DoubleColumn evaluate(DoubleUnaryOperator op) {
+	public DoubleColumn evaluate(DoubleUnaryOperator op, boolean parallel) {
 
-		return new NullableDoubleColumn((NonNullDoubleColumn) subColumn.evaluate(op), subNonNulls(), null, 0, size);
+		return new NullableDoubleColumn((NonNullDoubleColumn) subColumn.evaluate(op, parallel), subNonNulls(), null, 0,
+				size);
 	}
 }
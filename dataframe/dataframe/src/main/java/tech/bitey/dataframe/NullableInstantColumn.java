@@ -27,4 +27,16 @@ final class NullableInstantColumn extends
 			INullCounts nullCounts, int offset, int size) {
 		super((NonNullInstantColumn) column, nonNulls, nullCounts, offset, size);
 	}
+
+	@Override
+	public long getEpochSecond(int index) {
+		checkGetPrimitive(index);
+		return column.getEpochSecond(nonNullIndex(index + offset));
+	}
+
+	@Override
+	public int getNano(int index) {
+		checkGetPrimitive(index);
+		return column.getNano(nonNullIndex(index + offset));
+	}
 }
@@ -24,4 +24,9 @@ abstract class NullableIntArrayColumn<E, I extends Column<E>, C extends IntArray
 	NullableIntArrayColumn(C column, BufferBitSet nonNulls, INullCounts nullCounts, int offset, int size) {
 		super(column, nonNulls, nullCounts, offset, size);
 	}
+
+	// the packed element at the specified index, which must not be null
+	int packedAt(int index) {
+		return column.packedAt(nonNullIndex(index + offset));
+	}
 }
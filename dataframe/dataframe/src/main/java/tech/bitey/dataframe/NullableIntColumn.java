@@ -60,8 +60,26 @@ final class NullableIntColumn extends NullableIntArrayColumn<Integer, IntColumn,
 	}
 
 	@Override
-	public IntColumn evaluate(IntUnaryOperator op) {
+	public IntColumn toRunLengthEncoded() {
 
-		return new NullableIntColumn((NonNullIntColumn) subColumn.evaluate(op), subNonNulls(), null, 0, size);
+		IntColumn encoded = column.toRunLengthEncoded();
+
+		return encoded == column ? this
+				: new NullableIntColumn((NonNullIntColumn) encoded, nonNulls, nullCounts, offset, size);
+	}
+
+	@Override
+	public IntColumn compact() {
+
+		IntColumn compacted = column.compact();
+
+		return compacted == column ? this
+				: new NullableIntColumn((NonNullIntColumn) compacted, nonNulls, nullCounts, offset, size);
+	}
+
+	@Override
+	public IntColumn evaluate(IntUnaryOperator op, boolean parallel) {
+
+		return new NullableIntColumn((NonNullIntColumn) subColumn.evaluate(op, parallel), subNonNulls(), null, 0, size);
 	}
 }
@@ -24,4 +24,9 @@ abstract class NullableLongArrayColumn<E, I extends Column<E>, C extends LongArr
 	NullableLongArrayColumn(C column, BufferBitSet nonNulls, INullCounts nullCounts, int offset, int size) {
 		super(column, nonNulls, nullCounts, offset, size);
 	}
+
+	// the packed element at the specified index, which must not be null
+	long packedAt(int index) {
+		return column.packedAt(nonNullIndex(index + offset));
+	}
 }
@@ -60,8 +60,27 @@ final class NullableLongColumn extends NullableLongArrayColumn<Long, LongColumn,
 	}
 
 	@Override
-	public LongColumn evaluate(LongUnaryOperator op) {
+	public LongColumn toRunLengthEncoded() {
 
-		return new NullableLongColumn((NonNullLongColumn) subColumn.evaluate(op), subNonNulls(), null, 0, size);
+		LongColumn encoded = column.toRunLengthEncoded();
+
+		return encoded == column ? this
+				: new NullableLongColumn((NonNullLongColumn) encoded, nonNulls, nullCounts, offset, size);
+	}
+
+	@Override
+	public LongColumn compact() {
+
+		LongColumn compacted = column.compact();
+
+		return compacted == column ? this
+				: new NullableLongColumn((NonNullLongColumn) compacted, nonNulls, nullCounts, offset, size);
+	}
+
+	@Override
+	public LongColumn evaluate(LongUnaryOperator op, boolean parallel) {
+
+		return new NullableLongColumn((NonNullLongColumn) subColumn.evaluate(op, parallel), subNonNulls(), null, 0,
+				size);
 	}
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.SmallLongBuffer;
+
+/*
+ * A NonNullLongColumn whose elements are bit-packed, see PackedLongs. The
+ * inherited buffer is empty, so only the packed words hold elements. Views
+ * share the packed elements. Anything which builds a new column, including a
+ * sort or deduplication, works with plain elements instead, see bufferCopy.
+ */
+final class PackedLongColumn extends NonNullLongColumn {
+
+	private final PackedLongs packed;
+
+	PackedLongColumn(PackedLongs packed, int offset, int size, int characteristics, boolean view) {
+		super(emptyBuffer(packed.buffer.order()), offset, size, characteristics, view);
+		this.packed = packed;
+	}
+
+	@Override
+	long at(int index) {
+		return packed.get(index);
+	}
+
+	@Override
+	public LongColumn compact() {
+		return this;
+	}
+
+	@Override
+	NonNullLongColumn plain() {
+		return bufferCopy();
+	}
+
+	@Override
+	NonNullLongColumn withCharacteristics(int characteristics) {
+		return new PackedLongColumn(packed, offset, size, characteristics, view);
+	}
+
+	@Override
+	NonNullLongColumn subColumn0(int fromIndex, int toIndex) {
+		return new PackedLongColumn(packed, fromIndex + offset, toIndex - fromIndex, characteristics, true);
+	}
+
+	@Override
+	NonNullLongColumn bufferCopy() {
+		return construct(slice0(), 0, size, characteristics, false);
+	}
+
+	@Override
+	public NonNullLongColumn copy() {
+		return bufferCopy();
+	}
+
+	@Override
+	BigByteBuffer slice0() {
+
+		final BigByteBuffer bb = allocate(size);
+		final SmallLongBuffer buf = bb.asLongBuffer();
+
+		Parallel.forEachChunk(size, (fromIndex, toIndex) -> packed.get(fromIndex + offset, toIndex + offset,
+				(index, value) -> buf.put(index - offset, value)));
+
+		return bb;
+	}
+
+	@Override
+	boolean equals0(NonNullLongColumn rhs, int lStart, int rStart, int length) {
+		for (int i = 0; i < length; i++)
+			if (at(lStart + i) != rhs.at(rStart + i))
+				return false;
+		return true;
+	}
+
+	@Override
+	long hash64(int index) {
+		return HyperLogLog.hash(at(index), 8, packed.buffer.order());
+	}
+
+	@Override
+	long byteSize() {
+		return (long) ((double) packed.byteSize() * size / Math.max(packed.size, 1));
+	}
+
+	@Override
+	int search(long value) {
+
+		int low = offset, high = offset + size - 1;
+
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = Long.compare(at(mid), value);
+
+			if (cmp < 0)
+				low = mid + 1;
+			else if (cmp > 0)
+				high = mid - 1;
+			else
+				return mid;
+		}
+
+		return -(low + 1);
+	}
+
+	@Override
+	int search(Long value, boolean first) {
+		return AbstractColumnSearch.search(this, value, first);
+	}
+
+	@Override
+	boolean checkSorted() {
+		for (int i = offset + 1; i < offset + size; i++)
+			if (at(i - 1) > at(i))
+				return false;
+		return true;
+	}
+
+	@Override
+	boolean checkDistinct() {
+		for (int i = offset + 1; i < offset + size; i++)
+			if (at(i - 1) >= at(i))
+				return false;
+		return true;
+	}
+
+	@Override
+	public LongStream longStream() {
+		return IntStream.range(offset, offset + size).mapToLong(this::at);
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
+
+		if (!compact || offset != 0 || size != packed.size)
+			super.writeTo(channel, compact);
+		else {
+			writeByteOrder(channel, buffer.order());
+			writeInt(channel, buffer.order(), size);
+			packed.writeTo(channel);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.dataframe.BitPacking.DELTA;
+import static tech.bitey.dataframe.BitPacking.FRAME;
+import static tech.bitey.dataframe.BitPacking.unpack;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.IntToLongFunction;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.SmallLongBuffer;
+
+/*
+ * An immutable sequence of longs stored with the FRAME or DELTA encoding
+ * described in BitPacking. The packed words are exactly those of the channel
+ * format, so a mapped file is used as is.
+ *
+ * FRAME elements unpack in constant time. DELTA elements are sums of the
+ * preceding differences, so the value of every 64th element is kept on the
+ * heap, and any other element is at most 63 differences away.
+ */
+final class PackedLongs {
+
+	private static final int CHECKPOINT_SHIFT = 6;
+
+	final byte encoding;
+	final int size;
+
+	// the first element (DELTA only)
+	private final long first;
+
+	// minimum element (FRAME) or minimum difference (DELTA)
+	private final long base;
+
+	private final int width;
+
+	final BigByteBuffer buffer;
+	private final SmallLongBuffer words;
+
+	// the value of every 64th element (DELTA only)
+	private final long[] checkpoints;
+
+	private PackedLongs(byte encoding, int size, long first, long base, int width, BigByteBuffer buffer,
+			long[] checkpoints) {
+
+		this.encoding = encoding;
+		this.size = size;
+		this.first = first;
+		this.base = base;
+		this.width = width;
+		this.buffer = buffer;
+		this.words = buffer.asLongBuffer();
+		this.checkpoints = encoding == DELTA && checkpoints == null ? checkpoints() : checkpoints;
+	}
+
+	/*
+	 * Packs the values with whichever encoding is smallest, or returns null if
+	 * neither is smaller than size * elementSize bytes.
+	 */
+	static PackedLongs pack(int size, int elementSize, ByteOrder order, IntToLongFunction values) {
+
+		if (size < 2)
+			return null;
+
+		long min = values.applyAsLong(0), max = min;
+		long minDelta = Long.MAX_VALUE, maxDelta = Long.MIN_VALUE;
+		for (int i = 1, prev = 0; i < size; i++, prev++) {
+			long value = values.applyAsLong(i);
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+
+			long delta = value - values.applyAsLong(prev);
+			minDelta = Math.min(minDelta, delta);
+			maxDelta = Math.max(maxDelta, delta);
+		}
+
+		final int frameWidth = BitPacking.bitWidth(max - min);
+		final int deltaWidth = BitPacking.bitWidth(maxDelta - minDelta);
+
+		final long plainBytes = (long) size * elementSize;
+		final long frameBytes = 9 + BitPacking.words(size, frameWidth) * 8;
+		final long deltaBytes = 17 + BitPacking.words(size - 1, deltaWidth) * 8;
+
+		if (deltaBytes < frameBytes && deltaBytes < plainBytes) {
+			final long base = minDelta;
+
+			final long[] checkpoints = new long[checkpointCount(size)];
+			for (int i = 0; i < checkpoints.length; i++)
+				checkpoints[i] = values.applyAsLong(i << CHECKPOINT_SHIFT);
+
+			BigByteBuffer buffer = BitPacking.pack(size - 1, deltaWidth, order,
+					i -> values.applyAsLong(i + 1) - values.applyAsLong(i) - base);
+
+			return new PackedLongs(DELTA, size, values.applyAsLong(0), base, deltaWidth, buffer, checkpoints);
+		} else if (frameBytes < plainBytes) {
+			final long base = min;
+
+			BigByteBuffer buffer = BitPacking.pack(size, frameWidth, order, i -> values.applyAsLong(i) - base);
+
+			return new PackedLongs(FRAME, size, 0, base, frameWidth, buffer, null);
+		} else
+			return null;
+	}
+
+	/*
+	 * Reads the remainder of a FRAME or DELTA column, after its encoding byte. The
+	 * packed words are mapped if map is true.
+	 */
+	static PackedLongs readFrom(ReadableByteChannel channel, ByteOrder order, byte encoding, int size, boolean map)
+			throws IOException {
+
+		if (encoding == FRAME) {
+			final long base = BitPacking.readLong(channel, order);
+			final int width = BitPacking.readEncoding(channel);
+			final BigByteBuffer buffer = AbstractColumn.readBuffer(channel, order, map);
+
+			return new PackedLongs(FRAME, size, 0, base, width, buffer, null);
+		} else {
+			Pr.checkState(encoding == DELTA, "unknown encoding: " + encoding);
+
+			final long first = BitPacking.readLong(channel, order);
+			final long base = BitPacking.readLong(channel, order);
+			final int width = BitPacking.readEncoding(channel);
+			final BigByteBuffer buffer = AbstractColumn.readBuffer(channel, order, map);
+
+			return new PackedLongs(DELTA, size, first, base, width, buffer, null);
+		}
+	}
+
+	// writes the encoding byte followed by the packed elements, as read by readFrom
+	void writeTo(WritableByteChannel channel) throws IOException {
+
+		final ByteOrder order = buffer.order();
+
+		BitPacking.writeByte(channel, encoding);
+		if (encoding == DELTA)
+			BitPacking.writeLong(channel, order, first);
+		BitPacking.writeLong(channel, order, base);
+		BitPacking.writeByte(channel, (byte) width);
+		AbstractColumn.writeBuffer(channel, buffer);
+	}
+
+	long get(int index) {
+
+		if (encoding == FRAME)
+			return base + unpack(words, index, width);
+
+		long value = checkpoints[index >>> CHECKPOINT_SHIFT];
+		for (int i = index & -(1 << CHECKPOINT_SHIFT); i < index; i++)
+			value += base + unpack(words, i, width);
+
+		return value;
+	}
+
+	// decodes the elements in [fromIndex, toIndex) in order
+	void get(int fromIndex, int toIndex, BitPacking.LongSink sink) {
+
+		if (fromIndex >= toIndex)
+			return;
+
+		if (encoding == FRAME) {
+			for (int i = fromIndex; i < toIndex; i++)
+				sink.put(i, base + unpack(words, i, width));
+		} else {
+			long value = get(fromIndex);
+			sink.put(fromIndex, value);
+
+			for (int i = fromIndex + 1; i < toIndex; i++) {
+				value += base + unpack(words, i - 1, width);
+				sink.put(i, value);
+			}
+		}
+	}
+
+	// bytes used by the packed elements, including any checkpoints
+	long byteSize() {
+		return buffer.capacity() + (checkpoints == null ? 0 : checkpoints.length * 8L);
+	}
+
+	private long[] checkpoints() {
+
+		final long[] checkpoints = new long[checkpointCount(size)];
+
+		long value = first;
+		checkpoints[0] = value;
+		for (int i = 1; i < size; i++) {
+			value += base + unpack(words, i - 1, width);
+			if ((i & ((1 << CHECKPOINT_SHIFT) - 1)) == 0)
+				checkpoints[i >>> CHECKPOINT_SHIFT] = value;
+		}
+
+		return checkpoints;
+	}
+
+	private static int checkpointCount(int size) {
+		return (size + (1 << CHECKPOINT_SHIFT) - 1) >>> CHECKPOINT_SHIFT;
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import tech.bitey.bufferstuff.BufferBitSet;
+
+/*
+ * Chunked parallel execution of element-wise operations.
+ *
+ * Operations on fewer than PARALLEL_THRESHOLD elements run sequentially on the
+ * calling thread. Larger operations are split into chunks of CHUNK_SIZE
+ * elements, which run on a ForkJoinPool. Chunks always start on a multiple of
+ * CHUNK_SIZE, which is itself a multiple of 64, so tasks writing to disjoint
+ * chunks never share a byte of a bitset or an element of a buffer.
+ *
+ * Configured with system properties:
+ *
+ * tech.bitey.dataframe.parallelism - number of threads in a dedicated pool, or
+ * 1 to disable parallel execution. Uses ForkJoinPool.commonPool() by default.
+ *
+ * tech.bitey.dataframe.chunkSize - elements per task, default 65536.
+ *
+ * tech.bitey.dataframe.parallelThreshold - minimum number of elements before an
+ * operation is run in parallel, default 262144.
+ */
+enum Parallel {
+	;
+
+	static final int CHUNK_SIZE = (Math.max(Integer.getInteger("tech.bitey.dataframe.chunkSize", 1 << 16), 1) + 63)
+			& ~63;
+
+	static final int PARALLEL_THRESHOLD = Math.max(Integer.getInteger("tech.bitey.dataframe.parallelThreshold", 1 << 18),
+			CHUNK_SIZE + 1);
+
+	private static final ForkJoinPool POOL;
+	static {
+		int parallelism = Integer.getInteger("tech.bitey.dataframe.parallelism", 0);
+		POOL = parallelism <= 0 ? ForkJoinPool.commonPool() : new ForkJoinPool(parallelism);
+	}
+
+	@FunctionalInterface
+	interface ChunkTask {
+		void run(int fromIndex, int toIndex);
+	}
+
+	@FunctionalInterface
+	interface ChunkFunction<T> {
+		T apply(int fromIndex, int toIndex);
+	}
+
+	/*
+	 * A pool of daemon threads for tasks which block on I/O, such as database
+	 * reads and writes, and so should not run on the ForkJoinPool
+	 */
+	static ExecutorService blockingExecutor(int threads, String name) {
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	static boolean isParallel(int size) {
+		return size >= PARALLEL_THRESHOLD && POOL.getParallelism() > 1;
+	}
+
+	/*
+	 * Runs the task over [0, size), either directly or split into chunks
+	 */
+	static void forEachChunk(int size, ChunkTask task) {
+		if (isParallel(size))
+			POOL.invoke(new ChunkAction(task, size, 0, chunkCount(size)));
+		else
+			task.run(0, size);
+	}
+
+	/*
+	 * Runs the task over [0, size) on the calling thread, unless parallel
+	 * execution has been requested (for user-supplied functions, which may not be
+	 * thread-safe)
+	 */
+	static void forEachChunk(boolean parallel, int size, ChunkTask task) {
+		if (parallel)
+			forEachChunk(size, task);
+		else
+			task.run(0, size);
+	}
+
+	/*
+	 * Returns the result of applying the function to each chunk, in order
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> List<T> mapChunks(int size, ChunkFunction<T> function) {
+		if (!isParallel(size))
+			return List.of(function.apply(0, size));
+
+		Object[] results = new Object[chunkCount(size)];
+		forEachChunk(size, (fromIndex, toIndex) -> results[fromIndex / CHUNK_SIZE] = function
+				.apply(fromIndex, toIndex));
+
+		return (List<T>) Arrays.asList(results);
+	}
+
+	/*
+	 * Evaluates a bitset over [0, size) chunk by chunk. Each chunk's bitset is
+	 * indexed relative to the start of the chunk, and the results are concatenated.
+	 */
+	static BufferBitSet bitSet(int size, ChunkFunction<BufferBitSet> function) {
+		if (!isParallel(size))
+			return function.apply(0, size);
+
+		List<BufferBitSet> chunks = mapChunks(size, function);
+
+		byte[] bytes = new byte[(size + 7) >>> 3];
+		for (int i = 0; i < chunks.size(); i++) {
+			byte[] chunk = chunks.get(i).toByteArray();
+			System.arraycopy(chunk, 0, bytes, i * (CHUNK_SIZE >>> 3), chunk.length);
+		}
+
+		return BufferBitSet.valueOf(bytes);
+	}
+
+	static BufferBitSet bitSet(boolean parallel, int size, ChunkFunction<BufferBitSet> function) {
+		return parallel ? bitSet(size, function) : function.apply(0, size);
+	}
+
+	/*
+	 * Returns the number of set bits in keep before the start of each chunk, so
+	 * that chunks can copy filtered elements into disjoint ranges of the output.
+	 */
+	static int[] filterOffsets(BufferBitSet keep, int size) {
+		if (!isParallel(size))
+			return new int[1];
+
+		int[] offsets = new int[chunkCount(size)];
+		for (int i = 1; i < offsets.length; i++) {
+			int toIndex = i * CHUNK_SIZE;
+			offsets[i] = offsets[i - 1] + keep.cardinality(toIndex - CHUNK_SIZE, toIndex);
+		}
+
+		return offsets;
+	}
+
+	static int chunkCount(int size) {
+		return (int) (((long) size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+	}
+
+	private static final class ChunkAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ChunkTask task;
+		private final int size;
+		private final int fromChunk;
+		private final int toChunk;
+
+		private ChunkAction(ChunkTask task, int size, int fromChunk, int toChunk) {
+			this.task = task;
+			this.size = size;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+		}
+
+		@Override
+		protected void compute() {
+			if (toChunk - fromChunk == 1) {
+				int fromIndex = fromChunk * CHUNK_SIZE;
+				task.run(fromIndex, fromIndex + Math.min(CHUNK_SIZE, size - fromIndex));
+			} else {
+				int mid = (fromChunk + toChunk) >>> 1;
+				invokeAll(new ChunkAction(task, size, fromChunk, mid), new ChunkAction(task, size, mid, toChunk));
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a contiguous range of indices, which splits in
+ * half until a range would hold fewer than {@link #MIN_SPLIT_SIZE} elements.
+ * <p>
+ * Based on {@code Spliterators.ArraySpliterator}
+ */
+abstract class RangeSpliterator<T> implements Spliterator<T> {
+
+	/*
+	 * Large enough that each split covers a few cache lines of every column being
+	 * read, small enough to balance work across a fork-join pool.
+	 */
+	static final int MIN_SPLIT_SIZE = 1 << 10;
+
+	int index; // current index, modified on advance/split
+	final int fence; // one past last index
+	private final int characteristics;
+
+	RangeSpliterator(int origin, int fence, int characteristics) {
+		this.index = origin;
+		this.fence = fence;
+		this.characteristics = characteristics | SIZED | SUBSIZED;
+	}
+
+	abstract T get(int index);
+
+	abstract RangeSpliterator<T> split(int origin, int fence);
+
+	@Override
+	public Spliterator<T> trySplit() {
+		int lo = index, mid = (lo + fence) >>> 1;
+		return mid - lo < MIN_SPLIT_SIZE ? null : split(lo, index = mid);
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		Objects.requireNonNull(action);
+
+		for (int i = index, hi = index = fence; i < hi; i++)
+			action.accept(get(i));
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		Objects.requireNonNull(action);
+
+		if (index < fence) {
+			action.accept(get(index++));
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public long estimateSize() {
+		return fence - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return characteristics;
+	}
+
+	@Override
+	public Comparator<? super T> getComparator() {
+		if (hasCharacteristics(SORTED))
+			return null;
+		throw new IllegalStateException();
+	}
+}
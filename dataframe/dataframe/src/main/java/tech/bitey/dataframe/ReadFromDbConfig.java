@@ -16,14 +16,28 @@
 
 package tech.bitey.dataframe;
 
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 import static tech.bitey.dataframe.Pr.checkArgument;
 import static tech.bitey.dataframe.Pr.checkState;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import tech.bitey.dataframe.db.ConnectionSupplier;
 import tech.bitey.dataframe.db.IFromResultSet;
 
 /**
@@ -39,6 +53,9 @@ import tech.bitey.dataframe.db.IFromResultSet;
  * @author biteytech@protonmail.com
  * 
  * @see DataFrameFactory#readFrom(ResultSet, ReadFromDbConfig)
+ * @see DataFrameFactory#streamFrom(ResultSet, ReadFromDbConfig, int)
+ * @see DataFrameFactory#readFrom(ConnectionSupplier, String, List,
+ *      DbPartitioning, ReadFromDbConfig, int)
  * @see IFromResultSet
  */
 public record ReadFromDbConfig(List<IFromResultSet<?, ?>> fromRsLogic, int fetchSize) {
@@ -53,35 +70,159 @@ public record ReadFromDbConfig(List<IFromResultSet<?, ?>> fromRsLogic, int fetch
 		this(fromRsLogic, 1000);
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	DataFrame read(ResultSet rs) throws SQLException {
+		return new Reader(rs).read(Integer.MAX_VALUE);
+	}
+
+	/*
+	 * Reads the ResultSet lazily, chunkSize rows at a time. Only one chunk is held
+	 * by the stream at once.
+	 */
+	Stream<DataFrame> stream(ResultSet rs, int chunkSize) throws SQLException {
+
+		checkArgument(chunkSize >= 1, "chunk size must be strictly positive");
+
+		final Reader reader = new Reader(rs);
+
+		Iterator<DataFrame> chunks = new Iterator<>() {
+
+			private DataFrame next;
+			private boolean done;
+
+			@Override
+			public boolean hasNext() {
+				if (next == null && !done) {
+					try {
+						next = reader.read(chunkSize);
+					} catch (SQLException e) {
+						throw new RuntimeException(e);
+					}
+
+					// a partial chunk means the ResultSet is exhausted
+					done = next.size() < chunkSize;
+					if (next.size() == 0)
+						next = null;
+				}
+
+				return next != null;
+			}
+
+			@Override
+			public DataFrame next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				DataFrame chunk = next;
+				next = null;
+				return chunk;
+			}
+		};
 
-		ResultSetMetaData metaData = rs.getMetaData();
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, ORDERED | NONNULL), false);
+	}
+
+	// the column names and logic of a ResultSet, from which any number of rows
+	// can be read at a time
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private final class Reader {
+
+		private final ResultSet rs;
+		private final String[] columnNames;
+		private final IFromResultSet[] fromRsLogic;
+
+		private Reader(ResultSet rs) throws SQLException {
+
+			ResultSetMetaData metaData = rs.getMetaData();
+
+			final int cc = metaData.getColumnCount();
 
-		final int cc = metaData.getColumnCount();
+			checkState(cc == ReadFromDbConfig.this.fromRsLogic.size(), "mismatched column count");
 
-		checkState(cc == fromRsLogic.size(), "mismatched column count");
+			this.rs = rs;
+			columnNames = new String[cc];
+			fromRsLogic = new IFromResultSet[cc];
 
-		ColumnBuilder[] builders = new ColumnBuilder[cc];
-		String[] columnNames = new String[cc];
-		IFromResultSet[] fromRsLogic = new IFromResultSet[cc];
+			for (int i = 0; i < cc; i++) {
+				columnNames[i] = metaData.getColumnName(i + 1);
+				fromRsLogic[i] = ReadFromDbConfig.this.fromRsLogic.get(i);
+			}
 
-		for (int i = 0; i < cc; i++) {
-			columnNames[i] = metaData.getColumnName(i + 1);
-			fromRsLogic[i] = this.fromRsLogic.get(i);
-			builders[i] = fromRsLogic[i].getColumnType().builder();
+			rs.setFetchSize(fetchSize);
 		}
 
-		rs.setFetchSize(fetchSize);
+		// reads up to maxRows rows, or all of the remaining rows
+		private DataFrame read(int maxRows) throws SQLException {
 
-		while (rs.next())
-			for (int i = 0; i < cc; i++)
-				fromRsLogic[i].get(rs, i + 1, builders[i]);
+			final int cc = columnNames.length;
 
-		Column<?>[] columns = new Column<?>[cc];
-		for (int i = 0; i < columns.length; i++)
-			columns[i] = builders[i].build();
+			ColumnBuilder[] builders = new ColumnBuilder[cc];
+			for (int i = 0; i < cc; i++) {
+				builders[i] = fromRsLogic[i].getColumnType().builder();
+				if (maxRows != Integer.MAX_VALUE)
+					builders[i].ensureCapacity(maxRows);
+			}
 
-		return DataFrameFactory.create(columns, columnNames);
+			for (int rows = 0; rows < maxRows && rs.next(); rows++)
+				for (int i = 0; i < cc; i++)
+					fromRsLogic[i].get(rs, i + 1, builders[i]);
+
+			Column<?>[] columns = new Column<?>[cc];
+			for (int i = 0; i < columns.length; i++)
+				columns[i] = builders[i].build();
+
+			return DataFrameFactory.create(columns, columnNames);
+		}
+	}
+
+	/*
+	 * Reads each partition of the query with its own connection, on a pool of at
+	 * most parallelism threads, and concatenates the results in partition order
+	 */
+	DataFrame read(ConnectionSupplier connections, String query, List<?> parameters, DbPartitioning partitioning,
+			int parallelism) throws SQLException {
+
+		checkArgument(query.contains(DbPartitioning.PLACEHOLDER),
+				"query must contain the placeholder " + DbPartitioning.PLACEHOLDER);
+		checkArgument(DbPartitioning.parameterCount(query) == parameters.size(),
+				"the number of parameters does not match the query");
+		checkArgument(parallelism >= 1, "parallelism must be strictly positive");
+
+		final int count = partitioning.count();
+
+		ExecutorService executor = Parallel.blockingExecutor(Math.min(count, parallelism), "dataframe-db-read");
+
+		try {
+			List<Future<DataFrame>> futures = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				final int partition = i;
+				futures.add(executor.submit(() -> {
+					try (Connection conn = connections.get();
+							PreparedStatement ps = conn.prepareStatement(partitioning.sql(query, partition))) {
+						partitioning.bind(ps, query, parameters, partition);
+						try (ResultSet rs = ps.executeQuery()) {
+							return read(rs);
+						}
+					}
+				}));
+			}
+
+			DataFrame[] partitions = new DataFrame[count];
+			for (int i = 0; i < count; i++)
+				partitions[i] = futures.get(i).get();
+
+			return DataFrameFactory.concat(partitions);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("interrupted while reading partitions", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof SQLException se)
+				throw se;
+			else if (e.getCause() instanceof RuntimeException re)
+				throw re;
+			else
+				throw new SQLException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 }
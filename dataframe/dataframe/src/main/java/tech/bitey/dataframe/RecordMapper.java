@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+
+/*
+ * Converts between records and rows of a dataframe with method handles, which
+ * are created once per record class and cached in a ClassValue.
+ *
+ * Primitive components are read and written through the primitive accessors
+ * of the columns and builders (getInt, add(int), etc.), so they are never
+ * boxed.
+ */
+final class RecordMapper<R extends Record> {
+
+	private static final ClassValue<RecordMapper<?>> MAPPERS = new ClassValue<>() {
+		@Override
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		protected RecordMapper<?> computeValue(Class<?> type) {
+			return new RecordMapper(type);
+		}
+	};
+
+	@SuppressWarnings("unchecked")
+	static <R extends Record> RecordMapper<R> of(Class<R> recordClass) {
+		return (RecordMapper<R>) MAPPERS.get(recordClass);
+	}
+
+	final RecordComponent[] components;
+	final ColumnType<?>[] types;
+
+	// (ColumnBuilder, Record)void - adds a component of a record to a builder
+	private final MethodHandle[] writers;
+
+	// the canonical constructor, returning Record
+	private final MethodHandle constructor;
+
+	private RecordMapper(Class<R> recordClass) {
+
+		components = recordClass.getRecordComponents();
+		types = new ColumnType<?>[components.length];
+		writers = new MethodHandle[components.length];
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		Class<?>[] componentTypes = new Class<?>[components.length];
+
+		try {
+			for (int i = 0; i < components.length; i++) {
+				final Class<?> componentType = componentTypes[i] = components[i].getType();
+
+				types[i] = ColumnType.forClass(componentType);
+				if (types[i] == null)
+					continue;
+
+				Method accessor = components[i].getAccessor();
+				accessor.setAccessible(true);
+
+				final Class<?> builderType = componentType.isPrimitive() ? builderType(componentType)
+						: ColumnBuilder.class;
+				final Class<?> elementType = componentType.isPrimitive() ? componentType : Object.class;
+
+				MethodHandle add = lookup.findVirtual(builderType, "add", methodType(builderType, elementType));
+				MethodHandle get = lookup.unreflect(accessor).asType(methodType(elementType, Record.class));
+
+				writers[i] = MethodHandles.filterArguments(add, 1, get)
+						.asType(methodType(void.class, ColumnBuilder.class, Record.class));
+			}
+
+			Constructor<R> canonical = recordClass.getDeclaredConstructor(componentTypes);
+			canonical.setAccessible(true);
+			constructor = lookup.unreflectConstructor(canonical)
+					.asType(methodType(Record.class, componentTypes));
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/*
+	 * Returns a new builder for each component, with the specified capacity
+	 */
+	@SuppressWarnings("rawtypes")
+	ColumnBuilder[] builders(int capacity) {
+
+		ColumnBuilder[] builders = new ColumnBuilder[components.length];
+
+		for (int i = 0; i < components.length; i++) {
+			if (types[i] == null)
+				throw new RuntimeException("unsupported component type: " + components[i]);
+
+			builders[i] = types[i].builder();
+			builders[i].ensureCapacity(capacity);
+		}
+
+		return builders;
+	}
+
+	/*
+	 * Builds a dataframe from the builders, with a column named after each
+	 * component
+	 */
+	@SuppressWarnings("rawtypes")
+	DataFrame build(ColumnBuilder[] builders) {
+
+		Column<?>[] columns = new Column<?>[builders.length];
+		String[] columnNames = new String[builders.length];
+
+		for (int i = 0; i < builders.length; i++) {
+			columns[i] = builders[i].build();
+			columnNames[i] = components[i].getName();
+		}
+
+		return DataFrameFactory.create(columns, columnNames);
+	}
+
+	/*
+	 * Adds the components of a record to the builders, or nulls if the record is
+	 * null
+	 */
+	@SuppressWarnings("rawtypes")
+	void add(R record, ColumnBuilder[] builders) {
+
+		if (record == null) {
+			for (ColumnBuilder builder : builders)
+				builder.addNull();
+		} else {
+			try {
+				for (int i = 0; i < builders.length; i++)
+					writers[i].invokeExact(builders[i], (Record) record);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/*
+	 * Returns a handle of type (int)Record, which creates a record from a row of
+	 * the specified columns. The columns must be compatible with the components.
+	 */
+	MethodHandle reader(Column<?>[] columns) {
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		MethodHandle[] getters = new MethodHandle[columns.length];
+
+		try {
+			for (int i = 0; i < columns.length; i++) {
+				final Class<?> componentType = components[i].getType();
+
+				if (componentType.isPrimitive()) {
+					Class<?> columnType = columnType(componentType);
+					String name = "get" + Character.toUpperCase(componentType.getName().charAt(0))
+							+ componentType.getName().substring(1);
+
+					getters[i] = lookup.findVirtual(columnType, name, methodType(componentType, int.class))
+							.bindTo(columns[i]);
+				} else {
+					getters[i] = lookup.findVirtual(Column.class, "get", methodType(Object.class, int.class))
+							.bindTo(columns[i]).asType(methodType(componentType, int.class));
+				}
+			}
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+
+		// (int, int, ...)R, then every argument is the same row index
+		MethodHandle reader = MethodHandles.filterArguments(constructor, 0, getters);
+		return MethodHandles.permuteArguments(reader, methodType(Record.class, int.class), new int[columns.length]);
+	}
+
+	private static Class<?> builderType(Class<?> primitive) {
+		return switch (primitive.getName()) {
+		case "boolean" -> BooleanColumnBuilder.class;
+		case "byte" -> ByteColumnBuilder.class;
+		case "double" -> DoubleColumnBuilder.class;
+		case "float" -> FloatColumnBuilder.class;
+		case "int" -> IntColumnBuilder.class;
+		case "long" -> LongColumnBuilder.class;
+		case "short" -> ShortColumnBuilder.class;
+		default -> throw new IllegalArgumentException("unsupported component type: " + primitive);
+		};
+	}
+
+	private static Class<?> columnType(Class<?> primitive) {
+		return switch (primitive.getName()) {
+		case "boolean" -> BooleanColumn.class;
+		case "byte" -> ByteColumn.class;
+		case "double" -> DoubleColumn.class;
+		case "float" -> FloatColumn.class;
+		case "int" -> IntColumn.class;
+		case "long" -> LongColumn.class;
+		case "short" -> ShortColumn.class;
+		default -> throw new IllegalArgumentException("unsupported component type: " + primitive);
+		};
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import static java.util.Spliterator.NONNULL;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.SmallLongBuffer;
+
+/*
+ * A run-length encoded NonNullLongColumn, see Runs. Element access binary
+ * searches the run ends. The inherited buffer is empty, so only the runs hold
+ * elements. Views share the runs, and filters, selections, appends and copies
+ * are built one run at a time. Sorting and deduplicating work with plain
+ * elements, see bufferCopy.
+ */
+final class RunLengthLongColumn extends NonNullLongColumn {
+
+	// the value of each run
+	private final NonNullLongColumn values;
+
+	private final Runs runs;
+
+	RunLengthLongColumn(NonNullLongColumn values, Runs runs, int offset, int size, int characteristics, boolean view) {
+		super(emptyBuffer(values.buffer.order()), offset, size, characteristics, view);
+		this.values = values;
+		this.runs = runs;
+	}
+
+	static RunLengthLongColumn encode(NonNullLongColumn column) {
+		return build(builder -> {
+			for (int i = column.offset; i <= column.lastIndex(); i++)
+				builder.add(column.at(i), 1);
+		}, column.characteristics);
+	}
+
+	// builds a column from the runs added by the consumer
+	private static RunLengthLongColumn build(Consumer<Runs.Builder> addRuns, int characteristics) {
+
+		final LongColumnBuilder values = new LongColumnBuilder(NONNULL);
+		final Runs.Builder builder = new Runs.Builder(value -> values.add(value));
+
+		addRuns.accept(builder);
+		final Runs runs = builder.build();
+
+		return new RunLengthLongColumn((NonNullLongColumn) values.build(), runs, 0, runs.length(), characteristics,
+				false);
+	}
+
+	private void addRuns(Runs.Builder builder) {
+		runs.forEach(offset, size, (run, fromIndex, toIndex) -> builder.add(values.at(run), toIndex - fromIndex));
+	}
+
+	@Override
+	long at(int index) {
+		return values.at(runs.runAt(index));
+	}
+
+	@Override
+	public LongColumn toRunLengthEncoded() {
+		return this;
+	}
+
+	@Override
+	public LongColumn compact() {
+
+		NonNullLongColumn values = (NonNullLongColumn) this.values.compact();
+		NonNullIntColumn ends = (NonNullIntColumn) runs.ends.compact();
+
+		if (values == this.values && ends == runs.ends)
+			return this;
+		else
+			return new RunLengthLongColumn(values, new Runs(ends), offset, size, characteristics, view);
+	}
+
+	@Override
+	NonNullLongColumn plain() {
+		return bufferCopy();
+	}
+
+	@Override
+	NonNullLongColumn withCharacteristics(int characteristics) {
+		return new RunLengthLongColumn(values, runs, offset, size, characteristics, view);
+	}
+
+	@Override
+	NonNullLongColumn subColumn0(int fromIndex, int toIndex) {
+		return new RunLengthLongColumn(values, runs, fromIndex + offset, toIndex - fromIndex, characteristics, true);
+	}
+
+	@Override
+	public NonNullLongColumn copy() {
+		return build(this::addRuns, characteristics);
+	}
+
+	@Override
+	NonNullLongColumn slice() {
+		return copy();
+	}
+
+	@Override
+	NonNullLongColumn bufferCopy() {
+		return construct(slice0(), 0, size, characteristics, false);
+	}
+
+	@Override
+	NonNullLongColumn toSorted0() {
+		return encode(super.toSorted0());
+	}
+
+	@Override
+	NonNullLongColumn applyFilter0(BufferBitSet keep, int cardinality) {
+		return build(builder -> runs.forEach(offset, size,
+				(run, fromIndex, toIndex) -> builder.add(values.at(run), keep.cardinality(fromIndex, toIndex))),
+				characteristics);
+	}
+
+	@Override
+	NonNullLongColumn select0(IntColumn indices) {
+		return build(builder -> {
+			int run = -1;
+			for (int i = 0; i < indices.size(); i++) {
+				int index = indices.getInt(i) + offset;
+				if (run == -1 || index < runs.start(run) || index >= runs.end(run))
+					run = runs.runAt(index);
+				builder.add(values.at(run), 1);
+			}
+		}, NONNULL);
+	}
+
+	@Override
+	NonNullLongColumn appendNonNull(NonNullLongColumn tail) {
+		return appendAllNonNull(List.of(tail));
+	}
+
+	@Override
+	NonNullLongColumn appendAllNonNull(List<NonNullLongColumn> tails) {
+		return build(builder -> {
+			addRuns(builder);
+			for (NonNullLongColumn tail : tails) {
+				if (tail instanceof RunLengthLongColumn rle)
+					rle.addRuns(builder);
+				else {
+					for (int i = tail.offset; i <= tail.lastIndex(); i++)
+						builder.add(tail.at(i), 1);
+				}
+			}
+		}, characteristics);
+	}
+
+	@Override
+	BufferBitSet valuesInRange(ValueRange<Long> range) {
+		// the range is tested once per run
+		return runs.flag(offset, size, run -> range.contains(this, Math.max(runs.start(run), offset)));
+	}
+
+	@Override
+	Runs runs() {
+		return runs;
+	}
+
+	@Override
+	int compareRuns(int lRun, int rRun) {
+		return Long.compare(values.at(lRun), values.at(rRun));
+	}
+
+	@Override
+	BigByteBuffer slice0() {
+
+		final BigByteBuffer bb = allocate(size);
+		final SmallLongBuffer buf = bb.asLongBuffer();
+
+		runs.forEach(offset, size, (run, fromIndex, toIndex) -> {
+			long value = values.at(run);
+			for (int i = fromIndex; i < toIndex; i++)
+				buf.put(i, value);
+		});
+
+		return bb;
+	}
+
+	@Override
+	boolean equals0(NonNullLongColumn rhs, int lStart, int rStart, int length) {
+
+		for (int i = 0; i < length;) {
+			int run = runs.runAt(lStart + i);
+			long value = values.at(run);
+			for (int end = Math.min(runs.end(run) - lStart, length); i < end; i++)
+				if (rhs.at(rStart + i) != value)
+					return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	long hash64(int index) {
+		// the same hash as the plain column
+		return values.hash64(values.offset + runs.runAt(index));
+	}
+
+	@Override
+	long byteSize() {
+		return values.byteSize() + runs.ends.byteSize();
+	}
+
+	@Override
+	int search(long value) {
+
+		int low = offset, high = offset + size - 1;
+
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = Long.compare(at(mid), value);
+
+			if (cmp < 0)
+				low = mid + 1;
+			else if (cmp > 0)
+				high = mid - 1;
+			else
+				return mid;
+		}
+
+		return -(low + 1);
+	}
+
+	@Override
+	int search(Long value, boolean first) {
+		return AbstractColumnSearch.search(this, value, first);
+	}
+
+	@Override
+	boolean checkSorted() {
+		for (int run = runs.runAt(offset) + 1; run < runs.count() && runs.start(run) < offset + size; run++)
+			if (values.at(run - 1) > values.at(run))
+				return false;
+		return true;
+	}
+
+	@Override
+	boolean checkDistinct() {
+		final boolean[] distinct = { true };
+		runs.forEach(offset, size, (run, fromIndex, toIndex) -> {
+			if (toIndex - fromIndex > 1 || fromIndex > 0 && values.at(run - 1) >= values.at(run))
+				distinct[0] = false;
+		});
+		return distinct[0];
+	}
+
+	@Override
+	public LongStream longStream() {
+
+		if (size == 0)
+			return LongStream.empty();
+
+		final int firstRun = runs.runAt(offset);
+		final int lastRun = runs.runAt(lastIndex());
+
+		return IntStream.rangeClosed(firstRun, lastRun).mapToObj(run -> {
+			long value = values.at(run);
+			int length = Math.min(runs.end(run), offset + size) - Math.max(runs.start(run), offset);
+			return LongStream.range(0, length).map(i -> value);
+		}).flatMapToLong(Function.identity());
+	}
+
+	@Override
+	void writeTo(WritableByteChannel channel, boolean compact) throws IOException {
+
+		final RunLengthLongColumn column = offset == 0 && size == runs.length() ? this : (RunLengthLongColumn) copy();
+
+		writeByteOrder(channel, buffer.order());
+		writeInt(channel, buffer.order(), size);
+		BitPacking.writeByte(channel, BitPacking.RUN);
+
+		column.values.writeTo(channel, compact);
+		column.runs.ends.writeTo(channel, compact);
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import static java.util.Spliterator.DISTINCT;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.SORTED;
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.IntPredicate;
+import java.util.function.LongConsumer;
+
+import tech.bitey.bufferstuff.BufferBitSet;
+
+/*
+ * The runs of a run-length encoded primitive column. Each run of equal
+ * consecutive elements is stored once, and ends holds the exclusive index where
+ * each run ends, in the same index space as the column's offset. The run values
+ * are kept by the column itself, one per run.
+ */
+final class Runs {
+
+	@FunctionalInterface
+	interface RunConsumer {
+		// fromIndex and toIndex are relative to the column's offset
+		void accept(int run, int fromIndex, int toIndex);
+	}
+
+	final NonNullIntColumn ends;
+
+	Runs(NonNullIntColumn ends) {
+		this.ends = ends;
+	}
+
+	// reads the run ends written after a RUN encoding byte and the run values
+	static Runs readFrom(ReadableByteChannel channel, int version, boolean map) throws IOException {
+
+		Pr.checkState(version >= 12, "run-length encoding needs version 12: " + version);
+
+		return new Runs(NonNullIntColumn.empty(NONNULL_CHARACTERISTICS | SORTED | DISTINCT).readFrom(channel, version,
+				map));
+	}
+
+	int count() {
+		return ends.size();
+	}
+
+	// total number of elements in all runs
+	int length() {
+		return ends.isEmpty() ? 0 : ends.at(ends.size() - 1);
+	}
+
+	// the run containing the element at index, which includes the offset
+	int runAt(int index) {
+
+		int low = 0;
+		int high = ends.size() - 1;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (ends.at(mid) > index)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+
+		return low;
+	}
+
+	int start(int run) {
+		return run == 0 ? 0 : ends.at(run - 1);
+	}
+
+	int end(int run) {
+		return ends.at(run);
+	}
+
+	// calls the consumer with each run which overlaps [offset, offset + size)
+	void forEach(int offset, int size, RunConsumer consumer) {
+
+		if (size == 0)
+			return;
+
+		final int toIndex = offset + size;
+		for (int run = runAt(offset); run < ends.size() && start(run) < toIndex; run++)
+			consumer.accept(run, Math.max(start(run), offset) - offset, Math.min(end(run), toIndex) - offset);
+	}
+
+	// flags the elements of [offset, offset + size) whose run passes the test
+	BufferBitSet flag(int offset, int size, IntPredicate test) {
+
+		BufferBitSet result = new BufferBitSet();
+		forEach(offset, size, (run, fromIndex, toIndex) -> {
+			if (test.test(run))
+				result.set(fromIndex, toIndex);
+		});
+
+		return result;
+	}
+
+	/*
+	 * Builds runs from elements added in order, merging adjacent runs of equal
+	 * elements. The value of each run is passed to the values consumer once the
+	 * run is complete.
+	 */
+	static final class Builder {
+
+		private final LongConsumer values;
+		private final IntColumnBuilder ends = new IntColumnBuilder(NONNULL);
+
+		private boolean started;
+		private long value;
+		private int end;
+
+		Builder(LongConsumer values) {
+			this.values = values;
+		}
+
+		void add(long value, int length) {
+			if (length == 0)
+				return;
+
+			if (!started || value != this.value) {
+				flush();
+				started = true;
+				this.value = value;
+			}
+
+			end += length;
+		}
+
+		private void flush() {
+			if (started) {
+				values.accept(value);
+				ends.add(end);
+			}
+		}
+
+		Runs build() {
+			flush();
+			started = false;
+
+			return new Runs((NonNullIntColumn) ends.build());
+		}
+	}
+}
@@ -86,6 +86,9 @@ public interface ShortColumn extends Column<Short> {
 	@Override
 	ShortColumn filter(Predicate<Short> predicate, boolean keepNulls);
 
+	@Override
+	ShortColumn filterByValue(Short fromElement, boolean fromInclusive, Short toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
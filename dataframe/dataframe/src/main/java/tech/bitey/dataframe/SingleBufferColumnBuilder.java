@@ -16,8 +16,11 @@
 
 package tech.bitey.dataframe;
 
+import static java.lang.Math.toIntExact;
 import static tech.bitey.dataframe.Pr.checkState;
 
+import java.util.List;
+
 import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.BufferUtils;
 import tech.bitey.bufferstuff.SmallBuffer;
@@ -32,6 +35,14 @@ abstract class SingleBufferColumnBuilder<E, F extends SmallBuffer, C extends Col
 	BigByteBuffer buffer = allocate(8);
 	F elements = asBuffer(buffer);
 
+	// set when the buffer is handed to a built column without being copied. The
+	// builder must then copy it before writing to it again.
+	private boolean shared;
+
+	// number of leading elements already checked against the sorted/distinct
+	// characteristics
+	private int validated;
+
 	abstract F asBuffer(BigByteBuffer buffer);
 
 	abstract C buildNonNullColumn(BigByteBuffer trim, int characteristics);
@@ -50,9 +61,11 @@ abstract class SingleBufferColumnBuilder<E, F extends SmallBuffer, C extends Col
 	@SuppressWarnings("unchecked")
 	@Override
 	public B ensureCapacity(int minCapacity) {
-		if (getNonNullCapacity() < minCapacity) {
+		if (shared || getNonNullCapacity() < minCapacity) {
 
-			int expandedCapacity = expandedCapacity(getNonNullCapacity(), minCapacity);
+			int expandedCapacity = getNonNullCapacity() < minCapacity
+					? expandedCapacity(getNonNullCapacity(), minCapacity)
+					: getNonNullCapacity();
 			BigByteBuffer extended = allocate(expandedCapacity);
 			buffer.position((long) getNonNullSize() * elementSize());
 			buffer.flip();
@@ -60,6 +73,7 @@ abstract class SingleBufferColumnBuilder<E, F extends SmallBuffer, C extends Col
 
 			buffer = extended;
 			elements = asBuffer(buffer);
+			shared = false;
 		}
 		return (B) this;
 	}
@@ -89,11 +103,23 @@ abstract class SingleBufferColumnBuilder<E, F extends SmallBuffer, C extends Col
 		return elements.capacity();
 	}
 
+	/*
+	 * If the buffer is (nearly) full, as when the builder was sized up front with
+	 * ensureCapacity, the column is built over the buffer itself rather than over
+	 * a trimmed copy of it.
+	 */
 	@Override
 	C buildNonNullColumn(int characteristics) {
+		final long length = (long) getNonNullSize() * elementSize();
+
+		if (buffer.capacity() - length <= buffer.capacity() / 8) {
+			shared = true;
+			return buildNonNullColumn(buffer.slice(0, length), characteristics);
+		}
+
 		BigByteBuffer full = buffer.duplicate();
 		full.flip();
-		full.limit((long) getNonNullSize() * elementSize());
+		full.limit(length);
 
 		BigByteBuffer trim = allocate(getNonNullSize());
 		trim.put(full);
@@ -102,6 +128,17 @@ abstract class SingleBufferColumnBuilder<E, F extends SmallBuffer, C extends Col
 		return buildNonNullColumn(trim, characteristics);
 	}
 
+	/*
+	 * Accounts for count non-null elements having been bulk added. A sorted
+	 * builder checks them right away, so that out of order elements are reported
+	 * by the call which added them.
+	 */
+	void addedNonNulls(int count) {
+		size += count;
+		if (sorted())
+			checkCharacteristics();
+	}
+
 	abstract void append00(F elements);
 
 	@Override
@@ -110,6 +147,57 @@ abstract class SingleBufferColumnBuilder<E, F extends SmallBuffer, C extends Col
 		append00(tail.elements);
 	}
 
+	/*
+	 * The tails' elements are copied straight into disjoint ranges of the
+	 * presized buffer, a chunk at a time and in parallel when there are enough of
+	 * them. Only the nulls are then merged one tail at a time.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	B appendAll(List<B> tails) {
+
+		final int elementSize = elementSize();
+		final long base = (long) getNonNullSize() * elementSize;
+
+		// the byte offset of each tail's elements in this builder's buffer
+		final long[] starts = new long[tails.size() + 1];
+		starts[0] = base;
+		for (int i = 0; i < tails.size(); i++) {
+			B tail = tails.get(i);
+			checkCompatible(tail);
+			starts[i + 1] = starts[i] + (long) tail.getNonNullSize() * elementSize;
+		}
+
+		final int count = toIntExact((starts[tails.size()] - base) / elementSize);
+		ensureAdditionalCapacity(count);
+
+		final BigByteBuffer target = buffer;
+		Parallel.forEachChunk(count, (fromIndex, toIndex) -> {
+			final long from = base + (long) fromIndex * elementSize;
+			final long to = base + (long) toIndex * elementSize;
+
+			for (int i = 0; i < tails.size(); i++) {
+				long lo = Math.max(from, starts[i]);
+				long hi = Math.min(to, starts[i + 1]);
+				if (lo < hi)
+					target.slice(lo, hi).put(tails.get(i).buffer.slice(lo - starts[i], hi - starts[i]));
+			}
+		});
+		skipNonNulls(count);
+
+		for (B tail : tails) {
+			appendNulls(tail);
+			size += tail.size;
+		}
+
+		return (B) this;
+	}
+
+	// advances past count elements copied into the buffer by appendAll
+	void skipNonNulls(int count) {
+		elements.position(elements.position() + count);
+	}
+
 	@Override
 	CharacteristicValidation getCharacteristicValidation() {
 		return CharacteristicValidation.BUILD;
@@ -120,17 +208,22 @@ abstract class SingleBufferColumnBuilder<E, F extends SmallBuffer, C extends Col
 		throw new UnsupportedOperationException("compareToLast");
 	}
 
-	abstract boolean checkSorted();
+	abstract boolean checkSorted(int fromIndex);
 
-	abstract boolean checkDistinct();
+	abstract boolean checkDistinct(int fromIndex);
 
 	@Override
 	void checkCharacteristics() {
 		if (sorted() && size >= 2) {
+			// the first unchecked element must still be compared to the last checked one
+			final int fromIndex = Math.max(validated - 1, 0);
+
 			if (distinct())
-				checkState(checkDistinct(), "column elements must be sorted and distinct");
+				checkState(checkDistinct(fromIndex), "column elements must be sorted and distinct");
 			else
-				checkState(checkSorted(), "column elements must be sorted");
+				checkState(checkSorted(fromIndex), "column elements must be sorted");
+
+			validated = size;
 		}
 	}
 }
@@ -16,16 +16,12 @@
 
 package tech.bitey.dataframe;
 
-import static tech.bitey.dataframe.NormalStringColumnBuilder.MAX_VALUES;
-
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
@@ -81,6 +77,9 @@ public interface StringColumn extends Column<String> {
 	@Override
 	StringColumn filter(Predicate<String> predicate, boolean keepNulls);
 
+	@Override
+	StringColumn filterByValue(String fromElement, boolean fromInclusive, String toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -365,9 +364,9 @@ public interface StringColumn extends Column<String> {
 	}
 
 	/**
-	 * Convert this column into a {@link NormalStringColumn} if it contains at most
-	 * 65536 distinct elements and the resulting column takes up not more than
-	 * approximately {@code threshold%} of the space of this column.
+	 * Convert this column into a {@link NormalStringColumn} if the resulting column
+	 * takes up not more than approximately {@code threshold%} of the space of this
+	 * column.
 	 * 
 	 * @param threshold a value &gt; 0 and &lt;= 1. For example, 0.2 means that a
 	 *                  NormalStringColumn will only be returned if it's less than
@@ -382,28 +381,25 @@ public interface StringColumn extends Column<String> {
 		if (size() < 2 || getType() == ColumnType.NSTRING)
 			return this;
 
-		// hash -> String.length()
-		Map<NormalStringHash, Integer> distinct = new HashMap<>();
-
-		long thisLength = 0;
-		long nonNullSize = 0;
-		for (String value : this) {
-			if (value != null) {
-				thisLength += value.length();
-				distinct.computeIfAbsent(new NormalStringHash(value), x -> value.length());
-				nonNullSize++;
-			}
-			if (distinct.size() > MAX_VALUES)
-				return this;
-		}
+		ColumnStatistics<String> statistics = statistics();
+
+		final long distinct = statistics.distinctCount();
+		long nonNullSize = size() - statistics.nullCount();
+
+		// assumes that distinct values are of average length
+		final long valueLength = statistics.byteSize() - pointerLength(this);
+		final double distinctLength = nonNullSize == 0 ? 0 : (double) valueLength * distinct / nonNullSize;
 
+		long thisLength = valueLength;
 		if (getType() == ColumnType.STRING)
 			thisLength += nonNullSize * 8; // pointers
 
-		if (distinct.size() > 256)
+		if (distinct > NormalStringColumnBuilder.MAX_SHORT_VALUES)
+			nonNullSize *= 4; // ints instead of bytes
+		else if (distinct > NormalStringColumnBuilder.MAX_BYTE_VALUES)
 			nonNullSize *= 2; // shorts instead of bytes
 
-		long normalLength = nonNullSize + distinct.values().stream().mapToLong(i -> i).sum();
+		double normalLength = nonNullSize + distinctLength;
 
 		if (normalLength < thisLength * threshold)
 			return toNormalStringColumn();
@@ -411,6 +407,17 @@ public interface StringColumn extends Column<String> {
 			return this;
 	}
 
+	// bytes used by the pointers of a STRING column, or zero
+	private static long pointerLength(StringColumn column) {
+
+		Column<String> values = column instanceof NullableStringColumn nullable ? nullable.subColumn : column;
+
+		if (values instanceof NonNullStringColumn strings)
+			return (long) strings.size() * strings.pointerWidth;
+		else
+			return 0;
+	}
+
 	@Override
 	default StringColumn toStringColumn() {
 		return this;
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bitey.dataframe;
+
+import java.util.Arrays;
+
+/**
+ * Assigns a dense code to each distinct string, in the order they were first
+ * added.
+ * <p>
+ * Open-addressing hash table of codes, keyed on {@link String#hashCode()} and
+ * verified with {@link String#equals(Object)}. Looking up a string which is
+ * already present does not allocate.
+ */
+final class StringDictionary {
+
+	private static final int MIN_CAPACITY = 16;
+
+	// code -> value, and code -> value.hashCode()
+	private String[] values;
+	private int[] hashes;
+	private int size;
+
+	// slot -> code + 1, or 0 if the slot is empty. Never more than half full.
+	private int[] slots;
+	private int mask;
+
+	StringDictionary() {
+		values = new String[MIN_CAPACITY];
+		hashes = new int[MIN_CAPACITY];
+		slots = new int[MIN_CAPACITY * 2];
+		mask = slots.length - 1;
+	}
+
+	/**
+	 * Returns the code for the specified string, adding it to this dictionary if
+	 * not already present. New strings are assigned the code {@link #size()}.
+	 */
+	int add(String value) {
+
+		final int hash = value.hashCode();
+
+		int slot = spread(hash) & mask;
+		for (int code; (code = slots[slot] - 1) != -1; slot = (slot + 1) & mask)
+			if (hashes[code] == hash && values[code].equals(value))
+				return code;
+
+		if (size == values.length) {
+			grow();
+			slot = spread(hash) & mask;
+			while (slots[slot] != 0)
+				slot = (slot + 1) & mask;
+		}
+
+		final int code = size++;
+		values[code] = value;
+		hashes[code] = hash;
+		slots[slot] = code + 1;
+
+		return code;
+	}
+
+	/**
+	 * Returns the code for the specified string, or -1 if it is not present.
+	 */
+	int indexOf(String value) {
+
+		final int hash = value.hashCode();
+
+		for (int slot = spread(hash) & mask, code; (code = slots[slot] - 1) != -1; slot = (slot + 1) & mask)
+			if (hashes[code] == hash && values[code].equals(value))
+				return code;
+
+		return -1;
+	}
+
+	String get(int code) {
+		return values[code];
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the strings in this dictionary, indexed by code.
+	 */
+	String[] toArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	private void grow() {
+
+		values = Arrays.copyOf(values, values.length * 2);
+		hashes = Arrays.copyOf(hashes, hashes.length * 2);
+
+		slots = new int[values.length * 2];
+		mask = slots.length - 1;
+
+		for (int code = 0; code < size; code++) {
+			int slot = spread(hashes[code]) & mask;
+			while (slots[slot] != 0)
+				slot = (slot + 1) & mask;
+			slots[slot] = code + 1;
+		}
+	}
+
+	// String.hashCode is weak in the low bits for short strings
+	private static int spread(int hash) {
+		int h = hash * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -73,6 +73,9 @@ public interface TimeColumn extends Column<LocalTime> {
 	@Override
 	TimeColumn filter(Predicate<LocalTime> predicate, boolean keepNulls);
 
+	@Override
+	TimeColumn filterByValue(LocalTime fromElement, boolean fromInclusive, LocalTime toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
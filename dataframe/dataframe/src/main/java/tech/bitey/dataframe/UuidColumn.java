@@ -73,6 +73,9 @@ public interface UuidColumn extends Column<UUID> {
 	@Override
 	UuidColumn filter(Predicate<UUID> predicate, boolean keepNulls);
 
+	@Override
+	UuidColumn filterByValue(UUID fromElement, boolean fromInclusive, UUID toElement, boolean toInclusive);
+
 	/**
 	 * Returns a new column derived by testing each value with the specified
 	 * predicate and removing values when the predicate returns {@code false}.
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+/*
+ * A range of values as passed to Column.filterByValue, where a null bound means
+ * the range is unbounded on that side.
+ */
+record ValueRange<E>(E from, boolean fromInclusive, E to, boolean toInclusive) {
+
+	// true if the element at the specified absolute index is not below the range
+	boolean notBelow(NonNullColumn<E, ?, ?> column, int index) {
+		if (from == null)
+			return true;
+
+		int direction = column.compareValueAt(index, from);
+		return fromInclusive ? direction >= 0 : direction > 0;
+	}
+
+	// true if the element at the specified absolute index is not above the range
+	boolean notAbove(NonNullColumn<E, ?, ?> column, int index) {
+		if (to == null)
+			return true;
+
+		int direction = column.compareValueAt(index, to);
+		return toInclusive ? direction <= 0 : direction < 0;
+	}
+
+	boolean contains(NonNullColumn<E, ?, ?> column, int index) {
+		return notBelow(column, index) && notAbove(column, index);
+	}
+
+	boolean contains(ColumnType<E> type, E value) {
+		if (from != null) {
+			int direction = type.compare(value, from);
+			if (fromInclusive ? direction < 0 : direction <= 0)
+				return false;
+		}
+
+		if (to != null) {
+			int direction = type.compare(value, to);
+			if (toInclusive ? direction > 0 : direction >= 0)
+				return false;
+		}
+
+		return true;
+	}
+}
@@ -16,7 +16,8 @@
 
 package tech.bitey.dataframe;
 
-import java.util.Spliterator;
+import static tech.bitey.dataframe.NonNullVarLenColumn.MAX_COMPACT_LENGTH;
+import static tech.bitey.dataframe.NonNullVarLenColumn.getPointer;
 
 import tech.bitey.bufferstuff.BigByteBuffer;
 import tech.bitey.bufferstuff.ResizableBigByteBuffer;
@@ -25,7 +26,10 @@ import tech.bitey.bufferstuff.ResizableBigByteBuffer;
 abstract class VarLenColumnBuilder<E, C extends Column<E>, B extends VarLenColumnBuilder<E, C, B>>
 		extends AbstractColumnBuilder<E, C, B> {
 
-	final LongColumnBuilder pointers = new LongColumnBuilder(Spliterator.NONNULL);
+	// pointers are written as unsigned ints until the elements outgrow 4GB
+	ResizableBigByteBuffer pointers = new ResizableBigByteBuffer();
+	int pointerWidth = 4;
+
 	final ResizableBigByteBuffer elements = new ResizableBigByteBuffer();
 
 	final VarLenPacker<E> packer;
@@ -51,8 +55,9 @@ abstract class VarLenColumnBuilder<E, C extends Column<E>, B extends VarLenColum
 	@Override
 	void addNonNull(E element) {
 
-		pointers.add(elements.size());
+		putPointer(elements.size());
 		packer.pack(elements, element);
+		widenIfNeeded();
 
 		size++;
 		last = element;
@@ -60,32 +65,56 @@ abstract class VarLenColumnBuilder<E, C extends Column<E>, B extends VarLenColum
 
 	@Override
 	void ensureAdditionalCapacity(int additionalCapacity) {
-		pointers.ensureAdditionalCapacity(additionalCapacity);
+		pointers.ensureAdditionalCapacity((long) additionalCapacity * pointerWidth);
 	}
 
 	@Override
 	public B ensureCapacity(int minCapacity) {
-		pointers.ensureCapacity(minCapacity);
+		pointers.ensureCapacity((long) minCapacity * pointerWidth);
 		return (B) this;
 	}
 
 	@Override
 	int getNonNullSize() {
-		return pointers.size();
+		return (int) (pointers.size() / pointerWidth);
+	}
+
+	private void putPointer(long pointer) {
+		if (pointerWidth == 4)
+			pointers.putInt((int) pointer);
+		else
+			pointers.putLong(pointer);
+	}
+
+	// switches to long pointers once the elements no longer fit in 4GB
+	private void widenIfNeeded() {
+		if (pointerWidth == 8 || elements.size() <= MAX_COMPACT_LENGTH)
+			return;
+
+		int count = getNonNullSize();
+		BigByteBuffer narrow = pointers.trim();
+
+		pointers = new ResizableBigByteBuffer();
+		pointers.ensureCapacity((long) count * 8);
+		pointerWidth = 8;
+
+		for (int i = 0; i < count; i++)
+			putPointer(getPointer(narrow, 4, i));
 	}
 
 	@Override
 	void append0(B tail) {
 
 		long offset = elements.size();
-		int begin = pointers.size();
-		int end = begin + tail.pointers.size();
+		int count = tail.getNonNullSize();
+		BigByteBuffer tailPointers = tail.pointers.trim();
 
 		elements.append(tail.elements);
-		pointers.append(tail.pointers);
+		widenIfNeeded();
 
-		for (int i = begin; i < end; i++)
-			pointers.elements.put(i, pointers.elements.get(i) + offset);
+		ensureAdditionalCapacity(count);
+		for (int i = 0; i < count; i++)
+			putPointer(getPointer(tailPointers, tail.pointerWidth, i) + offset);
 
 		if (sorted())
 			this.last = tail.last;
@@ -96,8 +125,6 @@ abstract class VarLenColumnBuilder<E, C extends Column<E>, B extends VarLenColum
 	@Override
 	C buildNonNullColumn(int characteristics) {
 
-		NonNullLongColumn pointers = (NonNullLongColumn) this.pointers.build();
-
-		return construct(elements.trim(), pointers.buffer, characteristics, pointers.size());
+		return construct(elements.trim(), pointers.trim(), characteristics, getNonNullSize());
 	}
 }
@@ -21,19 +21,23 @@ import static tech.bitey.dataframe.Pr.checkState;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
 
 import tech.bitey.dataframe.db.BlobToStatement;
 import tech.bitey.dataframe.db.BooleanToStatement;
 import tech.bitey.dataframe.db.ByteToStatement;
+import tech.bitey.dataframe.db.ConnectionSupplier;
 import tech.bitey.dataframe.db.DateTimeToStatement;
 import tech.bitey.dataframe.db.DateToStatement;
 import tech.bitey.dataframe.db.DecimalToStatement;
 import tech.bitey.dataframe.db.DoubleToStatement;
 import tech.bitey.dataframe.db.FloatToStatement;
-import tech.bitey.dataframe.db.IFromResultSet;
 import tech.bitey.dataframe.db.IToPreparedStatement;
 import tech.bitey.dataframe.db.InstantToStatement;
 import tech.bitey.dataframe.db.IntToStatement;
@@ -55,8 +59,10 @@ import tech.bitey.dataframe.db.UuidToStatement;
  * 
  * @author biteytech@protonmail.com
  * 
- * @see DataFrameFactory#readFrom(ResultSet, ReadFromDbConfig)
- * @see IFromResultSet
+ * @see DataFrame#writeTo(PreparedStatement, WriteToDbConfig)
+ * @see DataFrame#writeTo(ConnectionSupplier, String, DbWritePartitioning,
+ *      WriteToDbConfig)
+ * @see IToPreparedStatement
  */
 public record WriteToDbConfig(List<IToPreparedStatement<?>> toPsLogic, int batchSize, boolean commit) {
 
@@ -82,28 +88,141 @@ public record WriteToDbConfig(List<IToPreparedStatement<?>> toPsLogic, int batch
 		this(toPsLogic, DEFAULT_BATCH_SIZE, commit);
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	void write(DataFrame dataframe, PreparedStatement ps) throws SQLException {
 
 		final Connection conn = ps.getConnection();
 		checkState(!conn.getAutoCommit(), "autocommit must be off");
 
-		Column[] columns = dataframe.columns().toArray(new Column[0]);
+		writeBatches(dataframe, toPsLogic(dataframe), ps, rows -> {
+		});
+
+		if (commit)
+			conn.commit();
+	}
+
+	/*
+	 * Writes each range of rows on its own thread and connection. Connections
+	 * which have written their range in all-or-nothing mode are kept in pending
+	 * until every range has finished.
+	 */
+	void write(DataFrame dataframe, ConnectionSupplier connections, String insert, DbWritePartitioning partitioning)
+			throws SQLException {
+
+		final IToPreparedStatement<?>[] toPsLogic = toPsLogic(dataframe);
+
+		final int[] bounds = partitioning.bounds(dataframe.size());
+		final int count = bounds.length - 1;
+
+		final Connection[] pending = new Connection[count];
+
+		ExecutorService executor = Parallel.blockingExecutor(count, "dataframe-db-write");
+
+		List<Future<?>> futures = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final DataFrame range = dataframe.subFrame(bounds[i], bounds[i + 1]);
+			final int partition = i;
+			futures.add(executor.submit(() -> {
+				Connection conn = connections.get();
+				try {
+					conn.setAutoCommit(false);
+					try (PreparedStatement ps = conn.prepareStatement(insert)) {
+						writeBatches(range, toPsLogic, ps, partitioning.progress());
+					}
+				} catch (Throwable e) {
+					rollbackAndClose(conn, e);
+					throw e;
+				}
+
+				if (partitioning.allOrNothing())
+					pending[partition] = conn;
+				else {
+					try (conn) {
+						conn.commit();
+					}
+				}
+				return null;
+			}));
+		}
+
+		Throwable failure = null;
+		boolean interrupted = false;
+		try {
+			// wait for every range, so that no connection is still in use below
+			for (Future<?> future : futures) {
+				while (true) {
+					try {
+						future.get();
+						break;
+					} catch (InterruptedException e) {
+						interrupted = true;
+					} catch (ExecutionException e) {
+						failure = addFailure(failure, e.getCause());
+						break;
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+
+		for (Connection conn : pending) {
+			if (conn == null)
+				continue;
+			else if (failure == null) {
+				try (conn) {
+					conn.commit();
+				} catch (SQLException e) {
+					failure = e;
+				}
+			} else
+				rollbackAndClose(conn, failure);
+		}
+
+		if (failure instanceof SQLException se)
+			throw se;
+		else if (failure instanceof RuntimeException re)
+			throw re;
+		else if (failure instanceof Error err)
+			throw err;
+		else if (failure != null)
+			throw new SQLException(failure);
+	}
+
+	private static Throwable addFailure(Throwable failure, Throwable e) {
+		if (failure == null)
+			return e;
+
+		failure.addSuppressed(e);
+		return failure;
+	}
+
+	private static void rollbackAndClose(Connection conn, Throwable failure) {
+		try (conn) {
+			conn.rollback();
+		} catch (SQLException e) {
+			failure.addSuppressed(e);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private IToPreparedStatement<?>[] toPsLogic(DataFrame dataframe) {
 
 		IToPreparedStatement[] toPsLogic = this.toPsLogic == null ? null
 				: this.toPsLogic.toArray(new IToPreparedStatement[0]);
 
 		if (toPsLogic == null) {
-			toPsLogic = new IToPreparedStatement[columns.length];
+			toPsLogic = new IToPreparedStatement[dataframe.columnCount()];
 
-			for (int i = 0; i < columns.length; i++) {
-				toPsLogic[i] = switch (columns[i].getType().getCode()) {
+			for (int i = 0; i < toPsLogic.length; i++) {
+				toPsLogic[i] = switch (dataframe.columnType(i).getCode()) {
 				case B -> BooleanToStatement.BOOLEAN_TO_STRING;
 				case DA -> DateToStatement.DATE_TO_DATE;
 				case DT -> DateTimeToStatement.DATETIME_TO_TIMESTAMP;
 				case TI -> TimeToStatement.TIME_TO_STRING;
 				case IN -> InstantToStatement.INSTANT_TO_TIMESTAMP;
-				case BD -> DecimalToStatement.BIGDECIMAL_TO_BIGDECIMAL;
+				case BD, FD -> DecimalToStatement.BIGDECIMAL_TO_BIGDECIMAL;
 				case D -> DoubleToStatement.DOUBLE_TO_DOUBLE;
 				case F -> FloatToStatement.FLOAT_TO_FLOAT;
 				case I -> IntToStatement.INT_TO_INT;
@@ -117,20 +236,32 @@ public record WriteToDbConfig(List<IToPreparedStatement<?>> toPsLogic, int batch
 			}
 		}
 
-		for (int r = 0; r < dataframe.size();) {
+		return toPsLogic;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void writeBatches(DataFrame dataframe, IToPreparedStatement[] toPsLogic, PreparedStatement ps,
+			IntConsumer progress) throws SQLException {
+
+		Column[] columns = dataframe.columns().toArray(new Column[0]);
+
+		int batch = 0;
+		for (int r = 0; r < dataframe.size(); r++) {
 			for (int c = 0; c < columns.length; c++)
 				toPsLogic[c].set(columns[c], r, ps, c + 1);
 
 			ps.addBatch();
 
-			if (++r % batchSize == 0)
+			if (++batch == batchSize) {
 				ps.executeBatch();
+				progress.accept(batch);
+				batch = 0;
+			}
 		}
 
-		if (dataframe.size() % batchSize != 0)
+		if (batch != 0) {
 			ps.executeBatch();
-
-		if (commit)
-			conn.commit();
+			progress.accept(batch);
+		}
 	}
 }
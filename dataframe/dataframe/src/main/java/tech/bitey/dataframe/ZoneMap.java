@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe;
+
+import static tech.bitey.dataframe.NonNullColumn.NONNULL_CHARACTERISTICS;
+
+import tech.bitey.bufferstuff.BigByteBuffer;
+import tech.bitey.bufferstuff.BufferBitSet;
+import tech.bitey.bufferstuff.BufferUtils;
+import tech.bitey.bufferstuff.SmallIntBuffer;
+
+/*
+ * The minimum and maximum element of each block of BLOCK_SIZE consecutive
+ * elements of a non-null column, starting from the column's offset. Used to
+ * skip blocks which cannot contain any element in a ValueRange, and to keep
+ * blocks which are entirely within it without testing each element.
+ *
+ * The minimums and maximums are themselves columns of the same type, so testing
+ * a block never touches the elements of the block itself. They are optionally
+ * written after the columns of a dataframe file, see ChannelZoneMaps.
+ */
+final class ZoneMap<E> {
+
+	static final int BLOCK_SIZE = 4096;
+
+	final NonNullColumn<E, ?, ?> mins;
+	final NonNullColumn<E, ?, ?> maxes;
+
+	ZoneMap(NonNullColumn<E, ?, ?> mins, NonNullColumn<E, ?, ?> maxes) {
+		this.mins = mins;
+		this.maxes = maxes;
+	}
+
+	static int blockCount(int size) {
+		return (int) (((long) size + BLOCK_SIZE - 1) / BLOCK_SIZE);
+	}
+
+	@SuppressWarnings("unchecked")
+	static <E> ZoneMap<E> of(NonNullColumn<E, ?, ?> column) {
+
+		final int size = column.size();
+		final int blocks = blockCount(size);
+
+		final BigByteBuffer minBuffer = BufferUtils.allocateBig((long) blocks * 4);
+		final BigByteBuffer maxBuffer = BufferUtils.allocateBig((long) blocks * 4);
+		final SmallIntBuffer minIndices = minBuffer.asIntBuffer();
+		final SmallIntBuffer maxIndices = maxBuffer.asIntBuffer();
+
+		// each chunk scans the blocks which start within it
+		Parallel.forEachChunk(size, (fromIndex, toIndex) -> {
+			for (int block = blockCount(fromIndex); block < blockCount(toIndex); block++) {
+
+				int start = column.offset + block * BLOCK_SIZE;
+				int end = Math.min(start + BLOCK_SIZE, column.offset + size);
+
+				int minIndex = start, maxIndex = start;
+				E min = column.getNoOffset(start), max = min;
+				for (int i = start + 1; i < end; i++) {
+					if (column.compareValueAt(i, min) < 0)
+						min = column.getNoOffset(minIndex = i);
+					else if (column.compareValueAt(i, max) > 0)
+						max = column.getNoOffset(maxIndex = i);
+				}
+
+				minIndices.put(block, minIndex - column.offset);
+				maxIndices.put(block, maxIndex - column.offset);
+			}
+		});
+
+		NonNullIntColumn mins = new NonNullIntColumn(minBuffer, 0, blocks, NONNULL_CHARACTERISTICS, false);
+		NonNullIntColumn maxes = new NonNullIntColumn(maxBuffer, 0, blocks, NONNULL_CHARACTERISTICS, false);
+
+		return new ZoneMap<>((NonNullColumn<E, ?, ?>) column.select(mins),
+				(NonNullColumn<E, ?, ?>) column.select(maxes));
+	}
+
+	/*
+	 * Flags the elements of the column in [fromIndex, toIndex) which fall within
+	 * the range. The result is indexed relative to fromIndex.
+	 */
+	BufferBitSet test(NonNullColumn<E, ?, ?> column, ValueRange<E> range, int fromIndex, int toIndex) {
+
+		final BufferBitSet result = new BufferBitSet();
+
+		for (int block = fromIndex / BLOCK_SIZE; block * BLOCK_SIZE < toIndex; block++) {
+
+			int start = Math.max(block * BLOCK_SIZE, fromIndex);
+			int end = Math.min((block + 1) * BLOCK_SIZE, toIndex);
+
+			int min = mins.offset + block;
+			int max = maxes.offset + block;
+
+			if (!range.notBelow(maxes, max) || !range.notAbove(mins, min))
+				continue;
+
+			if (range.notBelow(mins, min) && range.notAbove(maxes, max)) {
+				result.set(start - fromIndex, end - fromIndex);
+			} else {
+				for (int i = start; i < end; i++)
+					if (range.contains(column, i + column.offset))
+						result.set(i - fromIndex);
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 biteytech@protonmail.com
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.bitey.dataframe.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+/**
+ * Supplies a new {@link Connection} each time it is called, for example
+ * {@link DataSource#getConnection()}. The caller is responsible for closing the
+ * connection.
+ * 
+ * @author biteytech@protonmail.com
+ */
+@FunctionalInterface
+public interface ConnectionSupplier {
+
+	/**
+	 * Returns a new connection.
+	 * 
+	 * @return a new connection
+	 * 
+	 * @throws SQLException if some SQL or database error occurs
+	 */
+	Connection get() throws SQLException;
+}
@@ -38,9 +38,9 @@ public enum DateTimeFromResultSet implements IFromResultSet<LocalDateTime, DateT
 	/**
 	 * Reads an {@link Timestamp} from the {@code ResultSet} using
 	 * {@link ResultSet#getTimestamp(int)}, and adds it to the builder using
-	 * {@link Timestamp#toLocalDateTime()} and
-	 * {@code ColumnBuilder.add(java.time.LocalDateTime)}
+	 * {@link DateTimeColumnBuilder#add(int, int, int, int, int, int, int)}
 	 */
+	@SuppressWarnings("deprecation")
 	DATETIME_FROM_TIMESTAMP {
 		@Override
 		public void get(ResultSet rs, int columnIndex, DateTimeColumnBuilder builder) throws SQLException {
@@ -50,7 +50,8 @@ public enum DateTimeFromResultSet implements IFromResultSet<LocalDateTime, DateT
 			if (ts == null)
 				builder.addNull();
 			else
-				builder.add(ts.toLocalDateTime());
+				builder.add(ts.getYear() + 1900, ts.getMonth() + 1, ts.getDate(), ts.getHours(), ts.getMinutes(),
+						ts.getSeconds(), ts.getNanos());
 		}
 	};
 
@@ -43,7 +43,7 @@ public enum InstantFromResultSet implements IFromResultSet<Instant, InstantColum
 			if (ts == null)
 				builder.addNull();
 			else
-				builder.add(ts.toInstant());
+				builder.add(Math.floorDiv(ts.getTime(), 1000), ts.getNanos());
 		}
 	};
 
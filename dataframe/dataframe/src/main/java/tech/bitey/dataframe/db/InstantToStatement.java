@@ -19,7 +19,6 @@ package tech.bitey.dataframe.db;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.time.Instant;
 
 import tech.bitey.dataframe.InstantColumn;
 
@@ -29,9 +28,14 @@ public enum InstantToStatement implements IToPreparedStatement<InstantColumn> {
 		@Override
 		public void set(InstantColumn column, int rowIndex, PreparedStatement ps, int paramIndex) throws SQLException {
 
-			Instant instant = column.get(rowIndex);
-
-			ps.setTimestamp(paramIndex, instant == null ? null : Timestamp.from(instant));
+			if (column.isNull(rowIndex))
+				ps.setTimestamp(paramIndex, null);
+			else {
+				// same as Timestamp.from(Instant), without creating the Instant
+				Timestamp ts = new Timestamp(column.getEpochSecond(rowIndex) * 1000);
+				ts.setNanos(column.getNano(rowIndex));
+				ps.setTimestamp(paramIndex, ts);
+			}
 		}
 	}
 }